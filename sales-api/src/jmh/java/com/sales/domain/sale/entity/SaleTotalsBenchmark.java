@@ -0,0 +1,45 @@
+package com.sales.domain.sale.entity;
+
+import com.sales.domain.sale.valueobject.PaymentMethod;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaleTotalsBenchmark {
+
+    @Param({"1", "10", "100"})
+    int itemCount;
+
+    private Sale sale;
+
+    @Setup
+    public void setUp() {
+        List<SaleItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new SaleItem((long) i, "PROD%04d".formatted(i), "Produto " + i, 1 + i % 5,
+                    new BigDecimal("19.90").add(BigDecimal.valueOf(i))));
+        }
+        sale = new Sale(1L, "SALE0001", "CUST0001", "João Silva", "SELLER0001", "Maria Vendedora",
+                PaymentMethod.PIX, null, new BigDecimal("1000000.00"), items, LocalDateTime.now());
+    }
+
+    @Benchmark
+    public BigDecimal subtotal() {
+        return sale.getSubtotal();
+    }
+
+    @Benchmark
+    public BigDecimal totalAmount() {
+        return sale.getTotalAmount();
+    }
+}
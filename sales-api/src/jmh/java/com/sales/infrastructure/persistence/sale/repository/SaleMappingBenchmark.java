@@ -0,0 +1,64 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import com.sales.domain.sale.entity.Sale;
+import com.sales.infrastructure.persistence.sale.entity.SaleEntity;
+import com.sales.infrastructure.persistence.sale.entity.SaleItemEntity;
+import com.sales.infrastructure.security.AesEncryptionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaleMappingBenchmark {
+
+    private static final String KEY = "+q4fGKbrx7gPEncgrjm3NArsZPeomMfRNUr5q4voE+8=";
+
+    @Param({"1", "10", "100"})
+    int itemCount;
+
+    @Param({"PIX", "CARTAO_CREDITO"})
+    String paymentMethod;
+
+    private SaleRepositoryAdapter adapter;
+    private SaleEntity entity;
+
+    @Setup
+    public void setUp() {
+        AesEncryptionService encryptionService = new AesEncryptionService(KEY);
+        adapter = new SaleRepositoryAdapter();
+        adapter.encryptionService = encryptionService;
+
+        entity = new SaleEntity();
+        entity.setId(1L);
+        entity.setCode("SALE0001");
+        entity.setCustomerCode("CUST0001");
+        entity.setCustomerName("João Silva");
+        entity.setSellerCode("SELLER0001");
+        entity.setSellerName("Maria Vendedora");
+        entity.setPaymentMethod(paymentMethod);
+        entity.setAmountPaid(new BigDecimal("1000000.00"));
+        if ("CARTAO_CREDITO".equals(paymentMethod)) {
+            entity.setCardNumber(encryptionService.encrypt("4111111111111111"));
+        }
+        for (int i = 0; i < itemCount; i++) {
+            SaleItemEntity item = new SaleItemEntity();
+            item.setId((long) i);
+            item.setProductCode("PROD%04d".formatted(i));
+            item.setProductName("Produto " + i);
+            item.setQuantity(1 + i % 5);
+            item.setUnitPrice(new BigDecimal("19.90"));
+            entity.addItem(item);
+        }
+    }
+
+    @Benchmark
+    public Sale toDomain() {
+        return adapter.toDomain(entity);
+    }
+}
@@ -0,0 +1,150 @@
+package com.sales.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o AesEncryptionService atual (cipher por thread, sem cópias intermediárias, lote)
+ * com a implementação anterior, que criava um Cipher e um ByteBuffer a cada chamada.
+ * Rodar com {@code -prof gc} para ver as alocações por operação.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EncryptionBenchmark {
+
+    private static final String KEY = "+q4fGKbrx7gPEncgrjm3NArsZPeomMfRNUr5q4voE+8=";
+
+    @Param({"100"})
+    int batchSize;
+
+    private AesEncryptionService current;
+    private LegacyAesEncryption legacy;
+    private String cardNumber;
+    private String encryptedCardNumber;
+    private String legacyEncryptedCardNumber;
+    private List<String> cardNumbers;
+    private List<String> encryptedCardNumbers;
+    private List<String> legacyEncryptedCardNumbers;
+
+    @Setup
+    public void setUp() {
+        current = new AesEncryptionService(KEY);
+        legacy = new LegacyAesEncryption(KEY);
+        cardNumber = "4111111111111111";
+        encryptedCardNumber = current.encrypt(cardNumber);
+        legacyEncryptedCardNumber = legacy.encrypt(cardNumber);
+        cardNumbers = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            cardNumbers.add("41111111%08d".formatted(i));
+        }
+        encryptedCardNumbers = current.encryptAll(cardNumbers);
+        legacyEncryptedCardNumbers = new ArrayList<>(batchSize);
+        for (String value : cardNumbers) {
+            legacyEncryptedCardNumbers.add(legacy.encrypt(value));
+        }
+    }
+
+    @Benchmark
+    public String encryptCurrent() {
+        return current.encrypt(cardNumber);
+    }
+
+    @Benchmark
+    public String encryptLegacy() {
+        return legacy.encrypt(cardNumber);
+    }
+
+    @Benchmark
+    public String decryptCurrent() {
+        return current.decrypt(encryptedCardNumber);
+    }
+
+    @Benchmark
+    public String decryptLegacy() {
+        return legacy.decrypt(legacyEncryptedCardNumber);
+    }
+
+    @Benchmark
+    public List<String> encryptAllCurrent() {
+        return current.encryptAll(cardNumbers);
+    }
+
+    @Benchmark
+    public List<String> encryptAllLegacy() {
+        List<String> encrypted = new ArrayList<>(cardNumbers.size());
+        for (String value : cardNumbers) {
+            encrypted.add(legacy.encrypt(value));
+        }
+        return encrypted;
+    }
+
+    @Benchmark
+    public List<String> decryptAllCurrent() {
+        return current.decryptAll(encryptedCardNumbers);
+    }
+
+    @Benchmark
+    public List<String> decryptAllLegacy() {
+        List<String> decrypted = new ArrayList<>(legacyEncryptedCardNumbers.size());
+        for (String value : legacyEncryptedCardNumbers) {
+            decrypted.add(legacy.decrypt(value));
+        }
+        return decrypted;
+    }
+
+    // Cópia da implementação anterior, mantida só como referência de comparação
+    static final class LegacyAesEncryption {
+        private final SecretKey secretKey;
+        private final SecureRandom secureRandom = new SecureRandom();
+
+        LegacyAesEncryption(String base64Key) {
+            this.secretKey = new SecretKeySpec(Base64.getDecoder().decode(base64Key), "AES");
+        }
+
+        String encrypt(String plaintext) {
+            try {
+                byte[] iv = new byte[12];
+                secureRandom.nextBytes(iv);
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                byte[] ciphertext = cipher.doFinal(plaintext.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + ciphertext.length);
+                byteBuffer.put(iv);
+                byteBuffer.put(ciphertext);
+                return Base64.getEncoder().encodeToString(byteBuffer.array());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        String decrypt(String ciphertext) {
+            try {
+                ByteBuffer byteBuffer = ByteBuffer.wrap(Base64.getDecoder().decode(ciphertext));
+                byte[] iv = new byte[12];
+                byteBuffer.get(iv);
+                byte[] ciphertextBytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(ciphertextBytes);
+                Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(128, iv));
+                return new String(cipher.doFinal(ciphertextBytes), StandardCharsets.UTF_8);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sales.infrastructure.security;
+
+import com.sales.domain.auth.valueobject.Password;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+// BCrypt é propositalmente lento: medido em milissegundos e com menos iterações
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordBenchmark {
+
+    private static final String PLAIN_PASSWORD = "Senha@123";
+
+    private BcryptPasswordHasher hasher;
+    private Password password;
+
+    @Setup
+    public void setUp() {
+        hasher = new BcryptPasswordHasher();
+        hasher.cost = 12;
+        hasher.threads = 2;
+        hasher.queueCapacity = 32;
+        hasher.timeout = Duration.ofSeconds(10);
+        hasher.init();
+        password = Password.fromPlainText(PLAIN_PASSWORD, hasher);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return password.matches(PLAIN_PASSWORD, hasher);
+    }
+}
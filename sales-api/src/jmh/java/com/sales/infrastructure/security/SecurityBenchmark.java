@@ -0,0 +1,46 @@
+package com.sales.infrastructure.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SecurityBenchmark {
+
+    private static final String KEY = "+q4fGKbrx7gPEncgrjm3NArsZPeomMfRNUr5q4voE+8=";
+
+    private AesEncryptionService encryptionService;
+    private String cardNumber;
+    private String encryptedCardNumber;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        encryptionService = new AesEncryptionService(KEY);
+        cardNumber = "4111111111111111";
+        encryptedCardNumber = encryptionService.encrypt(cardNumber);
+        token = "eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCJ9."
+                + "eyJpc3MiOiJzYWxlcy1hcGkiLCJzdWIiOiI0MiIsImdyb3VwcyI6WyJVU0VSIl0sImV4cCI6MTkwMDAwMDAwMH0."
+                + "c2lnbmF0dXJlLXBsYWNlaG9sZGVyLWZvci1iZW5jaG1hcmstb25seS1ub3QtYS1yZWFsLXNpZ25hdHVyZQ";
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return encryptionService.encrypt(cardNumber);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return encryptionService.decrypt(encryptedCardNumber);
+    }
+
+    @Benchmark
+    public String hashToken() {
+        return TokenDigestCache.hash(token);
+    }
+}
@@ -53,9 +53,9 @@ public class ForgotPasswordUseCase {
 
         try {
             emailService.sendResetPasswordEmail(email, resetToken);
-            LOG.infof("Email de redefinição de senha enviado para: %s", emailValue);
+            LOG.infof("Email de redefinição de senha enfileirado para: %s", emailValue);
         } catch (Exception e) {
-            LOG.errorf(e, "Erro ao enviar email de redefinição de senha para: %s", emailValue);
+            LOG.errorf(e, "Erro ao enfileirar email de redefinição de senha para: %s", emailValue);
             throw e;
         }
     }
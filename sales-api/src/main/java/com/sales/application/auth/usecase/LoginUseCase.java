@@ -1,9 +1,11 @@
 package com.sales.application.auth.usecase;
 
 import com.sales.domain.auth.entity.User;
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.port.TokenService;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Email;
+import com.sales.domain.auth.valueobject.Password;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -19,6 +21,9 @@ public class LoginUseCase {
     @Inject
     TokenService tokenService;
 
+    @Inject
+    PasswordHasher passwordHasher;
+
     public String execute(String emailValue, String plainPassword) {
         LOG.infof("Tentativa de login - Email: %s", emailValue);
 
@@ -29,11 +34,13 @@ public class LoginUseCase {
                     return new IllegalArgumentException("Credenciais inválidas");
                 });
 
-        if (!user.authenticate(plainPassword)) {
+        if (!user.authenticate(plainPassword, passwordHasher)) {
             LOG.warnf("Tentativa de login com senha incorreta - Email: %s", emailValue);
             throw new IllegalArgumentException("Credenciais inválidas");
         }
 
+        upgradePasswordHashIfNeeded(user, plainPassword);
+
         String token = tokenService.generateAccessToken(user);
 
         LOG.infof("Login realizado com sucesso - Email: %s, Cliente: %s",
@@ -41,4 +48,19 @@ public class LoginUseCase {
 
         return token;
     }
+
+    // Senha correta em mãos: refaz o hash gravado com custo menor que o atual; falhar aqui não impede o login
+    private void upgradePasswordHashIfNeeded(User user, String plainPassword) {
+        if (!user.getPassword().needsRehash(passwordHasher)) {
+            return;
+        }
+        try {
+            Password rehashed = Password.fromHash(passwordHasher.hash(plainPassword));
+            userRepository.updatePassword(user.getId(), rehashed);
+            user.upgradePasswordHash(rehashed);
+            LOG.infof("Hash de senha atualizado para o custo atual - Cliente: %s", user.getCustomerCode());
+        } catch (Exception e) {
+            LOG.warnf(e, "Não foi possível atualizar o hash de senha - Cliente: %s", user.getCustomerCode());
+        }
+    }
 }
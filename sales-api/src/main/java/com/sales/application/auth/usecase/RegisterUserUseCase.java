@@ -2,6 +2,7 @@ package com.sales.application.auth.usecase;
 
 import com.sales.domain.auth.entity.User;
 import com.sales.domain.auth.port.EmailService;
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
@@ -34,6 +35,9 @@ public class RegisterUserUseCase {
     @Inject
     CustomerCodeGenerator customerCodeGenerator;
 
+    @Inject
+    PasswordHasher passwordHasher;
+
     @Transactional
     public User execute(String customerCode, String emailValue, String plainPassword) {
         LOG.infof("Iniciando registro de novo usuário - Cliente: %s, Email: %s",
@@ -48,7 +52,7 @@ public class RegisterUserUseCase {
                 });
 
         Email email = new Email(emailValue);
-        Password password = Password.fromPlainText(plainPassword);
+        Password password = Password.fromPlainText(plainPassword, passwordHasher);
 
         if (userRepository.existsByEmail(email)) {
             LOG.warnf("Tentativa de registrar usuário com email duplicado: %s", emailValue);
@@ -73,9 +77,9 @@ public class RegisterUserUseCase {
 
         try {
             emailService.sendWelcomeEmail(email, customer.getFullName());
-            LOG.infof("Email de boas-vindas enviado para: %s", emailValue);
+            LOG.infof("Email de boas-vindas enfileirado para: %s", emailValue);
         } catch (Exception e) {
-            LOG.errorf(e, "Erro ao enviar email de boas-vindas para: %s", emailValue);
+            LOG.errorf(e, "Erro ao enfileirar email de boas-vindas para: %s", emailValue);
         }
 
         return savedUser;
@@ -122,7 +126,7 @@ public class RegisterUserUseCase {
         LOG.infof("Cliente criado automaticamente - Código: %s, Nome: %s", customerCode, fullName);
 
         // Criar usuário para o cliente
-        Password password = Password.fromPlainText(plainPassword);
+        Password password = Password.fromPlainText(plainPassword, passwordHasher);
         User user = new User(customerCode, email, password);
         User savedUser = userRepository.save(user);
 
@@ -132,9 +136,9 @@ public class RegisterUserUseCase {
         // Enviar email de boas-vindas
         try {
             emailService.sendWelcomeEmail(email, fullName);
-            LOG.infof("Email de boas-vindas enviado para: %s", emailValue);
+            LOG.infof("Email de boas-vindas enfileirado para: %s", emailValue);
         } catch (Exception e) {
-            LOG.errorf(e, "Erro ao enviar email de boas-vindas para: %s", emailValue);
+            LOG.errorf(e, "Erro ao enfileirar email de boas-vindas para: %s", emailValue);
         }
 
         return savedUser;
@@ -1,6 +1,7 @@
 package com.sales.application.auth.usecase;
 
 import com.sales.domain.auth.entity.User;
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Password;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -13,6 +14,9 @@ public class ResetPasswordUseCase {
     @Inject
     UserRepository userRepository;
 
+    @Inject
+    PasswordHasher passwordHasher;
+
     @Transactional
     public void execute(String resetToken, String newPlainPassword) {
 
@@ -23,7 +27,7 @@ public class ResetPasswordUseCase {
             throw new IllegalArgumentException("Token inválido ou expirado");
         }
 
-        Password newPassword = Password.fromPlainText(newPlainPassword);
+        Password newPassword = Password.fromPlainText(newPlainPassword, passwordHasher);
 
         user.changePassword(newPassword);
 
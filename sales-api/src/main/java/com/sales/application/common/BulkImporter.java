@@ -0,0 +1,147 @@
+package com.sales.application.common;
+
+import com.sales.domain.shared.ImportReport;
+import com.sales.domain.shared.ImportReport.LineError;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Importa linhas em blocos de {@code import.chunk-size}: as linhas de um bloco são convertidas e
+ * validadas em paralelo ({@code import.parallelism} threads) enquanto o bloco anterior é gravado.
+ * No máximo dois blocos ficam em memória, qualquer que seja o tamanho do arquivo.
+ */
+@ApplicationScoped
+public class BulkImporter {
+
+    private static final Logger LOG = Logger.getLogger(BulkImporter.class);
+
+    @ConfigProperty(name = "import.chunk-size", defaultValue = "500")
+    int chunkSize;
+
+    @ConfigProperty(name = "import.parallelism", defaultValue = "4")
+    int parallelism;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public <T> ImportReport run(Iterator<ImportLine<T>> lines, ImportTarget<T> target) {
+        List<LineError> errors = new ArrayList<>();
+        long total = 0;
+        long imported = 0;
+
+        List<Parsing<T>> current = submitChunk(lines);
+        while (!current.isEmpty()) {
+            total += current.size();
+            List<Parsing<T>> next = submitChunk(lines);
+            imported += importChunk(current, target, errors);
+            current = next;
+        }
+        return new ImportReport(total, imported, errors);
+    }
+
+    private <T> List<Parsing<T>> submitChunk(Iterator<ImportLine<T>> lines) {
+        List<Parsing<T>> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize && lines.hasNext()) {
+            ImportLine<T> line = lines.next();
+            chunk.add(new Parsing<>(line.getNumber(), executor.submit(line::parse)));
+        }
+        return chunk;
+    }
+
+    private <T> int importChunk(List<Parsing<T>> chunk, ImportTarget<T> target, List<LineError> errors) {
+        String[] failures = new String[chunk.size()];
+        List<T> parsed = new ArrayList<>(chunk.size());
+        List<Integer> parsedIndexes = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            try {
+                parsed.add(chunk.get(i).result.get());
+                parsedIndexes.add(i);
+            } catch (ExecutionException e) {
+                String message = e.getCause().getMessage();
+                failures[i] = message != null ? message : "Linha inválida";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Importação interrompida", e);
+            }
+        }
+
+        List<T> accepted = new ArrayList<>(parsed.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(parsed.size());
+        if (!parsed.isEmpty()) {
+            target.prepare(parsed);
+            for (int i = 0; i < parsed.size(); i++) {
+                String reason = target.reject(parsed.get(i));
+                if (reason != null) {
+                    failures[parsedIndexes.get(i)] = reason;
+                } else {
+                    accepted.add(parsed.get(i));
+                    acceptedIndexes.add(parsedIndexes.get(i));
+                }
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            try {
+                target.write(accepted);
+            } catch (RuntimeException e) {
+                LOG.errorf(e, "Erro ao gravar bloco de %d registros importados", accepted.size());
+                for (int index : acceptedIndexes) {
+                    failures[index] = "Erro ao gravar linha: bloco revertido";
+                }
+                accepted.clear();
+            }
+        }
+
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                errors.add(new LineError(chunk.get(i).line, failures[i]));
+            }
+        }
+        return accepted.size();
+    }
+
+    private static final class Parsing<T> {
+        private final long line;
+        private final Future<T> result;
+
+        private Parsing(long line, Future<T> result) {
+            this.line = line;
+            this.result = result;
+        }
+    }
+}
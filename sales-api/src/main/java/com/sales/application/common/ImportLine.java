@@ -0,0 +1,25 @@
+package com.sales.application.common;
+
+import java.util.function.Supplier;
+
+/**
+ * Linha de um arquivo de importação ainda não convertida: a conversão (e a validação que ela
+ * faz) só acontece em {@link #parse()}, executada em paralelo pelo {@link BulkImporter}.
+ */
+public class ImportLine<T> {
+    private final long number;
+    private final Supplier<T> parser;
+
+    public ImportLine(long number, Supplier<T> parser) {
+        this.number = number;
+        this.parser = parser;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public T parse() {
+        return parser.get();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sales.application.common;
+
+import java.util.List;
+
+/**
+ * Destino de uma importação, usado bloco a bloco pelo {@link BulkImporter}. Uma instância por
+ * importação, pois guarda o que já foi aceito do arquivo.
+ */
+public interface ImportTarget<T> {
+
+    /**
+     * Carrega o necessário para validar os registros do bloco (ex.: chaves já cadastradas).
+     */
+    void prepare(List<T> chunk);
+
+    /**
+     * Motivo da recusa do registro, ou {@code null} se ele pode ser gravado. Chamado na ordem do arquivo.
+     */
+    String reject(T item);
+
+    /**
+     * Grava os registros aceitos do bloco em uma única transação.
+     */
+    void write(List<T> accepted);
+}
@@ -0,0 +1,87 @@
+package com.sales.application.customer.usecase;
+
+import com.sales.application.common.BulkImporter;
+import com.sales.application.common.ImportLine;
+import com.sales.application.common.ImportTarget;
+import com.sales.domain.customer.entity.Customer;
+import com.sales.domain.customer.port.CustomerRepository;
+import com.sales.domain.shared.ImportReport;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ImportCustomersUseCase {
+
+    private static final Logger LOG = Logger.getLogger(ImportCustomersUseCase.class);
+
+    private final CustomerRepository customerRepository;
+    private final BulkImporter bulkImporter;
+
+    @Inject
+    public ImportCustomersUseCase(CustomerRepository customerRepository, BulkImporter bulkImporter) {
+        this.customerRepository = customerRepository;
+        this.bulkImporter = bulkImporter;
+    }
+
+    /**
+     * Grava os clientes das linhas válidas; CPF ou email já cadastrado ou repetido no arquivo
+     * recusa a linha sem impedir a gravação das demais.
+     */
+    public ImportReport execute(Iterator<ImportLine<Customer>> lines) {
+        LOG.info("Iniciando importação de clientes");
+
+        ImportReport report = bulkImporter.run(lines, new CustomerImport());
+
+        LOG.infof("Importação de clientes concluída - Linhas: %d, Importados: %d, Recusados: %d",
+                report.getTotalLines(), report.getImported(), report.getRejected());
+        return report;
+    }
+
+    private final class CustomerImport implements ImportTarget<Customer> {
+        private final Set<String> cpfsInFile = new HashSet<>();
+        private final Set<String> emailsInFile = new HashSet<>();
+        private Set<String> existingCpfs = Set.of();
+        private Set<String> existingEmails = Set.of();
+
+        @Override
+        public void prepare(List<Customer> chunk) {
+            existingCpfs = customerRepository.findExistingCpfs(
+                    chunk.stream().map(customer -> customer.getDocument().getCpf()).collect(Collectors.toSet()));
+            existingEmails = customerRepository.findExistingEmails(
+                    chunk.stream().map(Customer::getEmail).collect(Collectors.toSet()));
+        }
+
+        @Override
+        public String reject(Customer customer) {
+            String cpf = customer.getDocument().getCpf();
+            String email = customer.getEmail();
+            if (existingCpfs.contains(cpf)) {
+                return "Cliente com CPF " + customer.getDocument().getFormattedCPF() + " já existe";
+            }
+            if (existingEmails.contains(email)) {
+                return "Cliente com email " + email + " já existe";
+            }
+            if (cpfsInFile.contains(cpf)) {
+                return "CPF " + customer.getDocument().getFormattedCPF() + " repetido no arquivo";
+            }
+            if (emailsInFile.contains(email)) {
+                return "Email " + email + " repetido no arquivo";
+            }
+            cpfsInFile.add(cpf);
+            emailsInFile.add(email);
+            return null;
+        }
+
+        @Override
+        public void write(List<Customer> accepted) {
+            customerRepository.insertAll(accepted);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.sales.application.customer.usecase;
 
 import com.sales.domain.customer.entity.Customer;
 import com.sales.domain.customer.port.CustomerRepository;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -17,6 +18,21 @@ public class SearchCustomersUseCase {
     }
 
     public PageResult<Customer> execute(String filter, int page, int size) {
+        checkMaxSize(size);
         return customerRepository.search(filter, page, size);
     }
+
+    public CursorPageResult<Customer> execute(String filter, String after, int size, boolean includeTotal) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        checkMaxSize(size);
+        return customerRepository.searchAfter(filter, after, size, includeTotal);
+    }
+
+    private void checkMaxSize(int size) {
+        if (size > PageResult.MAX_SIZE) {
+            throw new IllegalArgumentException("Tamanho da página deve ser no máximo " + PageResult.MAX_SIZE);
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package com.sales.application.dashboard.usecase;
 
-import com.sales.domain.sale.entity.Sale;
-import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
+import com.sales.domain.sale.valueobject.SalesBucket;
+import com.sales.domain.sale.valueobject.SalesTotals;
+import com.sales.domain.sale.valueobject.TimeBucket;
 import com.sales.infrastructure.rest.dashboard.dto.DashboardChartDataPoint;
 import com.sales.infrastructure.rest.dashboard.dto.DashboardChartResponse;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -20,7 +22,7 @@ import java.util.stream.Collectors;
 @ApplicationScoped
 public class GetDashboardChartDataUseCase {
 
-    private final SaleRepository saleRepository;
+    private final SalesRollupRepository salesRollupRepository;
 
     private static final Map<String, String> MONTH_NAMES = Map.ofEntries(
             Map.entry("01", "Janeiro"),
@@ -55,8 +57,8 @@ public class GetDashboardChartDataUseCase {
     private static final String[] DAY_NAMES = {"Dom", "Seg", "Ter", "Qua", "Qui", "Sex", "Sáb"};
 
     @Inject
-    public GetDashboardChartDataUseCase(SaleRepository saleRepository) {
-        this.saleRepository = saleRepository;
+    public GetDashboardChartDataUseCase(SalesRollupRepository salesRollupRepository) {
+        this.salesRollupRepository = salesRollupRepository;
     }
 
     public DashboardChartResponse execute(String range) {
@@ -89,14 +91,13 @@ public class GetDashboardChartDataUseCase {
         LocalDate today = now.toLocalDate();
         LocalDate weekStart = today.minusDays(6);
 
+        Map<LocalDate, SalesTotals> totalsByDay = findTotalsByBucket(weekStart, today, TimeBucket.DAY);
+
         List<DashboardChartDataPoint> result = new ArrayList<>();
 
         for (int i = 0; i < 7; i++) {
             LocalDate date = weekStart.plusDays(i);
-            LocalDateTime startOfDay = date.atStartOfDay();
-            LocalDateTime endOfDay = date.atTime(23, 59, 59);
-
-            List<Sale> sales = saleRepository.findByDateRange(startOfDay, endOfDay);
+            SalesTotals totals = totalsByDay.getOrDefault(date, SalesTotals.empty());
 
             String dayName = DAY_NAMES[date.getDayOfWeek().getValue() % 7];
 
@@ -104,8 +105,8 @@ public class GetDashboardChartDataUseCase {
                     .label(dayName)
                     .shortLabel(dayName)
                     .date(date)
-                    .salesCount((long) sales.size())
-                    .revenue(calculateTotalRevenue(sales))
+                    .salesCount(totals.getSalesCount())
+                    .revenue(totals.getTotalAmount())
                     .build());
         }
 
@@ -116,6 +117,8 @@ public class GetDashboardChartDataUseCase {
         LocalDate today = now.toLocalDate();
         LocalDate monthStart = today.with(TemporalAdjusters.firstDayOfMonth());
 
+        Map<LocalDate, SalesTotals> totalsByDay = findTotalsByBucket(monthStart, today, TimeBucket.DAY);
+
         List<DashboardChartDataPoint> result = new ArrayList<>();
 
         LocalDate currentWeekStart = monthStart;
@@ -127,19 +130,22 @@ public class GetDashboardChartDataUseCase {
                 weekEnd = today;
             }
 
-            LocalDateTime startOfWeek = currentWeekStart.atStartOfDay();
-            LocalDateTime endOfWeek = weekEnd.atTime(23, 59, 59);
-
-            List<Sale> sales = saleRepository.findByDateRange(startOfWeek, endOfWeek);
-
-            String monthAbbr = SHORT_MONTH_NAMES.get(String.format("%02d", monthStart.getMonthValue()));
+            long salesCount = 0;
+            BigDecimal revenue = BigDecimal.ZERO;
+            for (LocalDate date = currentWeekStart; !date.isAfter(weekEnd); date = date.plusDays(1)) {
+                SalesTotals totals = totalsByDay.get(date);
+                if (totals != null) {
+                    salesCount += totals.getSalesCount();
+                    revenue = revenue.add(totals.getTotalAmount());
+                }
+            }
 
             result.add(DashboardChartDataPoint.builder()
                     .label("Semana " + weekNumber)
                     .shortLabel("Semana " + weekNumber)
                     .date(currentWeekStart)
-                    .salesCount((long) sales.size())
-                    .revenue(calculateTotalRevenue(sales))
+                    .salesCount(salesCount)
+                    .revenue(revenue)
                     .build());
 
             currentWeekStart = currentWeekStart.plusDays(7);
@@ -152,48 +158,25 @@ public class GetDashboardChartDataUseCase {
     }
 
     private List<DashboardChartDataPoint> getQuarterData(LocalDateTime now) {
-        LocalDate today = now.toLocalDate();
-        List<DashboardChartDataPoint> result = new ArrayList<>();
-
-        for (int i = 2; i >= 0; i--) {
-            LocalDate monthDate = today.minusMonths(i);
-            LocalDate monthStart = monthDate.with(TemporalAdjusters.firstDayOfMonth());
-            LocalDate monthEnd = monthDate.with(TemporalAdjusters.lastDayOfMonth());
-
-            LocalDateTime start = monthStart.atStartOfDay();
-            LocalDateTime end = monthEnd.atTime(23, 59, 59);
-
-            List<Sale> sales = saleRepository.findByDateRange(start, end);
+        return getMonthlyData(now.toLocalDate(), 3);
+    }
 
-            String monthKey = String.format("%02d", monthDate.getMonthValue());
-            String monthName = MONTH_NAMES.get(monthKey);
-            String monthShort = SHORT_MONTH_NAMES.get(monthKey);
+    private List<DashboardChartDataPoint> getYearData(LocalDateTime now) {
+        return getMonthlyData(now.toLocalDate(), 12);
+    }
 
-            result.add(DashboardChartDataPoint.builder()
-                    .label(monthName)
-                    .shortLabel(monthShort)
-                    .date(monthStart)
-                    .salesCount((long) sales.size())
-                    .revenue(calculateTotalRevenue(sales))
-                    .build());
-        }
+    private List<DashboardChartDataPoint> getMonthlyData(LocalDate today, int months) {
+        LocalDate firstMonthStart = today.minusMonths(months - 1L).with(TemporalAdjusters.firstDayOfMonth());
+        LocalDate lastMonthEnd = today.with(TemporalAdjusters.lastDayOfMonth());
 
-        return result;
-    }
+        Map<LocalDate, SalesTotals> totalsByMonth = findTotalsByBucket(firstMonthStart, lastMonthEnd, TimeBucket.MONTH);
 
-    private List<DashboardChartDataPoint> getYearData(LocalDateTime now) {
-        LocalDate today = now.toLocalDate();
         List<DashboardChartDataPoint> result = new ArrayList<>();
 
-        for (int i = 11; i >= 0; i--) {
+        for (int i = months - 1; i >= 0; i--) {
             LocalDate monthDate = today.minusMonths(i);
             LocalDate monthStart = monthDate.with(TemporalAdjusters.firstDayOfMonth());
-            LocalDate monthEnd = monthDate.with(TemporalAdjusters.lastDayOfMonth());
-
-            LocalDateTime start = monthStart.atStartOfDay();
-            LocalDateTime end = monthEnd.atTime(23, 59, 59);
-
-            List<Sale> sales = saleRepository.findByDateRange(start, end);
+            SalesTotals totals = totalsByMonth.getOrDefault(monthStart, SalesTotals.empty());
 
             String monthKey = String.format("%02d", monthDate.getMonthValue());
             String monthName = MONTH_NAMES.get(monthKey);
@@ -203,17 +186,21 @@ public class GetDashboardChartDataUseCase {
                     .label(monthName)
                     .shortLabel(monthShort)
                     .date(monthStart)
-                    .salesCount((long) sales.size())
-                    .revenue(calculateTotalRevenue(sales))
+                    .salesCount(totals.getSalesCount())
+                    .revenue(totals.getTotalAmount())
                     .build());
         }
 
         return result;
     }
 
-    private BigDecimal calculateTotalRevenue(List<Sale> sales) {
-        return sales.stream()
-                .map(Sale::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    private Map<LocalDate, SalesTotals> findTotalsByBucket(LocalDate startDate, LocalDate endDate, TimeBucket bucket) {
+        List<SalesBucket> buckets = salesRollupRepository.sumTotalsByBucket(startDate, endDate, bucket);
+
+        Map<LocalDate, SalesTotals> totalsByPeriod = new HashMap<>();
+        for (SalesBucket salesBucket : buckets) {
+            totalsByPeriod.put(salesBucket.getPeriodStart(), salesBucket.getTotals());
+        }
+        return totalsByPeriod;
     }
 }
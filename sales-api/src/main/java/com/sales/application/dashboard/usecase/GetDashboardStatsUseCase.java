@@ -1,10 +1,9 @@
 package com.sales.application.dashboard.usecase;
 
-import com.sales.domain.customer.entity.Customer;
 import com.sales.domain.customer.port.CustomerRepository;
 import com.sales.domain.product.port.ProductRepository;
-import com.sales.domain.sale.entity.Sale;
-import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
+import com.sales.domain.sale.valueobject.SalesTotals;
 import com.sales.infrastructure.rest.dashboard.dto.DashboardStatsResponse;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -14,21 +13,20 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
-import java.util.List;
 
 @ApplicationScoped
 public class GetDashboardStatsUseCase {
 
-    private final SaleRepository saleRepository;
+    private final SalesRollupRepository salesRollupRepository;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
 
     @Inject
     public GetDashboardStatsUseCase(
-            SaleRepository saleRepository,
+            SalesRollupRepository salesRollupRepository,
             CustomerRepository customerRepository,
             ProductRepository productRepository) {
-        this.saleRepository = saleRepository;
+        this.salesRollupRepository = salesRollupRepository;
         this.customerRepository = customerRepository;
         this.productRepository = productRepository;
     }
@@ -39,43 +37,26 @@ public class GetDashboardStatsUseCase {
         LocalDate firstDayOfLastMonth = firstDayOfCurrentMonth.minusMonths(1);
         LocalDate lastDayOfLastMonth = firstDayOfCurrentMonth.minusDays(1);
 
+        SalesTotals currentMonthTotals = salesRollupRepository.sumTotalsByDateRange(firstDayOfCurrentMonth, today);
+        SalesTotals lastMonthTotals = salesRollupRepository.sumTotalsByDateRange(firstDayOfLastMonth, lastDayOfLastMonth);
+
+        BigDecimal salesVariation = calculateVariation(currentMonthTotals.getSalesCount(), lastMonthTotals.getSalesCount());
+        BigDecimal revenueVariation = calculateVariation(currentMonthTotals.getTotalAmount(), lastMonthTotals.getTotalAmount());
+
         LocalDateTime currentMonthStart = firstDayOfCurrentMonth.atStartOfDay();
         LocalDateTime currentMonthEnd = today.atTime(23, 59, 59);
-        List<Sale> currentMonthSales = saleRepository.findByDateRange(currentMonthStart, currentMonthEnd);
-
         LocalDateTime lastMonthStart = firstDayOfLastMonth.atStartOfDay();
         LocalDateTime lastMonthEnd = lastDayOfLastMonth.atTime(23, 59, 59);
-        List<Sale> lastMonthSales = saleRepository.findByDateRange(lastMonthStart, lastMonthEnd);
-
-        Long currentSalesCount = (long) currentMonthSales.size();
-        BigDecimal currentRevenue = currentMonthSales.stream()
-                .map(Sale::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Long lastSalesCount = (long) lastMonthSales.size();
-        BigDecimal lastRevenue = lastMonthSales.stream()
-                .map(Sale::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal salesVariation = calculateVariation(currentSalesCount, lastSalesCount);
-        BigDecimal revenueVariation = calculateVariation(currentRevenue, lastRevenue);
 
-        List<Customer> allCustomers = customerRepository.findAll();
-        long currentMonthCustomers = allCustomers.stream()
-                .filter(c -> c.getCreatedAt().isAfter(currentMonthStart) && c.getCreatedAt().isBefore(currentMonthEnd))
-                .count();
-        long lastMonthCustomers = allCustomers.stream()
-                .filter(c -> c.getCreatedAt().isAfter(lastMonthStart) && c.getCreatedAt().isBefore(lastMonthEnd))
-                .count();
+        long currentMonthCustomers = customerRepository.countByCreatedAtBetween(currentMonthStart, currentMonthEnd);
+        long lastMonthCustomers = customerRepository.countByCreatedAtBetween(lastMonthStart, lastMonthEnd);
         BigDecimal customersVariation = calculateVariation(currentMonthCustomers, lastMonthCustomers);
 
-        List<Sale> allSales = saleRepository.findAll();
-        Long totalSales = (long) allSales.size();
-        BigDecimal totalRevenue = allSales.stream()
-                .map(Sale::getTotalAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        Long totalCustomers = (long) allCustomers.size();
-        Long totalProducts = (long) productRepository.findAll().size();
+        SalesTotals allTimeTotals = salesRollupRepository.sumTotals();
+        Long totalSales = allTimeTotals.getSalesCount();
+        BigDecimal totalRevenue = allTimeTotals.getTotalAmount();
+        Long totalCustomers = customerRepository.count();
+        Long totalProducts = productRepository.count();
 
         return DashboardStatsResponse.builder()
                 .totalSales(totalSales)
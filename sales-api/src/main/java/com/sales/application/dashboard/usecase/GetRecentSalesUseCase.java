@@ -1,14 +1,12 @@
 package com.sales.application.dashboard.usecase;
 
-import com.sales.domain.sale.entity.Sale;
-import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.SaleSummary;
 import com.sales.infrastructure.rest.dashboard.dto.RecentSaleData;
 import com.sales.infrastructure.rest.dashboard.dto.RecentSalesResponse;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,11 +21,7 @@ public class GetRecentSalesUseCase {
     }
 
     public RecentSalesResponse execute(int limit) {
-        List<Sale> allSales = saleRepository.findAll();
-
-        List<RecentSaleData> recentSales = allSales.stream()
-                .sorted(Comparator.comparing(Sale::getCreatedAt).reversed())
-                .limit(limit)
+        List<RecentSaleData> recentSales = saleRepository.findRecentSummaries(limit).stream()
                 .map(this::mapToRecentSaleData)
                 .collect(Collectors.toList());
 
@@ -36,14 +30,11 @@ public class GetRecentSalesUseCase {
                 .build();
     }
 
-    private RecentSaleData mapToRecentSaleData(Sale sale) {
-        String productName = sale.getItems().stream()
-                .findFirst()
-                .map(SaleItem::getProductName)
-                .orElse("N/A");
+    private RecentSaleData mapToRecentSaleData(SaleSummary sale) {
+        String productName = sale.getFirstProductName() != null ? sale.getFirstProductName() : "N/A";
 
-        if (sale.getItems().size() > 1) {
-            productName += " (+" + (sale.getItems().size() - 1) + " itens)";
+        if (sale.getItemCount() > 1) {
+            productName += " (+" + (sale.getItemCount() - 1) + " itens)";
         }
 
         return RecentSaleData.builder()
@@ -0,0 +1,48 @@
+package com.sales.application.product.usecase;
+
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.product.port.ProductStockRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.Map;
+
+@ApplicationScoped
+public class AddProductStockUseCase {
+
+    private static final Logger LOG = Logger.getLogger(AddProductStockUseCase.class);
+
+    private final ProductRepository productRepository;
+    private final ProductStockRepository productStockRepository;
+
+    @Inject
+    public AddProductStockUseCase(ProductRepository productRepository, ProductStockRepository productStockRepository) {
+        this.productRepository = productRepository;
+        this.productStockRepository = productStockRepository;
+    }
+
+    public Product execute(Long id, int quantity) {
+        LOG.infof("Iniciando entrada de estoque - Produto ID: %d, Quantidade: %d", id, quantity);
+
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantidade deve ser maior que zero");
+        }
+
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> {
+                    LOG.warnf("Tentativa de adicionar estoque a produto inexistente - ID: %d", id);
+                    return new IllegalArgumentException("Produto não encontrado com id: " + id);
+                });
+
+        // Incremento atômico no banco; o saldo lido acima pode já estar desatualizado
+        productStockRepository.release(Map.of(product.getCode(), quantity));
+
+        Product updated = productRepository.findById(id).orElse(product);
+
+        LOG.infof("Estoque atualizado - Produto: %s, Saldo: %d", updated.getCode(), updated.getStockQuantity());
+
+        return updated;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sales.application.product.usecase;
 
 import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
 import com.sales.domain.product.port.ProductRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -12,10 +13,12 @@ public class CreateProductUseCase {
     private static final Logger LOG = Logger.getLogger(CreateProductUseCase.class);
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
 
     @Inject
-    public CreateProductUseCase(ProductRepository productRepository) {
+    public CreateProductUseCase(ProductRepository productRepository, ProductCatalogCache productCatalogCache) {
         this.productRepository = productRepository;
+        this.productCatalogCache = productCatalogCache;
     }
 
     public Product execute(Product product) {
@@ -31,6 +34,7 @@ public class CreateProductUseCase {
         }
 
         Product savedProduct = productRepository.save(product);
+        productCatalogCache.invalidate(savedProduct);
 
         LOG.infof("Produto criado com sucesso - ID: %d, Código: %s, Nome: %s, Preço: R$ %.2f",
                   savedProduct.getId(), savedProduct.getCode(), savedProduct.getName(),
@@ -1,6 +1,7 @@
 package com.sales.application.product.usecase;
 
 import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
 import com.sales.domain.product.port.ProductRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -12,10 +13,12 @@ public class DeleteProductUseCase {
     private static final Logger LOG = Logger.getLogger(DeleteProductUseCase.class);
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
 
     @Inject
-    public DeleteProductUseCase(ProductRepository productRepository) {
+    public DeleteProductUseCase(ProductRepository productRepository, ProductCatalogCache productCatalogCache) {
         this.productRepository = productRepository;
+        this.productCatalogCache = productCatalogCache;
     }
 
     public void execute(Long id) {
@@ -31,6 +34,7 @@ public class DeleteProductUseCase {
                    product.getCode(), product.getName());
 
         productRepository.deleteById(id);
+        productCatalogCache.invalidate(product);
 
         LOG.infof("Produto excluído com sucesso - ID: %d, Código: %s, Nome: %s",
                   id, product.getCode(), product.getName());
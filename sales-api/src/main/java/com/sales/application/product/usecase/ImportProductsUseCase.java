@@ -0,0 +1,89 @@
+package com.sales.application.product.usecase;
+
+import com.sales.application.common.BulkImporter;
+import com.sales.application.common.ImportLine;
+import com.sales.application.common.ImportTarget;
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
+import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.shared.ImportReport;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class ImportProductsUseCase {
+
+    private static final Logger LOG = Logger.getLogger(ImportProductsUseCase.class);
+
+    private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final BulkImporter bulkImporter;
+
+    @Inject
+    public ImportProductsUseCase(ProductRepository productRepository, ProductCatalogCache productCatalogCache,
+                                 BulkImporter bulkImporter) {
+        this.productRepository = productRepository;
+        this.productCatalogCache = productCatalogCache;
+        this.bulkImporter = bulkImporter;
+    }
+
+    /**
+     * Grava os produtos das linhas válidas; produtos sem código recebem um gerado (PROD0001...).
+     * Código já cadastrado ou repetido no arquivo recusa a linha sem impedir a gravação das demais.
+     */
+    public ImportReport execute(Iterator<ImportLine<Product>> lines) {
+        LOG.info("Iniciando importação de produtos");
+
+        ImportReport report = bulkImporter.run(lines, new ProductImport());
+
+        LOG.infof("Importação de produtos concluída - Linhas: %d, Importados: %d, Recusados: %d",
+                report.getTotalLines(), report.getImported(), report.getRejected());
+        return report;
+    }
+
+    private static boolean hasCode(Product product) {
+        return product.getCode() != null && !product.getCode().isBlank();
+    }
+
+    private final class ProductImport implements ImportTarget<Product> {
+        private final Set<String> codesInFile = new HashSet<>();
+        private Set<String> existingCodes = Set.of();
+
+        @Override
+        public void prepare(List<Product> chunk) {
+            existingCodes = productRepository.findExistingCodes(chunk.stream()
+                    .filter(ImportProductsUseCase::hasCode)
+                    .map(Product::getCode)
+                    .collect(Collectors.toSet()));
+        }
+
+        @Override
+        public String reject(Product product) {
+            if (!hasCode(product)) {
+                return null;
+            }
+            if (existingCodes.contains(product.getCode())) {
+                return "Produto com código " + product.getCode() + " já existe";
+            }
+            if (!codesInFile.add(product.getCode())) {
+                return "Código " + product.getCode() + " repetido no arquivo";
+            }
+            return null;
+        }
+
+        @Override
+        public void write(List<Product> accepted) {
+            productRepository.insertAll(accepted);
+            accepted.stream()
+                    .filter(ImportProductsUseCase::hasCode)
+                    .forEach(productCatalogCache::invalidate);
+        }
+    }
+}
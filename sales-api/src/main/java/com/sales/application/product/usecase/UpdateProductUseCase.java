@@ -1,6 +1,7 @@
 package com.sales.application.product.usecase;
 
 import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
 import com.sales.domain.product.port.ProductRepository;
 import com.sales.domain.product.valueobject.Dimensions;
 import com.sales.domain.product.valueobject.ProductType;
@@ -16,10 +17,12 @@ public class UpdateProductUseCase {
     private static final Logger LOG = Logger.getLogger(UpdateProductUseCase.class);
 
     private final ProductRepository productRepository;
+    private final ProductCatalogCache productCatalogCache;
 
     @Inject
-    public UpdateProductUseCase(ProductRepository productRepository) {
+    public UpdateProductUseCase(ProductRepository productRepository, ProductCatalogCache productCatalogCache) {
         this.productRepository = productRepository;
+        this.productCatalogCache = productCatalogCache;
     }
 
     public Product execute(Long id, String name, ProductType type, String details,
@@ -37,6 +40,7 @@ public class UpdateProductUseCase {
 
         product.updateInfo(name, type, details, weight, purchasePrice, salePrice, dimensions, destinationVehicle);
         Product updatedProduct = productRepository.save(product);
+        productCatalogCache.invalidate(updatedProduct);
 
         LOG.infof("Produto atualizado com sucesso - ID: %d, Código: %s, Novo nome: %s, Novo preço: R$ %.2f",
                   updatedProduct.getId(), updatedProduct.getCode(), updatedProduct.getName(),
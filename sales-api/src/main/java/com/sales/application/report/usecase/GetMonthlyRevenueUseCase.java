@@ -1,6 +1,9 @@
 package com.sales.application.report.usecase;
 
-import com.sales.infrastructure.persistence.sale.repository.SalePanacheRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
+import com.sales.domain.sale.valueobject.SalesBucket;
+import com.sales.domain.sale.valueobject.SalesTotals;
+import com.sales.domain.sale.valueobject.TimeBucket;
 import com.sales.infrastructure.rest.report.dto.MonthlyRevenueData;
 import com.sales.infrastructure.rest.report.dto.MonthlyRevenueResponse;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -9,7 +12,6 @@ import jakarta.inject.Inject;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.*;
@@ -17,29 +19,22 @@ import java.util.*;
 @ApplicationScoped
 public class GetMonthlyRevenueUseCase {
 
-    private static final BigDecimal TAX_RATE = new BigDecimal("0.09");
-
-    private final SalePanacheRepository saleRepository;
+    private final SalesRollupRepository salesRollupRepository;
 
     @Inject
-    public GetMonthlyRevenueUseCase(SalePanacheRepository saleRepository) {
-        this.saleRepository = saleRepository;
+    public GetMonthlyRevenueUseCase(SalesRollupRepository salesRollupRepository) {
+        this.salesRollupRepository = salesRollupRepository;
     }
 
     public MonthlyRevenueResponse execute(LocalDate referenceDate) {
 
-        LocalDateTime endDate = referenceDate.atTime(23, 59, 59);
-        LocalDateTime startDate = referenceDate.minusMonths(11).withDayOfMonth(1).atStartOfDay();
+        LocalDate startDate = referenceDate.minusMonths(11).withDayOfMonth(1);
 
-        List<Map<String, Object>> rawData = saleRepository.getMonthlyRevenue(startDate, endDate);
+        List<SalesBucket> buckets = salesRollupRepository.sumTotalsByBucket(startDate, referenceDate, TimeBucket.MONTH);
 
-        Map<String, BigDecimal> revenueByMonth = new HashMap<>();
-        for (Map<String, Object> row : rawData) {
-            Integer month = ((Number) row.get("month")).intValue();
-            Integer year = ((Number) row.get("year")).intValue();
-            BigDecimal subtotal = (BigDecimal) row.get("subtotal");
-            String key = year + "-" + String.format("%02d", month);
-            revenueByMonth.put(key, subtotal);
+        Map<YearMonth, SalesTotals> totalsByMonth = new HashMap<>();
+        for (SalesBucket bucket : buckets) {
+            totalsByMonth.put(YearMonth.from(bucket.getPeriodStart()), bucket.getTotals());
         }
 
         List<MonthlyRevenueData> monthlyDataList = new ArrayList<>();
@@ -48,11 +43,12 @@ public class GetMonthlyRevenueUseCase {
 
         for (int i = 11; i >= 0; i--) {
             YearMonth yearMonth = YearMonth.from(referenceDate.minusMonths(i));
-            String key = yearMonth.getYear() + "-" + String.format("%02d", yearMonth.getMonthValue());
 
-            BigDecimal subtotal = revenueByMonth.getOrDefault(key, BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP);
-            BigDecimal taxAmount = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
-            BigDecimal total = subtotal.add(taxAmount).setScale(2, RoundingMode.HALF_UP);
+            // Imposto já arredondado por venda e somado no agregado, igual ao gravado nas vendas
+            SalesTotals totals = totalsByMonth.getOrDefault(yearMonth, SalesTotals.empty());
+            BigDecimal subtotal = totals.getSubtotal();
+            BigDecimal taxAmount = totals.getTaxAmount();
+            BigDecimal total = totals.getTotalAmount();
 
             totalRevenue = totalRevenue.add(subtotal);
             totalTax = totalTax.add(taxAmount);
@@ -1,31 +1,37 @@
 package com.sales.application.sale.usecase;
 
-import com.sales.domain.customer.port.CustomerRepository;
-import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.product.port.ProductStockRepository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 import org.jboss.logging.Logger;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @ApplicationScoped
 public class CreateSaleUseCase {
 
     private static final Logger LOG = Logger.getLogger(CreateSaleUseCase.class);
 
     private final SaleRepository saleRepository;
-    private final CustomerRepository customerRepository;
-    private final ProductRepository productRepository;
+    private final SaleReferenceResolver referenceResolver;
+    private final SalesRollupRepository salesRollupRepository;
+    private final ProductStockRepository productStockRepository;
 
     @Inject
     public CreateSaleUseCase(SaleRepository saleRepository,
-                            CustomerRepository customerRepository,
-                            ProductRepository productRepository) {
+                            SaleReferenceResolver referenceResolver,
+                            SalesRollupRepository salesRollupRepository,
+                            ProductStockRepository productStockRepository) {
         this.saleRepository = saleRepository;
-        this.customerRepository = customerRepository;
-        this.productRepository = productRepository;
+        this.referenceResolver = referenceResolver;
+        this.salesRollupRepository = salesRollupRepository;
+        this.productStockRepository = productStockRepository;
     }
 
     @Transactional
@@ -34,8 +40,10 @@ public class CreateSaleUseCase {
                   sale.getCode(), sale.getCustomerCode(), sale.getItems().size());
 
         validateSale(sale);
+        productStockRepository.reserve(sale.getQuantitiesByProduct());
 
         Sale savedSale = saleRepository.save(sale);
+        salesRollupRepository.record(savedSale);
 
         LOG.infof("Venda criada com sucesso - ID: %d, Código: %s, Valor total: R$ %.2f",
                   savedSale.getId(), savedSale.getCode(), savedSale.getTotalAmount());
@@ -51,7 +59,10 @@ public class CreateSaleUseCase {
             throw new IllegalArgumentException("Venda com código " + sale.getCode() + " já existe");
         }
 
-        customerRepository.findByCode(sale.getCustomerCode())
+        // Reaproveita o que o mapper já resolveu; o que faltar sai em uma consulta por tabela
+        referenceResolver.preload(List.of(sale.getCustomerCode()), productCodes(sale));
+
+        referenceResolver.customer(sale.getCustomerCode())
                 .orElseThrow(() -> {
                     LOG.warnf("Cliente não encontrado para venda - Código: %s", sale.getCustomerCode());
                     return new IllegalArgumentException(
@@ -62,7 +73,7 @@ public class CreateSaleUseCase {
         sale.validateSale();
 
         for (SaleItem item : sale.getItems()) {
-            productRepository.findByCode(item.getProductCode())
+            referenceResolver.product(item.getProductCode())
                     .orElseThrow(() -> {
                         LOG.warnf("Produto não encontrado para venda - Código: %s", item.getProductCode());
                         return new IllegalArgumentException(
@@ -73,4 +84,10 @@ public class CreateSaleUseCase {
 
         LOG.debugf("Validação da venda concluída com sucesso - Total de itens: %d", sale.getItems().size());
     }
+
+    private List<String> productCodes(Sale sale) {
+        return sale.getItems().stream()
+                .map(SaleItem::getProductCode)
+                .collect(Collectors.toList());
+    }
 }
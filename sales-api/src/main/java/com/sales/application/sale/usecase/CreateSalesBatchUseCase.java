@@ -0,0 +1,133 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.entity.SaleItem;
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.SaleBatchResult;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class CreateSalesBatchUseCase {
+
+    private static final Logger LOG = Logger.getLogger(CreateSalesBatchUseCase.class);
+
+    @Inject
+    SaleRepository saleRepository;
+
+    @Inject
+    SaleReferenceResolver referenceResolver;
+
+    @Inject
+    SaleBatchWriter saleBatchWriter;
+
+    @ConfigProperty(name = "sales.batch.max-size", defaultValue = "1000")
+    int maxSize;
+
+    @ConfigProperty(name = "sales.batch.chunk-size", defaultValue = "100")
+    int chunkSize;
+
+    /**
+     * Valida e grava as vendas em blocos de {@code sales.batch.chunk-size}, cada bloco em uma transação.
+     * Vendas inválidas são reportadas individualmente sem impedir a gravação das demais.
+     *
+     * @return um resultado por venda, na mesma ordem da entrada
+     */
+    public List<SaleBatchResult> execute(List<Sale> sales) {
+        if (sales == null || sales.isEmpty()) {
+            throw new IllegalArgumentException("Lote deve ter pelo menos uma venda");
+        }
+        checkBatchSize(sales.size());
+
+        LOG.infof("Iniciando criação de vendas em lote - Vendas: %d", sales.size());
+
+        SaleBatchResult[] results = new SaleBatchResult[sales.size()];
+        Set<String> codesInBatch = new HashSet<>();
+
+        for (int start = 0; start < sales.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, sales.size());
+            List<Sale> chunk = sales.subList(start, end);
+            Set<String> existingCodes = saleRepository.findExistingCodes(
+                    chunk.stream().map(Sale::getCode).collect(Collectors.toSet()));
+            referenceResolver.preload(
+                    chunk.stream().map(Sale::getCustomerCode).collect(Collectors.toSet()),
+                    chunk.stream()
+                            .flatMap(sale -> sale.getItems().stream())
+                            .map(SaleItem::getProductCode)
+                            .collect(Collectors.toSet()));
+
+            List<Sale> valid = new ArrayList<>();
+            List<Integer> validIndexes = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                Sale sale = sales.get(i);
+                try {
+                    validateSale(sale, codesInBatch, existingCodes);
+                    valid.add(sale);
+                    validIndexes.add(i);
+                } catch (IllegalArgumentException e) {
+                    results[i] = SaleBatchResult.failed(sale.getCode(), e.getMessage());
+                }
+            }
+
+            if (!valid.isEmpty()) {
+                writeChunk(valid, validIndexes, results);
+            }
+        }
+
+        long created = Arrays.stream(results).filter(SaleBatchResult::isSuccess).count();
+        LOG.infof("Vendas em lote processadas - Criadas: %d, Com falha: %d", created, sales.size() - created);
+
+        return Arrays.asList(results);
+    }
+
+    public void checkBatchSize(int size) {
+        if (size > maxSize) {
+            throw new IllegalArgumentException("Lote deve ter no máximo " + maxSize + " vendas");
+        }
+    }
+
+    private void writeChunk(List<Sale> valid, List<Integer> validIndexes, SaleBatchResult[] results) {
+        try {
+            List<SaleBatchResult> written = saleBatchWriter.write(valid);
+            for (int i = 0; i < written.size(); i++) {
+                results[validIndexes.get(i)] = written.get(i);
+            }
+        } catch (RuntimeException e) {
+            LOG.errorf(e, "Erro ao gravar bloco de %d vendas", valid.size());
+            for (int i = 0; i < valid.size(); i++) {
+                results[validIndexes.get(i)] = SaleBatchResult.failed(valid.get(i).getCode(),
+                        "Erro ao gravar venda: bloco revertido");
+            }
+        }
+    }
+
+    private void validateSale(Sale sale, Set<String> codesInBatch, Set<String> existingCodes) {
+        if (!codesInBatch.add(sale.getCode())) {
+            throw new IllegalArgumentException("Venda com código " + sale.getCode() + " repetida no lote");
+        }
+        if (existingCodes.contains(sale.getCode())) {
+            throw new IllegalArgumentException("Venda com código " + sale.getCode() + " já existe");
+        }
+
+        if (referenceResolver.customer(sale.getCustomerCode()).isEmpty()) {
+            throw new IllegalArgumentException("Cliente não encontrado com código: " + sale.getCustomerCode());
+        }
+
+        sale.validateSale();
+
+        for (SaleItem item : sale.getItems()) {
+            if (referenceResolver.product(item.getProductCode()).isEmpty()) {
+                throw new IllegalArgumentException("Produto não encontrado com código: " + item.getProductCode());
+            }
+        }
+    }
+}
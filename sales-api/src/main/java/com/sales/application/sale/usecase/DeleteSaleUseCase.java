@@ -1,9 +1,12 @@
 package com.sales.application.sale.usecase;
 
+import com.sales.domain.product.port.ProductStockRepository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 import org.jboss.logging.Logger;
 
 @ApplicationScoped
@@ -12,12 +15,18 @@ public class DeleteSaleUseCase {
     private static final Logger LOG = Logger.getLogger(DeleteSaleUseCase.class);
 
     private final SaleRepository saleRepository;
+    private final SalesRollupRepository salesRollupRepository;
+    private final ProductStockRepository productStockRepository;
 
     @Inject
-    public DeleteSaleUseCase(SaleRepository saleRepository) {
+    public DeleteSaleUseCase(SaleRepository saleRepository, SalesRollupRepository salesRollupRepository,
+                             ProductStockRepository productStockRepository) {
         this.saleRepository = saleRepository;
+        this.salesRollupRepository = salesRollupRepository;
+        this.productStockRepository = productStockRepository;
     }
 
+    @Transactional
     public void execute(Long id) {
         LOG.infof("Iniciando exclusão da venda ID: %d", id);
 
@@ -31,6 +40,8 @@ public class DeleteSaleUseCase {
                    sale.getCode(), sale.getCustomerCode(), sale.getTotalAmount());
 
         saleRepository.deleteById(id);
+        salesRollupRepository.revert(sale);
+        productStockRepository.release(sale.getQuantitiesByProduct());
 
         LOG.infof("Venda excluída com sucesso - ID: %d, Código: %s",
                   id, sale.getCode());
@@ -0,0 +1,46 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.SaleExportLine;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+@ApplicationScoped
+public class ExportSalesUseCase {
+
+    private static final Logger LOG = Logger.getLogger(ExportSalesUseCase.class);
+
+    private final SaleRepository saleRepository;
+
+    @Inject
+    public ExportSalesUseCase(SaleRepository saleRepository) {
+        this.saleRepository = saleRepository;
+    }
+
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Datas inicial e final são obrigatórias");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Data inicial deve ser anterior ou igual à data final");
+        }
+    }
+
+    /**
+     * Entrega ao consumidor, uma a uma, as linhas das vendas criadas entre os dias informados (inclusive).
+     */
+    public long execute(LocalDate from, LocalDate to, Consumer<SaleExportLine> consumer) {
+        validateRange(from, to);
+        long[] lines = {0};
+        saleRepository.forEachExportLine(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), line -> {
+            consumer.accept(line);
+            lines[0]++;
+        });
+        LOG.infof("Exportação de vendas concluída - Período: %s a %s, Linhas: %d", from, to, lines[0]);
+        return lines[0];
+    }
+}
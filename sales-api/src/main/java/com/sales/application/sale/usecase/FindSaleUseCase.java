@@ -2,6 +2,7 @@ package com.sales.application.sale.usecase;
 
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.SaleSummary;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -27,11 +28,11 @@ public class FindSaleUseCase {
                 .orElseThrow(() -> new IllegalArgumentException("Venda não encontrada com código: " + code));
     }
 
-    public List<Sale> findAll() {
-        return saleRepository.findAll();
+    public List<SaleSummary> findAll() {
+        return saleRepository.findSummaries();
     }
 
-    public List<Sale> findByCustomerCode(String customerCode) {
-        return saleRepository.findByCustomerCode(customerCode);
+    public List<SaleSummary> findByCustomerCode(String customerCode) {
+        return saleRepository.findSummariesByCustomerCode(customerCode);
     }
 }
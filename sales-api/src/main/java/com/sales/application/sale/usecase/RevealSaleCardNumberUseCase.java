@@ -0,0 +1,30 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.sale.port.SaleRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+/**
+ * Único caminho que descriptografa o cartão de uma venda. As leituras comuns usam apenas
+ * os quatro últimos dígitos gravados em claro; cada acesso ao número completo é registrado.
+ */
+@ApplicationScoped
+public class RevealSaleCardNumberUseCase {
+
+    private static final Logger LOG = Logger.getLogger(RevealSaleCardNumberUseCase.class);
+
+    private final SaleRepository saleRepository;
+
+    @Inject
+    public RevealSaleCardNumberUseCase(SaleRepository saleRepository) {
+        this.saleRepository = saleRepository;
+    }
+
+    public String execute(Long saleId, String requestedBy) {
+        String cardNumber = saleRepository.findCardNumber(saleId)
+                .orElseThrow(() -> new IllegalArgumentException("Venda sem cartão ou não encontrada com id: " + saleId));
+        LOG.warnf("Número do cartão da venda %d revelado para %s", saleId, requestedBy);
+        return cardNumber;
+    }
+}
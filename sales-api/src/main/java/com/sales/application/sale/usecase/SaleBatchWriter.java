@@ -0,0 +1,65 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.product.port.ProductStockRepository;
+import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
+import com.sales.domain.sale.valueobject.SaleBatchResult;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Grava um bloco de vendas já validadas em transação própria, para que a falha de um bloco
+ * não desfaça os anteriores.
+ */
+@ApplicationScoped
+public class SaleBatchWriter {
+
+    @Inject
+    SaleRepository saleRepository;
+
+    @Inject
+    SalesRollupRepository salesRollupRepository;
+
+    @Inject
+    ProductStockRepository productStockRepository;
+
+    /**
+     * Vendas sem estoque ficam de fora sem afetar as demais do bloco.
+     *
+     * @return um resultado por venda, na mesma ordem da entrada
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public List<SaleBatchResult> write(List<Sale> sales) {
+        List<SaleBatchResult> results = new ArrayList<>(sales.size());
+        List<Sale> reserved = new ArrayList<>(sales.size());
+        for (Sale sale : sales) {
+            try {
+                productStockRepository.reserve(sale.getQuantitiesByProduct());
+                reserved.add(sale);
+                results.add(null);
+            } catch (IllegalArgumentException e) {
+                results.add(SaleBatchResult.failed(sale.getCode(), e.getMessage()));
+            }
+        }
+
+        if (reserved.isEmpty()) {
+            return results;
+        }
+
+        List<Sale> saved = saleRepository.saveAll(reserved);
+        salesRollupRepository.recordAll(saved);
+
+        int next = 0;
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, SaleBatchResult.created(saved.get(next++)));
+            }
+        }
+        return results;
+    }
+}
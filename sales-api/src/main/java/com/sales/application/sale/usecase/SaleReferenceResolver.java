@@ -0,0 +1,73 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.customer.entity.Customer;
+import com.sales.domain.customer.port.CustomerRepository;
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductRepository;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.inject.Inject;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolve clientes e produtos referenciados por vendas uma única vez por requisição,
+ * compartilhando o resultado entre o mapper e os casos de uso.
+ */
+@RequestScoped
+public class SaleReferenceResolver {
+
+    private final CustomerRepository customerRepository;
+    private final ProductRepository productRepository;
+
+    // Códigos ausentes também ficam registrados (Optional.empty()) para não repetir a consulta
+    private final Map<String, Optional<Customer>> customers = new HashMap<>();
+    private final Map<String, Optional<Product>> products = new HashMap<>();
+
+    @Inject
+    public SaleReferenceResolver(CustomerRepository customerRepository, ProductRepository productRepository) {
+        this.customerRepository = customerRepository;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * Carrega em uma consulta por tabela os códigos ainda não resolvidos nesta requisição.
+     */
+    public void preload(Collection<String> customerCodes, Collection<String> productCodes) {
+        Set<String> missingCustomers = missing(customerCodes, customers);
+        if (!missingCustomers.isEmpty()) {
+            missingCustomers.forEach(code -> customers.put(code, Optional.empty()));
+            customerRepository.findByCodes(missingCustomers)
+                    .forEach(customer -> customers.put(customer.getCode(), Optional.of(customer)));
+        }
+
+        Set<String> missingProducts = missing(productCodes, products);
+        if (!missingProducts.isEmpty()) {
+            missingProducts.forEach(code -> products.put(code, Optional.empty()));
+            productRepository.findByCodes(missingProducts)
+                    .forEach(product -> products.put(product.getCode(), Optional.of(product)));
+        }
+    }
+
+    public Optional<Customer> customer(String code) {
+        return customers.computeIfAbsent(code, customerRepository::findByCode);
+    }
+
+    public Optional<Product> product(String code) {
+        return products.computeIfAbsent(code, productRepository::findByCode);
+    }
+
+    private static <T> Set<String> missing(Collection<String> codes, Map<String, Optional<T>> resolved) {
+        Set<String> missing = new LinkedHashSet<>();
+        for (String code : codes) {
+            if (code != null && !resolved.containsKey(code)) {
+                missing.add(code);
+            }
+        }
+        return missing;
+    }
+}
@@ -1,7 +1,8 @@
 package com.sales.application.sale.usecase;
 
-import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.SaleSummary;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -16,7 +17,22 @@ public class SearchSalesUseCase {
         this.saleRepository = saleRepository;
     }
 
-    public PageResult<Sale> execute(String filter, int page, int size) {
+    public PageResult<SaleSummary> execute(String filter, int page, int size) {
+        checkMaxSize(size);
         return saleRepository.search(filter, page, size);
     }
+
+    public CursorPageResult<SaleSummary> execute(String filter, String after, int size, boolean includeTotal) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Tamanho da página deve ser maior que zero");
+        }
+        checkMaxSize(size);
+        return saleRepository.searchAfter(filter, after, size, includeTotal);
+    }
+
+    private void checkMaxSize(int size) {
+        if (size > PageResult.MAX_SIZE) {
+            throw new IllegalArgumentException("Tamanho da página deve ser no máximo " + PageResult.MAX_SIZE);
+        }
+    }
 }
@@ -1,9 +1,10 @@
 package com.sales.application.sale.usecase;
 
-import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.product.port.ProductStockRepository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
 import com.sales.domain.sale.valueobject.PaymentMethod;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
@@ -11,7 +12,10 @@ import jakarta.transaction.Transactional;
 import org.jboss.logging.Logger;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class UpdateSaleUseCase {
@@ -19,12 +23,18 @@ public class UpdateSaleUseCase {
     private static final Logger LOG = Logger.getLogger(UpdateSaleUseCase.class);
 
     private final SaleRepository saleRepository;
-    private final ProductRepository productRepository;
+    private final SaleReferenceResolver referenceResolver;
+    private final SalesRollupRepository salesRollupRepository;
+    private final ProductStockRepository productStockRepository;
 
     @Inject
-    public UpdateSaleUseCase(SaleRepository saleRepository, ProductRepository productRepository) {
+    public UpdateSaleUseCase(SaleRepository saleRepository, SaleReferenceResolver referenceResolver,
+                             SalesRollupRepository salesRollupRepository,
+                             ProductStockRepository productStockRepository) {
         this.saleRepository = saleRepository;
-        this.productRepository = productRepository;
+        this.referenceResolver = referenceResolver;
+        this.salesRollupRepository = salesRollupRepository;
+        this.productStockRepository = productStockRepository;
     }
 
     @Transactional
@@ -41,8 +51,12 @@ public class UpdateSaleUseCase {
 
         LOG.debugf("Venda encontrada - Código: %s, Cliente: %s", sale.getCode(), sale.getCustomerCode());
 
+        referenceResolver.preload(List.of(), items.stream()
+                .map(SaleItem::getProductCode)
+                .collect(Collectors.toList()));
+
         for (SaleItem item : items) {
-            productRepository.findByCode(item.getProductCode())
+            referenceResolver.product(item.getProductCode())
                     .orElseThrow(() -> {
                         LOG.warnf("Produto não encontrado ao atualizar venda - Código: %s", item.getProductCode());
                         return new IllegalArgumentException(
@@ -51,13 +65,43 @@ public class UpdateSaleUseCase {
                     });
         }
 
+        adjustStock(sale.getQuantitiesByProduct(), Sale.quantitiesByProduct(items));
+        salesRollupRepository.revert(sale);
+
         sale.update(sellerCode, sellerName, paymentMethod, cardNumber, amountPaid, items);
 
         Sale updatedSale = saleRepository.save(sale);
+        salesRollupRepository.record(updatedSale);
 
         LOG.infof("Venda atualizada com sucesso - ID: %d, Código: %s, Novo valor: R$ %.2f",
                   updatedSale.getId(), updatedSale.getCode(), updatedSale.getTotalAmount());
 
         return updatedSale;
     }
+
+    // Movimenta só a diferença entre os itens atuais e os novos
+    private void adjustStock(Map<String, Integer> current, Map<String, Integer> updated) {
+        Map<String, Integer> toReserve = new HashMap<>();
+        Map<String, Integer> toRelease = new HashMap<>();
+        updated.forEach((code, quantity) -> {
+            int delta = quantity - current.getOrDefault(code, 0);
+            if (delta > 0) {
+                toReserve.put(code, delta);
+            } else if (delta < 0) {
+                toRelease.put(code, -delta);
+            }
+        });
+        current.forEach((code, quantity) -> {
+            if (!updated.containsKey(code)) {
+                toRelease.put(code, quantity);
+            }
+        });
+
+        if (!toReserve.isEmpty()) {
+            productStockRepository.reserve(toReserve);
+        }
+        if (!toRelease.isEmpty()) {
+            productStockRepository.release(toRelease);
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.sales.domain.auth.entity;
 
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
 import com.sales.domain.shared.Entity;
@@ -56,11 +57,19 @@ public class User extends Entity {
         }
     }
 
-    public boolean authenticate(String plainPassword) {
+    public boolean authenticate(String plainPassword, PasswordHasher hasher) {
         if (!active) {
             throw new IllegalStateException("Usuário está inativo");
         }
-        return password.matches(plainPassword);
+        return password.matches(plainPassword, hasher);
+    }
+
+    /**
+     * Troca o hash da mesma senha (ex.: custo maior), sem afetar o token de redefinição.
+     */
+    public void upgradePasswordHash(Password rehashed) {
+        validatePassword(rehashed);
+        this.password = rehashed;
     }
 
     public void changePassword(Password newPassword) {
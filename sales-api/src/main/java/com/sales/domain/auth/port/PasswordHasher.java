@@ -0,0 +1,17 @@
+package com.sales.domain.auth.port;
+
+/**
+ * Port para geração e verificação de hash de senha. Implementações podem recusar a operação
+ * com {@link com.sales.domain.shared.exception.ServiceBusyException} quando sobrecarregadas.
+ */
+public interface PasswordHasher {
+
+    String hash(String plainPassword);
+
+    boolean verify(String plainPassword, String hashedPassword);
+
+    /**
+     * Verdadeiro se o hash foi gerado com custo menor que o configurado e deve ser refeito no próximo login.
+     */
+    boolean needsRehash(String hashedPassword);
+}
@@ -2,6 +2,7 @@ package com.sales.domain.auth.port;
 
 import com.sales.domain.auth.entity.User;
 import com.sales.domain.auth.valueobject.Email;
+import com.sales.domain.auth.valueobject.Password;
 
 import java.util.Optional;
 
@@ -9,6 +10,11 @@ public interface UserRepository {
 
     User save(User user);
 
+    /**
+     * Grava apenas o hash da senha, em transação própria.
+     */
+    void updatePassword(Long id, Password password);
+
     Optional<User> findById(Long id);
 
     Optional<User> findByEmail(Email email);
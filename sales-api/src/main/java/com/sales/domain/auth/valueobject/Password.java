@@ -1,6 +1,6 @@
 package com.sales.domain.auth.valueobject;
 
-import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.sales.domain.auth.port.PasswordHasher;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
@@ -9,32 +9,26 @@ import lombok.Getter;
 public class Password {
 
     private static final int MIN_LENGTH = 8;
-    private static final BCrypt.Hasher hasher = BCrypt.withDefaults();
-    private static final BCrypt.Verifyer verifyer = BCrypt.verifyer();
 
     private final String hashedValue;
 
-    private Password(String hashedValue, boolean alreadyHashed) {
-        if (alreadyHashed) {
-            this.hashedValue = hashedValue;
-        } else {
-            validate(hashedValue);
-            this.hashedValue = hash(hashedValue);
-        }
+    private Password(String hashedValue) {
+        this.hashedValue = hashedValue;
     }
 
-    public static Password fromPlainText(String plainPassword) {
-        return new Password(plainPassword, false);
+    public static Password fromPlainText(String plainPassword, PasswordHasher hasher) {
+        validate(plainPassword);
+        return new Password(hasher.hash(plainPassword));
     }
 
     public static Password fromHash(String hashedPassword) {
         if (hashedPassword == null || hashedPassword.isBlank()) {
             throw new IllegalArgumentException("Hash da senha não pode estar vazio");
         }
-        return new Password(hashedPassword, true);
+        return new Password(hashedPassword);
     }
 
-    private void validate(String password) {
+    private static void validate(String password) {
         if (password == null || password.isBlank()) {
             throw new IllegalArgumentException("Senha não pode estar vazia");
         }
@@ -62,13 +56,12 @@ public class Password {
         }
     }
 
-    private String hash(String plainPassword) {
-        return hasher.hashToString(12, plainPassword.toCharArray());
+    public boolean matches(String plainPassword, PasswordHasher hasher) {
+        return hasher.verify(plainPassword, hashedValue);
     }
 
-    public boolean matches(String plainPassword) {
-        BCrypt.Result result = verifyer.verify(plainPassword.toCharArray(), hashedValue);
-        return result.verified;
+    public boolean needsRehash(PasswordHasher hasher) {
+        return hasher.needsRehash(hashedValue);
     }
 
     @Override
@@ -1,22 +1,38 @@
 package com.sales.domain.customer.port;
 
 import com.sales.domain.customer.entity.Customer;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CustomerRepository {
     Customer save(Customer customer);
     Optional<Customer> findById(Long id);
     Optional<Customer> findByCode(String code);
+    List<Customer> findByCodes(Collection<String> codes);
     Optional<Customer> findByCpf(String cpf);
     Optional<Customer> findByEmail(String email);
     List<Customer> findAll();
     List<Customer> findByNameContaining(String name);
     PageResult<Customer> search(String filter, int page, int size);
+    CursorPageResult<Customer> searchAfter(String filter, String after, int size, boolean includeTotal);
     void deleteById(Long id);
     boolean existsByCode(String code);
     boolean existsByCpf(String cpf);
     boolean existsByEmail(String email);
+    Set<String> findExistingCpfs(Collection<String> cpfs);
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Grava clientes novos de uma vez, gerando os códigos que faltarem. Não devolve os clientes gravados;
+     * usado pela importação em massa.
+     */
+    void insertAll(List<Customer> customers);
+    long count();
+    long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 }
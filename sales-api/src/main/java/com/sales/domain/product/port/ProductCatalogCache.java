@@ -0,0 +1,8 @@
+package com.sales.domain.product.port;
+
+import com.sales.domain.product.entity.Product;
+
+public interface ProductCatalogCache {
+    void invalidate(Product product);
+    void invalidateAll();
+}
@@ -2,20 +2,33 @@ package com.sales.domain.product.port;
 
 import com.sales.domain.product.entity.Product;
 import com.sales.domain.product.valueobject.ProductType;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductRepository {
     Product save(Product product);
     Optional<Product> findById(Long id);
     Optional<Product> findByCode(String code);
+    List<Product> findByCodes(Collection<String> codes);
     List<Product> findAll();
     List<Product> findAllSortedByName();
     List<Product> findByType(ProductType type);
     List<Product> findByNameContaining(String name);
     PageResult<Product> search(String filter, int page, int size);
+    CursorPageResult<Product> searchAfter(String filter, String after, int size, boolean includeTotal);
     void deleteById(Long id);
     boolean existsByCode(String code);
+    Set<String> findExistingCodes(Collection<String> codes);
+
+    /**
+     * Grava produtos novos de uma vez, gerando os códigos que faltarem. Não devolve os produtos gravados;
+     * usado pela importação em massa.
+     */
+    void insertAll(List<Product> products);
+    long count();
 }
@@ -0,0 +1,19 @@
+package com.sales.domain.product.port;
+
+import java.util.Map;
+
+/**
+ * Movimentação de estoque por código de produto, sempre por incremento/decremento atômico
+ * (nunca por leitura e regravação do saldo).
+ */
+public interface ProductStockRepository {
+
+    /**
+     * Baixa as quantidades de todos os produtos ou de nenhum.
+     *
+     * @throws IllegalArgumentException se algum produto não tiver estoque suficiente
+     */
+    void reserve(Map<String, Integer> quantitiesByCode);
+
+    void release(Map<String, Integer> quantitiesByCode);
+}
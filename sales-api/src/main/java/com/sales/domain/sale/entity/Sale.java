@@ -8,11 +8,13 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 public class Sale extends Entity {
-    private static final BigDecimal TAX_RATE = new BigDecimal("0.09");
+    public static final BigDecimal TAX_RATE = new BigDecimal("0.09");
 
     private String customerCode;
     private String customerName;
@@ -20,6 +22,7 @@ public class Sale extends Entity {
     private String sellerName;
     private PaymentMethod paymentMethod;
     private String cardNumber;
+    private String cardLastFour;
     private BigDecimal amountPaid;
     private List<SaleItem> items;
 
@@ -32,7 +35,8 @@ public class Sale extends Entity {
         this.sellerCode = validateNotEmpty(sellerCode, "Código do vendedor não pode estar vazio");
         this.sellerName = validateNotEmpty(sellerName, "Nome do vendedor não pode estar vazio");
         this.paymentMethod = Objects.requireNonNull(paymentMethod, "Forma de pagamento não pode ser nula");
-        this.cardNumber = validateCardNumber(paymentMethod, cardNumber);
+        this.cardNumber = validateCardNumber(paymentMethod, cardNumber, null);
+        this.cardLastFour = lastFourDigits(cardNumber);
         this.amountPaid = validateAmountPaid(amountPaid);
         this.items = new ArrayList<>();
     }
@@ -40,17 +44,36 @@ public class Sale extends Entity {
     public Sale(Long id, String code, String customerCode, String customerName, String sellerCode, String sellerName,
                PaymentMethod paymentMethod, String cardNumber, BigDecimal amountPaid,
                List<SaleItem> items, LocalDateTime createdAt) {
+        this(id, code, customerCode, customerName, sellerCode, sellerName, paymentMethod,
+                cardNumber, lastFourDigits(cardNumber), amountPaid, items, createdAt);
+    }
+
+    private Sale(Long id, String code, String customerCode, String customerName, String sellerCode, String sellerName,
+                PaymentMethod paymentMethod, String cardNumber, String cardLastFour, BigDecimal amountPaid,
+                List<SaleItem> items, LocalDateTime createdAt) {
         super(id, code, createdAt);
         this.customerCode = validateNotEmpty(customerCode, "Código do cliente não pode estar vazio");
         this.customerName = validateNotEmpty(customerName, "Nome do cliente não pode estar vazio");
         this.sellerCode = validateNotEmpty(sellerCode, "Código do vendedor não pode estar vazio");
         this.sellerName = validateNotEmpty(sellerName, "Nome do vendedor não pode estar vazio");
         this.paymentMethod = Objects.requireNonNull(paymentMethod, "Forma de pagamento não pode ser nula");
-        this.cardNumber = validateCardNumber(paymentMethod, cardNumber);
+        this.cardNumber = validateCardNumber(paymentMethod, cardNumber, cardLastFour);
+        this.cardLastFour = cardLastFour;
         this.amountPaid = validateAmountPaid(amountPaid);
         this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
     }
 
+    /**
+     * Reconstrói uma venda gravada sem o número do cartão: só os quatro últimos dígitos,
+     * suficientes para {@link #getMaskedCardNumber()}.
+     */
+    public static Sale restore(Long id, String code, String customerCode, String customerName, String sellerCode,
+                               String sellerName, PaymentMethod paymentMethod, String cardLastFour,
+                               BigDecimal amountPaid, List<SaleItem> items, LocalDateTime createdAt) {
+        return new Sale(id, code, customerCode, customerName, sellerCode, sellerName, paymentMethod,
+                null, cardLastFour, amountPaid, items, createdAt);
+    }
+
     private String validateCode(String code) {
         if (code == null || code.isBlank()) {
             throw new IllegalArgumentException("Código não pode estar vazio");
@@ -65,9 +88,9 @@ public class Sale extends Entity {
         return value;
     }
 
-    private String validateCardNumber(PaymentMethod paymentMethod, String cardNumber) {
+    private String validateCardNumber(PaymentMethod paymentMethod, String cardNumber, String cardLastFour) {
         if (paymentMethod == PaymentMethod.CARTAO_CREDITO || paymentMethod == PaymentMethod.CARTAO_DEBITO) {
-            if (cardNumber == null || cardNumber.isBlank()) {
+            if ((cardNumber == null || cardNumber.isBlank()) && cardLastFour == null) {
                 throw new IllegalArgumentException("Número do cartão é obrigatório para pagamento com cartão");
             }
         }
@@ -103,11 +126,16 @@ public class Sale extends Entity {
     }
 
     public BigDecimal getTaxAmount() {
-        return getSubtotal().multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+        return calculateTax(getSubtotal());
     }
 
     public BigDecimal getTotalAmount() {
-        return getSubtotal().add(getTaxAmount()).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal subtotal = getSubtotal();
+        return subtotal.add(calculateTax(subtotal)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal calculateTax(BigDecimal subtotal) {
+        return subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
     }
 
     public BigDecimal getChange() {
@@ -134,7 +162,8 @@ public class Sale extends Entity {
         this.sellerCode = validateNotEmpty(sellerCode, "Código do vendedor não pode estar vazio");
         this.sellerName = validateNotEmpty(sellerName, "Nome do vendedor não pode estar vazio");
         this.paymentMethod = Objects.requireNonNull(paymentMethod, "Forma de pagamento não pode ser nula");
-        this.cardNumber = validateCardNumber(paymentMethod, cardNumber);
+        this.cardNumber = validateCardNumber(paymentMethod, cardNumber, null);
+        this.cardLastFour = lastFourDigits(cardNumber);
         this.amountPaid = validateAmountPaid(amountPaid);
         this.items = items != null ? new ArrayList<>(items) : new ArrayList<>();
         validateSale();
@@ -160,15 +189,30 @@ public class Sale extends Entity {
         return paymentMethod;
     }
 
+    /**
+     * Número completo do cartão; {@code null} em vendas lidas do banco (ver {@link #restore}).
+     */
     public String getCardNumber() {
         return cardNumber;
     }
 
+    public String getCardLastFour() {
+        return cardLastFour;
+    }
+
     public String getMaskedCardNumber() {
-        if (cardNumber == null || cardNumber.length() < 4) {
+        if (cardLastFour == null) {
             return cardNumber;
         }
-        return "**** **** **** " + cardNumber.substring(cardNumber.length() - 4);
+        return "**** **** **** " + cardLastFour;
+    }
+
+    public static String lastFourDigits(String cardNumber) {
+        if (cardNumber == null) {
+            return null;
+        }
+        String digits = cardNumber.replaceAll("[^0-9]", "");
+        return digits.length() >= 4 ? digits.substring(digits.length() - 4) : null;
     }
 
     public BigDecimal getAmountPaid() {
@@ -183,6 +227,18 @@ public class Sale extends Entity {
         return items.stream().mapToInt(SaleItem::getQuantity).sum();
     }
 
+    public Map<String, Integer> getQuantitiesByProduct() {
+        return quantitiesByProduct(items);
+    }
+
+    public static Map<String, Integer> quantitiesByProduct(List<SaleItem> items) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (SaleItem item : items) {
+            quantities.merge(item.getProductCode(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
     public static Sale createCashSale(String code, String customerCode, String customerName,
                                       String sellerCode, String sellerName, BigDecimal amountPaid) {
         return new Sale(code, customerCode, customerName, sellerCode, sellerName,
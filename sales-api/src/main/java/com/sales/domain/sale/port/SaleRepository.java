@@ -1,23 +1,59 @@
 package com.sales.domain.sale.port;
 
 import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.valueobject.CardReEncryptionBatch;
 import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SaleExportLine;
+import com.sales.domain.sale.valueobject.SaleSummary;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface SaleRepository {
     Sale save(Sale sale);
+    List<Sale> saveAll(List<Sale> sales);
     Optional<Sale> findById(Long id);
     Optional<Sale> findByCode(String code);
     List<Sale> findAll();
-    List<Sale> findByCustomerCode(String customerCode);
+    List<SaleSummary> findSummaries();
+    List<SaleSummary> findSummariesByCustomerCode(String customerCode);
+    List<SaleSummary> findRecentSummaries(int limit);
     List<Sale> findBySellerCode(String sellerCode);
     List<Sale> findByPaymentMethod(PaymentMethod paymentMethod);
     List<Sale> findByDateRange(LocalDateTime start, LocalDateTime end);
-    PageResult<Sale> search(String filter, int page, int size);
+
+    /**
+     * Percorre os itens das vendas criadas em [start, end) em ordem cronológica, sem manter
+     * o resultado em memória.
+     */
+    void forEachExportLine(LocalDateTime start, LocalDateTime end, Consumer<SaleExportLine> action);
+    PageResult<SaleSummary> search(String filter, int page, int size);
+    CursorPageResult<SaleSummary> searchAfter(String filter, String after, int size, boolean includeTotal);
     void deleteById(Long id);
     boolean existsByCode(String code);
+    Set<String> findExistingCodes(Collection<String> codes);
+    int backfillTotals(int batchSize);
+
+    /**
+     * Preenche os quatro últimos dígitos do cartão das vendas gravadas antes da coluna existir,
+     * em transações de até {@code batchSize} vendas. Retorna quantas vendas foram atualizadas.
+     */
+    int backfillCardLastFour(int batchSize);
+
+    /**
+     * Regrava com a chave atual os cartões de até {@code batchSize} vendas com id maior que {@code afterId}
+     * que ainda usam uma chave anterior. Cada venda só é regravada se o cartão não mudou desde a leitura.
+     */
+    CardReEncryptionBatch reEncryptCardNumbers(long afterId, int batchSize);
+
+    /**
+     * Único acesso ao número completo do cartão (descriptografado). Vazio se a venda não existe ou não tem cartão.
+     */
+    Optional<String> findCardNumber(Long id);
 }
@@ -0,0 +1,23 @@
+package com.sales.domain.sale.port;
+
+import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SalesBucket;
+import com.sales.domain.sale.valueobject.SalesTotals;
+import com.sales.domain.sale.valueobject.TimeBucket;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+public interface SalesRollupRepository {
+    void record(Sale sale);
+    void recordAll(List<Sale> sales);
+    void revert(Sale sale);
+    int rebuild();
+    boolean isEmpty();
+    SalesTotals sumTotals();
+    SalesTotals sumTotalsByDateRange(LocalDate start, LocalDate end);
+    List<SalesBucket> sumTotalsByBucket(LocalDate start, LocalDate end, TimeBucket bucket);
+    Map<PaymentMethod, SalesTotals> sumTotalsByPaymentMethod(LocalDate start, LocalDate end);
+}
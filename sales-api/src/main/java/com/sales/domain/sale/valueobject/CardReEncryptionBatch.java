@@ -0,0 +1,36 @@
+package com.sales.domain.sale.valueobject;
+
+/**
+ * Resultado de um bloco da recriptografia de cartões: até onde a varredura por id chegou,
+ * quantas vendas foram lidas e quantas foram regravadas com a chave atual.
+ */
+public class CardReEncryptionBatch {
+    private final long lastId;
+    private final int scanned;
+    private final int reEncrypted;
+
+    public CardReEncryptionBatch(long lastId, int scanned, int reEncrypted) {
+        this.lastId = lastId;
+        this.scanned = scanned;
+        this.reEncrypted = reEncrypted;
+    }
+
+    /**
+     * Id da última venda lida; o próximo bloco começa depois dele.
+     */
+    public long getLastId() {
+        return lastId;
+    }
+
+    public int getScanned() {
+        return scanned;
+    }
+
+    public int getReEncrypted() {
+        return reEncrypted;
+    }
+
+    public boolean isEmpty() {
+        return scanned == 0;
+    }
+}
@@ -0,0 +1,42 @@
+package com.sales.domain.sale.valueobject;
+
+import com.sales.domain.sale.entity.Sale;
+
+/**
+ * Resultado de uma venda dentro de um lote: a venda gravada ou o motivo da falha.
+ */
+public class SaleBatchResult {
+    private final String code;
+    private final Sale sale;
+    private final String error;
+
+    private SaleBatchResult(String code, Sale sale, String error) {
+        this.code = code;
+        this.sale = sale;
+        this.error = error;
+    }
+
+    public static SaleBatchResult created(Sale sale) {
+        return new SaleBatchResult(sale.getCode(), sale, null);
+    }
+
+    public static SaleBatchResult failed(String code, String error) {
+        return new SaleBatchResult(code, null, error);
+    }
+
+    public boolean isSuccess() {
+        return sale != null;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public Sale getSale() {
+        return sale;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
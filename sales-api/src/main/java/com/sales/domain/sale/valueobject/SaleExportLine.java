@@ -0,0 +1,108 @@
+package com.sales.domain.sale.valueobject;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha da exportação de vendas: um item com os dados da venda a que pertence.
+ * Vendas sem itens geram uma linha com os campos do item vazios.
+ */
+public class SaleExportLine {
+    private final String saleCode;
+    private final LocalDateTime createdAt;
+    private final String customerCode;
+    private final String customerName;
+    private final String sellerCode;
+    private final String sellerName;
+    private final PaymentMethod paymentMethod;
+    private final BigDecimal subtotal;
+    private final BigDecimal taxAmount;
+    private final BigDecimal totalAmount;
+    private final String productCode;
+    private final String productName;
+    private final Integer quantity;
+    private final BigDecimal unitPrice;
+
+    public SaleExportLine(String saleCode, LocalDateTime createdAt, String customerCode, String customerName,
+                          String sellerCode, String sellerName, PaymentMethod paymentMethod,
+                          BigDecimal subtotal, BigDecimal taxAmount, BigDecimal totalAmount,
+                          String productCode, String productName, Integer quantity, BigDecimal unitPrice) {
+        this.saleCode = saleCode;
+        this.createdAt = createdAt;
+        this.customerCode = customerCode;
+        this.customerName = customerName;
+        this.sellerCode = sellerCode;
+        this.sellerName = sellerName;
+        this.paymentMethod = paymentMethod;
+        this.subtotal = subtotal;
+        this.taxAmount = taxAmount;
+        this.totalAmount = totalAmount;
+        this.productCode = productCode;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    public String getSaleCode() {
+        return saleCode;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getCustomerCode() {
+        return customerCode;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getSellerCode() {
+        return sellerCode;
+    }
+
+    public String getSellerName() {
+        return sellerName;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public BigDecimal getTaxAmount() {
+        return taxAmount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public String getProductCode() {
+        return productCode;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public BigDecimal getLineTotal() {
+        if (quantity == null || unitPrice == null) {
+            return null;
+        }
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+}
@@ -0,0 +1,83 @@
+package com.sales.domain.sale.valueobject;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Visão resumida de uma venda para listagens: dados do cabeçalho, quantidade de itens e nome do
+ * primeiro produto, sem os itens. A venda completa é obtida pelo id.
+ */
+public class SaleSummary {
+    private final Long id;
+    private final String code;
+    private final String customerCode;
+    private final String customerName;
+    private final String sellerCode;
+    private final String sellerName;
+    private final PaymentMethod paymentMethod;
+    private final int itemCount;
+    private final String firstProductName;
+    private final BigDecimal totalAmount;
+    private final LocalDateTime createdAt;
+
+    public SaleSummary(Long id, String code, String customerCode, String customerName,
+                       String sellerCode, String sellerName, PaymentMethod paymentMethod,
+                       int itemCount, String firstProductName, BigDecimal totalAmount,
+                       LocalDateTime createdAt) {
+        this.id = id;
+        this.code = code;
+        this.customerCode = customerCode;
+        this.customerName = customerName;
+        this.sellerCode = sellerCode;
+        this.sellerName = sellerName;
+        this.paymentMethod = paymentMethod;
+        this.itemCount = itemCount;
+        this.firstProductName = firstProductName;
+        this.totalAmount = totalAmount != null ? totalAmount : BigDecimal.ZERO;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public String getCustomerCode() {
+        return customerCode;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public String getSellerCode() {
+        return sellerCode;
+    }
+
+    public String getSellerName() {
+        return sellerName;
+    }
+
+    public PaymentMethod getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public String getFirstProductName() {
+        return firstProductName;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.sales.domain.sale.valueobject;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+public class SalesBucket {
+    private final LocalDate periodStart;
+    private final SalesTotals totals;
+
+    public SalesBucket(LocalDate periodStart, SalesTotals totals) {
+        this.periodStart = Objects.requireNonNull(periodStart, "Início do período não pode ser nulo");
+        this.totals = totals != null ? totals : SalesTotals.empty();
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public SalesTotals getTotals() {
+        return totals;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SalesBucket that = (SalesBucket) o;
+        return periodStart.equals(that.periodStart) && totals.equals(that.totals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(periodStart, totals);
+    }
+}
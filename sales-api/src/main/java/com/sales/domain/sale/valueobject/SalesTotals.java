@@ -0,0 +1,59 @@
+package com.sales.domain.sale.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+public class SalesTotals {
+    private final long salesCount;
+    private final BigDecimal subtotal;
+    private final BigDecimal taxAmount;
+
+    public SalesTotals(long salesCount, BigDecimal subtotal, BigDecimal taxAmount) {
+        if (salesCount < 0) {
+            throw new IllegalArgumentException("Quantidade de vendas não pode ser negativa");
+        }
+        this.salesCount = salesCount;
+        this.subtotal = scale(subtotal);
+        this.taxAmount = scale(taxAmount);
+    }
+
+    public static SalesTotals empty() {
+        return new SalesTotals(0, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    private BigDecimal scale(BigDecimal value) {
+        return (value != null ? value : BigDecimal.ZERO).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public long getSalesCount() {
+        return salesCount;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public BigDecimal getTaxAmount() {
+        return taxAmount;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return subtotal.add(taxAmount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SalesTotals that = (SalesTotals) o;
+        return salesCount == that.salesCount &&
+                subtotal.compareTo(that.subtotal) == 0 &&
+                taxAmount.compareTo(that.taxAmount) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(salesCount, subtotal, taxAmount);
+    }
+}
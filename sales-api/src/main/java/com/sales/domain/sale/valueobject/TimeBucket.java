@@ -0,0 +1,7 @@
+package com.sales.domain.sale.valueobject;
+
+public enum TimeBucket {
+    DAY,
+    WEEK,
+    MONTH
+}
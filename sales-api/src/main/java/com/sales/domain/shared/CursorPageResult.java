@@ -0,0 +1,40 @@
+package com.sales.domain.shared;
+
+import java.util.List;
+
+public class CursorPageResult<T> {
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final Long totalElements;
+
+    public CursorPageResult(List<T> content, int size, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Total de registros do filtro, ou {@code null} quando a contagem não foi solicitada.
+     */
+    public Long getTotalElements() {
+        return totalElements;
+    }
+}
@@ -0,0 +1,56 @@
+package com.sales.domain.shared;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em massa: quantas linhas foram lidas e gravadas e o motivo
+ * da recusa de cada linha que ficou de fora.
+ */
+public class ImportReport {
+    private final long totalLines;
+    private final long imported;
+    private final List<LineError> errors;
+
+    public ImportReport(long totalLines, long imported, List<LineError> errors) {
+        this.totalLines = totalLines;
+        this.imported = imported;
+        this.errors = errors;
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return totalLines - imported;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    public static class LineError {
+        private final long line;
+        private final String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        /**
+         * Número da linha no arquivo (o cabeçalho é a linha 1).
+         */
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
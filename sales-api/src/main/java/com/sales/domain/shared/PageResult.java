@@ -3,6 +3,10 @@ package com.sales.domain.shared;
 import java.util.List;
 
 public class PageResult<T> {
+
+    // Limite das buscas paginadas (offset e cursor), para que uma requisição não percorra a tabela inteira
+    public static final int MAX_SIZE = 100;
+
     private final List<T> content;
     private final long totalElements;
     private final int page;
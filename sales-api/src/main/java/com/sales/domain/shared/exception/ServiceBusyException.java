@@ -0,0 +1,14 @@
+package com.sales.domain.shared.exception;
+
+/**
+ * Operação recusada porque o recurso que a executa está saturado; o cliente pode tentar novamente.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+
+    public ServiceBusyException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
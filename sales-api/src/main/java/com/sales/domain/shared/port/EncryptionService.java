@@ -1,10 +1,39 @@
 package com.sales.domain.shared.port;
 
+import java.util.List;
+
 /**
  * Port para criptografia de dados sensíveis.
  * Implementações devem usar AES-256-GCM ou superior.
+ * Valores criptografados começam com o identificador da chave usada: {@code keyId:...}.
  */
 public interface EncryptionService {
     String encrypt(String plaintext);
     String decrypt(String ciphertext);
+
+    /**
+     * Identificador da chave usada nas novas criptografias.
+     */
+    String currentKeyId();
+
+    /**
+     * Verdadeiro se o valor não foi criptografado com a chave atual (chave anterior ou sem identificador).
+     */
+    default boolean needsReEncryption(String ciphertext) {
+        return ciphertext != null && !ciphertext.startsWith(currentKeyId() + ":");
+    }
+
+    /**
+     * Criptografa em lote, na mesma ordem da entrada. Falha inteira se algum valor for inválido.
+     */
+    default List<String> encryptAll(List<String> plaintexts) {
+        return plaintexts.stream().map(this::encrypt).toList();
+    }
+
+    /**
+     * Descriptografa em lote, na mesma ordem da entrada. Falha inteira se algum valor for inválido.
+     */
+    default List<String> decryptAll(List<String> ciphertexts) {
+        return ciphertexts.stream().map(this::decrypt).toList();
+    }
 }
@@ -1,6 +1,9 @@
 package com.sales.infrastructure.config;
 
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
 import com.sales.domain.shared.port.EncryptionService;
 import com.sales.infrastructure.persistence.auth.entity.UserEntity;
 import com.sales.infrastructure.persistence.customer.entity.CustomerEntity;
@@ -18,6 +21,9 @@ import org.jboss.logging.Logger;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @ApplicationScoped
 public class DataSeeder {
@@ -30,6 +36,15 @@ public class DataSeeder {
     @Inject
     EncryptionService encryptionService;
 
+    @Inject
+    PasswordHasher passwordHasher;
+
+    @Inject
+    SaleRepository saleRepository;
+
+    @Inject
+    SalesRollupRepository salesRollupRepository;
+
     @Inject
     @ConfigProperty(name = "app.seed.enabled", defaultValue = "false")
     boolean seedEnabled;
@@ -56,6 +71,11 @@ public class DataSeeder {
         seedProducts();
         seedSales();
 
+        // Vendas inseridas diretamente não passam pelos casos de uso; preenche totais e recalcula os agregados
+        em.flush();
+        saleRepository.backfillTotals(Integer.MAX_VALUE);
+        salesRollupRepository.rebuild();
+
         LOG.info("Database seeding completed!");
     }
 
@@ -247,7 +267,7 @@ public class DataSeeder {
      */
     private void seedUsers() {
 
-        String hashedPassword = Password.fromPlainText("Test@123").getHashedValue();
+        String hashedPassword = Password.fromPlainText("Test@123", passwordHasher).getHashedValue();
 
         UserEntity user1 = new UserEntity();
         user1.setCustomerCode("CUST001");
@@ -508,17 +528,22 @@ public class DataSeeder {
     }
 
     /**
-     * Criptografa cardNumber para armazenamento seguro.
+     * Criptografa os cartões de teste num único lote, indexados pelo número em claro.
      * Usado apenas no seed de dados de teste.
      */
-    private String encryptCardNumber(String cardNumber) {
-        if (cardNumber == null || cardNumber.isEmpty()) {
-            return null;
+    private Map<String, String> encryptCardNumbers(String... cardNumbers) {
+        List<String> plaintexts = List.of(cardNumbers);
+        List<String> encrypted = encryptionService.encryptAll(plaintexts);
+        Map<String, String> byCardNumber = new HashMap<>();
+        for (int i = 0; i < plaintexts.size(); i++) {
+            byCardNumber.put(plaintexts.get(i), encrypted.get(i));
         }
-        return encryptionService.encrypt(cardNumber);
+        return byCardNumber;
     }
 
     private void seedSales() {
+        Map<String, String> cards = encryptCardNumbers(
+                "4532015112830366", "5425233430109903", "378282246310005", "6011111111111117");
 
         SaleEntity sale1 = new SaleEntity();
         sale1.setCode("SALE001");
@@ -527,7 +552,8 @@ public class DataSeeder {
         sale1.setSellerCode("SELLER001");
         sale1.setSellerName("Vendedor Sistema");
         sale1.setPaymentMethod("Cartão de Crédito");
-        sale1.setCardNumber(encryptCardNumber("4532015112830366")); // Teste: Visa
+        sale1.setCardNumber(cards.get("4532015112830366")); // Teste: Visa
+        sale1.setCardLastFour("0366");
         sale1.setAmountPaid(new BigDecimal("195.00"));
 
         SaleItemEntity item1_1 = new SaleItemEntity();
@@ -603,7 +629,8 @@ public class DataSeeder {
         sale4.setSellerCode("SELLER001");
         sale4.setSellerName("Vendedor Sistema");
         sale4.setPaymentMethod("Cartão de Débito");
-        sale4.setCardNumber(encryptCardNumber("5425233430109903")); // Teste: Mastercard
+        sale4.setCardNumber(cards.get("5425233430109903")); // Teste: Mastercard
+        sale4.setCardLastFour("9903");
         sale4.setAmountPaid(new BigDecimal("206.00"));
 
         SaleItemEntity item4_1 = new SaleItemEntity();
@@ -629,7 +656,8 @@ public class DataSeeder {
         sale5.setSellerCode("SELLER001");
         sale5.setSellerName("Vendedor Sistema");
         sale5.setPaymentMethod("Cartão de Crédito");
-        sale5.setCardNumber(encryptCardNumber("378282246310005")); // Teste: Amex
+        sale5.setCardNumber(cards.get("378282246310005")); // Teste: Amex
+        sale5.setCardLastFour("0005");
         sale5.setAmountPaid(new BigDecimal("282.00"));
 
         SaleItemEntity item5_1 = new SaleItemEntity();
@@ -687,7 +715,8 @@ public class DataSeeder {
         sale7.setSellerCode("SELLER001");
         sale7.setSellerName("Vendedor Sistema");
         sale7.setPaymentMethod("Cartão de Crédito");
-        sale7.setCardNumber(encryptCardNumber("6011111111111117")); // Teste: Discover
+        sale7.setCardNumber(cards.get("6011111111111117")); // Teste: Discover
+        sale7.setCardLastFour("1117");
         sale7.setAmountPaid(new BigDecimal("340.00"));
 
         SaleItemEntity item7_1 = new SaleItemEntity();
@@ -770,7 +799,8 @@ public class DataSeeder {
         sale10.setSellerCode("SELLER001");
         sale10.setSellerName("Vendedor Sistema");
         sale10.setPaymentMethod("Cartão de Débito");
-        sale10.setCardNumber(encryptCardNumber("4532015112830366")); // Teste: Visa
+        sale10.setCardNumber(cards.get("4532015112830366")); // Teste: Visa
+        sale10.setCardLastFour("0366");
         sale10.setAmountPaid(new BigDecimal("371.00"));
 
         SaleItemEntity item10_1 = new SaleItemEntity();
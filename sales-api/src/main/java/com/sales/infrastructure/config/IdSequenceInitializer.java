@@ -0,0 +1,55 @@
+package com.sales.infrastructure.config;
+
+import com.sales.infrastructure.persistence.sale.entity.SaleEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.Map;
+
+/**
+ * Bases criadas quando vendas e itens usavam IDENTITY já possuem ids; as sequências
+ * criadas pelo Hibernate começam em 1 e precisam avançar além do maior id existente.
+ */
+@ApplicationScoped
+public class IdSequenceInitializer {
+
+    private static final Logger LOG = Logger.getLogger(IdSequenceInitializer.class);
+
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "sales_seq", "sales",
+            "sale_items_seq", "sale_items"
+    );
+
+    @Inject
+    EntityManager em;
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
+    // Executa antes de qualquer tarefa de inicialização que grave vendas
+    void onStartup(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        if (!"postgresql".equalsIgnoreCase(dbKind)) {
+            return;
+        }
+
+        try {
+            QuarkusTransaction.requiringNew().run(() -> SEQUENCES.forEach((sequence, table) ->
+                    em.createNativeQuery(
+                                    "SELECT setval('" + sequence + "', (SELECT COALESCE(MAX(id), 0) FROM " + table + ") + "
+                                            + SaleEntity.ID_ALLOCATION_SIZE + ") " +
+                                            "WHERE (SELECT last_value FROM " + sequence + ") < (SELECT COALESCE(MAX(id), 0) FROM " + table + ")")
+                            .getResultList()));
+            LOG.info("Sequências de ids de vendas verificadas");
+        } catch (Exception e) {
+            LOG.error("Erro ao alinhar sequências de ids de vendas", e);
+        }
+    }
+}
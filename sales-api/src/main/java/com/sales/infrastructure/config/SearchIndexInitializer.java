@@ -0,0 +1,88 @@
+package com.sales.infrastructure.config;
+
+import com.sales.infrastructure.persistence.common.SearchDocuments;
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Único responsável por criar os índices de busca por trigramas: o schema vem do Hibernate e as
+ * migrações (V011) servem só de referência para aplicação manual. Os índices são criados com
+ * {@code CREATE INDEX CONCURRENTLY}, que não bloqueia gravações nas tabelas, fora da subida da
+ * aplicação e fora de transação (exigência do PostgreSQL).
+ */
+@ApplicationScoped
+public class SearchIndexInitializer {
+
+    private static final Logger LOG = Logger.getLogger(SearchIndexInitializer.class);
+
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_customers_search_trgm", "customers USING GIN ((" + SearchDocuments.CUSTOMERS + ") gin_trgm_ops)",
+            "idx_products_search_trgm", "products USING GIN ((" + SearchDocuments.PRODUCTS + ") gin_trgm_ops)",
+            "idx_sales_search_trgm", "sales USING GIN ((" + SearchDocuments.SALES + ") gin_trgm_ops)"
+    );
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
+    @ConfigProperty(name = "app.search.trigram-indexes.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @Scheduled(every = "${app.search.trigram-indexes.check-interval:24h}", delayed = "${app.search.trigram-indexes.delay:10s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void ensureIndexes() {
+        if (!enabled || !"postgresql".equalsIgnoreCase(dbKind)) {
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            connection.setAutoCommit(true);
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+                if (ensureIndex(connection, statement, index.getKey(), index.getValue())) {
+                    LOG.infof("Índice de busca por trigramas criado - %s", index.getKey());
+                }
+            }
+        } catch (Exception e) {
+            // Sem pg_trgm a busca continua funcionando, apenas sem índice
+            LOG.warn("Não foi possível criar índices de busca por trigramas; buscas usarão varredura sequencial", e);
+        }
+    }
+
+    private boolean ensureIndex(Connection connection, Statement statement, String name, String definition) throws SQLException {
+        Boolean valid = isValid(connection, name);
+        if (Boolean.TRUE.equals(valid)) {
+            return false;
+        }
+        if (valid != null) {
+            // Um CONCURRENTLY interrompido deixa o índice inválido, e IF NOT EXISTS não o reconstruiria
+            statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+        }
+        statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + name + " ON " + definition);
+        return true;
+    }
+
+    private Boolean isValid(Connection connection, String name) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(
+                "SELECT i.indisvalid FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid WHERE c.relname = ?")) {
+            query.setString(1, name);
+            try (ResultSet rs = query.executeQuery()) {
+                return rs.next() ? rs.getBoolean(1) : null;
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.sales.infrastructure.email;
+
+import com.sales.infrastructure.persistence.email.entity.EmailOutboxEntity;
+import com.sales.infrastructure.persistence.email.repository.EmailOutboxPanacheRepository;
+import io.quarkus.mailer.Mail;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+/**
+ * Grava o email na tabela {@code email_outbox} na transação de quem chama; o envio SMTP
+ * fica a cargo do {@link EmailOutboxDispatcher}. Se a transação for desfeita, o email também é.
+ */
+@ApplicationScoped
+public class EmailOutbox {
+
+    @Inject
+    EmailOutboxPanacheRepository repository;
+
+    @Transactional
+    public void enqueue(Mail mail) {
+        EmailOutboxEntity entity = new EmailOutboxEntity();
+        entity.setRecipient(String.join(",", mail.getTo()));
+        entity.setSubject(mail.getSubject());
+        entity.setHtmlBody(mail.getHtml());
+        repository.persist(entity);
+    }
+}
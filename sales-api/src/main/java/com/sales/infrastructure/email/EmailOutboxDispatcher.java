@@ -0,0 +1,177 @@
+package com.sales.infrastructure.email;
+
+import com.sales.infrastructure.persistence.email.entity.EmailOutboxEntity;
+import com.sales.infrastructure.persistence.email.repository.EmailOutboxPanacheRepository;
+import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.Mailer;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Envia os emails pendentes do outbox com no máximo {@code email.outbox.concurrency} envios
+ * simultâneos. Falhas são reagendadas com backoff exponencial até {@code email.outbox.max-attempts}.
+ */
+@ApplicationScoped
+public class EmailOutboxDispatcher {
+
+    private static final Logger LOG = Logger.getLogger(EmailOutboxDispatcher.class);
+
+    private static final int ERROR_MAX_LENGTH = 1000;
+
+    @Inject
+    EmailOutboxPanacheRepository repository;
+
+    @Inject
+    Mailer mailer;
+
+    @ConfigProperty(name = "email.outbox.batch-size", defaultValue = "50")
+    int batchSize;
+
+    @ConfigProperty(name = "email.outbox.concurrency", defaultValue = "4")
+    int concurrency;
+
+    @ConfigProperty(name = "email.outbox.max-attempts", defaultValue = "8")
+    int maxAttempts;
+
+    @ConfigProperty(name = "email.outbox.backoff-seconds", defaultValue = "30")
+    long backoffSeconds;
+
+    @ConfigProperty(name = "email.outbox.max-backoff-minutes", defaultValue = "60")
+    long maxBackoffMinutes;
+
+    @ConfigProperty(name = "email.outbox.lease-minutes", defaultValue = "5")
+    long leaseMinutes;
+
+    @ConfigProperty(name = "email.outbox.retention-days", defaultValue = "7")
+    int retentionDays;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Scheduled(every = "${email.outbox.poll-interval:5s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void dispatchPending() {
+        try {
+            int sent = dispatch();
+            if (sent > 0) {
+                LOG.infof("Emails do outbox enviados - %d mensagens", sent);
+            }
+        } catch (Exception e) {
+            LOG.error("Erro ao processar outbox de emails", e);
+        }
+    }
+
+    /**
+     * Envia um lote de emails vencidos e aguarda o término; retorna quantos foram enviados.
+     */
+    public int dispatch() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutboxEntity> due = QuarkusTransaction.requiringNew().call(() -> repository.findDue(now, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime leaseUntil = now.plusMinutes(leaseMinutes);
+        List<Future<Boolean>> deliveries = new ArrayList<>();
+        for (EmailOutboxEntity email : due) {
+            if (repository.claim(email.getId(), email.getNextAttemptAt(), leaseUntil)) {
+                int attempt = email.getAttempts() + 1;
+                deliveries.add(executor.submit(() -> deliver(email, attempt)));
+            }
+        }
+
+        int sent = 0;
+        for (Future<Boolean> delivery : deliveries) {
+            try {
+                if (delivery.get()) {
+                    sent++;
+                }
+            } catch (ExecutionException e) {
+                LOG.error("Erro inesperado no envio de email do outbox", e.getCause());
+            }
+        }
+        return sent;
+    }
+
+    boolean deliver(EmailOutboxEntity email, int attempt) {
+        try {
+            mailer.send(Mail.withHtml(email.getRecipient(), email.getSubject(), email.getHtmlBody()));
+            repository.markSent(email.getId());
+            LOG.debugf("Email %d enviado para: %s", email.getId(), email.getRecipient());
+            return true;
+        } catch (Exception e) {
+            String error = truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+            if (attempt >= maxAttempts) {
+                repository.markFailed(email.getId(), error, null);
+                LOG.errorf(e, "Email %d descartado após %d tentativas - Destinatário: %s",
+                        email.getId(), attempt, email.getRecipient());
+            } else {
+                LocalDateTime retryAt = LocalDateTime.now().plus(backoff(attempt));
+                repository.markFailed(email.getId(), error, retryAt);
+                LOG.warnf("Falha ao enviar email %d (tentativa %d), nova tentativa em %s: %s",
+                        email.getId(), attempt, retryAt, error);
+            }
+            return false;
+        }
+    }
+
+    Duration backoff(int attempt) {
+        Duration max = Duration.ofMinutes(maxBackoffMinutes);
+        Duration delay = Duration.ofSeconds(backoffSeconds).multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(max) > 0 ? max : delay;
+    }
+
+    @Scheduled(cron = "${email.outbox.cleanup.cron:0 30 3 * * ?}")
+    void cleanupSent() {
+        try {
+            long deleted = repository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays));
+            if (deleted > 0) {
+                LOG.infof("Emails enviados removidos do outbox - %d registros", deleted);
+            }
+        } catch (Exception e) {
+            LOG.error("Erro ao limpar outbox de emails", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() > ERROR_MAX_LENGTH ? message.substring(0, ERROR_MAX_LENGTH) : message;
+    }
+}
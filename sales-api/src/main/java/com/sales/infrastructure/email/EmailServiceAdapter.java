@@ -3,19 +3,21 @@ package com.sales.infrastructure.email;
 import com.sales.domain.auth.port.EmailService;
 import com.sales.domain.auth.valueobject.Email;
 import io.quarkus.mailer.Mail;
-import io.quarkus.mailer.Mailer;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+/**
+ * Monta os emails e os grava no outbox; o envio SMTP é assíncrono ({@link EmailOutboxDispatcher}).
+ */
 @ApplicationScoped
 public class EmailServiceAdapter implements EmailService {
 
     private static final Logger LOG = Logger.getLogger(EmailServiceAdapter.class);
 
     @Inject
-    Mailer mailer;
+    EmailOutbox outbox;
 
     @ConfigProperty(name = "app.url", defaultValue = "http://localhost:8080")
     String appUrl;
@@ -69,16 +71,16 @@ public class EmailServiceAdapter implements EmailService {
                 """.formatted(appName, resetLink, resetLink, resetLink, appName);
 
         try {
-            mailer.send(
+            outbox.enqueue(
                     Mail.withHtml(
                             email.getValue(),
                             "[" + appName + "] Redefinição de Senha",
                             htmlBody
                     )
             );
-            LOG.infof("Email de reset de senha enviado para: %s", email.getValue());
+            LOG.infof("Email de reset de senha enfileirado para: %s", email.getValue());
         } catch (Exception e) {
-            LOG.errorf(e, "Erro ao enviar email de reset de senha para: %s", email.getValue());
+            LOG.errorf(e, "Erro ao enfileirar email de reset de senha para: %s", email.getValue());
 
         }
     }
@@ -126,16 +128,16 @@ public class EmailServiceAdapter implements EmailService {
                 """.formatted(appName, customerName, appUrl, appName);
 
         try {
-            mailer.send(
+            outbox.enqueue(
                     Mail.withHtml(
                             email.getValue(),
                             "[" + appName + "] Bem-vindo!",
                             htmlBody
                     )
             );
-            LOG.infof("Email de boas-vindas enviado para: %s", email.getValue());
+            LOG.infof("Email de boas-vindas enfileirado para: %s", email.getValue());
         } catch (Exception e) {
-            LOG.errorf(e, "Erro ao enviar email de boas-vindas para: %s", email.getValue());
+            LOG.errorf(e, "Erro ao enfileirar email de boas-vindas para: %s", email.getValue());
         }
     }
 }
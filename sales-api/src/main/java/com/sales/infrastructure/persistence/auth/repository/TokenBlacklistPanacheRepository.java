@@ -6,6 +6,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @ApplicationScoped
 public class TokenBlacklistPanacheRepository implements PanacheRepository<TokenBlacklistEntity> {
@@ -14,6 +15,10 @@ public class TokenBlacklistPanacheRepository implements PanacheRepository<TokenB
         return count("tokenHash = ?1 and expiresAt > ?2", tokenHash, LocalDateTime.now()) > 0;
     }
 
+    public List<TokenBlacklistEntity> findActive() {
+        return list("expiresAt > ?1", LocalDateTime.now());
+    }
+
     @Transactional
     public void addToBlacklist(String tokenHash, Long userId, LocalDateTime expiresAt) {
         TokenBlacklistEntity entity = new TokenBlacklistEntity();
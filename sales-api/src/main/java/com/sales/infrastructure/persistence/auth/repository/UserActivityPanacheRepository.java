@@ -5,15 +5,15 @@ import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.transaction.Transactional;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
-import org.jboss.logging.Logger;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
 public class UserActivityPanacheRepository implements PanacheRepository<UserActivityEntity> {
 
-    private static final Logger LOG = Logger.getLogger(UserActivityPanacheRepository.class);
+    private static final int UPSERT_CHUNK_SIZE = 500;
 
     @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
     String dbKind;
@@ -22,67 +22,65 @@ public class UserActivityPanacheRepository implements PanacheRepository<UserActi
         return find("tokenHash", tokenHash).firstResultOptional();
     }
 
+    /**
+     * Grava em lote atividades acumuladas em memória. Nunca retrocede last_activity_at,
+     * pois outra instância pode ter gravado um acesso mais recente do mesmo token.
+     */
     @Transactional(Transactional.TxType.REQUIRES_NEW)
-    public void updateActivity(String tokenHash, Long userId) {
-        if (tokenHash == null || tokenHash.isBlank()) {
-            throw new IllegalArgumentException("tokenHash não pode estar vazio");
-        }
-        if (userId == null) {
-            throw new IllegalArgumentException("userId não pode ser null");
+    public void upsertActivities(List<UserActivityEntity> activities) {
+        if (activities.isEmpty()) {
+            return;
         }
 
         LocalDateTime now = LocalDateTime.now();
 
-        // Prefer a single-statement UPSERT (PostgreSQL). This avoids race-condition exceptions that can poison the session.
         if ("postgresql".equalsIgnoreCase(dbKind)) {
-            getEntityManager().createNativeQuery(
-                            "INSERT INTO user_activity (token_hash, user_id, last_activity_at, created_at) " +
-                                    "VALUES (?1, ?2, ?3, ?4) " +
-                                    "ON CONFLICT (token_hash) DO UPDATE " +
-                                    "SET last_activity_at = EXCLUDED.last_activity_at, user_id = EXCLUDED.user_id"
-                    )
-                    .setParameter(1, tokenHash)
-                    .setParameter(2, userId)
-                    .setParameter(3, now)
-                    .setParameter(4, now)
-                    .executeUpdate();
+            for (int start = 0; start < activities.size(); start += UPSERT_CHUNK_SIZE) {
+                List<UserActivityEntity> chunk = activities.subList(start, Math.min(start + UPSERT_CHUNK_SIZE, activities.size()));
+
+                StringBuilder sql = new StringBuilder(
+                        "INSERT INTO user_activity (token_hash, user_id, last_activity_at, created_at) VALUES ");
+                for (int i = 0; i < chunk.size(); i++) {
+                    int base = i * 3;
+                    sql.append(i == 0 ? "" : ", ")
+                            .append("(?").append(base + 1)
+                            .append(", ?").append(base + 2)
+                            .append(", ?").append(base + 3)
+                            .append(", ?").append(chunk.size() * 3 + 1).append(")");
+                }
+                sql.append(" ON CONFLICT (token_hash) DO UPDATE SET ")
+                        .append("last_activity_at = GREATEST(user_activity.last_activity_at, EXCLUDED.last_activity_at), ")
+                        .append("user_id = EXCLUDED.user_id");
+
+                var query = getEntityManager().createNativeQuery(sql.toString());
+                for (int i = 0; i < chunk.size(); i++) {
+                    UserActivityEntity activity = chunk.get(i);
+                    query.setParameter(i * 3 + 1, activity.getTokenHash())
+                            .setParameter(i * 3 + 2, activity.getUserId())
+                            .setParameter(i * 3 + 3, activity.getLastActivityAt());
+                }
+                query.setParameter(chunk.size() * 3 + 1, now)
+                        .executeUpdate();
+            }
             return;
         }
 
-        // Fallback for databases that don't support ON CONFLICT (e.g. H2 in tests)
-        int updated = update(
-                "lastActivityAt = ?1, userId = ?2 WHERE tokenHash = ?3",
-                now,
-                userId,
-                tokenHash
-        );
+        // Fallback para bancos sem ON CONFLICT (ex.: H2 nos testes)
+        for (UserActivityEntity activity : activities) {
+            int updated = update(
+                    "lastActivityAt = ?1, userId = ?2 WHERE tokenHash = ?3 AND lastActivityAt < ?4",
+                    activity.getLastActivityAt(),
+                    activity.getUserId(),
+                    activity.getTokenHash(),
+                    activity.getLastActivityAt()
+            );
 
-        if (updated == 0) {
-            try {
+            if (updated == 0 && count("tokenHash", activity.getTokenHash()) == 0) {
                 UserActivityEntity entity = new UserActivityEntity();
-                entity.setTokenHash(tokenHash);
-                entity.setUserId(userId);
-                entity.setLastActivityAt(now);
+                entity.setTokenHash(activity.getTokenHash());
+                entity.setUserId(activity.getUserId());
+                entity.setLastActivityAt(activity.getLastActivityAt());
                 persist(entity);
-                getEntityManager().flush();
-            } catch (RuntimeException e) {
-                // After a constraint violation, the persistence context can be in a bad state. Clear and retry update.
-                try {
-                    getEntityManager().clear();
-                } catch (RuntimeException ignored) {
-                    // ignore
-                }
-
-                int retryUpdated = update(
-                        "lastActivityAt = ?1, userId = ?2 WHERE tokenHash = ?3",
-                        now,
-                        userId,
-                        tokenHash
-                );
-
-                if (retryUpdated == 0) {
-                    LOG.warn("Falha ao atualizar atividade do usuário após fallback/race condition");
-                }
             }
         }
     }
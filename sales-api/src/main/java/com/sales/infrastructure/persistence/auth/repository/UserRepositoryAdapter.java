@@ -7,6 +7,7 @@ import com.sales.domain.auth.valueobject.Password;
 import com.sales.infrastructure.persistence.auth.entity.UserEntity;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
 
 import java.util.Optional;
 
@@ -29,6 +30,12 @@ public class UserRepositoryAdapter implements UserRepository {
         return toDomain(entity);
     }
 
+    @Override
+    @Transactional
+    public void updatePassword(Long id, Password password) {
+        jpaRepository.update("password = ?1 WHERE id = ?2", password.getHashedValue(), id);
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         return jpaRepository.findByIdOptional(id)
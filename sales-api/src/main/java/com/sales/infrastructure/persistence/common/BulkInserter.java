@@ -0,0 +1,100 @@
+package com.sales.infrastructure.persistence.common;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Insere linhas direto na tabela, sem passar pelo contexto de persistência: no PostgreSQL com
+ * {@code COPY ... FROM STDIN}, nos demais bancos com um INSERT em lote via JDBC.
+ * Deve ser chamado dentro de uma transação; valores padrão de entidade ({@code @PrePersist}) não são aplicados.
+ */
+@ApplicationScoped
+public class BulkInserter {
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    @Inject
+    EntityManager em;
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
+    public void insert(String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        em.unwrap(Session.class).doWork(connection -> {
+            if ("postgresql".equalsIgnoreCase(dbKind)) {
+                copy(connection, table, columns, rows);
+            } else {
+                batchInsert(connection, table, columns, rows);
+            }
+        });
+    }
+
+    private void copy(Connection connection, String table, List<String> columns, List<Object[]> rows) throws SQLException {
+        StringBuilder data = new StringBuilder(rows.size() * 128);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    data.append(',');
+                }
+                data.append(copyField(row[i]));
+            }
+            data.append('\n');
+        }
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                    "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)",
+                    new StringReader(data.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void batchInsert(Connection connection, String table, List<String> columns, List<Object[]> rows) throws SQLException {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" +
+                String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // No formato csv do COPY, campo vazio sem aspas é NULL e "" é texto vazio
+    static String copyField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text;
+        if (value instanceof BigDecimal decimal) {
+            text = decimal.toPlainString();
+        } else if (value instanceof LocalDateTime dateTime) {
+            text = TIMESTAMP.format(dateTime);
+        } else {
+            text = value.toString();
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,172 @@
+package com.sales.infrastructure.persistence.common;
+
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.runtime.StartupEvent;
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.interceptor.Interceptor;
+import jakarta.persistence.EntityManager;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Aloca códigos sequenciais (CUST0001, PROD0001...) em blocos por instância (hi/lo): cada
+ * {@code nextval} da sequência reserva {@link #BLOCK_SIZE} números, servidos da memória.
+ * Instâncias diferentes nunca recebem o mesmo bloco; números de blocos não usados são descartados.
+ */
+@ApplicationScoped
+public class CodeAllocator {
+
+    private static final Logger LOG = Logger.getLogger(CodeAllocator.class);
+
+    public static final int BLOCK_SIZE = 50;
+
+    public enum CodeSequence {
+        CUSTOMER("customer_code_seq", "customers", "CUST"),
+        PRODUCT("product_code_seq", "products", "PROD");
+
+        private final String sequenceName;
+        private final String table;
+        private final String prefix;
+
+        CodeSequence(String sequenceName, String table, String prefix) {
+            this.sequenceName = sequenceName;
+            this.table = table;
+            this.prefix = prefix;
+        }
+
+        public String format(long number) {
+            return String.format("%s%04d", prefix, number);
+        }
+    }
+
+    @Inject
+    EntityManager em;
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
+    private final Map<CodeSequence, Block> blocks = new EnumMap<>(CodeSequence.class);
+    // O nextval roda com o lock adquirido; um monitor prenderia a thread portadora da virtual thread durante a consulta
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Cria as sequências e as posiciona após o maior código já cadastrado
+    void onStartup(@Observes @Priority(Interceptor.Priority.PLATFORM_BEFORE) StartupEvent event) {
+        for (CodeSequence sequence : CodeSequence.values()) {
+            try {
+                QuarkusTransaction.requiringNew().run(() -> initialize(sequence));
+            } catch (Exception e) {
+                LOG.errorf(e, "Erro ao inicializar sequência de códigos %s", sequence.sequenceName);
+            }
+        }
+    }
+
+    public String next(CodeSequence sequence) {
+        lock.lock();
+        try {
+            Block block = blocks.get(sequence);
+            if (block == null || block.isExhausted()) {
+                block = new Block(QuarkusTransaction.requiringNew().call(() -> nextBlockStart(sequence)));
+                blocks.put(sequence, block);
+                LOG.debugf("Novo bloco de códigos reservado - Sequência: %s, Início: %d", sequence.sequenceName, block.next);
+            }
+            return sequence.format(block.next++);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void initialize(CodeSequence sequence) {
+        em.createNativeQuery("CREATE SEQUENCE IF NOT EXISTS " + sequence.sequenceName +
+                " START WITH 1 INCREMENT BY " + BLOCK_SIZE).executeUpdate();
+
+        boolean postgresql = "postgresql".equalsIgnoreCase(dbKind);
+        if (postgresql) {
+            // Instâncias subindo ao mesmo tempo reposicionam a sequência uma de cada vez
+            em.createNativeQuery("SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext(?1))) AS locked")
+                    .setParameter(1, sequence.sequenceName)
+                    .getSingleResult();
+        }
+
+        long highest = highestExistingNumber(sequence);
+        long start = nextBlockStart(sequence);
+        if (start > highest) {
+            lock.lock();
+            try {
+                blocks.put(sequence, new Block(start));
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        if (postgresql) {
+            // Só avança: outra instância pode ter reservado um bloco após o nextval acima, e voltar a
+            // sequência para dentro dele entregaria códigos repetidos
+            em.createNativeQuery("SELECT setval('" + sequence.sequenceName + "', GREATEST(?1, last_value + ?2), false) " +
+                            "FROM " + sequence.sequenceName)
+                    .setParameter(1, highest + 1)
+                    .setParameter(2, BLOCK_SIZE)
+                    .getSingleResult();
+        } else {
+            em.createNativeQuery("ALTER SEQUENCE " + sequence.sequenceName + " RESTART WITH " + (highest + 1))
+                    .executeUpdate();
+        }
+        lock.lock();
+        try {
+            blocks.remove(sequence);
+        } finally {
+            lock.unlock();
+        }
+        LOG.infof("Sequência %s reposicionada após o código %s", sequence.sequenceName, sequence.format(highest));
+    }
+
+    private long nextBlockStart(CodeSequence sequence) {
+        String query = "postgresql".equalsIgnoreCase(dbKind)
+                ? "SELECT nextval('" + sequence.sequenceName + "')"
+                : "SELECT NEXT VALUE FOR " + sequence.sequenceName;
+        return ((Number) em.createNativeQuery(query).getSingleResult()).longValue();
+    }
+
+    // Ordenar por tamanho antes do texto mantém CUST10000 acima de CUST9999
+    private long highestExistingNumber(CodeSequence sequence) {
+        @SuppressWarnings("unchecked")
+        List<String> codes = em.createNativeQuery(
+                        "SELECT code FROM " + sequence.table + " WHERE code LIKE ?1 " +
+                                "ORDER BY LENGTH(code) DESC, code DESC")
+                .setParameter(1, sequence.prefix + "%")
+                .setMaxResults(BLOCK_SIZE)
+                .getResultList();
+
+        long highest = 0;
+        for (String code : codes) {
+            try {
+                highest = Math.max(highest, Long.parseLong(code.substring(sequence.prefix.length())));
+            } catch (NumberFormatException e) {
+                LOG.debugf("Código fora do padrão ignorado: %s", code);
+            }
+        }
+        return highest;
+    }
+
+    private static final class Block {
+        private long next;
+        private final long end;
+
+        private Block(long start) {
+            this.next = start;
+            this.end = start + BLOCK_SIZE;
+        }
+
+        private boolean isExhausted() {
+            return next >= end;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.sales.infrastructure.persistence.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Posição opaca para paginação por chave: valor da coluna de ordenação + id do último registro.
+ */
+public final class KeysetCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final String sortKey;
+    private final Long id;
+
+    private KeysetCursor(String sortKey, Long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    public static String encode(Object sortKey, Long id) {
+        String raw = String.valueOf(sortKey) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new KeysetCursor(raw.substring(0, separatorIndex), Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
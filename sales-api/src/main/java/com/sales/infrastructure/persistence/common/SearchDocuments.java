@@ -0,0 +1,28 @@
+package com.sales.infrastructure.persistence.common;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Expressões de texto pesquisável por tabela. Devem ser idênticas às dos índices GIN (pg_trgm)
+ * para que o PostgreSQL as utilize nas buscas com LIKE.
+ */
+public final class SearchDocuments {
+
+    public static final String CUSTOMERS = document("full_name", "email", "code", "cpf", "cell_phone");
+    public static final String PRODUCTS = document("name", "code", "details", "type");
+    public static final String SALES = document("code", "customer_name", "customer_code", "seller_name");
+
+    private SearchDocuments() {
+    }
+
+    public static String likePattern(String filter) {
+        return "%" + filter.toLowerCase() + "%";
+    }
+
+    private static String document(String... columns) {
+        return Arrays.stream(columns)
+                .map(column -> "COALESCE(" + column + ", '')")
+                .collect(Collectors.joining(" || ' ' || ", "LOWER(", ")"));
+    }
+}
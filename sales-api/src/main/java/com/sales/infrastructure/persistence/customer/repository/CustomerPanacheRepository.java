@@ -1,22 +1,36 @@
 package com.sales.infrastructure.persistence.customer.repository;
 
+import com.sales.infrastructure.persistence.common.SearchDocuments;
 import com.sales.infrastructure.persistence.customer.entity.CustomerEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
 public class CustomerPanacheRepository implements PanacheRepository<CustomerEntity> {
 
+    private static final String SEARCH_FILTER =
+            "LOWER(fullName) LIKE ?1 OR LOWER(email) LIKE ?1 OR LOWER(code) LIKE ?1 OR LOWER(cpf) LIKE ?1 OR LOWER(cellPhone) LIKE ?1";
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
     public Optional<CustomerEntity> findByCode(String code) {
         return find("code", code).firstResultOptional();
     }
 
+    public List<CustomerEntity> findByCodes(Collection<String> codes) {
+        return find("code IN ?1", codes).list();
+    }
+
     public Optional<CustomerEntity> findByCpf(String cpf) {
         return find("cpf", cpf).firstResultOptional();
     }
@@ -41,16 +55,28 @@ public class CustomerPanacheRepository implements PanacheRepository<CustomerEnti
         return count("email", email) > 0;
     }
 
-    public Optional<String> findLastCode() {
-        return find("ORDER BY code DESC")
-                .firstResultOptional()
-                .map(CustomerEntity::getCode);
+    public List<String> findExistingCpfs(Collection<String> cpfs) {
+        return getEntityManager()
+                .createQuery("SELECT c.cpf FROM CustomerEntity c WHERE c.cpf IN :cpfs", String.class)
+                .setParameter("cpfs", cpfs)
+                .getResultList();
+    }
+
+    public List<String> findExistingEmails(Collection<String> emails) {
+        return getEntityManager()
+                .createQuery("SELECT c.email FROM CustomerEntity c WHERE c.email IN :emails", String.class)
+                .setParameter("emails", emails)
+                .getResultList();
     }
 
     public long countAll() {
         return count();
     }
 
+    public long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end) {
+        return count("createdAt >= ?1 and createdAt <= ?2", start, end);
+    }
+
     public List<CustomerEntity> findByRegistrationYear(int year) {
         LocalDateTime startOfYear = LocalDateTime.of(year, 1, 1, 0, 0, 0);
         LocalDateTime endOfYear = LocalDateTime.of(year, 12, 31, 23, 59, 59);
@@ -67,23 +93,91 @@ public class CustomerPanacheRepository implements PanacheRepository<CustomerEnti
                     .list();
         }
 
+        if (useTrigramSearch()) {
+            return getEntityManager().createNativeQuery(
+                            "SELECT * FROM customers WHERE " + SearchDocuments.CUSTOMERS + " LIKE :pattern " +
+                                    "ORDER BY full_name LIMIT :limit OFFSET :offset", CustomerEntity.class)
+                    .setParameter("pattern", SearchDocuments.likePattern(filter))
+                    .setParameter("limit", size)
+                    .setParameter("offset", (long) page * size)
+                    .getResultList();
+        }
+
         String searchPattern = "%" + filter.toLowerCase() + "%";
         return find(
-                "LOWER(fullName) LIKE ?1 OR LOWER(email) LIKE ?1 OR LOWER(code) LIKE ?1 OR LOWER(cpf) LIKE ?1 OR LOWER(cellPhone) LIKE ?1",
+                SEARCH_FILTER,
                 Sort.by("fullName"),
                 searchPattern
         ).page(Page.of(page, size)).list();
     }
 
+    public List<CustomerEntity> searchAfter(String filter, String afterFullName, Long afterId, int limit) {
+        if (filter != null && !filter.isBlank() && useTrigramSearch()) {
+            return trigramSearchAfter(filter, afterFullName, afterId, limit);
+        }
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        if (filter != null && !filter.isBlank()) {
+            params.add("%" + filter.toLowerCase() + "%");
+            conditions.add("(" + SEARCH_FILTER + ")");
+        }
+        if (afterId != null) {
+            params.add(afterFullName);
+            params.add(afterId);
+            int keyIndex = params.size() - 1;
+            int idIndex = params.size();
+            conditions.add("(fullName > ?" + keyIndex + " OR (fullName = ?" + keyIndex + " AND id > ?" + idIndex + "))");
+        }
+
+        Sort sort = Sort.by("fullName").and("id");
+        if (conditions.isEmpty()) {
+            return findAll(sort).range(0, limit - 1).list();
+        }
+        return find(String.join(" AND ", conditions), sort, params.toArray())
+                .range(0, limit - 1)
+                .list();
+    }
+
     public long countSearch(String filter) {
         if (filter == null || filter.isBlank()) {
             return count();
         }
 
+        if (useTrigramSearch()) {
+            Number total = (Number) getEntityManager().createNativeQuery(
+                            "SELECT COUNT(*) FROM customers WHERE " + SearchDocuments.CUSTOMERS + " LIKE :pattern")
+                    .setParameter("pattern", SearchDocuments.likePattern(filter))
+                    .getSingleResult();
+            return total.longValue();
+        }
+
         String searchPattern = "%" + filter.toLowerCase() + "%";
         return count(
-                "LOWER(fullName) LIKE ?1 OR LOWER(email) LIKE ?1 OR LOWER(code) LIKE ?1 OR LOWER(cpf) LIKE ?1 OR LOWER(cellPhone) LIKE ?1",
+                SEARCH_FILTER,
                 searchPattern
         );
     }
+
+    private List<CustomerEntity> trigramSearchAfter(String filter, String afterFullName, Long afterId, int limit) {
+        String keyset = afterId != null
+                ? "AND (full_name > :afterKey OR (full_name = :afterKey AND id > :afterId)) "
+                : "";
+        var query = getEntityManager().createNativeQuery(
+                        "SELECT * FROM customers WHERE " + SearchDocuments.CUSTOMERS + " LIKE :pattern " + keyset +
+                                "ORDER BY full_name, id LIMIT :limit", CustomerEntity.class)
+                .setParameter("pattern", SearchDocuments.likePattern(filter))
+                .setParameter("limit", limit);
+        if (afterId != null) {
+            query.setParameter("afterKey", afterFullName)
+                    .setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    // No PostgreSQL a busca usa o índice GIN (pg_trgm) da expressão em SearchDocuments; no H2, LIKE por coluna
+    private boolean useTrigramSearch() {
+        return "postgresql".equalsIgnoreCase(dbKind);
+    }
 }
@@ -4,26 +4,41 @@ import com.sales.domain.customer.entity.Customer;
 import com.sales.domain.customer.port.CustomerRepository;
 import com.sales.domain.customer.valueobject.Address;
 import com.sales.domain.customer.valueobject.Document;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
+import com.sales.infrastructure.persistence.common.BulkInserter;
+import com.sales.infrastructure.persistence.common.KeysetCursor;
 import com.sales.infrastructure.persistence.customer.entity.CustomerEntity;
 import com.sales.infrastructure.persistence.customer.service.CustomerCodeGenerator;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class CustomerRepositoryAdapter implements CustomerRepository {
 
+    private static final List<String> INSERT_COLUMNS = List.of(
+            "code", "full_name", "mother_name", "cpf", "rg", "zip_code", "street", "number", "complement",
+            "neighborhood", "city", "state", "birth_date", "cell_phone", "email", "created_at");
+
     @Inject
     CustomerPanacheRepository panacheRepository;
 
     @Inject
     CustomerCodeGenerator codeGenerator;
 
+    @Inject
+    BulkInserter bulkInserter;
+
     @Override
     @Transactional
     public Customer save(Customer customer) {
@@ -73,6 +88,16 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
         return panacheRepository.findByCode(code).map(this::toDomain);
     }
 
+    @Override
+    public List<Customer> findByCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+        return panacheRepository.findByCodes(codes).stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Customer> findByCpf(String cpf) {
         return panacheRepository.findByCpf(cpf).map(this::toDomain);
@@ -118,6 +143,62 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
         return panacheRepository.existsByEmail(email);
     }
 
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        if (cpfs.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(panacheRepository.findExistingCpfs(cpfs));
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(panacheRepository.findExistingEmails(emails));
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Customer> customers) {
+        List<Object[]> rows = new ArrayList<>(customers.size());
+        for (Customer customer : customers) {
+            String code = customer.getCode() == null || customer.getCode().isBlank()
+                    ? codeGenerator.generateNextCode()
+                    : customer.getCode();
+            rows.add(new Object[]{
+                    code,
+                    customer.getFullName(),
+                    customer.getMotherName(),
+                    customer.getDocument().getCpf(),
+                    customer.getDocument().getRg(),
+                    customer.getAddress().getZipCode(),
+                    customer.getAddress().getStreet(),
+                    customer.getAddress().getNumber(),
+                    customer.getAddress().getComplement(),
+                    customer.getAddress().getNeighborhood(),
+                    customer.getAddress().getCity(),
+                    customer.getAddress().getState(),
+                    customer.getBirthDate(),
+                    customer.getCellPhone(),
+                    customer.getEmail(),
+                    customer.getCreatedAt()
+            });
+        }
+        bulkInserter.insert("customers", INSERT_COLUMNS, rows);
+    }
+
+    @Override
+    public long count() {
+        return panacheRepository.countAll();
+    }
+
+    @Override
+    public long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end) {
+        return panacheRepository.countByCreatedAtBetween(start, end);
+    }
+
     @Override
     public PageResult<Customer> search(String filter, int page, int size) {
         List<CustomerEntity> entities = panacheRepository.search(filter, page, size);
@@ -128,6 +209,31 @@ public class CustomerRepositoryAdapter implements CustomerRepository {
         return new PageResult<>(customers, total, page, size);
     }
 
+    @Override
+    public CursorPageResult<Customer> searchAfter(String filter, String after, int size, boolean includeTotal) {
+        String afterFullName = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            afterFullName = cursor.getSortKey();
+            afterId = cursor.getId();
+        }
+
+        List<CustomerEntity> entities = panacheRepository.searchAfter(filter, afterFullName, afterId, size + 1);
+        String nextCursor = null;
+        if (entities.size() > size) {
+            entities = entities.subList(0, size);
+            CustomerEntity last = entities.get(size - 1);
+            nextCursor = KeysetCursor.encode(last.getFullName(), last.getId());
+        }
+
+        Long total = includeTotal ? panacheRepository.countSearch(filter) : null;
+        List<Customer> customers = entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        return new CursorPageResult<>(customers, size, nextCursor, total);
+    }
+
     private Customer toDomain(CustomerEntity entity) {
         Document document = Document.fromDatabase(entity.getCpf(), entity.getRg());
         Address address = new Address(
@@ -0,0 +1,53 @@
+package com.sales.infrastructure.persistence.email.repository;
+
+import com.sales.infrastructure.persistence.email.entity.EmailOutboxEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Sort;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@ApplicationScoped
+public class EmailOutboxPanacheRepository implements PanacheRepository<EmailOutboxEntity> {
+
+    public List<EmailOutboxEntity> findDue(LocalDateTime now, int limit) {
+        return find("status = ?1 AND nextAttemptAt <= ?2", Sort.by("nextAttemptAt").and("id"),
+                EmailOutboxEntity.STATUS_PENDING, now)
+                .page(Page.ofSize(limit))
+                .list();
+    }
+
+    /**
+     * Reserva o email adiando a próxima tentativa até {@code leaseUntil}; só uma instância
+     * vence a atualização condicional. Se a instância cair durante o envio, o email volta
+     * a ficar disponível quando o prazo vencer.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public boolean claim(Long id, LocalDateTime expectedNextAttemptAt, LocalDateTime leaseUntil) {
+        return update("nextAttemptAt = ?1, attempts = attempts + 1 WHERE id = ?2 AND status = ?3 AND nextAttemptAt = ?4",
+                leaseUntil, id, EmailOutboxEntity.STATUS_PENDING, expectedNextAttemptAt) == 1;
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void markSent(Long id) {
+        update("status = ?1, sentAt = ?2, lastError = null WHERE id = ?3",
+                EmailOutboxEntity.STATUS_SENT, LocalDateTime.now(), id);
+    }
+
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void markFailed(Long id, String error, LocalDateTime retryAt) {
+        if (retryAt == null) {
+            update("status = ?1, lastError = ?2 WHERE id = ?3", EmailOutboxEntity.STATUS_FAILED, error, id);
+        } else {
+            update("nextAttemptAt = ?1, lastError = ?2 WHERE id = ?3", retryAt, error, id);
+        }
+    }
+
+    @Transactional
+    public long deleteSentBefore(LocalDateTime cutoff) {
+        return delete("status = ?1 AND sentAt < ?2", EmailOutboxEntity.STATUS_SENT, cutoff);
+    }
+}
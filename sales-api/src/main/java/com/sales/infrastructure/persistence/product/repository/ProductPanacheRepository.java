@@ -1,21 +1,46 @@
 package com.sales.infrastructure.persistence.product.repository;
 
+import com.sales.infrastructure.persistence.common.SearchDocuments;
 import com.sales.infrastructure.persistence.product.entity.ProductEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
 public class ProductPanacheRepository implements PanacheRepository<ProductEntity> {
 
+    private static final String SEARCH_FILTER =
+            "LOWER(name) LIKE ?1 OR LOWER(code) LIKE ?1 OR LOWER(details) LIKE ?1 OR LOWER(type) LIKE ?1";
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
     public Optional<ProductEntity> findByCode(String code) {
         return find("code", code).firstResultOptional();
     }
 
+    public List<ProductEntity> findByCodes(Collection<String> codes) {
+        return find("code IN ?1", codes).list();
+    }
+
+    /**
+     * Baixa condicional: não atualiza (retorna 0) se o saldo for menor que a quantidade.
+     */
+    public int decrementStock(String code, int quantity) {
+        return update("stockQuantity = stockQuantity - ?1 WHERE code = ?2 AND stockQuantity >= ?1", quantity, code);
+    }
+
+    public int incrementStock(String code, int quantity) {
+        return update("stockQuantity = stockQuantity + ?1 WHERE code = ?2", quantity, code);
+    }
+
     public List<ProductEntity> findAllSortedByName() {
         return listAll(Sort.by("name").ascending());
     }
@@ -32,10 +57,11 @@ public class ProductPanacheRepository implements PanacheRepository<ProductEntity
         return count("code", code) > 0;
     }
 
-    public Optional<String> findLastCode() {
-        return find("ORDER BY code DESC")
-                .firstResultOptional()
-                .map(ProductEntity::getCode);
+    public List<String> findExistingCodes(Collection<String> codes) {
+        return getEntityManager()
+                .createQuery("SELECT p.code FROM ProductEntity p WHERE p.code IN :codes", String.class)
+                .setParameter("codes", codes)
+                .getResultList();
     }
 
     public long countAll() {
@@ -55,23 +81,91 @@ public class ProductPanacheRepository implements PanacheRepository<ProductEntity
                     .list();
         }
 
+        if (useTrigramSearch()) {
+            return getEntityManager().createNativeQuery(
+                            "SELECT * FROM products WHERE " + SearchDocuments.PRODUCTS + " LIKE :pattern " +
+                                    "ORDER BY name LIMIT :limit OFFSET :offset", ProductEntity.class)
+                    .setParameter("pattern", SearchDocuments.likePattern(filter))
+                    .setParameter("limit", size)
+                    .setParameter("offset", (long) page * size)
+                    .getResultList();
+        }
+
         String searchPattern = "%" + filter.toLowerCase() + "%";
         return find(
-                "LOWER(name) LIKE ?1 OR LOWER(code) LIKE ?1 OR LOWER(details) LIKE ?1 OR LOWER(type) LIKE ?1",
+                SEARCH_FILTER,
                 Sort.by("name"),
                 searchPattern
         ).page(Page.of(page, size)).list();
     }
 
+    public List<ProductEntity> searchAfter(String filter, String afterName, Long afterId, int limit) {
+        if (filter != null && !filter.isBlank() && useTrigramSearch()) {
+            return trigramSearchAfter(filter, afterName, afterId, limit);
+        }
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> params = new ArrayList<>();
+
+        if (filter != null && !filter.isBlank()) {
+            params.add("%" + filter.toLowerCase() + "%");
+            conditions.add("(" + SEARCH_FILTER + ")");
+        }
+        if (afterId != null) {
+            params.add(afterName);
+            params.add(afterId);
+            int keyIndex = params.size() - 1;
+            int idIndex = params.size();
+            conditions.add("(name > ?" + keyIndex + " OR (name = ?" + keyIndex + " AND id > ?" + idIndex + "))");
+        }
+
+        Sort sort = Sort.by("name").and("id");
+        if (conditions.isEmpty()) {
+            return findAll(sort).range(0, limit - 1).list();
+        }
+        return find(String.join(" AND ", conditions), sort, params.toArray())
+                .range(0, limit - 1)
+                .list();
+    }
+
     public long countSearch(String filter) {
         if (filter == null || filter.isBlank()) {
             return count();
         }
 
+        if (useTrigramSearch()) {
+            Number total = (Number) getEntityManager().createNativeQuery(
+                            "SELECT COUNT(*) FROM products WHERE " + SearchDocuments.PRODUCTS + " LIKE :pattern")
+                    .setParameter("pattern", SearchDocuments.likePattern(filter))
+                    .getSingleResult();
+            return total.longValue();
+        }
+
         String searchPattern = "%" + filter.toLowerCase() + "%";
         return count(
-                "LOWER(name) LIKE ?1 OR LOWER(code) LIKE ?1 OR LOWER(details) LIKE ?1 OR LOWER(type) LIKE ?1",
+                SEARCH_FILTER,
                 searchPattern
         );
     }
+
+    private List<ProductEntity> trigramSearchAfter(String filter, String afterName, Long afterId, int limit) {
+        String keyset = afterId != null
+                ? "AND (name > :afterKey OR (name = :afterKey AND id > :afterId)) "
+                : "";
+        var query = getEntityManager().createNativeQuery(
+                        "SELECT * FROM products WHERE " + SearchDocuments.PRODUCTS + " LIKE :pattern " + keyset +
+                                "ORDER BY name, id LIMIT :limit", ProductEntity.class)
+                .setParameter("pattern", SearchDocuments.likePattern(filter))
+                .setParameter("limit", limit);
+        if (afterId != null) {
+            query.setParameter("afterKey", afterName)
+                    .setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+
+    // No PostgreSQL a busca usa o índice GIN (pg_trgm) da expressão em SearchDocuments; no H2, LIKE por coluna
+    private boolean useTrigramSearch() {
+        return "postgresql".equalsIgnoreCase(dbKind);
+    }
 }
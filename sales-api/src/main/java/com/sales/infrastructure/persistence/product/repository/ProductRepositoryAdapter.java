@@ -4,26 +4,44 @@ import com.sales.domain.product.entity.Product;
 import com.sales.domain.product.port.ProductRepository;
 import com.sales.domain.product.valueobject.Dimensions;
 import com.sales.domain.product.valueobject.ProductType;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
+import com.sales.infrastructure.persistence.common.BulkInserter;
+import com.sales.infrastructure.persistence.common.KeysetCursor;
 import com.sales.infrastructure.persistence.product.entity.ProductEntity;
+import com.sales.infrastructure.persistence.product.service.ProductCache;
 import com.sales.infrastructure.persistence.product.service.ProductCodeGenerator;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class ProductRepositoryAdapter implements ProductRepository {
 
+    private static final List<String> INSERT_COLUMNS = List.of(
+            "code", "name", "type", "details", "weight", "purchase_price", "sale_price", "height", "width",
+            "depth", "destination_vehicle", "stock_quantity", "created_at");
+
     @Inject
     ProductPanacheRepository panacheRepository;
 
     @Inject
     ProductCodeGenerator codeGenerator;
 
+    @Inject
+    ProductCache productCache;
+
+    @Inject
+    BulkInserter bulkInserter;
+
     @Override
     @Transactional
     public Product save(Product product) {
@@ -45,7 +63,7 @@ public class ProductRepositoryAdapter implements ProductRepository {
             entity.setWidth(product.getDimensions().getWidth());
             entity.setDepth(product.getDimensions().getDepth());
             entity.setDestinationVehicle(product.getDestinationVehicle());
-            entity.setStockQuantity(product.getStockQuantity());
+            // Estoque só muda pelo ProductStockRepository, para não sobrescrever baixas concorrentes
         } else {
             entity = toEntity(product);
 
@@ -62,12 +80,50 @@ public class ProductRepositoryAdapter implements ProductRepository {
 
     @Override
     public Optional<Product> findById(Long id) {
-        return panacheRepository.findByIdOptional(id).map(this::toDomain);
+        Product cached = productCache.getById(id);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        long version = productCache.version();
+        return panacheRepository.findByIdOptional(id)
+                .map(entity -> cache(toDomain(entity), version));
     }
 
     @Override
     public Optional<Product> findByCode(String code) {
-        return panacheRepository.findByCode(code).map(this::toDomain);
+        Product cached = productCache.getByCode(code);
+        if (cached != null) {
+            return Optional.of(copy(cached));
+        }
+        long version = productCache.version();
+        return panacheRepository.findByCode(code)
+                .map(entity -> cache(toDomain(entity), version));
+    }
+
+    @Override
+    public List<Product> findByCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+
+        List<Product> products = new ArrayList<>(codes.size());
+        List<String> missing = new ArrayList<>();
+        for (String code : codes) {
+            Product cached = productCache.getByCode(code);
+            if (cached != null) {
+                products.add(copy(cached));
+            } else {
+                missing.add(code);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            long version = productCache.version();
+            panacheRepository.findByCodes(missing).stream()
+                    .map(entity -> cache(toDomain(entity), version))
+                    .forEach(products::add);
+        }
+        return products;
     }
 
     @Override
@@ -109,6 +165,46 @@ public class ProductRepositoryAdapter implements ProductRepository {
         return panacheRepository.existsByCode(code);
     }
 
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(panacheRepository.findExistingCodes(codes));
+    }
+
+    @Override
+    @Transactional
+    public void insertAll(List<Product> products) {
+        List<Object[]> rows = new ArrayList<>(products.size());
+        for (Product product : products) {
+            String code = product.getCode() == null || product.getCode().isBlank()
+                    ? codeGenerator.generateNextCode()
+                    : product.getCode();
+            rows.add(new Object[]{
+                    code,
+                    product.getName(),
+                    product.getType().name(),
+                    product.getDetails(),
+                    product.getWeight(),
+                    product.getPurchasePrice(),
+                    product.getSalePrice(),
+                    product.getDimensions().getHeight(),
+                    product.getDimensions().getWidth(),
+                    product.getDimensions().getDepth(),
+                    product.getDestinationVehicle(),
+                    product.getStockQuantity(),
+                    product.getCreatedAt()
+            });
+        }
+        bulkInserter.insert("products", INSERT_COLUMNS, rows);
+    }
+
+    @Override
+    public long count() {
+        return panacheRepository.countAll();
+    }
+
     @Override
     public PageResult<Product> search(String filter, int page, int size) {
         List<ProductEntity> entities = panacheRepository.search(filter, page, size);
@@ -119,6 +215,54 @@ public class ProductRepositoryAdapter implements ProductRepository {
         return new PageResult<>(products, total, page, size);
     }
 
+    @Override
+    public CursorPageResult<Product> searchAfter(String filter, String after, int size, boolean includeTotal) {
+        String afterName = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            afterName = cursor.getSortKey();
+            afterId = cursor.getId();
+        }
+
+        List<ProductEntity> entities = panacheRepository.searchAfter(filter, afterName, afterId, size + 1);
+        String nextCursor = null;
+        if (entities.size() > size) {
+            entities = entities.subList(0, size);
+            ProductEntity last = entities.get(size - 1);
+            nextCursor = KeysetCursor.encode(last.getName(), last.getId());
+        }
+
+        Long total = includeTotal ? panacheRepository.countSearch(filter) : null;
+        List<Product> products = entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+        return new CursorPageResult<>(products, size, nextCursor, total);
+    }
+
+    // O cache guarda sua própria instância: quem recebe o produto pode alterá-lo (ex.: updateInfo)
+    private Product cache(Product product, long version) {
+        productCache.put(product, version);
+        return copy(product);
+    }
+
+    private Product copy(Product product) {
+        return new Product(
+                product.getId(),
+                product.getCode(),
+                product.getName(),
+                product.getType(),
+                product.getDetails(),
+                product.getWeight(),
+                product.getPurchasePrice(),
+                product.getSalePrice(),
+                product.getDimensions(),
+                product.getDestinationVehicle(),
+                product.getStockQuantity(),
+                product.getCreatedAt()
+        );
+    }
+
     private Product toDomain(ProductEntity entity) {
         Dimensions dimensions = new Dimensions(
                 entity.getHeight(),
@@ -0,0 +1,111 @@
+package com.sales.infrastructure.persistence.product.repository;
+
+import com.sales.domain.product.port.ProductStockRepository;
+import com.sales.infrastructure.persistence.product.service.ProductCache;
+import com.sales.infrastructure.persistence.product.service.SoldOutTracker;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Status;
+import jakarta.transaction.Synchronization;
+import jakarta.transaction.Transactional;
+import jakarta.transaction.TransactionSynchronizationRegistry;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Estoque por {@code UPDATE} condicional: a linha do produto só fica bloqueada até o fim da
+ * transação da venda, sem bloqueio de tabela. Os produtos são atualizados em ordem de código
+ * para que vendas concorrentes com os mesmos itens não entrem em deadlock.
+ * <p>
+ * Com {@code products.stock.enforcement.enabled=false} (padrão) as vendas não movimentam o estoque:
+ * bases anteriores ao controle de estoque têm {@code stock_quantity = 0} e rejeitariam toda venda
+ * até o saldo ser carregado via {@code POST /api/v1/products/{id}/stock}.
+ */
+@ApplicationScoped
+public class ProductStockRepositoryAdapter implements ProductStockRepository {
+
+    private static final Logger LOG = Logger.getLogger(ProductStockRepositoryAdapter.class);
+
+    @Inject
+    ProductPanacheRepository panacheRepository;
+
+    @Inject
+    ProductCache productCache;
+
+    @Inject
+    SoldOutTracker soldOutTracker;
+
+    @Inject
+    TransactionSynchronizationRegistry transactionRegistry;
+
+    @ConfigProperty(name = "products.stock.enforcement.enabled", defaultValue = "false")
+    boolean enforcementEnabled;
+
+    // A falta de estoque não marca a transação para rollback: as baixas já foram desfeitas e o
+    // lote de vendas segue com as demais vendas do bloco
+    @Override
+    @Transactional(dontRollbackOn = IllegalArgumentException.class)
+    public void reserve(Map<String, Integer> quantitiesByCode) {
+        if (!enforcementEnabled) {
+            return;
+        }
+
+        Map<String, Integer> ordered = new TreeMap<>(quantitiesByCode);
+        List<String> reserved = new ArrayList<>(ordered.size());
+
+        for (Map.Entry<String, Integer> entry : ordered.entrySet()) {
+            String code = entry.getKey();
+            int quantity = entry.getValue();
+            boolean available = !soldOutTracker.isSoldOut(code, quantity)
+                    && panacheRepository.decrementStock(code, quantity) == 1;
+            if (!available) {
+                soldOutTracker.markSoldOut(code, quantity);
+                // Desfaz as baixas já feitas para que a transação possa seguir (lote de vendas)
+                reserved.forEach(done -> panacheRepository.incrementStock(done, ordered.get(done)));
+                LOG.warnf("Estoque insuficiente - Produto: %s, Quantidade: %d", code, quantity);
+                throw new IllegalArgumentException("Estoque insuficiente para o produto: " + code);
+            }
+            reserved.add(code);
+        }
+
+        invalidateAfterCompletion(ordered.keySet());
+    }
+
+    @Override
+    @Transactional
+    public void release(Map<String, Integer> quantitiesByCode) {
+        if (!enforcementEnabled) {
+            return;
+        }
+
+        Map<String, Integer> ordered = new TreeMap<>(quantitiesByCode);
+        ordered.forEach((code, quantity) -> {
+            panacheRepository.incrementStock(code, quantity);
+            soldOutTracker.clear(code);
+        });
+
+        invalidateAfterCompletion(ordered.keySet());
+    }
+
+    // Invalidar só após o commit evita que uma leitura concorrente guarde o saldo anterior no cache
+    private void invalidateAfterCompletion(Set<String> codes) {
+        transactionRegistry.registerInterposedSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    codes.forEach(productCache::invalidateCode);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,213 @@
+package com.sales.infrastructure.persistence.product.service;
+
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LRU de produtos por código (com índice por id) usado pelo {@code ProductRepositoryAdapter}.
+ * Os casos de uso de escrita invalidam a entrada após gravar, mas só nesta instância: com várias
+ * instâncias, uma alteração feita em outro nó (preço, exclusão) aparece aqui em no máximo
+ * {@code products.cache.ttl}, quando a entrada expira e o produto é relido do banco.
+ */
+@ApplicationScoped
+public class ProductCache implements ProductCatalogCache {
+
+    private static final Logger LOG = Logger.getLogger(ProductCache.class);
+
+    @ConfigProperty(name = "products.cache.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "products.cache.max-entries", defaultValue = "5000")
+    int maxEntries;
+
+    @ConfigProperty(name = "products.cache.ttl", defaultValue = "30s")
+    Duration ttl;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Map<Long, String> codesById = new HashMap<>();
+    private final Map<String, CachedProduct> productsByCode = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedProduct> eldest) {
+            if (size() > maxEntries) {
+                codesById.remove(eldest.getValue().product.getId());
+                evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    // Incrementada a cada invalidação; cargas iniciadas antes dela não são guardadas
+    private long version;
+
+    public Product getByCode(String code) {
+        if (!enabled || code == null) {
+            return null;
+        }
+        Product product;
+        synchronized (this) {
+            product = unexpired(code);
+        }
+        return count(product);
+    }
+
+    public Product getById(Long id) {
+        if (!enabled || id == null) {
+            return null;
+        }
+        Product product;
+        synchronized (this) {
+            String code = codesById.get(id);
+            product = code != null ? unexpired(code) : null;
+        }
+        return count(product);
+    }
+
+    /**
+     * Versão a ser informada em {@link #put(Product, long)}, lida antes de consultar o banco.
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    public void put(Product product, long loadedAtVersion) {
+        if (!enabled || product == null || product.getCode() == null) {
+            return;
+        }
+        synchronized (this) {
+            if (loadedAtVersion != version) {
+                return;
+            }
+            CachedProduct previous = productsByCode.put(product.getCode(),
+                    new CachedProduct(product, System.nanoTime() + ttl.toNanos()));
+            if (previous != null && !previous.product.getId().equals(product.getId())) {
+                codesById.remove(previous.product.getId());
+            }
+            codesById.put(product.getId(), product.getCode());
+        }
+    }
+
+    @Override
+    public void invalidate(Product product) {
+        synchronized (this) {
+            invalidateCode(product.getCode());
+            if (product.getId() != null) {
+                String code = codesById.remove(product.getId());
+                if (code != null) {
+                    productsByCode.remove(code);
+                }
+            }
+        }
+    }
+
+    public synchronized void invalidateCode(String code) {
+        version++;
+        if (code != null) {
+            CachedProduct removed = productsByCode.remove(code);
+            if (removed != null) {
+                codesById.remove(removed.product.getId());
+            }
+        }
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        version++;
+        productsByCode.clear();
+        codesById.clear();
+    }
+
+    public CacheStats stats() {
+        int size;
+        synchronized (this) {
+            size = productsByCode.size();
+        }
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), size);
+    }
+
+    @Scheduled(every = "${products.cache.stats-interval:5m}")
+    void logStats() {
+        CacheStats stats = stats();
+        if (stats.getHits() + stats.getMisses() > 0) {
+            LOG.infof("Cache de produtos - Acertos: %d, Falhas: %d, Taxa de acerto: %.1f%%, Despejos: %d, Entradas: %d",
+                    stats.getHits(), stats.getMisses(), stats.getHitRate() * 100, stats.getEvictions(), stats.getSize());
+        }
+    }
+
+    // Chamado com o monitor adquirido; entrada vencida é removida e conta como falha
+    private Product unexpired(String code) {
+        CachedProduct cached = productsByCode.get(code);
+        if (cached == null) {
+            return null;
+        }
+        if (System.nanoTime() - cached.expiresAtNanos >= 0) {
+            productsByCode.remove(code);
+            codesById.remove(cached.product.getId());
+            return null;
+        }
+        return cached.product;
+    }
+
+    private Product count(Product product) {
+        (product != null ? hits : misses).incrementAndGet();
+        return product;
+    }
+
+    private static final class CachedProduct {
+        private final Product product;
+        private final long expiresAtNanos;
+
+        private CachedProduct(Product product, long expiresAtNanos) {
+            this.product = product;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    public static class CacheStats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        public CacheStats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getEvictions() {
+            return evictions;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public double getHitRate() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.sales.infrastructure.persistence.product.service;
 
-import com.sales.infrastructure.persistence.product.repository.ProductPanacheRepository;
+import com.sales.infrastructure.persistence.common.CodeAllocator;
+import com.sales.infrastructure.persistence.common.CodeAllocator.CodeSequence;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
@@ -8,27 +9,9 @@ import jakarta.inject.Inject;
 public class ProductCodeGenerator {
 
     @Inject
-    ProductPanacheRepository repository;
+    CodeAllocator codeAllocator;
 
     public String generateNextCode() {
-        String lastCode = repository.findLastCode().orElse(null);
-
-        if (lastCode == null || lastCode.isBlank()) {
-
-            return "PROD0001";
-        }
-
-        try {
-
-            String numberPart = lastCode.substring(4);
-            int number = Integer.parseInt(numberPart);
-            int nextNumber = number + 1;
-
-            return String.format("PROD%04d", nextNumber);
-        } catch (Exception e) {
-
-            long count = repository.countAll();
-            return String.format("PROD%04d", count + 1);
-        }
+        return codeAllocator.next(CodeSequence.PRODUCT);
     }
 }
@@ -0,0 +1,53 @@
+package com.sales.infrastructure.persistence.product.service;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Frente em memória por produto para picos de venda: depois que uma baixa de estoque falha,
+ * pedidos de quantidade igual ou maior são recusados sem ir ao banco por
+ * {@code products.stock.sold-out-ttl-ms}. Reposições feitas nesta instância liberam o produto na hora.
+ */
+@ApplicationScoped
+public class SoldOutTracker {
+
+    @ConfigProperty(name = "products.stock.sold-out-ttl-ms", defaultValue = "2000")
+    long ttlMillis;
+
+    private final Map<String, SoldOut> soldOut = new ConcurrentHashMap<>();
+
+    public boolean isSoldOut(String code, int quantity) {
+        SoldOut entry = soldOut.get(code);
+        if (entry == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - entry.markedAt > ttlMillis) {
+            soldOut.remove(code, entry);
+            return false;
+        }
+        return quantity >= entry.quantity;
+    }
+
+    public void markSoldOut(String code, int quantity) {
+        soldOut.merge(code, new SoldOut(quantity, System.currentTimeMillis()),
+                (existing, created) -> created.quantity < existing.quantity ? created
+                        : new SoldOut(existing.quantity, created.markedAt));
+    }
+
+    public void clear(String code) {
+        soldOut.remove(code);
+    }
+
+    private static final class SoldOut {
+        private final int quantity;
+        private final long markedAt;
+
+        private SoldOut(int quantity, long markedAt) {
+            this.quantity = quantity;
+            this.markedAt = markedAt;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.sales.infrastructure.persistence.sale.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "card_reencryption_progress")
+public class CardReEncryptionProgressEntity {
+
+    // Chave de destino da rotação; trocar a chave atual recomeça a varredura do início
+    @Id
+    @Column(name = "key_id", length = 32)
+    private String keyId;
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
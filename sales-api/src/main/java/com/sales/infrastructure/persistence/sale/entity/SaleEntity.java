@@ -18,8 +18,12 @@ import java.util.List;
 })
 public class SaleEntity {
 
+    // Sequência com alocação em blocos: permite que o Hibernate agrupe os INSERTs em lote (IDENTITY impede)
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sales_seq")
+    @SequenceGenerator(name = "sales_seq", sequenceName = "sales_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -43,10 +47,23 @@ public class SaleEntity {
     @Column(name = "card_number", length = 200)
     private String cardNumber;
 
+    // Leituras mascaram o cartão com este valor, sem descriptografar card_number
+    @Column(name = "card_last4", length = 4)
+    private String cardLastFour;
+
     @Column(name = "amount_paid", precision = 10, scale = 2)
     private BigDecimal amountPaid;
 
-    @OneToMany(mappedBy = "sale", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @Column(precision = 12, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(name = "tax_amount", precision = 12, scale = 2)
+    private BigDecimal taxAmount;
+
+    @Column(name = "total_amount", precision = 12, scale = 2)
+    private BigDecimal totalAmount;
+
+    @OneToMany(mappedBy = "sale", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<SaleItemEntity> items = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -0,0 +1,49 @@
+package com.sales.infrastructure.persistence.sale.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "sales_daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_daily_rollup_date_payment", columnNames = {"sale_date", "payment_method"})
+})
+public class SalesDailyRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "sale_date", nullable = false)
+    private LocalDate saleDate;
+
+    @Column(name = "payment_method", nullable = false, length = 50)
+    private String paymentMethod;
+
+    @Column(name = "sales_count", nullable = false)
+    private Long salesCount;
+
+    @Column(name = "item_count", nullable = false)
+    private Long itemCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal subtotal;
+
+    @Column(name = "tax_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal taxAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,34 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import com.sales.infrastructure.persistence.sale.entity.CardReEncryptionProgressEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+@ApplicationScoped
+public class CardReEncryptionProgressPanacheRepository implements PanacheRepositoryBase<CardReEncryptionProgressEntity, String> {
+
+    /**
+     * Id da última venda já varrida para a chave, ou 0 se a rotação para ela ainda não começou.
+     */
+    @Transactional
+    public long findLastId(String keyId) {
+        return findByIdOptional(keyId)
+                .map(CardReEncryptionProgressEntity::getLastId)
+                .orElse(0L);
+    }
+
+    // Transação própria: o progresso fica gravado mesmo que o bloco seguinte falhe
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void saveLastId(String keyId, long lastId) {
+        CardReEncryptionProgressEntity progress = findById(keyId);
+        if (progress == null) {
+            progress = new CardReEncryptionProgressEntity();
+            progress.setKeyId(keyId);
+            progress.setLastId(lastId);
+            persist(progress);
+        } else {
+            progress.setLastId(lastId);
+        }
+    }
+}
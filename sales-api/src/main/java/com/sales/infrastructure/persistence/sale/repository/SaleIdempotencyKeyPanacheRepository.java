@@ -0,0 +1,40 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import com.sales.infrastructure.persistence.sale.entity.SaleIdempotencyKeyEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepositoryBase;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.transaction.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@ApplicationScoped
+public class SaleIdempotencyKeyPanacheRepository implements PanacheRepositoryBase<SaleIdempotencyKeyEntity, String> {
+
+    public Optional<SaleIdempotencyKeyEntity> findActive(String idempotencyKey, LocalDateTime now) {
+        return find("idempotencyKey = ?1 AND expiresAt > ?2", idempotencyKey, now).firstResultOptional();
+    }
+
+    /**
+     * Grava a chave em transação própria: a venda já foi confirmada e uma falha aqui
+     * não deve desfazê-la. Retorna false se outra requisição gravou a mesma chave antes.
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public boolean insertIfAbsent(SaleIdempotencyKeyEntity entity) {
+        Optional<SaleIdempotencyKeyEntity> existing = findByIdOptional(entity.getIdempotencyKey());
+        if (existing.isPresent()) {
+            if (existing.get().getExpiresAt().isAfter(LocalDateTime.now())) {
+                return false;
+            }
+            delete(existing.get());
+            flush();
+        }
+        persist(entity);
+        return true;
+    }
+
+    @Transactional
+    public long deleteExpired(LocalDateTime now) {
+        return delete("expiresAt <= ?1", now);
+    }
+}
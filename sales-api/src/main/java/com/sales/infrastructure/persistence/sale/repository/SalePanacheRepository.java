@@ -1,79 +1,179 @@
 package com.sales.infrastructure.persistence.sale.repository;
 
+import com.sales.infrastructure.persistence.common.SearchDocuments;
 import com.sales.infrastructure.persistence.sale.entity.SaleEntity;
 import io.quarkus.hibernate.orm.panache.PanacheRepository;
-import io.quarkus.panache.common.Page;
-import io.quarkus.panache.common.Sort;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class SalePanacheRepository implements PanacheRepository<SaleEntity> {
 
+    private static final String SEARCH_FILTER =
+            "LOWER(code) LIKE ?1 OR LOWER(customerName) LIKE ?1 OR LOWER(customerCode) LIKE ?1 OR LOWER(sellerName) LIKE ?1";
+
+    private static final String SUMMARY_FILTER =
+            "LOWER(s.code) LIKE :pattern OR LOWER(s.customerName) LIKE :pattern OR LOWER(s.customerCode) LIKE :pattern OR LOWER(s.sellerName) LIKE :pattern";
+
+    // Itens carregados junto com a venda, em uma única consulta
+    private static final String WITH_ITEMS = "SELECT s FROM SaleEntity s LEFT JOIN FETCH s.items";
+
+    // Listagens: quantidade de itens e primeiro produto vêm de subconsultas em sale_items, sem carregar os itens
+    private static final String SUMMARY_SELECT = """
+            SELECT new com.sales.infrastructure.persistence.sale.repository.SaleSummaryRow(
+                s.id, s.code, s.customerCode, s.customerName, s.sellerCode, s.sellerName, s.paymentMethod,
+                s.totalAmount, s.createdAt,
+                (SELECT COUNT(i) FROM SaleItemEntity i WHERE i.sale = s),
+                (SELECT f.productName FROM SaleItemEntity f WHERE f.id =
+                    (SELECT MIN(m.id) FROM SaleItemEntity m WHERE m.sale = s)))
+            FROM SaleEntity s
+            """;
+
+    private static final String NATIVE_SUMMARY_SELECT = """
+            SELECT s.id, s.code, s.customer_code, s.customer_name, s.seller_code, s.seller_name, s.payment_method,
+                   s.total_amount, s.created_at,
+                   (SELECT COUNT(*) FROM sale_items i WHERE i.sale_id = s.id),
+                   (SELECT f.product_name FROM sale_items f WHERE f.id =
+                       (SELECT MIN(m.id) FROM sale_items m WHERE m.sale_id = s.id))
+            FROM sales s
+            """;
+
+    // Uma linha por item; LEFT JOIN mantém vendas sem itens na exportação
+    private static final String EXPORT_SELECT = """
+            SELECT s.code, s.createdAt, s.customerCode, s.customerName, s.sellerCode, s.sellerName,
+                   s.paymentMethod, s.subtotal, s.taxAmount, s.totalAmount,
+                   i.productCode, i.productName, i.quantity, i.unitPrice
+            FROM SaleEntity s LEFT JOIN s.items i
+            WHERE s.createdAt >= :start AND s.createdAt < :end
+            ORDER BY s.createdAt, s.id, i.id
+            """;
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
     @PersistenceContext
     EntityManager em;
 
+    public Optional<SaleEntity> findByIdWithItems(Long id) {
+        return find(WITH_ITEMS + " WHERE s.id = ?1", id).singleResultOptional();
+    }
+
     public Optional<SaleEntity> findByCode(String code) {
-        return find("code", code).firstResultOptional();
+        return find(WITH_ITEMS + " WHERE s.code = ?1", code).singleResultOptional();
     }
 
-    public List<SaleEntity> findByCustomerCode(String customerCode) {
-        return find("customerCode", customerCode).list();
+    public List<SaleEntity> listAllWithItems() {
+        return find(WITH_ITEMS).list();
     }
 
     public List<SaleEntity> findBySellerCode(String sellerCode) {
-        return find("sellerCode", sellerCode).list();
+        return find(WITH_ITEMS + " WHERE s.sellerCode = ?1", sellerCode).list();
     }
 
     public List<SaleEntity> findByPaymentMethod(String paymentMethod) {
-        return find("paymentMethod", paymentMethod).list();
+        return find(WITH_ITEMS + " WHERE s.paymentMethod = ?1", paymentMethod).list();
     }
 
     public List<SaleEntity> findByDateRange(LocalDateTime start, LocalDateTime end) {
-        return find("createdAt >= ?1 and createdAt <= ?2", start, end).list();
+        return find(WITH_ITEMS + " WHERE s.createdAt >= ?1 AND s.createdAt <= ?2", start, end).list();
+    }
+
+    /**
+     * Lê as linhas de exportação com um cursor somente-avanço. Apenas colunas escalares são
+     * selecionadas, então nada fica no contexto de persistência; no PostgreSQL o fetch size só
+     * vale dentro de uma transação (autocommit desligado).
+     */
+    public void scrollExportLines(LocalDateTime start, LocalDateTime end, int fetchSize, Consumer<Object[]> action) {
+        try (ScrollableResults<Object[]> rows = getSession()
+                .createSelectionQuery(EXPORT_SELECT, Object[].class)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (rows.next()) {
+                action.accept(rows.get());
+            }
+        }
     }
 
     public boolean existsByCode(String code) {
         return count("code", code) > 0;
     }
 
-    public List<Map<String, Object>> getMonthlyRevenue(LocalDateTime start, LocalDateTime end) {
-        String query = """
-            SELECT
-                EXTRACT(MONTH FROM s.created_at) as sale_month,
-                EXTRACT(YEAR FROM s.created_at) as sale_year,
-                SUM(si.quantity * si.unit_price) as subtotal
-            FROM sales s
-            JOIN sale_items si ON si.sale_id = s.id
-            WHERE s.created_at >= :start AND s.created_at <= :end
-            GROUP BY EXTRACT(YEAR FROM s.created_at), EXTRACT(MONTH FROM s.created_at)
-            ORDER BY sale_year DESC, sale_month DESC
-            """;
+    public Optional<String> findCardNumber(Long id) {
+        return getEntityManager()
+                .createQuery("SELECT s.cardNumber FROM SaleEntity s WHERE s.id = :id", String.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
 
-        List<Tuple> tuples = em.createNativeQuery(query, Tuple.class)
-                .setParameter("start", start)
-                .setParameter("end", end)
+    /**
+     * Vendas com cartão ainda sem {@code card_last4}, em ordem de id a partir de {@code afterId}: (id, code, card_number).
+     */
+    public List<Object[]> findCardsWithoutLastFour(long afterId, int limit) {
+        return getEntityManager()
+                .createQuery("SELECT s.id, s.code, s.cardNumber FROM SaleEntity s " +
+                        "WHERE s.cardNumber IS NOT NULL AND s.cardLastFour IS NULL AND s.id > :afterId " +
+                        "ORDER BY s.id", Object[].class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
                 .getResultList();
+    }
 
-        return tuples.stream()
-                .map(tuple -> {
-                    Map<String, Object> map = new HashMap<>();
-                    map.put("month", tuple.get("sale_month"));
-                    map.put("year", tuple.get("sale_year"));
-                    map.put("subtotal", tuple.get("subtotal"));
-                    return map;
-                })
-                .collect(Collectors.toList());
+    public void updateCardLastFour(Long id, String cardLastFour) {
+        update("cardLastFour = ?1 WHERE id = ?2", cardLastFour, id);
+    }
+
+    /**
+     * Vendas cujo cartão não começa com {@code keyPrefix}, em ordem de id a partir de {@code afterId}: (id, code, card_number).
+     */
+    public List<Object[]> findCardsNotEncryptedWith(String keyPrefix, long afterId, int limit) {
+        return getEntityManager()
+                .createQuery("SELECT s.id, s.code, s.cardNumber FROM SaleEntity s " +
+                        "WHERE s.cardNumber IS NOT NULL AND s.cardNumber <> '' " +
+                        "AND SUBSTRING(s.cardNumber, 1, :prefixLength) <> :prefix AND s.id > :afterId " +
+                        "ORDER BY s.id", Object[].class)
+                .setParameter("prefix", keyPrefix)
+                .setParameter("prefixLength", keyPrefix.length())
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Troca o cartão apenas se ainda for o valor lido: uma edição concorrente da venda prevalece.
+     */
+    public boolean replaceCardNumber(Long id, String expected, String replacement) {
+        return update("cardNumber = ?1 WHERE id = ?2 AND cardNumber = ?3", replacement, id, expected) > 0;
+    }
+
+    public List<String> findExistingCodes(Collection<String> codes) {
+        return getEntityManager()
+                .createQuery("SELECT s.code FROM SaleEntity s WHERE s.code IN :codes", String.class)
+                .setParameter("codes", codes)
+                .getResultList();
     }
 
     public List<Map<String, Object>> getTopRevenueProducts(int limit) {
@@ -105,30 +205,161 @@ public class SalePanacheRepository implements PanacheRepository<SaleEntity> {
                 .collect(Collectors.toList());
     }
 
-    public List<SaleEntity> search(String filter, int page, int size) {
+    public int backfillTotals(BigDecimal taxRate, int batchSize) {
+        String subtotalQuery = """
+            UPDATE sales SET subtotal = (
+                SELECT COALESCE(SUM(si.quantity * si.unit_price), 0)
+                FROM sale_items si
+                WHERE si.sale_id = sales.id
+            )
+            WHERE id IN (
+                SELECT id FROM sales WHERE subtotal IS NULL ORDER BY id LIMIT :batchSize
+            )
+            """;
+
+        int updated = em.createNativeQuery(subtotalQuery)
+                .setParameter("batchSize", batchSize)
+                .executeUpdate();
+
+        if (updated > 0) {
+            em.createNativeQuery("""
+                    UPDATE sales
+                    SET tax_amount = ROUND(subtotal * :taxRate, 2),
+                        total_amount = subtotal + ROUND(subtotal * :taxRate, 2)
+                    WHERE subtotal IS NOT NULL AND (tax_amount IS NULL OR total_amount IS NULL)
+                    """)
+                    .setParameter("taxRate", taxRate)
+                    .executeUpdate();
+        }
+
+        return updated;
+    }
+
+    public List<SaleSummaryRow> searchSummaries(String filter, int page, int size) {
+        int offset = page * size;
         if (filter == null || filter.isBlank()) {
-            return find("ORDER BY createdAt DESC")
-                    .page(Page.of(page, size))
-                    .list();
+            return summaryQuery("", Map.of())
+                    .setFirstResult(offset)
+                    .setMaxResults(size)
+                    .getResultList();
         }
 
-        String searchPattern = "%" + filter.toLowerCase() + "%";
-        return find(
-                "LOWER(code) LIKE ?1 OR LOWER(customerName) LIKE ?1 OR LOWER(customerCode) LIKE ?1 OR LOWER(sellerName) LIKE ?1",
-                Sort.by("createdAt").descending(),
-                searchPattern
-        ).page(Page.of(page, size)).list();
+        if (useTrigramSearch()) {
+            return trigramSummaries(filter, null, null, offset, size);
+        }
+
+        return summaryQuery("WHERE " + SUMMARY_FILTER, Map.of("pattern", "%" + filter.toLowerCase() + "%"))
+                .setFirstResult(offset)
+                .setMaxResults(size)
+                .getResultList();
     }
 
+    public List<SaleSummaryRow> searchSummariesAfter(String filter, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        if (filter != null && !filter.isBlank() && useTrigramSearch()) {
+            return trigramSummaries(filter, afterCreatedAt, afterId, 0, limit);
+        }
+
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> params = new HashMap<>();
+
+        if (filter != null && !filter.isBlank()) {
+            params.put("pattern", "%" + filter.toLowerCase() + "%");
+            conditions.add("(" + SUMMARY_FILTER + ")");
+        }
+        if (afterId != null) {
+            params.put("afterKey", afterCreatedAt);
+            params.put("afterId", afterId);
+            conditions.add("(s.createdAt < :afterKey OR (s.createdAt = :afterKey AND s.id < :afterId))");
+        }
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+        return summaryQuery(where, params)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    public List<SaleSummaryRow> findSummaries() {
+        return summaryQuery("", Map.of()).getResultList();
+    }
+
+    public List<SaleSummaryRow> findSummariesByCustomerCode(String customerCode) {
+        return summaryQuery("WHERE s.customerCode = :customerCode", Map.of("customerCode", customerCode))
+                .getResultList();
+    }
+
+    public List<SaleSummaryRow> findRecentSummaries(int limit) {
+        return summaryQuery("", Map.of())
+                .setMaxResults(limit)
+                .getResultList();
+    }
     public long countSearch(String filter) {
         if (filter == null || filter.isBlank()) {
             return count();
         }
 
+        if (useTrigramSearch()) {
+            Number total = (Number) em.createNativeQuery(
+                            "SELECT COUNT(*) FROM sales WHERE " + SearchDocuments.SALES + " LIKE :pattern")
+                    .setParameter("pattern", SearchDocuments.likePattern(filter))
+                    .getSingleResult();
+            return total.longValue();
+        }
+
         String searchPattern = "%" + filter.toLowerCase() + "%";
         return count(
-                "LOWER(code) LIKE ?1 OR LOWER(customerName) LIKE ?1 OR LOWER(customerCode) LIKE ?1 OR LOWER(sellerName) LIKE ?1",
+                SEARCH_FILTER,
                 searchPattern
         );
     }
+
+    private TypedQuery<SaleSummaryRow> summaryQuery(String where, Map<String, Object> params) {
+        TypedQuery<SaleSummaryRow> query = em.createQuery(
+                SUMMARY_SELECT + where + " ORDER BY s.createdAt DESC, s.id DESC", SaleSummaryRow.class);
+        params.forEach(query::setParameter);
+        return query;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SaleSummaryRow> trigramSummaries(String filter, LocalDateTime afterCreatedAt, Long afterId,
+                                                  int offset, int limit) {
+        String keyset = afterId != null
+                ? "AND (s.created_at < :afterKey OR (s.created_at = :afterKey AND s.id < :afterId)) "
+                : "";
+        var query = em.createNativeQuery(
+                        NATIVE_SUMMARY_SELECT + "WHERE " + SearchDocuments.SALES + " LIKE :pattern " + keyset +
+                                "ORDER BY s.created_at DESC, s.id DESC LIMIT :limit OFFSET :offset")
+                .setParameter("pattern", SearchDocuments.likePattern(filter))
+                .setParameter("limit", limit)
+                .setParameter("offset", offset);
+        if (afterId != null) {
+            query.setParameter("afterKey", afterCreatedAt)
+                    .setParameter("afterId", afterId);
+        }
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+                .map(SalePanacheRepository::toSummaryRow)
+                .collect(Collectors.toList());
+    }
+
+    private static SaleSummaryRow toSummaryRow(Object[] row) {
+        Object createdAt = row[8];
+        return new SaleSummaryRow(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (String) row[5],
+                (String) row[6],
+                (BigDecimal) row[7],
+                createdAt instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) createdAt,
+                ((Number) row[9]).longValue(),
+                (String) row[10]
+        );
+    }
+
+    // No PostgreSQL a busca usa o índice GIN (pg_trgm) da expressão em SearchDocuments; no H2, LIKE por coluna
+    private boolean useTrigramSearch() {
+        return "postgresql".equalsIgnoreCase(dbKind);
+    }
 }
@@ -3,19 +3,35 @@ package com.sales.infrastructure.persistence.sale.repository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.CardReEncryptionBatch;
 import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SaleExportLine;
+import com.sales.domain.sale.valueobject.SaleSummary;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 import com.sales.domain.shared.port.EncryptionService;
+import com.sales.infrastructure.persistence.common.KeysetCursor;
 import com.sales.infrastructure.persistence.sale.entity.SaleEntity;
 import com.sales.infrastructure.persistence.sale.entity.SaleItemEntity;
+import io.quarkus.narayana.jta.QuarkusTransaction;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.transaction.Transactional;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
@@ -29,6 +45,12 @@ public class SaleRepositoryAdapter implements SaleRepository {
     @Inject
     EncryptionService encryptionService;
 
+    @ConfigProperty(name = "sales.export.fetch-size", defaultValue = "1000")
+    int exportFetchSize;
+
+    @ConfigProperty(name = "sales.export.timeout-seconds", defaultValue = "1800")
+    int exportTimeoutSeconds;
+
     @Override
     @Transactional
     public Sale save(Sale sale) {
@@ -45,8 +67,12 @@ public class SaleRepositoryAdapter implements SaleRepository {
             entity.setSellerCode(sale.getSellerCode());
             entity.setSellerName(sale.getSellerName());
             entity.setPaymentMethod(sale.getPaymentMethod().name());
-            entity.setCardNumber(encryptCardNumber(sale.getCardNumber()));
+            // Venda lida do banco e não alterada traz só o final do cartão: mantém o cartão gravado
+            if (sale.getCardNumber() != null || sale.getCardLastFour() == null) {
+                applyCard(entity, sale);
+            }
             entity.setAmountPaid(sale.getAmountPaid());
+            applyTotals(entity, sale);
 
             entity.getItems().clear();
             for (SaleItem item : sale.getItems()) {
@@ -65,9 +91,25 @@ public class SaleRepositoryAdapter implements SaleRepository {
         return toDomain(entity);
     }
 
+    @Override
+    @Transactional
+    public List<Sale> saveAll(List<Sale> sales) {
+        List<SaleEntity> entities = sales.stream()
+                .map(this::toEntity)
+                .collect(Collectors.toList());
+
+        // Um único flush: o Hibernate agrupa os INSERTs de vendas e itens em lotes JDBC
+        panacheRepository.persist(entities);
+        panacheRepository.flush();
+
+        return entities.stream()
+                .map(this::toDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<Sale> findById(Long id) {
-        return panacheRepository.findByIdOptional(id).map(this::toDomain);
+        return panacheRepository.findByIdWithItems(id).map(this::toDomain);
     }
 
     @Override
@@ -77,16 +119,24 @@ public class SaleRepositoryAdapter implements SaleRepository {
 
     @Override
     public List<Sale> findAll() {
-        return panacheRepository.listAll().stream()
+        return panacheRepository.listAllWithItems().stream()
                 .map(this::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<Sale> findByCustomerCode(String customerCode) {
-        return panacheRepository.findByCustomerCode(customerCode).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+    public List<SaleSummary> findSummaries() {
+        return toSummaries(panacheRepository.findSummaries());
+    }
+
+    @Override
+    public List<SaleSummary> findSummariesByCustomerCode(String customerCode) {
+        return toSummaries(panacheRepository.findSummariesByCustomerCode(customerCode));
+    }
+
+    @Override
+    public List<SaleSummary> findRecentSummaries(int limit) {
+        return toSummaries(panacheRepository.findRecentSummaries(limit));
     }
 
     @Override
@@ -110,6 +160,15 @@ public class SaleRepositoryAdapter implements SaleRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public void forEachExportLine(LocalDateTime start, LocalDateTime end, Consumer<SaleExportLine> action) {
+        // Transação própria: o cursor do PostgreSQL depende dela e a exportação pode passar do timeout padrão
+        QuarkusTransaction.requiringNew()
+                .timeout(exportTimeoutSeconds)
+                .run(() -> panacheRepository.scrollExportLines(start, end, exportFetchSize,
+                        row -> action.accept(toExportLine(row))));
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
@@ -122,16 +181,138 @@ public class SaleRepositoryAdapter implements SaleRepository {
     }
 
     @Override
-    public PageResult<Sale> search(String filter, int page, int size) {
-        List<SaleEntity> entities = panacheRepository.search(filter, page, size);
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(panacheRepository.findExistingCodes(codes));
+    }
+
+    @Override
+    @Transactional
+    public int backfillTotals(int batchSize) {
+        return panacheRepository.backfillTotals(Sale.TAX_RATE, batchSize);
+    }
+
+    @Override
+    public int backfillCardLastFour(int batchSize) {
+        int updated = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            List<Object[]> rows = QuarkusTransaction.requiringNew()
+                    .call(() -> panacheRepository.findCardsWithoutLastFour(from, batchSize));
+            if (rows.isEmpty()) {
+                return updated;
+            }
+
+            // Descriptografa fora da transação; vendas cujo cartão não pode ser lido ficam para trás
+            List<String> cardNumbers = decryptPage(rows);
+            Map<Long, String> lastFours = new LinkedHashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                Object[] row = rows.get(i);
+                Long id = (Long) row[0];
+                afterId = id;
+                try {
+                    String cardNumber = cardNumbers != null
+                            ? cardNumbers.get(i)
+                            : safeDecryptCardNumber((String) row[2], (String) row[1]);
+                    String lastFour = Sale.lastFourDigits(cardNumber);
+                    if (lastFour != null) {
+                        lastFours.put(id, lastFour);
+                    }
+                } catch (IllegalStateException e) {
+                    LOG.warnf(e, "Não foi possível obter o final do cartão da venda %s", row[1]);
+                }
+            }
+
+            QuarkusTransaction.requiringNew().run(() -> lastFours.forEach(panacheRepository::updateCardLastFour));
+            updated += lastFours.size();
+        }
+    }
+
+    @Override
+    public CardReEncryptionBatch reEncryptCardNumbers(long afterId, int batchSize) {
+        String prefix = encryptionService.currentKeyId() + ":";
+        List<Object[]> rows = QuarkusTransaction.requiringNew()
+                .call(() -> panacheRepository.findCardsNotEncryptedWith(prefix, afterId, batchSize));
+        if (rows.isEmpty()) {
+            return new CardReEncryptionBatch(afterId, 0, 0);
+        }
+
+        // Criptografia fora da transação; valores que não descriptografam (ex.: mascarados) ficam como estão
+        List<String> cardNumbers = decryptPage(rows);
+        List<Object[]> readable = new ArrayList<>(rows.size());
+        List<String> plaintexts = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Object[] row = rows.get(i);
+            try {
+                plaintexts.add(cardNumbers != null ? cardNumbers.get(i) : decryptCardNumber((String) row[2]));
+                readable.add(row);
+            } catch (IllegalStateException e) {
+                LOG.warnf("Cartão da venda %s não pôde ser descriptografado; recriptografia ignorada", row[1]);
+            }
+        }
+        List<String> encrypted = plaintexts.isEmpty() ? List.of() : encryptionService.encryptAll(plaintexts);
+
+        int replaced = QuarkusTransaction.requiringNew().call(() -> {
+            int count = 0;
+            for (int i = 0; i < readable.size(); i++) {
+                Object[] row = readable.get(i);
+                if (panacheRepository.replaceCardNumber((Long) row[0], (String) row[2], encrypted.get(i))) {
+                    count++;
+                }
+            }
+            return count;
+        });
+        long lastId = (Long) rows.get(rows.size() - 1)[0];
+        return new CardReEncryptionBatch(lastId, rows.size(), replaced);
+    }
+
+    @Override
+    public Optional<String> findCardNumber(Long id) {
+        return panacheRepository.findCardNumber(id)
+                .map(this::decryptCardNumber);
+    }
+
+    @Override
+    public PageResult<SaleSummary> search(String filter, int page, int size) {
+        List<SaleSummaryRow> rows = panacheRepository.searchSummaries(filter, page, size);
         long total = panacheRepository.countSearch(filter);
-        List<Sale> sales = entities.stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
-        return new PageResult<>(sales, total, page, size);
+        return new PageResult<>(toSummaries(rows), total, page, size);
+    }
+
+    @Override
+    public CursorPageResult<SaleSummary> searchAfter(String filter, String after, int size, boolean includeTotal) {
+        LocalDateTime afterCreatedAt = null;
+        Long afterId = null;
+        if (after != null && !after.isBlank()) {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            afterCreatedAt = parseCreatedAt(cursor.getSortKey());
+            afterId = cursor.getId();
+        }
+
+        List<SaleSummaryRow> rows = panacheRepository.searchSummariesAfter(filter, afterCreatedAt, afterId, size + 1);
+        String nextCursor = null;
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            SaleSummaryRow last = rows.get(size - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        Long total = includeTotal ? panacheRepository.countSearch(filter) : null;
+        return new CursorPageResult<>(toSummaries(rows), size, nextCursor, total);
     }
 
-    private Sale toDomain(SaleEntity entity) {
+    private LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    Sale toDomain(SaleEntity entity) {
         List<SaleItem> items = entity.getItems().stream()
                 .map(itemEntity -> new SaleItem(
                         itemEntity.getId(),
@@ -142,7 +323,7 @@ public class SaleRepositoryAdapter implements SaleRepository {
                 ))
                 .collect(Collectors.toList());
 
-        return new Sale(
+        return Sale.restore(
                 entity.getId(),
                 entity.getCode(),
                 entity.getCustomerCode(),
@@ -150,13 +331,50 @@ public class SaleRepositoryAdapter implements SaleRepository {
                 entity.getSellerCode(),
                 entity.getSellerName(),
                 PaymentMethod.fromString(entity.getPaymentMethod()),
-                safeDecryptCardNumber(entity.getCardNumber(), entity.getCode()),
+                cardLastFour(entity),
                 entity.getAmountPaid(),
                 items,
                 entity.getCreatedAt()
         );
     }
 
+    private List<SaleSummary> toSummaries(List<SaleSummaryRow> rows) {
+        return rows.stream()
+                .map(row -> new SaleSummary(
+                        row.getId(),
+                        row.getCode(),
+                        row.getCustomerCode(),
+                        row.getCustomerName(),
+                        row.getSellerCode(),
+                        row.getSellerName(),
+                        PaymentMethod.fromString(row.getPaymentMethod()),
+                        row.getItemCount().intValue(),
+                        row.getFirstProductName(),
+                        row.getTotalAmount(),
+                        row.getCreatedAt()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private SaleExportLine toExportLine(Object[] row) {
+        return new SaleExportLine(
+                (String) row[0],
+                (LocalDateTime) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                (String) row[5],
+                PaymentMethod.fromString((String) row[6]),
+                (BigDecimal) row[7],
+                (BigDecimal) row[8],
+                (BigDecimal) row[9],
+                (String) row[10],
+                (String) row[11],
+                (Integer) row[12],
+                (BigDecimal) row[13]
+        );
+    }
+
     private SaleEntity toEntity(Sale sale) {
         SaleEntity entity = new SaleEntity();
         entity.setCode(sale.getCode());
@@ -165,8 +383,9 @@ public class SaleRepositoryAdapter implements SaleRepository {
         entity.setSellerCode(sale.getSellerCode());
         entity.setSellerName(sale.getSellerName());
         entity.setPaymentMethod(sale.getPaymentMethod().name());
-        entity.setCardNumber(encryptCardNumber(sale.getCardNumber()));
+        applyCard(entity, sale);
         entity.setAmountPaid(sale.getAmountPaid());
+        applyTotals(entity, sale);
 
         for (SaleItem item : sale.getItems()) {
             SaleItemEntity itemEntity = new SaleItemEntity();
@@ -183,6 +402,45 @@ public class SaleRepositoryAdapter implements SaleRepository {
         return entity;
     }
 
+    private void applyCard(SaleEntity entity, Sale sale) {
+        entity.setCardNumber(encryptCardNumber(sale.getCardNumber()));
+        entity.setCardLastFour(sale.getCardLastFour());
+    }
+
+    // Vendas ainda não alcançadas pelo SaleCardLastFourBackfillJob são descriptografadas uma vez aqui
+    private String cardLastFour(SaleEntity entity) {
+        if (entity.getCardLastFour() != null) {
+            return entity.getCardLastFour();
+        }
+        return Sale.lastFourDigits(safeDecryptCardNumber(entity.getCardNumber(), entity.getCode()));
+    }
+
+    private void applyTotals(SaleEntity entity, Sale sale) {
+        BigDecimal subtotal = sale.getSubtotal();
+        BigDecimal taxAmount = sale.getTaxAmount();
+        entity.setSubtotal(subtotal);
+        entity.setTaxAmount(taxAmount);
+        entity.setTotalAmount(subtotal.add(taxAmount));
+    }
+
+    // Página inteira num único decryptAll; null quando algum valor exige o tratamento tolerante venda a venda
+    private List<String> decryptPage(List<Object[]> rows) {
+        List<String> stored = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            String value = (String) row[2];
+            if (value == null || value.isEmpty()) {
+                return null;
+            }
+            stored.add(value);
+        }
+        try {
+            return encryptionService.decryptAll(stored);
+        } catch (Exception e) {
+            LOG.debugf("Lote de %d cartões não descriptografado de uma vez; tratando venda a venda", stored.size());
+            return null;
+        }
+    }
+
     private String encryptCardNumber(String cardNumber) {
         if (cardNumber == null || cardNumber.isEmpty()) {
             return null;
@@ -0,0 +1,26 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha da projeção de listagem de vendas, montada direto pela consulta (sem carregar {@code SaleEntity}).
+ */
+@Getter
+@AllArgsConstructor
+public class SaleSummaryRow {
+    private Long id;
+    private String code;
+    private String customerCode;
+    private String customerName;
+    private String sellerCode;
+    private String sellerName;
+    private String paymentMethod;
+    private BigDecimal totalAmount;
+    private LocalDateTime createdAt;
+    private Long itemCount;
+    private String firstProductName;
+}
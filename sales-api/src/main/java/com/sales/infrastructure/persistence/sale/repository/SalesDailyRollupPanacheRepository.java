@@ -0,0 +1,186 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import com.sales.infrastructure.persistence.sale.entity.SalesDailyRollupEntity;
+import io.quarkus.hibernate.orm.panache.PanacheRepository;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.persistence.Tuple;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class SalesDailyRollupPanacheRepository implements PanacheRepository<SalesDailyRollupEntity> {
+
+    private static final Set<String> BUCKET_UNITS = Set.of("day", "week", "month");
+
+    @ConfigProperty(name = "quarkus.datasource.db-kind", defaultValue = "postgresql")
+    String dbKind;
+
+    public void increment(LocalDate saleDate, String paymentMethod, long salesCount, long itemCount,
+                          BigDecimal subtotal, BigDecimal taxAmount) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // UPSERT atômico no PostgreSQL: vendas concorrentes no mesmo dia somam sobre a mesma linha
+        if ("postgresql".equalsIgnoreCase(dbKind)) {
+            getEntityManager().createNativeQuery(
+                            "INSERT INTO sales_daily_rollup " +
+                                    "(sale_date, payment_method, sales_count, item_count, subtotal, tax_amount, updated_at) " +
+                                    "VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7) " +
+                                    "ON CONFLICT (sale_date, payment_method) DO UPDATE SET " +
+                                    "sales_count = sales_daily_rollup.sales_count + EXCLUDED.sales_count, " +
+                                    "item_count = sales_daily_rollup.item_count + EXCLUDED.item_count, " +
+                                    "subtotal = sales_daily_rollup.subtotal + EXCLUDED.subtotal, " +
+                                    "tax_amount = sales_daily_rollup.tax_amount + EXCLUDED.tax_amount, " +
+                                    "updated_at = EXCLUDED.updated_at"
+                    )
+                    .setParameter(1, saleDate)
+                    .setParameter(2, paymentMethod)
+                    .setParameter(3, salesCount)
+                    .setParameter(4, itemCount)
+                    .setParameter(5, subtotal)
+                    .setParameter(6, taxAmount)
+                    .setParameter(7, now)
+                    .executeUpdate();
+            return;
+        }
+
+        // Fallback para bancos sem ON CONFLICT (ex.: H2 nos testes)
+        int updated = update(
+                "salesCount = salesCount + ?1, itemCount = itemCount + ?2, subtotal = subtotal + ?3, " +
+                        "taxAmount = taxAmount + ?4, updatedAt = ?5 WHERE saleDate = ?6 AND paymentMethod = ?7",
+                salesCount, itemCount, subtotal, taxAmount, now, saleDate, paymentMethod
+        );
+
+        if (updated == 0) {
+            SalesDailyRollupEntity entity = new SalesDailyRollupEntity();
+            entity.setSaleDate(saleDate);
+            entity.setPaymentMethod(paymentMethod);
+            entity.setSalesCount(salesCount);
+            entity.setItemCount(itemCount);
+            entity.setSubtotal(subtotal);
+            entity.setTaxAmount(taxAmount);
+            persist(entity);
+        }
+    }
+
+    public int rebuild() {
+        if ("postgresql".equalsIgnoreCase(dbKind)) {
+            // Bloqueia escritas incrementais até o commit, evitando contagem dupla ou perdida
+            getEntityManager().createNativeQuery("LOCK TABLE sales_daily_rollup IN EXCLUSIVE MODE").executeUpdate();
+        }
+
+        getEntityManager().createNativeQuery("DELETE FROM sales_daily_rollup").executeUpdate();
+
+        String query = """
+            INSERT INTO sales_daily_rollup
+                (sale_date, payment_method, sales_count, item_count, subtotal, tax_amount, updated_at)
+            SELECT
+                CAST(s.created_at AS DATE),
+                s.payment_method,
+                COUNT(*),
+                COALESCE(SUM(ic.item_count), 0),
+                COALESCE(SUM(s.subtotal), 0),
+                COALESCE(SUM(s.tax_amount), 0),
+                :now
+            FROM sales s
+            LEFT JOIN (
+                SELECT sale_id, SUM(quantity) as item_count
+                FROM sale_items
+                GROUP BY sale_id
+            ) ic ON ic.sale_id = s.id
+            GROUP BY CAST(s.created_at AS DATE), s.payment_method
+            """;
+
+        return getEntityManager().createNativeQuery(query)
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    public Map<String, Object> getTotals(LocalDate start, LocalDate end) {
+        boolean filterByDate = start != null && end != null;
+        String query = "SELECT COALESCE(SUM(r.salesCount), 0) as salesCount, " +
+                "COALESCE(SUM(r.subtotal), 0) as subtotal, " +
+                "COALESCE(SUM(r.taxAmount), 0) as taxAmount " +
+                "FROM SalesDailyRollupEntity r" +
+                (filterByDate ? " WHERE r.saleDate >= :start AND r.saleDate <= :end" : "");
+
+        var typedQuery = getEntityManager().createQuery(query, Tuple.class);
+        if (filterByDate) {
+            typedQuery.setParameter("start", start)
+                    .setParameter("end", end);
+        }
+        Tuple tuple = typedQuery.getSingleResult();
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("salesCount", tuple.get("salesCount"));
+        map.put("subtotal", tuple.get("subtotal"));
+        map.put("taxAmount", tuple.get("taxAmount"));
+        return map;
+    }
+
+    public List<Map<String, Object>> getTotalsByBucket(LocalDate start, LocalDate end, String unit) {
+        if (!BUCKET_UNITS.contains(unit)) {
+            throw new IllegalArgumentException("Unidade de agrupamento inválida: " + unit);
+        }
+        String bucketExpression = "CAST(DATE_TRUNC('%s', r.sale_date) AS DATE)".formatted(unit);
+        String query = """
+            SELECT
+                %1$s as bucket_start,
+                COALESCE(SUM(r.sales_count), 0) as sales_count,
+                COALESCE(SUM(r.subtotal), 0) as subtotal,
+                COALESCE(SUM(r.tax_amount), 0) as tax_amount
+            FROM sales_daily_rollup r
+            WHERE r.sale_date >= :start AND r.sale_date <= :end
+            GROUP BY %1$s
+            ORDER BY bucket_start
+            """.formatted(bucketExpression);
+
+        List<Tuple> tuples = getEntityManager().createNativeQuery(query, Tuple.class)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultList();
+
+        return tuples.stream()
+                .map(tuple -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("bucketStart", tuple.get("bucket_start"));
+                    map.put("salesCount", tuple.get("sales_count"));
+                    map.put("subtotal", tuple.get("subtotal"));
+                    map.put("taxAmount", tuple.get("tax_amount"));
+                    return map;
+                })
+                .collect(Collectors.toList());
+    }
+
+    public List<Map<String, Object>> getTotalsByPaymentMethod(LocalDate start, LocalDate end) {
+        List<Tuple> tuples = getEntityManager().createQuery(
+                        "SELECT r.paymentMethod as paymentMethod, " +
+                                "SUM(r.salesCount) as salesCount, " +
+                                "SUM(r.subtotal) as subtotal, " +
+                                "SUM(r.taxAmount) as taxAmount " +
+                                "FROM SalesDailyRollupEntity r " +
+                                "WHERE r.saleDate >= :start AND r.saleDate <= :end " +
+                                "GROUP BY r.paymentMethod", Tuple.class)
+                .setParameter("start", start)
+                .setParameter("end", end)
+                .getResultList();
+
+        return tuples.stream()
+                .map(tuple -> {
+                    Map<String, Object> map = new HashMap<>();
+                    map.put("paymentMethod", tuple.get("paymentMethod"));
+                    map.put("salesCount", tuple.get("salesCount"));
+                    map.put("subtotal", tuple.get("subtotal"));
+                    map.put("taxAmount", tuple.get("taxAmount"));
+                    return map;
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,160 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.port.SalesRollupRepository;
+import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SalesBucket;
+import com.sales.domain.sale.valueobject.SalesTotals;
+import com.sales.domain.sale.valueobject.TimeBucket;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.transaction.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class SalesRollupRepositoryAdapter implements SalesRollupRepository {
+
+    @Inject
+    SalesDailyRollupPanacheRepository panacheRepository;
+
+    @Override
+    @Transactional
+    public void record(Sale sale) {
+        apply(sale, 1);
+    }
+
+    @Override
+    @Transactional
+    public void recordAll(List<Sale> sales) {
+        // Agrupa por dia e forma de pagamento: um incremento por linha do rollup em vez de um por venda
+        Map<String, List<Sale>> groups = sales.stream()
+                .collect(Collectors.groupingBy(
+                        sale -> sale.getCreatedAt().toLocalDate() + "|" + sale.getPaymentMethod().name(),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+
+        for (List<Sale> group : groups.values()) {
+            Sale first = group.get(0);
+            panacheRepository.increment(
+                    first.getCreatedAt().toLocalDate(),
+                    first.getPaymentMethod().name(),
+                    group.size(),
+                    group.stream().mapToLong(Sale::getTotalItems).sum(),
+                    group.stream().map(Sale::getSubtotal).reduce(BigDecimal.ZERO, BigDecimal::add),
+                    group.stream().map(Sale::getTaxAmount).reduce(BigDecimal.ZERO, BigDecimal::add)
+            );
+        }
+    }
+
+    @Override
+    @Transactional
+    public void revert(Sale sale) {
+        apply(sale, -1);
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        return panacheRepository.rebuild();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return panacheRepository.count() == 0;
+    }
+
+    @Override
+    public SalesTotals sumTotals() {
+        return toSalesTotals(panacheRepository.getTotals(null, null));
+    }
+
+    @Override
+    public SalesTotals sumTotalsByDateRange(LocalDate start, LocalDate end) {
+        return toSalesTotals(panacheRepository.getTotals(start, end));
+    }
+
+    @Override
+    public List<SalesBucket> sumTotalsByBucket(LocalDate start, LocalDate end, TimeBucket bucket) {
+        return panacheRepository.getTotalsByBucket(start, end, bucket.name().toLowerCase()).stream()
+                .map(row -> new SalesBucket(toLocalDate(row.get("bucketStart")), toSalesTotals(row)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Map<PaymentMethod, SalesTotals> sumTotalsByPaymentMethod(LocalDate start, LocalDate end) {
+        Map<PaymentMethod, SalesTotals> result = new EnumMap<>(PaymentMethod.class);
+        for (Map<String, Object> row : panacheRepository.getTotalsByPaymentMethod(start, end)) {
+            // Vendas antigas podem usar aliases (ex.: CREDIT_CARD); agrupa pelo valor normalizado
+            PaymentMethod paymentMethod = PaymentMethod.fromString((String) row.get("paymentMethod"));
+            result.merge(paymentMethod, toSalesTotals(row), this::add);
+        }
+        return result;
+    }
+
+    private void apply(Sale sale, int sign) {
+        LocalDate saleDate = sale.getCreatedAt().toLocalDate();
+        BigDecimal multiplier = BigDecimal.valueOf(sign);
+        panacheRepository.increment(
+                saleDate,
+                sale.getPaymentMethod().name(),
+                sign,
+                (long) sign * sale.getTotalItems(),
+                sale.getSubtotal().multiply(multiplier),
+                sale.getTaxAmount().multiply(multiplier)
+        );
+    }
+
+    private SalesTotals add(SalesTotals a, SalesTotals b) {
+        return new SalesTotals(
+                a.getSalesCount() + b.getSalesCount(),
+                a.getSubtotal().add(b.getSubtotal()),
+                a.getTaxAmount().add(b.getTaxAmount())
+        );
+    }
+
+    private SalesTotals toSalesTotals(Map<String, Object> row) {
+        if (row == null) {
+            return SalesTotals.empty();
+        }
+        Number salesCount = (Number) row.get("salesCount");
+        return new SalesTotals(
+                salesCount != null ? salesCount.longValue() : 0L,
+                toBigDecimal(row.get("subtotal")),
+                toBigDecimal(row.get("taxAmount"))
+        );
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        if (value instanceof java.sql.Date sqlDate) {
+            return sqlDate.toLocalDate();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return localDateTime.toLocalDate();
+        }
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        }
+        return LocalDate.parse(value.toString());
+    }
+
+    private BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal;
+        }
+        return new BigDecimal(value.toString());
+    }
+}
@@ -0,0 +1,87 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.CardReEncryptionBatch;
+import com.sales.domain.shared.port.EncryptionService;
+import com.sales.infrastructure.persistence.sale.repository.CardReEncryptionProgressPanacheRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regrava com a chave atual os cartões criptografados com chaves anteriores, em blocos por id e
+ * limitado a {@code sales.card-reencryption.rows-per-second}. O ponto da varredura é salvo a cada
+ * bloco em {@code card_reencryption_progress}, então uma reinicialização continua de onde parou.
+ */
+@ApplicationScoped
+public class CardReEncryptionJob {
+
+    private static final Logger LOG = Logger.getLogger(CardReEncryptionJob.class);
+
+    @Inject
+    SaleRepository saleRepository;
+
+    @Inject
+    EncryptionService encryptionService;
+
+    @Inject
+    CardReEncryptionProgressPanacheRepository progressRepository;
+
+    @ConfigProperty(name = "sales.card-reencryption.enabled", defaultValue = "true")
+    boolean enabled;
+
+    @ConfigProperty(name = "sales.card-reencryption.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @ConfigProperty(name = "sales.card-reencryption.rows-per-second", defaultValue = "1000")
+    int rowsPerSecond;
+
+    @Scheduled(every = "${sales.card-reencryption.interval:10m}", delayed = "${sales.card-reencryption.delay:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void reEncrypt() {
+        if (!enabled) {
+            return;
+        }
+        String keyId = encryptionService.currentKeyId();
+        int total = 0;
+        try {
+            long afterId = progressRepository.findLastId(keyId);
+            while (true) {
+                long started = System.nanoTime();
+                CardReEncryptionBatch batch = saleRepository.reEncryptCardNumbers(afterId, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                afterId = batch.getLastId();
+                progressRepository.saveLastId(keyId, afterId);
+                total += batch.getReEncrypted();
+                throttle(batch.getScanned(), started);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.infof("Recriptografia de cartões interrompida - %d vendas regravadas com a chave %s", total, keyId);
+            return;
+        } catch (Exception e) {
+            LOG.error("Erro ao recriptografar cartões das vendas", e);
+        }
+        if (total > 0) {
+            LOG.infof("Cartões recriptografados com a chave %s - %d vendas", keyId, total);
+        }
+    }
+
+    // Espera o restante do tempo que o bloco levaria no ritmo configurado
+    private void throttle(int rows, long startedNanos) throws InterruptedException {
+        if (rowsPerSecond <= 0) {
+            return;
+        }
+        long minimumNanos = rows * TimeUnit.SECONDS.toNanos(1) / rowsPerSecond;
+        long remaining = minimumNanos - (System.nanoTime() - startedNanos);
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+}
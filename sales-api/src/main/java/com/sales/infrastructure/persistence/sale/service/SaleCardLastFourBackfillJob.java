@@ -0,0 +1,38 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SaleRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+/**
+ * Preenche {@code card_last4} das vendas gravadas antes da coluna existir. Precisa da chave de
+ * criptografia, por isso roda na aplicação e não na migração. A primeira execução é adiada
+ * ({@code sales.card-last4.backfill.delay}) para não segurar a subida da aplicação.
+ */
+@ApplicationScoped
+public class SaleCardLastFourBackfillJob {
+
+    private static final Logger LOG = Logger.getLogger(SaleCardLastFourBackfillJob.class);
+
+    @Inject
+    SaleRepository saleRepository;
+
+    @ConfigProperty(name = "sales.card-last4.backfill.batch-size", defaultValue = "500")
+    int batchSize;
+
+    @Scheduled(every = "${sales.card-last4.backfill.interval:6h}", delayed = "${sales.card-last4.backfill.delay:1m}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void backfillCardLastFour() {
+        try {
+            int total = saleRepository.backfillCardLastFour(batchSize);
+            if (total > 0) {
+                LOG.infof("Final do cartão preenchido - %d vendas", total);
+            }
+        } catch (Exception e) {
+            LOG.error("Erro ao preencher final do cartão das vendas", e);
+        }
+    }
+}
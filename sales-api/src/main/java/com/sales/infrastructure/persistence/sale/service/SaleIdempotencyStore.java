@@ -0,0 +1,134 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.infrastructure.persistence.sale.entity.SaleIdempotencyKeyEntity;
+import com.sales.infrastructure.persistence.sale.repository.SaleIdempotencyKeyPanacheRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Respostas de criação de venda por {@code Idempotency-Key}: LRU local na frente da tabela
+ * {@code sale_idempotency_keys}, que atende retentativas recebidas por outras instâncias.
+ */
+@ApplicationScoped
+public class SaleIdempotencyStore {
+
+    private static final Logger LOG = Logger.getLogger(SaleIdempotencyStore.class);
+
+    @Inject
+    SaleIdempotencyKeyPanacheRepository repository;
+
+    @ConfigProperty(name = "sales.idempotency.ttl-hours", defaultValue = "24")
+    int ttlHours;
+
+    @ConfigProperty(name = "sales.idempotency.cache.max-entries", defaultValue = "10000")
+    int maxEntries;
+
+    private final Map<String, StoredSaleResponse> responses = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StoredSaleResponse> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public Optional<StoredSaleResponse> find(String idempotencyKey) {
+        StoredSaleResponse cached;
+        synchronized (responses) {
+            cached = responses.get(idempotencyKey);
+        }
+        if (cached != null && !cached.isExpired()) {
+            return Optional.of(cached);
+        }
+
+        Optional<StoredSaleResponse> stored = repository.findActive(idempotencyKey, LocalDateTime.now())
+                .map(entity -> new StoredSaleResponse(entity.getRequestHash(), entity.getResponseBody(), entity.getExpiresAt()));
+        synchronized (responses) {
+            if (stored.isPresent()) {
+                responses.put(idempotencyKey, stored.get());
+            } else {
+                responses.remove(idempotencyKey);
+            }
+        }
+        return stored;
+    }
+
+    public void save(String idempotencyKey, String requestHash, Long saleId, String responseBody) {
+        SaleIdempotencyKeyEntity entity = new SaleIdempotencyKeyEntity();
+        entity.setIdempotencyKey(idempotencyKey);
+        entity.setRequestHash(requestHash);
+        entity.setSaleId(saleId);
+        entity.setResponseBody(responseBody);
+        entity.setExpiresAt(LocalDateTime.now().plusHours(ttlHours));
+
+        try {
+            if (!repository.insertIfAbsent(entity)) {
+                LOG.warnf("Idempotency-Key já registrada por outra requisição: %s", idempotencyKey);
+                return;
+            }
+        } catch (Exception e) {
+            // A venda já foi gravada; sem o registro, uma retentativa cai na validação de código duplicado
+            LOG.errorf(e, "Erro ao registrar Idempotency-Key %s da venda %d", idempotencyKey, saleId);
+            return;
+        }
+
+        synchronized (responses) {
+            responses.put(idempotencyKey, new StoredSaleResponse(requestHash, responseBody, entity.getExpiresAt()));
+        }
+    }
+
+    @Scheduled(cron = "${sales.idempotency.cleanup.cron:0 45 * * * ?}")
+    void cleanupExpired() {
+        try {
+            long deleted = repository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                LOG.infof("Chaves de idempotência expiradas removidas - %d registros", deleted);
+            }
+        } catch (Exception e) {
+            LOG.error("Erro ao remover chaves de idempotência expiradas", e);
+        }
+    }
+
+    public static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Erro ao gerar hash da requisição", e);
+        }
+    }
+
+    public static class StoredSaleResponse {
+        private final String requestHash;
+        private final String responseBody;
+        private final LocalDateTime expiresAt;
+
+        public StoredSaleResponse(String requestHash, String responseBody, LocalDateTime expiresAt) {
+            this.requestHash = requestHash;
+            this.responseBody = responseBody;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getRequestHash() {
+            return requestHash;
+        }
+
+        public String getResponseBody() {
+            return responseBody;
+        }
+
+        public boolean isExpired() {
+            return !expiresAt.isAfter(LocalDateTime.now());
+        }
+    }
+}
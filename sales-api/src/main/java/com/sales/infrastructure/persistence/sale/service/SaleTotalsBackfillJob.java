@@ -0,0 +1,56 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SaleRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Preenche subtotal/tax_amount/total_amount das vendas gravadas antes das colunas existirem (o schema
+ * vem do Hibernate, a V009 não é aplicada). A primeira execução é adiada
+ * ({@code sales.totals.backfill.delay}) para não segurar a subida e, ao terminar, libera a
+ * reconstrução dos agregados diários, que somam essas colunas.
+ */
+@ApplicationScoped
+public class SaleTotalsBackfillJob {
+
+    private static final Logger LOG = Logger.getLogger(SaleTotalsBackfillJob.class);
+
+    @Inject
+    SaleRepository saleRepository;
+
+    @Inject
+    SalesRollupRebuildJob salesRollupRebuildJob;
+
+    @ConfigProperty(name = "sales.totals.backfill.batch-size", defaultValue = "500")
+    int batchSize;
+
+    private final AtomicBoolean firstRun = new AtomicBoolean(true);
+
+    @Scheduled(every = "${sales.totals.backfill.interval:6h}", delayed = "${sales.totals.backfill.delay:10s}",
+            concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void backfillTotals() {
+        int total = 0;
+        try {
+            int updated;
+            do {
+                updated = saleRepository.backfillTotals(batchSize);
+                total += updated;
+            } while (updated >= batchSize);
+        } catch (Exception e) {
+            LOG.error("Erro ao preencher totais das vendas", e);
+            return;
+        }
+
+        if (total > 0) {
+            LOG.infof("Totais de vendas preenchidos - %d vendas", total);
+        }
+        if (firstRun.compareAndSet(true, false) || total > 0) {
+            salesRollupRebuildJob.afterTotalsBackfill(total > 0);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SalesRollupRepository;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+@ApplicationScoped
+public class SalesRollupRebuildJob {
+
+    private static final Logger LOG = Logger.getLogger(SalesRollupRebuildJob.class);
+
+    @Inject
+    SalesRollupRepository salesRollupRepository;
+
+    /**
+     * Chamado por {@link SaleTotalsBackfillJob} após a primeira execução depois da subida e sempre que
+     * vendas antigas recebem totais: os agregados somam essas colunas e não podem ser montados antes.
+     */
+    void afterTotalsBackfill(boolean totalsChanged) {
+        try {
+            if (totalsChanged) {
+                LOG.info("Totais de vendas antigas preenchidos; reconstruindo agregados diários");
+                rebuild();
+            } else if (salesRollupRepository.isEmpty()) {
+                LOG.info("Agregados diários de vendas vazios; reconstruindo a partir das vendas");
+                rebuild();
+            }
+        } catch (Exception e) {
+            LOG.error("Erro ao verificar agregados diários de vendas", e);
+        }
+    }
+
+    @Scheduled(cron = "${sales.rollup.rebuild.cron:0 30 2 * * ?}")
+    void rebuildRollup() {
+        LOG.info("Iniciando reconstrução dos agregados diários de vendas");
+        try {
+            rebuild();
+        } catch (Exception e) {
+            LOG.error("Erro ao reconstruir agregados diários de vendas", e);
+        }
+    }
+
+    private void rebuild() {
+        int rows = salesRollupRepository.rebuild();
+        LOG.infof("Agregados diários de vendas reconstruídos - %d linhas", rows);
+    }
+}
@@ -3,6 +3,7 @@ package com.sales.infrastructure.rest.auth.controller;
 import com.sales.application.auth.usecase.*;
 import com.sales.domain.auth.entity.User;
 import com.sales.infrastructure.rest.auth.dto.*;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.annotation.security.PermitAll;
 import jakarta.annotation.security.RolesAllowed;
 import jakarta.inject.Inject;
@@ -26,6 +27,7 @@ import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Autenticação", description = "Endpoints para autenticação, registro e recuperação de senha")
+@RunOnVirtualThread
 public class AuthController {
 
     private static final Logger LOG = Logger.getLogger(AuthController.class);
@@ -0,0 +1,62 @@
+package com.sales.infrastructure.rest.common;
+
+import com.sales.application.common.ImportLine;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Entrega os registros do CSV como linhas de importação, lendo o próximo só quando pedido.
+ * Um arquivo malformado vira o erro da linha em que o problema começa e encerra a leitura.
+ */
+public class CsvImportLines<T> implements Iterator<ImportLine<T>> {
+
+    private final CsvReader reader;
+    private final Function<CsvRecord, T> parser;
+    private ImportLine<T> next;
+    private boolean finished;
+
+    public CsvImportLines(CsvReader reader, Function<CsvRecord, T> parser) {
+        this.reader = reader;
+        this.parser = parser;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportLine<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportLine<T> line = next;
+        next = null;
+        return line;
+    }
+
+    private ImportLine<T> readNext() {
+        CsvRecord record;
+        try {
+            record = reader.next();
+        } catch (IllegalArgumentException e) {
+            finished = true;
+            return new ImportLine<>(reader.getRecordLine(), () -> {
+                throw e;
+            });
+        }
+        if (record == null) {
+            finished = true;
+            return null;
+        }
+        return new ImportLine<>(record.getLine(), () -> {
+            record.requireColumnCount();
+            return parser.apply(record);
+        });
+    }
+}
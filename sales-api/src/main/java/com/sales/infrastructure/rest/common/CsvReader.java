@@ -0,0 +1,155 @@
+package com.sales.infrastructure.rest.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Leitor CSV (RFC 4180) incremental: lê um registro por vez do stream, sem carregar o arquivo.
+ * A primeira linha é o cabeçalho com os nomes das colunas; linhas em branco são ignoradas.
+ */
+public class CsvReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final List<String> header;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long line = 1;
+    private long recordLine = 1;
+    private int pending = -2;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader, BUFFER_SIZE);
+        skipByteOrderMark();
+        List<String> values = readValues();
+        if (values == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio: o cabeçalho é obrigatório");
+        }
+        this.header = values.stream().map(String::trim).collect(Collectors.toList());
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i), i);
+        }
+    }
+
+    public static CsvReader open(InputStream input) {
+        return new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * Linha em que começa o último registro lido (o cabeçalho é a linha 1).
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    public void requireColumns(Collection<String> required) {
+        List<String> missing = required.stream()
+                .filter(column -> !columns.containsKey(column))
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("Colunas obrigatórias ausentes no cabeçalho: " + String.join(", ", missing));
+        }
+    }
+
+    /**
+     * Próximo registro, ou {@code null} no fim do arquivo.
+     *
+     * @throws IllegalArgumentException se o arquivo estiver malformado (ex.: aspas não fechadas)
+     */
+    public CsvRecord next() {
+        List<String> values = readValues();
+        while (values != null && values.size() == 1 && values.get(0).isEmpty()) {
+            values = readValues();
+        }
+        return values != null ? new CsvRecord(recordLine, values, columns) : null;
+    }
+
+    private List<String> readValues() {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        recordLine = line;
+        List<String> values = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Aspas não fechadas");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pending = next;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                values.add(field.toString());
+                return values;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private void skipByteOrderMark() {
+        int c = read();
+        if (c != '\uFEFF') {
+            pending = c;
+        }
+    }
+
+    private int read() {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
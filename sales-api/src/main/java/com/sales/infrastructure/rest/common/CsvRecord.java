@@ -0,0 +1,75 @@
+package com.sales.infrastructure.rest.common;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registro lido pelo {@link CsvReader}; valores acessados pelo nome da coluna do cabeçalho.
+ */
+public class CsvRecord {
+    private final long line;
+    private final List<String> values;
+    private final Map<String, Integer> columns;
+
+    CsvRecord(long line, List<String> values, Map<String, Integer> columns) {
+        this.line = line;
+        this.values = values;
+        this.columns = columns;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void requireColumnCount() {
+        if (values.size() != columns.size()) {
+            throw new IllegalArgumentException("Esperadas " + columns.size() + " colunas, encontradas " + values.size());
+        }
+    }
+
+    /**
+     * Valor sem espaços nas pontas; {@code null} se vazio ou se a coluna não existe no arquivo.
+     */
+    public String get(String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    public BigDecimal getDecimal(String column) {
+        String value = get(column);
+        try {
+            return value != null ? new BigDecimal(value) : null;
+        } catch (NumberFormatException e) {
+            throw invalid(column, value);
+        }
+    }
+
+    public Integer getInteger(String column) {
+        String value = get(column);
+        try {
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            throw invalid(column, value);
+        }
+    }
+
+    public LocalDate getDate(String column) {
+        String value = get(column);
+        try {
+            return value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Valor inválido na coluna " + column + ": " + value + " (use yyyy-MM-dd)");
+        }
+    }
+
+    private static IllegalArgumentException invalid(String column, String value) {
+        return new IllegalArgumentException("Valor inválido na coluna " + column + ": " + value);
+    }
+}
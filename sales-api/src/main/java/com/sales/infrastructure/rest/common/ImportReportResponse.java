@@ -0,0 +1,86 @@
+package com.sales.infrastructure.rest.common;
+
+import com.sales.domain.shared.ImportReport;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ImportReportResponse {
+    private long totalLines;
+    private long imported;
+    private long rejected;
+    private List<LineErrorResponse> errors;
+
+    public ImportReportResponse() {
+    }
+
+    public ImportReportResponse(ImportReport report) {
+        this.totalLines = report.getTotalLines();
+        this.imported = report.getImported();
+        this.rejected = report.getRejected();
+        this.errors = report.getErrors().stream()
+                .map(error -> new LineErrorResponse(error.getLine(), error.getMessage()))
+                .collect(Collectors.toList());
+    }
+
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    public void setTotalLines(long totalLines) {
+        this.totalLines = totalLines;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<LineErrorResponse> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<LineErrorResponse> errors) {
+        this.errors = errors;
+    }
+
+    public static class LineErrorResponse {
+        private long line;
+        private String message;
+
+        public LineErrorResponse() {
+        }
+
+        public LineErrorResponse(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sales.infrastructure.rest.common;
+
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.util.List;
+
+/**
+ * Limite de corpo próprio para as rotas de importação CSV, que leem o arquivo em streaming: as demais
+ * rotas continuam com {@code quarkus.http.limits.max-body-size}, só a importação aceita até
+ * {@code import.max-file-size}.
+ *
+ * O Quarkus aplica o limite global em duas etapas: recusa pelo Content-Length num handler de ordem -2 e
+ * guarda o limite em {@link #MAX_REQUEST_SIZE}, lido pelo stream do corpo. Aqui o Content-Length é
+ * conferido antes (ordem -3) e o limite do stream é trocado depois (ordem -1).
+ */
+@ApplicationScoped
+public class ImportUploadLimit {
+
+    static final List<String> IMPORT_PATHS = List.of("/api/v1/customers/import", "/api/v1/products/import");
+    static final String MAX_REQUEST_SIZE = "io.quarkus.max-request-size";
+
+    @ConfigProperty(name = "import.max-file-size", defaultValue = "100M")
+    MemorySize maxFileSize;
+
+    void register(@Observes Router router) {
+        for (String path : IMPORT_PATHS) {
+            router.route(HttpMethod.POST, path).order(-3).handler(this::checkContentLength);
+            router.route(HttpMethod.POST, path).order(-1).handler(this::applyStreamLimit);
+        }
+    }
+
+    void checkContentLength(RoutingContext context) {
+        String contentLength = context.request().getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            long length;
+            try {
+                length = Long.parseLong(contentLength);
+            } catch (NumberFormatException e) {
+                context.response().setStatusCode(HttpResponseStatus.BAD_REQUEST.code()).end();
+                return;
+            }
+            if (length > maxFileSize.asLongValue()) {
+                context.response()
+                        .putHeader(HttpHeaders.CONNECTION, "close")
+                        .setStatusCode(HttpResponseStatus.REQUEST_ENTITY_TOO_LARGE.code())
+                        .end();
+                return;
+            }
+            // Já validado contra o limite de importação; sem o cabeçalho a verificação global não o recusa
+            context.request().headers().remove(HttpHeaders.CONTENT_LENGTH);
+        }
+        context.next();
+    }
+
+    void applyStreamLimit(RoutingContext context) {
+        context.put(MAX_REQUEST_SIZE, maxFileSize.asLongValue());
+        context.next();
+    }
+}
@@ -2,11 +2,21 @@ package com.sales.infrastructure.rest.customer.controller;
 
 import com.sales.application.customer.usecase.*;
 import com.sales.domain.customer.entity.Customer;
+import com.sales.domain.shared.CursorPageResult;
+import com.sales.domain.shared.ImportReport;
 import com.sales.domain.shared.PageResult;
+import com.sales.infrastructure.rest.common.CsvImportLines;
+import com.sales.infrastructure.rest.common.CsvReader;
+import com.sales.infrastructure.rest.common.CsvRecord;
+import com.sales.infrastructure.rest.common.CursorPageResponse;
+import com.sales.infrastructure.rest.common.ImportReportResponse;
 import com.sales.infrastructure.rest.common.PageResponse;
 import com.sales.infrastructure.rest.customer.dto.*;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -21,13 +31,16 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Path("/api/v1/customers")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Clientes", description = "API para gestão completa de clientes")
+@RunOnVirtualThread
 public class CustomerController {
 
     private static final Logger LOG = Logger.getLogger(CustomerController.class);
@@ -37,7 +50,11 @@ public class CustomerController {
     @Inject FindCustomerUseCase findCustomerUseCase;
     @Inject DeleteCustomerUseCase deleteCustomerUseCase;
     @Inject SearchCustomersUseCase searchCustomersUseCase;
+    @Inject ImportCustomersUseCase importCustomersUseCase;
     @Inject CustomerMapper mapper;
+    @Inject Validator validator;
+
+    private static final String CSV_MEDIA_TYPE = "text/csv";
 
     @POST
     @Operation(
@@ -151,6 +168,42 @@ public class CustomerController {
                 .build();
     }
 
+    @POST
+    @Path("/import")
+    @Consumes({CSV_MEDIA_TYPE, MediaType.TEXT_PLAIN})
+    @Operation(
+        summary = "Importar clientes de um arquivo CSV",
+        description = """
+            Cadastra clientes em massa a partir de um CSV (UTF-8, separado por vírgula) com cabeçalho.
+
+            Colunas: fullName, motherName, cpf, rg, zipCode, street, number, complement (opcional),
+            neighborhood, city, state, birthDate (yyyy-MM-dd), cellPhone, email.
+
+            - O arquivo é lido aos poucos; as linhas são validadas em paralelo e gravadas em blocos,
+              cada bloco em uma transação
+            - Linhas inválidas, com CPF/email já cadastrado ou repetido no arquivo são recusadas
+              sem impedir a gravação das demais
+            - Os códigos (CUST0001...) são gerados automaticamente
+            """
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Arquivo processado; consulte os erros por linha",
+            content = @Content(schema = @Schema(implementation = ImportReportResponse.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Arquivo vazio ou sem colunas obrigatórias")
+    })
+    public Response importCustomers(InputStream body) {
+        LOG.info("Recebida requisição para importar clientes");
+
+        CsvReader reader = CsvReader.open(body);
+        reader.requireColumns(CustomerMapper.IMPORT_REQUIRED_COLUMNS);
+        ImportReport report = importCustomersUseCase.execute(new CsvImportLines<>(reader, this::parseImportRecord));
+
+        return Response.ok(new ImportReportResponse(report)).build();
+    }
+
     @PUT
     @Path("/{id}")
     @Operation(
@@ -220,7 +273,7 @@ public class CustomerController {
         @QueryParam("filter") String filter,
         @Parameter(description = "Número da página (começa em 0)", example = "0")
         @QueryParam("page") @DefaultValue("0") int page,
-        @Parameter(description = "Tamanho da página", example = "10")
+        @Parameter(description = "Tamanho da página (máximo 100)", example = "10")
         @QueryParam("size") @DefaultValue("10") int size
     ) {
         PageResult<Customer> result = searchCustomersUseCase.execute(filter, page, size);
@@ -236,6 +289,42 @@ public class CustomerController {
         return Response.ok(response).build();
     }
 
+    @GET
+    @Path("/search/cursor")
+    @Operation(
+        summary = "Buscar clientes com paginação por cursor",
+        description = "Mesmo filtro da busca paginada, navegando pelo cursor opaco retornado em nextCursor. Ordenação por nome; a contagem total é opcional"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lista de clientes retornada com sucesso"
+        ),
+        @APIResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public Response searchCustomersByCursor(
+        @Parameter(description = "Filtro de busca", example = "João")
+        @QueryParam("filter") String filter,
+        @Parameter(description = "Cursor retornado pela página anterior (vazio para a primeira página)")
+        @QueryParam("after") String after,
+        @Parameter(description = "Tamanho da página (máximo 100)", example = "10")
+        @QueryParam("size") @DefaultValue("10") int size,
+        @Parameter(description = "Incluir contagem total de registros", example = "false")
+        @QueryParam("includeTotal") @DefaultValue("false") boolean includeTotal
+    ) {
+        CursorPageResult<Customer> result = searchCustomersUseCase.execute(filter, after, size, includeTotal);
+        List<CustomerResponse> content = result.getContent().stream()
+                .map(mapper::toResponse)
+                .collect(Collectors.toList());
+        CursorPageResponse<CustomerResponse> response = new CursorPageResponse<>(
+                content,
+                result.getSize(),
+                result.getNextCursor(),
+                result.getTotalElements()
+        );
+        return Response.ok(response).build();
+    }
+
     @GET
     @Path("/{id}")
     @Operation(
@@ -328,4 +417,17 @@ public class CustomerController {
 
         return Response.noContent().build();
     }
+
+    // Executado em paralelo pela importação: mesmas validações do cadastro individual
+    private Customer parseImportRecord(CsvRecord record) {
+        CreateCustomerRequest request = mapper.toCreateRequest(record);
+        Set<ConstraintViolation<CreateCustomerRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return mapper.toDomain(request);
+    }
 }
@@ -3,11 +3,19 @@ package com.sales.infrastructure.rest.customer.dto;
 import com.sales.domain.customer.entity.Customer;
 import com.sales.domain.customer.valueobject.Address;
 import com.sales.domain.customer.valueobject.Document;
+import com.sales.infrastructure.rest.common.CsvRecord;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.List;
+
 @ApplicationScoped
 public class CustomerMapper {
 
+    // Colunas da importação CSV: os campos de CreateCustomerRequest, com o endereço achatado
+    public static final List<String> IMPORT_REQUIRED_COLUMNS = List.of(
+            "fullName", "motherName", "cpf", "rg", "zipCode", "street", "number", "neighborhood", "city", "state",
+            "birthDate", "cellPhone", "email");
+
     public Customer toDomain(CreateCustomerRequest request) {
         Document document = new Document(
                 request.getCpf().replaceAll("[^0-9]", ""),
@@ -34,6 +42,28 @@ public class CustomerMapper {
         );
     }
 
+    public CreateCustomerRequest toCreateRequest(CsvRecord record) {
+        AddressDTO address = new AddressDTO(
+                record.get("zipCode"),
+                record.get("street"),
+                record.get("number"),
+                record.get("complement"),
+                record.get("neighborhood"),
+                record.get("city"),
+                record.get("state")
+        );
+        return new CreateCustomerRequest(
+                record.get("fullName"),
+                record.get("motherName"),
+                record.get("cpf"),
+                record.get("rg"),
+                address,
+                record.getDate("birthDate"),
+                record.get("cellPhone"),
+                record.get("email")
+        );
+    }
+
     public CustomerResponse toResponse(Customer customer) {
         AddressDTO addressDTO = new AddressDTO(
                 customer.getAddress().getFormattedZipCode(),
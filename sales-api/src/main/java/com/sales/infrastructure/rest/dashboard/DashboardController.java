@@ -6,6 +6,7 @@ import com.sales.application.dashboard.usecase.GetRecentSalesUseCase;
 import com.sales.infrastructure.rest.dashboard.dto.DashboardChartResponse;
 import com.sales.infrastructure.rest.dashboard.dto.DashboardStatsResponse;
 import com.sales.infrastructure.rest.dashboard.dto.RecentSalesResponse;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
@@ -25,6 +26,7 @@ import java.util.Map;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Dashboard", description = "Endpoints para dados do dashboard")
+@RunOnVirtualThread
 public class DashboardController {
 
     private final GetDashboardStatsUseCase getDashboardStatsUseCase;
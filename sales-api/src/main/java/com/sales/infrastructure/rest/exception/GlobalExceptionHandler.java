@@ -1,5 +1,6 @@
 package com.sales.infrastructure.rest.exception;
 
+import com.sales.domain.shared.exception.ServiceBusyException;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -21,6 +22,10 @@ public class GlobalExceptionHandler implements ExceptionMapper<Exception> {
             return buildResponse(Response.Status.BAD_REQUEST, exception.getMessage());
         }
 
+        if (exception instanceof ServiceBusyException) {
+            return buildResponse(Response.Status.SERVICE_UNAVAILABLE, exception.getMessage());
+        }
+
         if (exception instanceof ConstraintViolationException) {
             ConstraintViolationException cve = (ConstraintViolationException) exception;
             String errors = cve.getConstraintViolations().stream()
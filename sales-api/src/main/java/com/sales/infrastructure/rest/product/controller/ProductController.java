@@ -4,11 +4,21 @@ import com.sales.application.product.usecase.*;
 import com.sales.domain.product.entity.Product;
 import com.sales.domain.product.valueobject.Dimensions;
 import com.sales.domain.product.valueobject.ProductType;
+import com.sales.domain.shared.CursorPageResult;
+import com.sales.domain.shared.ImportReport;
 import com.sales.domain.shared.PageResult;
+import com.sales.infrastructure.rest.common.CsvImportLines;
+import com.sales.infrastructure.rest.common.CsvReader;
+import com.sales.infrastructure.rest.common.CsvRecord;
+import com.sales.infrastructure.rest.common.CursorPageResponse;
+import com.sales.infrastructure.rest.common.ImportReportResponse;
 import com.sales.infrastructure.rest.common.PageResponse;
 import com.sales.infrastructure.rest.product.dto.*;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
@@ -23,13 +33,16 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Path("/api/v1/products")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Produtos", description = "API para gestão de produtos e controle de estoque")
+@RunOnVirtualThread
 public class ProductController {
 
     private static final Logger LOG = Logger.getLogger(ProductController.class);
@@ -39,7 +52,12 @@ public class ProductController {
     @Inject FindProductUseCase findProductUseCase;
     @Inject DeleteProductUseCase deleteProductUseCase;
     @Inject SearchProductsUseCase searchProductsUseCase;
+    @Inject AddProductStockUseCase addProductStockUseCase;
+    @Inject ImportProductsUseCase importProductsUseCase;
     @Inject ProductMapper mapper;
+    @Inject Validator validator;
+
+    private static final String CSV_MEDIA_TYPE = "text/csv";
 
     @POST
     @Operation(
@@ -103,6 +121,42 @@ public class ProductController {
         return Response.status(Response.Status.CREATED).entity(mapper.toResponse(created)).build();
     }
 
+    @POST
+    @Path("/import")
+    @Consumes({CSV_MEDIA_TYPE, MediaType.TEXT_PLAIN})
+    @Operation(
+        summary = "Importar produtos de um arquivo CSV",
+        description = """
+            Cadastra produtos em massa a partir de um CSV (UTF-8, separado por vírgula) com cabeçalho.
+
+            Colunas: code (opcional), name, type, details (opcional), weight, purchasePrice, salePrice,
+            height, width, depth, destinationVehicle (opcional), stockQuantity (opcional).
+
+            - O arquivo é lido aos poucos; as linhas são validadas em paralelo e gravadas em blocos,
+              cada bloco em uma transação
+            - Linhas inválidas, com código já cadastrado ou repetido no arquivo são recusadas
+              sem impedir a gravação das demais
+            - Produtos sem código recebem um gerado automaticamente (PROD0001...)
+            """
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Arquivo processado; consulte os erros por linha",
+            content = @Content(schema = @Schema(implementation = ImportReportResponse.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Arquivo vazio ou sem colunas obrigatórias")
+    })
+    public Response importProducts(InputStream body) {
+        LOG.info("Recebida requisição para importar produtos");
+
+        CsvReader reader = CsvReader.open(body);
+        reader.requireColumns(ProductMapper.IMPORT_REQUIRED_COLUMNS);
+        ImportReport report = importProductsUseCase.execute(new CsvImportLines<>(reader, this::parseImportRecord));
+
+        return Response.ok(new ImportReportResponse(report)).build();
+    }
+
     @PUT
     @Path("/{id}")
     @Operation(
@@ -151,7 +205,7 @@ public class ProductController {
         @QueryParam("filter") String filter,
         @Parameter(description = "Número da página (começa em 0)", example = "0")
         @QueryParam("page") @DefaultValue("0") int page,
-        @Parameter(description = "Tamanho da página", example = "10")
+        @Parameter(description = "Tamanho da página (máximo 100)", example = "10")
         @QueryParam("size") @DefaultValue("10") int size
     ) {
         PageResult<Product> result = searchProductsUseCase.execute(filter, page, size);
@@ -167,6 +221,42 @@ public class ProductController {
         return Response.ok(response).build();
     }
 
+    @GET
+    @Path("/search/cursor")
+    @Operation(
+        summary = "Buscar produtos com paginação por cursor",
+        description = "Mesmo filtro da busca paginada, navegando pelo cursor opaco retornado em nextCursor. Ordenação por nome; a contagem total é opcional"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lista de produtos retornada com sucesso"
+        ),
+        @APIResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public Response searchProductsByCursor(
+        @Parameter(description = "Filtro de busca", example = "Batom")
+        @QueryParam("filter") String filter,
+        @Parameter(description = "Cursor retornado pela página anterior (vazio para a primeira página)")
+        @QueryParam("after") String after,
+        @Parameter(description = "Tamanho da página (máximo 100)", example = "10")
+        @QueryParam("size") @DefaultValue("10") int size,
+        @Parameter(description = "Incluir contagem total de registros", example = "false")
+        @QueryParam("includeTotal") @DefaultValue("false") boolean includeTotal
+    ) {
+        CursorPageResult<Product> result = searchProductsUseCase.execute(filter, after, size, includeTotal);
+        List<ProductResponse> content = result.getContent().stream()
+                .map(mapper::toResponse)
+                .collect(Collectors.toList());
+        CursorPageResponse<ProductResponse> response = new CursorPageResponse<>(
+                content,
+                result.getSize(),
+                result.getNextCursor(),
+                result.getTotalElements()
+        );
+        return Response.ok(response).build();
+    }
+
     @GET
     @Path("/{id}")
     @Operation(
@@ -231,6 +321,33 @@ public class ProductController {
         return Response.ok(response).build();
     }
 
+    @POST
+    @Path("/{id}/stock")
+    @Operation(
+        summary = "Adicionar estoque",
+        description = "Soma a quantidade informada ao estoque do produto (entrada de mercadoria)"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Estoque atualizado",
+            content = @Content(schema = @Schema(implementation = ProductResponse.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Produto não encontrado ou quantidade inválida")
+    })
+    public Response addStock(
+        @Parameter(description = "ID do produto", required = true, example = "1")
+        @PathParam("id") Long id,
+        @Valid StockEntryRequest request
+    ) {
+        LOG.infof("Recebida requisição para adicionar estoque - Produto ID: %d, Quantidade: %d",
+                  id, request.getQuantity());
+
+        Product updated = addProductStockUseCase.execute(id, request.getQuantity());
+
+        return Response.ok(mapper.toResponse(updated)).build();
+    }
+
     @DELETE
     @Path("/{id}")
     @Operation(
@@ -253,4 +370,17 @@ public class ProductController {
 
         return Response.noContent().build();
     }
+
+    // Executado em paralelo pela importação: mesmas validações do cadastro individual
+    private Product parseImportRecord(CsvRecord record) {
+        ProductRequest request = mapper.toRequest(record);
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return mapper.toDomain(request);
+    }
 }
@@ -3,18 +3,25 @@ package com.sales.infrastructure.rest.product.dto;
 import com.sales.domain.product.entity.Product;
 import com.sales.domain.product.valueobject.Dimensions;
 import com.sales.domain.product.valueobject.ProductType;
+import com.sales.infrastructure.rest.common.CsvRecord;
 import jakarta.enterprise.context.ApplicationScoped;
 
+import java.util.List;
+
 @ApplicationScoped
 public class ProductMapper {
 
+    // Colunas da importação CSV: os campos de ProductRequest (code, details, destinationVehicle e stockQuantity são opcionais)
+    public static final List<String> IMPORT_REQUIRED_COLUMNS = List.of(
+            "name", "type", "weight", "purchasePrice", "salePrice", "height", "width", "depth");
+
     public Product toDomain(ProductRequest request) {
         Dimensions dimensions = new Dimensions(
                 request.getHeight(),
                 request.getWidth(),
                 request.getDepth()
         );
-        return new Product(
+        Product product = new Product(
                 request.getCode(),
                 request.getName(),
                 ProductType.fromString(request.getType()),
@@ -25,6 +32,27 @@ public class ProductMapper {
                 dimensions,
                 request.getDestinationVehicle()
         );
+        if (request.getStockQuantity() != null && request.getStockQuantity() > 0) {
+            product.addStock(request.getStockQuantity());
+        }
+        return product;
+    }
+
+    public ProductRequest toRequest(CsvRecord record) {
+        return new ProductRequest(
+                record.get("code"),
+                record.get("name"),
+                record.get("type"),
+                record.get("details"),
+                record.getDecimal("weight"),
+                record.getDecimal("purchasePrice"),
+                record.getDecimal("salePrice"),
+                record.getDecimal("height"),
+                record.getDecimal("width"),
+                record.getDecimal("depth"),
+                record.get("destinationVehicle"),
+                record.getInteger("stockQuantity")
+        );
     }
 
     public ProductResponse toResponse(Product product) {
@@ -51,4 +51,7 @@ public class ProductRequest {
     private BigDecimal depth;
 
     private String destinationVehicle;
+
+    @Min(value = 0, message = "Estoque inicial não pode ser negativo")
+    private Integer stockQuantity;
 }
@@ -10,6 +10,7 @@ import com.sales.infrastructure.rest.report.dto.NewCustomersRequest;
 import com.sales.infrastructure.rest.report.dto.NewCustomersResponse;
 import com.sales.infrastructure.rest.report.dto.OldestProductsResponse;
 import com.sales.infrastructure.rest.report.dto.TopRevenueProductsResponse;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
 import jakarta.validation.Valid;
 import jakarta.ws.rs.*;
@@ -24,6 +25,7 @@ import java.util.Map;
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Relatórios", description = "Endpoints para relatórios gerenciais")
+@RunOnVirtualThread
 public class ReportController {
 
     private final GetMonthlyRevenueUseCase getMonthlyRevenueUseCase;
@@ -1,15 +1,28 @@
 package com.sales.infrastructure.rest.sale.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sales.application.sale.usecase.*;
 import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.valueobject.SaleBatchResult;
+import com.sales.domain.sale.valueobject.SaleSummary;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
+import com.sales.infrastructure.persistence.sale.service.SaleIdempotencyStore;
+import com.sales.infrastructure.rest.common.CursorPageResponse;
 import com.sales.infrastructure.rest.common.PageResponse;
 import com.sales.infrastructure.rest.sale.dto.*;
+import com.sales.infrastructure.rest.sale.export.SaleExportFormat;
+import com.sales.infrastructure.rest.sale.export.SaleExportWriter;
+import io.smallrye.common.annotation.RunOnVirtualThread;
 import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.ws.rs.*;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.jboss.logging.Logger;
 import org.eclipse.microprofile.openapi.annotations.enums.SchemaType;
@@ -21,23 +34,37 @@ import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponses;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Path("/api/v1/sales")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
 @Tag(name = "Vendas", description = "API para registro e consulta de sales")
+@RunOnVirtualThread
 public class SaleController {
 
     private static final Logger LOG = Logger.getLogger(SaleController.class);
 
     @Inject CreateSaleUseCase createSaleUseCase;
+    @Inject CreateSalesBatchUseCase createSalesBatchUseCase;
     @Inject UpdateSaleUseCase updateSaleUseCase;
     @Inject FindSaleUseCase findSaleUseCase;
     @Inject DeleteSaleUseCase deleteSaleUseCase;
     @Inject SearchSalesUseCase searchSalesUseCase;
+    @Inject ExportSalesUseCase exportSalesUseCase;
     @Inject SaleMapper mapper;
+    @Inject Validator validator;
+    @Inject SaleIdempotencyStore idempotencyStore;
+    @Inject ObjectMapper objectMapper;
+
+    private static final int IDEMPOTENCY_KEY_MAX_LENGTH = 100;
 
     @POST
     @Operation(
@@ -50,7 +77,11 @@ public class SaleController {
             - Calcula subtotal, imposto (9%) e total automaticamente
             - Calcula troco para pagamento em dinheiro
             - Suporta múltiplas formas de pagamento (dinheiro ou cartão)
-            - Quantidade de produtos é infinita (sem controle de estoque)
+            - Baixa o estoque dos produtos; venda sem estoque suficiente é recusada
+
+            Retentativas: envie o cabeçalho `Idempotency-Key`. Uma nova requisição com a mesma chave
+            e o mesmo corpo devolve a venda já registrada (cabeçalho `Idempotent-Replayed: true`)
+            sem gravar outra; com corpo diferente, retorna 400.
             """
     )
     @APIResponses({
@@ -121,6 +152,16 @@ public class SaleController {
                           "message": "Produto não encontrado com código: PROD999"
                         }
                         """
+                    ),
+                    @ExampleObject(
+                        name = "Estoque insuficiente",
+                        value = """
+                        {
+                          "status": 400,
+                          "error": "Bad Request",
+                          "message": "Estoque insuficiente para o produto: PROD001"
+                        }
+                        """
                     )
                 }
             )
@@ -151,25 +192,125 @@ public class SaleController {
             }
             """
         )
-        SaleRequest request
+        SaleRequest request,
+        @Parameter(description = "Chave única da tentativa, reutilizada nas retentativas (até 100 caracteres)")
+        @HeaderParam("Idempotency-Key") String idempotencyKey
     ) {
         LOG.infof("Recebida requisição para criar venda - Código: %s, Cliente: %s, Itens: %d",
                   request.getCode(), request.getCustomerCode(), request.getItems().size());
 
+        String requestHash = null;
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            if (idempotencyKey.length() > IDEMPOTENCY_KEY_MAX_LENGTH) {
+                throw new IllegalArgumentException(
+                        "Idempotency-Key deve ter no máximo " + IDEMPOTENCY_KEY_MAX_LENGTH + " caracteres");
+            }
+            requestHash = SaleIdempotencyStore.hash(toJson(request));
+
+            Optional<SaleIdempotencyStore.StoredSaleResponse> stored = idempotencyStore.find(idempotencyKey);
+            if (stored.isPresent()) {
+                if (!stored.get().getRequestHash().equals(requestHash)) {
+                    throw new IllegalArgumentException("Idempotency-Key já utilizada em outra requisição");
+                }
+                LOG.infof("Venda devolvida por Idempotency-Key - Chave: %s", idempotencyKey);
+                return Response.status(Response.Status.CREATED)
+                        .entity(stored.get().getResponseBody())
+                        .header("Idempotent-Replayed", "true")
+                        .build();
+            }
+        }
+
         Sale sale = mapper.toDomain(request);
         Sale created = createSaleUseCase.execute(sale);
 
         LOG.infof("Venda criada via API - ID: %d, Código: %s, Valor: R$ %.2f",
                   created.getId(), created.getCode(), created.getTotalAmount());
 
-        return Response.status(Response.Status.CREATED).entity(mapper.toResponse(created)).build();
+        SaleResponse response = mapper.toResponse(created);
+        if (requestHash != null) {
+            idempotencyStore.save(idempotencyKey, requestHash, created.getId(), toJson(response));
+        }
+
+        return Response.status(Response.Status.CREATED).entity(response).build();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar venda", e);
+        }
+    }
+
+    @POST
+    @Path("/batch")
+    @Operation(
+        summary = "Registrar vendas em lote",
+        description = """
+            Registra várias vendas em uma única requisição (ex.: sincronização de terminais de venda).
+
+            - Cada venda é validada individualmente; vendas inválidas não impedem a gravação das demais
+            - As vendas válidas são gravadas em blocos, cada bloco em uma transação
+            - A resposta traz o resultado de cada venda na mesma ordem do envio
+            """
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lote processado; consulte o status de cada venda",
+            content = @Content(schema = @Schema(implementation = SaleBatchResponse.class))
+        ),
+        @APIResponse(responseCode = "400", description = "Lote vazio ou acima do tamanho máximo")
+    })
+    public Response createBatch(@Valid SaleBatchRequest request) {
+        List<SaleRequest> requests = request.getSales();
+        LOG.infof("Recebida requisição para criar vendas em lote - Vendas: %d", requests.size());
+
+        createSalesBatchUseCase.checkBatchSize(requests.size());
+        mapper.preloadReferences(requests);
+
+        SaleBatchResult[] results = new SaleBatchResult[requests.size()];
+        List<Sale> sales = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            SaleRequest saleRequest = requests.get(i);
+            String code = saleRequest != null ? saleRequest.getCode() : null;
+
+            Set<ConstraintViolation<SaleRequest>> violations = saleRequest != null
+                    ? validator.validate(saleRequest)
+                    : Set.of();
+            if (saleRequest == null || !violations.isEmpty()) {
+                String error = saleRequest == null
+                        ? "Venda não pode ser nula"
+                        : violations.stream().map(ConstraintViolation::getMessage).sorted().collect(Collectors.joining(", "));
+                results[i] = SaleBatchResult.failed(code, error);
+                continue;
+            }
+
+            try {
+                sales.add(mapper.toDomain(saleRequest));
+                indexes.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = SaleBatchResult.failed(code, e.getMessage());
+            }
+        }
+
+        if (!sales.isEmpty()) {
+            List<SaleBatchResult> processed = createSalesBatchUseCase.execute(sales);
+            for (int i = 0; i < processed.size(); i++) {
+                results[indexes.get(i)] = processed.get(i);
+            }
+        }
+
+        return Response.ok(mapper.toBatchResponse(Arrays.asList(results))).build();
     }
 
     @GET
     @Path("/search")
     @Operation(
         summary = "Buscar vendas com paginação",
-        description = "Busca vendas por filtro de texto (código, nome do cliente, código do cliente, nome do vendedor) com paginação"
+        description = "Busca vendas por filtro de texto (código, nome do cliente, código do cliente, nome do vendedor) com paginação. Retorna o resumo de cada venda, sem os itens"
     )
     @APIResponses({
         @APIResponse(
@@ -182,14 +323,14 @@ public class SaleController {
         @QueryParam("filter") String filter,
         @Parameter(description = "Número da página (começa em 0)", example = "0")
         @QueryParam("page") @DefaultValue("0") int page,
-        @Parameter(description = "Tamanho da página", example = "10")
+        @Parameter(description = "Tamanho da página (máximo 100)", example = "10")
         @QueryParam("size") @DefaultValue("10") int size
     ) {
-        PageResult<Sale> result = searchSalesUseCase.execute(filter, page, size);
-        List<SaleResponse> content = result.getContent().stream()
-                .map(mapper::toResponse)
+        PageResult<SaleSummary> result = searchSalesUseCase.execute(filter, page, size);
+        List<SaleSummaryResponse> content = result.getContent().stream()
+                .map(mapper::toSummaryResponse)
                 .collect(Collectors.toList());
-        PageResponse<SaleResponse> response = new PageResponse<>(
+        PageResponse<SaleSummaryResponse> response = new PageResponse<>(
                 content,
                 result.getPage(),
                 result.getSize(),
@@ -198,6 +339,86 @@ public class SaleController {
         return Response.ok(response).build();
     }
 
+    @GET
+    @Path("/search/cursor")
+    @Operation(
+        summary = "Buscar vendas com paginação por cursor",
+        description = "Mesmo filtro da busca paginada, navegando pelo cursor opaco retornado em nextCursor. Ordenação por data de criação (mais recentes primeiro); a contagem total é opcional"
+    )
+    @APIResponses({
+        @APIResponse(
+            responseCode = "200",
+            description = "Lista de vendas retornada com sucesso"
+        ),
+        @APIResponse(responseCode = "400", description = "Cursor inválido")
+    })
+    public Response searchSalesByCursor(
+        @Parameter(description = "Filtro de busca", example = "João")
+        @QueryParam("filter") String filter,
+        @Parameter(description = "Cursor retornado pela página anterior (vazio para a primeira página)")
+        @QueryParam("after") String after,
+        @Parameter(description = "Tamanho da página (máximo 100)", example = "10")
+        @QueryParam("size") @DefaultValue("10") int size,
+        @Parameter(description = "Incluir contagem total de registros", example = "false")
+        @QueryParam("includeTotal") @DefaultValue("false") boolean includeTotal
+    ) {
+        CursorPageResult<SaleSummary> result = searchSalesUseCase.execute(filter, after, size, includeTotal);
+        List<SaleSummaryResponse> content = result.getContent().stream()
+                .map(mapper::toSummaryResponse)
+                .collect(Collectors.toList());
+        CursorPageResponse<SaleSummaryResponse> response = new CursorPageResponse<>(
+                content,
+                result.getSize(),
+                result.getNextCursor(),
+                result.getTotalElements()
+        );
+        return Response.ok(response).build();
+    }
+
+    @GET
+    @Path("/export")
+    @Produces({SaleExportFormat.CSV_MEDIA_TYPE, SaleExportFormat.NDJSON_MEDIA_TYPE})
+    @Operation(
+        summary = "Exportar vendas por período",
+        description = """
+            Exporta as vendas criadas entre as datas informadas (inclusive), uma linha por item, em CSV ou NDJSON.
+
+            As linhas são lidas do banco por cursor e escritas direto na resposta, sem carregar
+            o período inteiro em memória. Dados do cartão não são exportados.
+            """
+    )
+    @APIResponses({
+        @APIResponse(responseCode = "200", description = "Arquivo de exportação transmitido"),
+        @APIResponse(responseCode = "400", description = "Período ou formato inválido")
+    })
+    public Response export(
+        @Parameter(description = "Data inicial (yyyy-MM-dd)", required = true, example = "2024-01-01")
+        @QueryParam("from") String from,
+        @Parameter(description = "Data final, inclusive (yyyy-MM-dd)", required = true, example = "2024-01-31")
+        @QueryParam("to") String to,
+        @Parameter(description = "Formato: csv ou ndjson", example = "csv")
+        @QueryParam("format") @DefaultValue("csv") String format
+    ) {
+        LocalDate start = parseDate(from);
+        LocalDate end = parseDate(to);
+        SaleExportFormat exportFormat = SaleExportFormat.fromString(format);
+        exportSalesUseCase.validateRange(start, end);
+
+        StreamingOutput body = output -> {
+            try (SaleExportWriter writer = new SaleExportWriter(exportFormat, output, objectMapper)) {
+                exportSalesUseCase.execute(start, end, writer::write);
+            } catch (RuntimeException e) {
+                // O status 200 já foi enviado; o cliente recebe o arquivo truncado
+                LOG.errorf(e, "Erro durante exportação de vendas - Período: %s a %s", start, end);
+                throw e;
+            }
+        };
+        String fileName = "vendas_" + start + "_" + end + "." + exportFormat.getExtension();
+        return Response.ok(body, exportFormat.getMediaType())
+                .header("Content-Disposition", "attachment; filename=\"" + fileName + "\"")
+                .build();
+    }
+
     @GET
     @Path("/{id}")
     @Operation(
@@ -241,14 +462,14 @@ public class SaleController {
     @GET
     @Operation(
         summary = "Listar sales",
-        description = "Lista todas as sales ou filtra por código do cliente"
+        description = "Lista o resumo de todas as sales (sem os itens) ou filtra por código do cliente"
     )
     @APIResponses({
         @APIResponse(
             responseCode = "200",
             description = "Lista de sales",
             content = @Content(
-                schema = @Schema(type = SchemaType.ARRAY, implementation = SaleResponse.class)
+                schema = @Schema(type = SchemaType.ARRAY, implementation = SaleSummaryResponse.class)
             )
         )
     })
@@ -256,10 +477,10 @@ public class SaleController {
         @Parameter(description = "Código do cliente para filtrar (opcional)", example = "CUST001")
         @QueryParam("customerCode") String customerCode
     ) {
-        List<Sale> sales = customerCode != null
+        List<SaleSummary> sales = customerCode != null
                 ? findSaleUseCase.findByCustomerCode(customerCode)
                 : findSaleUseCase.findAll();
-        List<SaleResponse> response = sales.stream().map(mapper::toResponse).collect(Collectors.toList());
+        List<SaleSummaryResponse> response = sales.stream().map(mapper::toSummaryResponse).collect(Collectors.toList());
         return Response.ok(response).build();
     }
 
@@ -297,17 +518,7 @@ public class SaleController {
             @Valid UpdateSaleRequest request
     ) {
 
-        List<com.sales.domain.sale.entity.SaleItem> items = request.getItems().stream()
-                .map(itemRequest -> {
-                    var product = mapper.findProductByCode(itemRequest.getProductCode());
-                    return new com.sales.domain.sale.entity.SaleItem(
-                            product.getCode(),
-                            product.getName(),
-                            itemRequest.getQuantity(),
-                            product.getSalePrice()
-                    );
-                })
-                .collect(Collectors.toList());
+        List<com.sales.domain.sale.entity.SaleItem> items = mapper.toItems(request.getItems());
 
         Sale updated = updateSaleUseCase.execute(
                 id,
@@ -331,7 +542,7 @@ public class SaleController {
 
                 IMPORTANTE:
                 - Ao excluir a venda, o registro de produtos e clientes NÃO é afetado
-                - Não há controle de estoque, portanto a quantidade não é devolvida
+                - A quantidade vendida volta ao estoque dos produtos
                 """
     )
     @APIResponses({
@@ -345,4 +556,15 @@ public class SaleController {
         deleteSaleUseCase.execute(id);
         return Response.noContent().build();
     }
+
+    private LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Data inválida: " + value + " (use yyyy-MM-dd)");
+        }
+    }
 }
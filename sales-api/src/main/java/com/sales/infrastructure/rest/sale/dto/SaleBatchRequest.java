@@ -0,0 +1,22 @@
+package com.sales.infrastructure.rest.sale.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleBatchRequest {
+
+    // Cada venda é validada individualmente para que erros sejam reportados por venda
+    @NotNull(message = "Vendas são obrigatórias")
+    @Size(min = 1, message = "Lote deve ter pelo menos uma venda")
+    private List<SaleRequest> sales;
+}
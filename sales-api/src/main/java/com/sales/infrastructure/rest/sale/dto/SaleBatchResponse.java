@@ -0,0 +1,34 @@
+package com.sales.infrastructure.rest.sale.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleBatchResponse {
+
+    private int total;
+    private int created;
+    private int failed;
+    private List<SaleBatchItemResponse> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SaleBatchItemResponse {
+        private int index;
+        private String code;
+        private String status;
+        private Long id;
+        private BigDecimal totalAmount;
+        private String error;
+    }
+}
@@ -1,28 +1,33 @@
 package com.sales.infrastructure.rest.sale.dto;
 
+import com.sales.application.sale.usecase.SaleReferenceResolver;
 import com.sales.domain.customer.entity.Customer;
-import com.sales.domain.customer.port.CustomerRepository;
 import com.sales.domain.product.entity.Product;
-import com.sales.domain.product.port.ProductRepository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SaleBatchResult;
+import com.sales.domain.sale.valueobject.SaleSummary;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class SaleMapper {
 
     @Inject
-    CustomerRepository customerRepository;
-
-    @Inject
-    ProductRepository productRepository;
+    SaleReferenceResolver referenceResolver;
 
     public Sale toDomain(SaleRequest request) {
-        Customer customer = customerRepository.findByCode(request.getCustomerCode())
+        referenceResolver.preload(List.of(request.getCustomerCode()), productCodes(request.getItems()));
+
+        Customer customer = referenceResolver.customer(request.getCustomerCode())
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
 
         Sale sale = new Sale(
@@ -37,7 +42,7 @@ public class SaleMapper {
         );
 
         for (SaleItemRequest itemRequest : request.getItems()) {
-            Product product = productRepository.findByCode(itemRequest.getProductCode())
+            Product product = referenceResolver.product(itemRequest.getProductCode())
                     .orElseThrow(() -> new IllegalArgumentException("Product not found: " + itemRequest.getProductCode()));
 
             SaleItem item = new SaleItem(
@@ -80,8 +85,82 @@ public class SaleMapper {
         return response;
     }
 
+    public SaleSummaryResponse toSummaryResponse(SaleSummary summary) {
+        SaleSummaryResponse response = new SaleSummaryResponse();
+        response.setId(summary.getId());
+        response.setCode(summary.getCode());
+        response.setCustomerCode(summary.getCustomerCode());
+        response.setCustomerName(summary.getCustomerName());
+        response.setSellerCode(summary.getSellerCode());
+        response.setSellerName(summary.getSellerName());
+        response.setPaymentMethod(summary.getPaymentMethod().getDescription());
+        response.setItemCount(summary.getItemCount());
+        response.setTotalAmount(summary.getTotalAmount());
+        response.setCreatedAt(summary.getCreatedAt());
+        return response;
+    }
+
+    public SaleBatchResponse toBatchResponse(List<SaleBatchResult> results) {
+        List<SaleBatchResponse.SaleBatchItemResponse> items = new ArrayList<>(results.size());
+        int created = 0;
+        for (int i = 0; i < results.size(); i++) {
+            SaleBatchResult result = results.get(i);
+            if (result.isSuccess()) {
+                created++;
+                items.add(new SaleBatchResponse.SaleBatchItemResponse(
+                        i, result.getCode(), "CREATED", result.getSale().getId(), result.getSale().getTotalAmount(), null));
+            } else {
+                items.add(new SaleBatchResponse.SaleBatchItemResponse(
+                        i, result.getCode(), "FAILED", null, null, result.getError()));
+            }
+        }
+        return new SaleBatchResponse(results.size(), created, results.size() - created, items);
+    }
+
+    public List<SaleItem> toItems(List<SaleItemRequest> itemRequests) {
+        referenceResolver.preload(List.of(), productCodes(itemRequests));
+
+        return itemRequests.stream()
+                .map(itemRequest -> {
+                    Product product = findProductByCode(itemRequest.getProductCode());
+                    return new SaleItem(
+                            product.getCode(),
+                            product.getName(),
+                            itemRequest.getQuantity(),
+                            product.getSalePrice()
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Resolve de uma vez os clientes e produtos de todas as vendas do lote.
+     */
+    public void preloadReferences(List<SaleRequest> requests) {
+        Set<String> customerCodes = new HashSet<>();
+        Set<String> productCodes = new HashSet<>();
+        for (SaleRequest request : requests) {
+            if (request == null) {
+                continue;
+            }
+            customerCodes.add(request.getCustomerCode());
+            productCodes.addAll(productCodes(request.getItems()));
+        }
+        referenceResolver.preload(customerCodes, productCodes);
+    }
+
     public Product findProductByCode(String productCode) {
-        return productRepository.findByCode(productCode)
+        return referenceResolver.product(productCode)
                 .orElseThrow(() -> new IllegalArgumentException("Produto não encontrado: " + productCode));
     }
+
+    private List<String> productCodes(List<SaleItemRequest> itemRequests) {
+        if (itemRequests == null) {
+            return List.of();
+        }
+        return itemRequests.stream()
+                .filter(Objects::nonNull)
+                .map(SaleItemRequest::getProductCode)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,30 @@
+package com.sales.infrastructure.rest.sale.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SaleSummaryResponse {
+
+    private Long id;
+    private String code;
+    private String customerCode;
+    private String customerName;
+    private String sellerCode;
+    private String sellerName;
+    private String paymentMethod;
+    private Integer itemCount;
+    private BigDecimal totalAmount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime createdAt;
+}
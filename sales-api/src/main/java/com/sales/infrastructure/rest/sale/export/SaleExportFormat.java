@@ -0,0 +1,34 @@
+package com.sales.infrastructure.rest.sale.export;
+
+public enum SaleExportFormat {
+    CSV(SaleExportFormat.CSV_MEDIA_TYPE, "csv"),
+    NDJSON(SaleExportFormat.NDJSON_MEDIA_TYPE, "ndjson");
+
+    public static final String CSV_MEDIA_TYPE = "text/csv";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private final String mediaType;
+    private final String extension;
+
+    SaleExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static SaleExportFormat fromString(String text) {
+        for (SaleExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(text)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação inválido: " + text + " (use csv ou ndjson)");
+    }
+}
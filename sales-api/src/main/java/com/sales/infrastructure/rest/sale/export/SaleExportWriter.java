@@ -0,0 +1,106 @@
+package com.sales.infrastructure.rest.sale.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sales.domain.sale.valueobject.SaleExportLine;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Escreve linhas de exportação direto no corpo da resposta, sem acumulá-las:
+ * somente o buffer de escrita fica em memória.
+ */
+public class SaleExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    static final List<String> COLUMNS = List.of(
+            "saleCode", "createdAt", "customerCode", "customerName", "sellerCode", "sellerName", "paymentMethod",
+            "subtotal", "taxAmount", "totalAmount", "productCode", "productName", "quantity", "unitPrice", "lineTotal");
+
+    private final SaleExportFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    public SaleExportWriter(SaleExportFormat format, OutputStream output, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == SaleExportFormat.CSV) {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+    }
+
+    public void write(SaleExportLine line) {
+        Map<String, Object> values = columns(line);
+        try {
+            if (format == SaleExportFormat.CSV) {
+                writer.write(values.values().stream()
+                        .map(SaleExportWriter::csvField)
+                        .collect(Collectors.joining(",")));
+            } else {
+                writer.write(objectMapper.writeValueAsString(values));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    // Mesma ordem de COLUMNS
+    private static Map<String, Object> columns(SaleExportLine line) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("saleCode", line.getSaleCode());
+        values.put("createdAt", format(line.getCreatedAt()));
+        values.put("customerCode", line.getCustomerCode());
+        values.put("customerName", line.getCustomerName());
+        values.put("sellerCode", line.getSellerCode());
+        values.put("sellerName", line.getSellerName());
+        values.put("paymentMethod", line.getPaymentMethod().name());
+        values.put("subtotal", line.getSubtotal());
+        values.put("taxAmount", line.getTaxAmount());
+        values.put("totalAmount", line.getTotalAmount());
+        values.put("productCode", line.getProductCode());
+        values.put("productName", line.getProductName());
+        values.put("quantity", line.getQuantity());
+        values.put("unitPrice", line.getUnitPrice());
+        values.put("lineTotal", line.getLineTotal());
+        return values;
+    }
+
+    private static String format(LocalDateTime value) {
+        return value != null ? DATE_TIME.format(value) : null;
+    }
+
+    // RFC 4180: aspas apenas quando o valor contém separador, aspas ou quebra de linha
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -3,24 +3,38 @@ package com.sales.infrastructure.security;
 import com.sales.domain.shared.exception.EncryptionException;
 import com.sales.domain.shared.port.EncryptionService;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
 import org.jboss.logging.Logger;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
-import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Implementação de criptografia usando AES-256-GCM.
  *
- * Formato da saída: Base64(IV || ciphertext || auth_tag)
+ * Formato da saída: keyId:Base64(IV || ciphertext || auth_tag)
+ * - keyId: identificador da chave usada ({@code encryption.key.id})
  * - IV: 12 bytes (gerado aleatoriamente por operação)
  * - Tag de autenticação: 128 bits
  * - Algoritmo: AES/GCM/NoPadding
+ *
+ * Sempre criptografa com a chave atual. Descriptografa com qualquer chave do chaveiro
+ * ({@code encryption.key.previous}); valores sem keyId, gravados antes do versionamento,
+ * são testados com a chave atual e depois com as anteriores.
  */
 @ApplicationScoped
 public class AesEncryptionService implements EncryptionService {
@@ -31,12 +45,34 @@ public class AesEncryptionService implements EncryptionService {
     private static final int GCM_IV_LENGTH = 12; // 96 bits
     private static final int GCM_TAG_LENGTH = 128; // 128 bits
     private static final int AES_KEY_SIZE = 256; // 256 bits
+    private static final String DEFAULT_KEY_ID = "v1";
+    private static final Pattern KEY_ID = Pattern.compile("[A-Za-z0-9_]{1,32}");
+
+    // Cipher.getInstance consulta os providers a cada chamada; cada thread reaproveita o seu, reinicializado por operação
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new EncryptionException("Algoritmo de criptografia indisponível: " + ALGORITHM, e);
+        }
+    });
 
+    private final String currentKeyId;
+    private final String currentPrefix;
     private final SecretKey secretKey;
+    // Chave atual primeiro, depois as anteriores na ordem configurada
+    private final Map<String, SecretKey> keyring = new LinkedHashMap<>();
     private final SecureRandom secureRandom;
 
+    public AesEncryptionService(String base64Key) {
+        this(base64Key, DEFAULT_KEY_ID, Optional.empty());
+    }
+
+    @Inject
     public AesEncryptionService(
-            @ConfigProperty(name = "encryption.key.base64") String base64Key) {
+            @ConfigProperty(name = "encryption.key.base64") String base64Key,
+            @ConfigProperty(name = "encryption.key.id", defaultValue = DEFAULT_KEY_ID) String keyId,
+            @ConfigProperty(name = "encryption.key.previous") Optional<List<String>> previousKeys) {
 
         if (base64Key == null || base64Key.isBlank()) {
             throw new EncryptionException(
@@ -44,6 +80,38 @@ public class AesEncryptionService implements EncryptionService {
                 "Configure a variável de ambiente ENCRYPTION_KEY_BASE64");
         }
 
+        this.currentKeyId = validateKeyId(keyId);
+        this.currentPrefix = keyId + ":";
+        this.secretKey = decodeKey(base64Key);
+        this.keyring.put(keyId, secretKey);
+
+        for (String entry : previousKeys.orElse(List.of())) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                throw new EncryptionException(
+                    "Chave anterior inválida em ENCRYPTION_KEY_PREVIOUS: use o formato id:base64");
+            }
+            String previousId = validateKeyId(entry.substring(0, separator).trim());
+            if (keyring.putIfAbsent(previousId, decodeKey(entry.substring(separator + 1).trim())) != null) {
+                throw new EncryptionException("Identificador de chave repetido no chaveiro: " + previousId);
+            }
+        }
+
+        this.secureRandom = new SecureRandom();
+
+        LOG.infof("AesEncryptionService inicializado com chave AES-256 %s (%d chaves no chaveiro)",
+                keyId, keyring.size());
+    }
+
+    private static String validateKeyId(String keyId) {
+        if (keyId == null || !KEY_ID.matcher(keyId).matches()) {
+            throw new EncryptionException(
+                "Identificador de chave inválido: use até 32 letras, dígitos ou _");
+        }
+        return keyId;
+    }
+
+    private static SecretKey decodeKey(String base64Key) {
         try {
             byte[] keyBytes = Base64.getDecoder().decode(base64Key);
 
@@ -53,10 +121,7 @@ public class AesEncryptionService implements EncryptionService {
                     "Tamanho atual: " + (keyBytes.length * 8) + " bits");
             }
 
-            this.secretKey = new SecretKeySpec(keyBytes, "AES");
-            this.secureRandom = new SecureRandom();
-
-            LOG.info("AesEncryptionService inicializado com chave AES-256");
+            return new SecretKeySpec(keyBytes, "AES");
 
         } catch (IllegalArgumentException e) {
             throw new EncryptionException(
@@ -64,79 +129,88 @@ public class AesEncryptionService implements EncryptionService {
         }
     }
 
+    @Override
+    public String currentKeyId() {
+        return currentKeyId;
+    }
+
     @Override
     public String encrypt(String plaintext) {
+        return encrypt(plaintext, CIPHERS.get());
+    }
+
+    @Override
+    public String decrypt(String ciphertext) {
+        return decrypt(ciphertext, CIPHERS.get());
+    }
+
+    @Override
+    public List<String> encryptAll(List<String> plaintexts) {
+        Cipher cipher = CIPHERS.get();
+        List<String> encrypted = new ArrayList<>(plaintexts.size());
+        for (String plaintext : plaintexts) {
+            encrypted.add(encrypt(plaintext, cipher));
+        }
+        return encrypted;
+    }
+
+    @Override
+    public List<String> decryptAll(List<String> ciphertexts) {
+        Cipher cipher = CIPHERS.get();
+        List<String> decrypted = new ArrayList<>(ciphertexts.size());
+        for (String ciphertext : ciphertexts) {
+            decrypted.add(decrypt(ciphertext, cipher));
+        }
+        return decrypted;
+    }
+
+    // Saída montada num único array: IV no início e ciphertext + tag gravados logo depois pelo cipher
+    private String encrypt(String plaintext, Cipher cipher) {
         if (plaintext == null || plaintext.isEmpty()) {
             throw new EncryptionException("Texto para criptografar não pode ser nulo ou vazio");
         }
 
         try {
-            // Gerar IV aleatório
+            byte[] plaintextBytes = plaintext.getBytes(StandardCharsets.UTF_8);
             byte[] iv = new byte[GCM_IV_LENGTH];
             secureRandom.nextBytes(iv);
+            byte[] output = new byte[GCM_IV_LENGTH + plaintextBytes.length + GCM_TAG_LENGTH / 8];
+            System.arraycopy(iv, 0, output, 0, GCM_IV_LENGTH);
 
-            // Configurar cipher
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
-
-            // Criptografar
-            byte[] plaintextBytes = plaintext.getBytes(java.nio.charset.StandardCharsets.UTF_8);
-            byte[] ciphertext = cipher.doFinal(plaintextBytes);
+            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            cipher.doFinal(plaintextBytes, 0, plaintextBytes.length, output, GCM_IV_LENGTH);
 
-            // Combinar IV + ciphertext (que já inclui auth tag)
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + ciphertext.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(ciphertext);
-
-            // Codificar em Base64
-            String encrypted = Base64.getEncoder().encodeToString(byteBuffer.array());
-
-            LOG.debugf("Texto criptografado: %d bytes plaintext -> %d chars Base64",
-                      plaintextBytes.length, encrypted.length());
-
-            return encrypted;
+            return currentPrefix + Base64.getEncoder().encodeToString(output);
 
         } catch (Exception e) {
             throw new EncryptionException("Erro ao criptografar dados", e);
         }
     }
 
-    @Override
-    public String decrypt(String ciphertext) {
+    // IV e ciphertext lidos direto do array decodificado, sem cópias intermediárias
+    private String decrypt(String ciphertext, Cipher cipher) {
         if (ciphertext == null || ciphertext.isEmpty()) {
             throw new EncryptionException("Texto para descriptografar não pode ser nulo ou vazio");
         }
 
         try {
-            // Decodificar Base64
-            byte[] decoded = Base64.getDecoder().decode(ciphertext);
-
-            // Extrair IV e ciphertext
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-
-            byte[] ciphertextBytes = new byte[byteBuffer.remaining()];
-            byteBuffer.get(ciphertextBytes);
-
-            // Configurar cipher
-            Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
-
-            // Descriptografar e verificar autenticidade
-            byte[] plaintextBytes = cipher.doFinal(ciphertextBytes);
-            String plaintext = new String(plaintextBytes, java.nio.charset.StandardCharsets.UTF_8);
-
-            LOG.debugf("Texto descriptografado: %d chars Base64 -> %d bytes plaintext",
-                      ciphertext.length(), plaintextBytes.length);
+            int separator = ciphertext.indexOf(':');
+            if (separator < 0) {
+                return decryptUnversioned(Base64.getDecoder().decode(ciphertext), cipher);
+            }
 
-            return plaintext;
+            String keyId = ciphertext.substring(0, separator);
+            SecretKey key = keyring.get(keyId);
+            if (key == null) {
+                throw new EncryptionException("Chave de criptografia desconhecida: " + keyId);
+            }
+            return decrypt(Base64.getDecoder().decode(ciphertext.substring(separator + 1)), key, cipher);
 
+        } catch (EncryptionException e) {
+            throw e;
         } catch (IllegalArgumentException e) {
             throw new EncryptionException("Dados criptografados inválidos (Base64 malformado)", e);
-        } catch (javax.crypto.AEADBadTagException e) {
+        } catch (AEADBadTagException e) {
             throw new EncryptionException(
                 "Falha na autenticação dos dados. " +
                 "Dados podem ter sido corrompidos ou chave incorreta", e);
@@ -145,6 +219,30 @@ public class AesEncryptionService implements EncryptionService {
         }
     }
 
+    // Valores sem keyId: a tag GCM só confere com a chave que os criptografou
+    private String decryptUnversioned(byte[] decoded, Cipher cipher) throws GeneralSecurityException {
+        AEADBadTagException lastFailure = null;
+        for (SecretKey key : keyring.values()) {
+            try {
+                return decrypt(decoded, key, cipher);
+            } catch (AEADBadTagException e) {
+                lastFailure = e;
+            }
+        }
+        throw lastFailure;
+    }
+
+    private String decrypt(byte[] decoded, SecretKey key, Cipher cipher) throws GeneralSecurityException {
+        if (decoded.length < GCM_IV_LENGTH + GCM_TAG_LENGTH / 8) {
+            throw new EncryptionException("Dados criptografados inválidos (tamanho insuficiente)");
+        }
+
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(GCM_TAG_LENGTH, decoded, 0, GCM_IV_LENGTH));
+        byte[] plaintextBytes = cipher.doFinal(decoded, GCM_IV_LENGTH, decoded.length - GCM_IV_LENGTH);
+
+        return new String(plaintextBytes, StandardCharsets.UTF_8);
+    }
+
     /**
      * Gera uma nova chave AES-256 aleatória.
      * Útil para configuração inicial de ambientes.
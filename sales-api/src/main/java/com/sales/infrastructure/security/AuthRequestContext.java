@@ -0,0 +1,32 @@
+package com.sales.infrastructure.security;
+
+import io.smallrye.jwt.auth.principal.ParseException;
+import jakarta.enterprise.context.RequestScoped;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+/**
+ * Guarda, durante a requisição, o {@link TokenDigest} do bearer token para que filtros
+ * e serviços compartilhem o mesmo hash e claims.
+ */
+@RequestScoped
+public class AuthRequestContext {
+
+    @Inject
+    TokenDigestCache tokenDigestCache;
+
+    @Inject
+    Instance<JsonWebToken> verifiedToken;
+
+    private String token;
+    private TokenDigest digest;
+
+    public TokenDigest digest(String token) throws ParseException {
+        if (digest == null || !token.equals(this.token)) {
+            digest = tokenDigestCache.resolve(token, verifiedToken.isResolvable() ? verifiedToken.get() : null);
+            this.token = token;
+        }
+        return digest;
+    }
+}
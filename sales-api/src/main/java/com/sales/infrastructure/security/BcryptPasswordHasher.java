@@ -0,0 +1,175 @@
+package com.sales.infrastructure.security;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.sales.domain.auth.port.PasswordHasher;
+import com.sales.domain.shared.exception.ServiceBusyException;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BCrypt executado num pool próprio e limitado ({@code auth.password.hash.threads} threads e fila de
+ * {@code auth.password.hash.queue-capacity}). Com o pool cheio a operação é recusada na hora com
+ * {@link ServiceBusyException}, então um pico de logins ocupa no máximo threads + fila workers HTTP.
+ */
+@ApplicationScoped
+public class BcryptPasswordHasher implements PasswordHasher {
+
+    private static final Logger LOG = Logger.getLogger(BcryptPasswordHasher.class);
+    private static final BCrypt.Hasher HASHER = BCrypt.withDefaults();
+    private static final BCrypt.Verifyer VERIFYER = BCrypt.verifyer();
+    private static final String BUSY_MESSAGE = "Serviço de autenticação sobrecarregado, tente novamente em instantes";
+
+    @ConfigProperty(name = "auth.password.bcrypt-cost", defaultValue = "12")
+    int cost;
+
+    @ConfigProperty(name = "auth.password.hash.threads", defaultValue = "2")
+    int threads;
+
+    @ConfigProperty(name = "auth.password.hash.queue-capacity", defaultValue = "32")
+    int queueCapacity;
+
+    @ConfigProperty(name = "auth.password.hash.timeout", defaultValue = "10s")
+    Duration timeout;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        if (cost < 4 || cost > 31) {
+            throw new IllegalStateException("auth.password.bcrypt-cost deve estar entre 4 e 31: " + cost);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String hash(String plainPassword) {
+        return execute(() -> HASHER.hashToString(cost, plainPassword.toCharArray()));
+    }
+
+    @Override
+    public boolean verify(String plainPassword, String hashedPassword) {
+        return execute(() -> VERIFYER.verify(plainPassword.toCharArray(), hashedPassword).verified);
+    }
+
+    // Formato $2a$12$...: o custo são os dois dígitos depois da versão
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        if (hashedPassword == null || hashedPassword.length() < 7 || hashedPassword.charAt(0) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(hashedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            LOG.warnf("Hash de senha recusado: pool saturado (%d na fila)", executor.getQueue().size());
+            throw new ServiceBusyException(BUSY_MESSAGE, e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw new ServiceBusyException(BUSY_MESSAGE, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Erro ao processar hash de senha", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hash de senha interrompido", e);
+        }
+    }
+
+    public HasherStats stats() {
+        return new HasherStats(executor.getActiveCount(), executor.getQueue().size(),
+                executor.getCompletedTaskCount(), rejected.get(), timedOut.get());
+    }
+
+    @Scheduled(every = "${auth.password.hash.stats-interval:5m}")
+    void logStats() {
+        HasherStats stats = stats();
+        if (stats.getCompleted() + stats.getRejected() > 0) {
+            LOG.infof("Pool de hash de senha - Ativas: %d, Na fila: %d, Concluídas: %d, Recusadas: %d, Expiradas: %d",
+                    stats.getActive(), stats.getQueued(), stats.getCompleted(), stats.getRejected(), stats.getTimedOut());
+        }
+    }
+
+    public static class HasherStats {
+        private final int active;
+        private final int queued;
+        private final long completed;
+        private final long rejected;
+        private final long timedOut;
+
+        public HasherStats(int active, int queued, long completed, long rejected, long timedOut) {
+            this.active = active;
+            this.queued = queued;
+            this.completed = completed;
+            this.rejected = rejected;
+            this.timedOut = timedOut;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getQueued() {
+            return queued;
+        }
+
+        public long getCompleted() {
+            return completed;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getTimedOut() {
+            return timedOut;
+        }
+    }
+}
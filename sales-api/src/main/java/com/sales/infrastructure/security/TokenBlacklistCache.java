@@ -0,0 +1,143 @@
+package com.sales.infrastructure.security;
+
+import com.sales.infrastructure.persistence.auth.entity.TokenBlacklistEntity;
+import com.sales.infrastructure.persistence.auth.repository.TokenBlacklistPanacheRepository;
+import io.quarkus.runtime.StartupEvent;
+import io.quarkus.scheduler.Scheduled;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.logging.Logger;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cópia local da blacklist de tokens. O filtro de Bloom responde o caso comum (token não revogado)
+ * sem acesso ao banco; o mapa guarda hash → expiração dos tokens revogados e descarta os expirados.
+ * Revogações feitas em outras instâncias ficam visíveis após o próximo refresh.
+ */
+@ApplicationScoped
+public class TokenBlacklistCache {
+
+    private static final Logger LOG = Logger.getLogger(TokenBlacklistCache.class);
+
+    @Inject
+    TokenBlacklistPanacheRepository blacklistRepository;
+
+    @ConfigProperty(name = "security.token-blacklist.cache.max-entries", defaultValue = "100000")
+    int maxEntries;
+
+    @ConfigProperty(name = "security.token-blacklist.cache.false-positive-rate", defaultValue = "0.01")
+    double falsePositiveRate;
+
+    private volatile Snapshot snapshot;
+
+    void onStartup(@Observes StartupEvent event) {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOG.error("Erro ao carregar blacklist de tokens; consultas irão ao banco até o próximo refresh", e);
+        }
+    }
+
+    @Scheduled(every = "${security.token-blacklist.cache.refresh-interval:30s}", delayed = "${security.token-blacklist.cache.refresh-interval:30s}")
+    void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOG.error("Erro ao atualizar blacklist de tokens em memória", e);
+        }
+    }
+
+    public boolean isBlacklisted(String tokenHash) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return blacklistRepository.isTokenBlacklisted(tokenHash);
+        }
+        if (!current.bloomFilter.mightContain(tokenHash)) {
+            return false;
+        }
+
+        LocalDateTime expiresAt = current.entries.get(tokenHash);
+        if (expiresAt != null) {
+            if (expiresAt.isAfter(LocalDateTime.now())) {
+                return true;
+            }
+            current.entries.remove(tokenHash, expiresAt);
+            return false;
+        }
+
+        // Entradas acima do limite ficam só no filtro de Bloom; confirma no banco
+        return current.overflowed && blacklistRepository.isTokenBlacklisted(tokenHash);
+    }
+
+    public synchronized void add(String tokenHash, LocalDateTime expiresAt) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.put(tokenHash, expiresAt);
+        }
+    }
+
+    public void refresh() {
+        List<TokenBlacklistEntity> active = blacklistRepository.findActive();
+        LocalDateTime now = LocalDateTime.now();
+
+        synchronized (this) {
+            Snapshot fresh = new Snapshot(new TokenHashBloomFilter(maxEntries, falsePositiveRate), maxEntries);
+            for (TokenBlacklistEntity entity : active) {
+                fresh.put(entity.getTokenHash(), entity.getExpiresAt());
+            }
+
+            // Revogações locais ainda não visíveis na consulta acima são preservadas
+            Snapshot previous = snapshot;
+            if (previous != null) {
+                previous.entries.forEach((hash, expiresAt) -> {
+                    if (expiresAt.isAfter(now)) {
+                        fresh.put(hash, expiresAt);
+                    }
+                });
+            }
+            snapshot = fresh;
+        }
+
+        LOG.debugf("Blacklist de tokens em memória atualizada - %d tokens ativos", active.size());
+    }
+
+    public void evictExpired() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            LocalDateTime now = LocalDateTime.now();
+            current.entries.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        }
+    }
+
+    int size() {
+        Snapshot current = snapshot;
+        return current != null ? current.entries.size() : 0;
+    }
+
+    private static final class Snapshot {
+        private final TokenHashBloomFilter bloomFilter;
+        private final Map<String, LocalDateTime> entries = new ConcurrentHashMap<>();
+        private final int maxEntries;
+        private volatile boolean overflowed;
+
+        private Snapshot(TokenHashBloomFilter bloomFilter, int maxEntries) {
+            this.bloomFilter = bloomFilter;
+            this.maxEntries = maxEntries;
+        }
+
+        private void put(String tokenHash, LocalDateTime expiresAt) {
+            bloomFilter.put(tokenHash);
+            if (entries.size() < maxEntries || entries.containsKey(tokenHash)) {
+                entries.put(tokenHash, expiresAt);
+            } else {
+                overflowed = true;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.sales.infrastructure.security;
 
+import io.smallrye.jwt.auth.principal.ParseException;
 import jakarta.annotation.Priority;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.Priorities;
@@ -21,6 +22,9 @@ public class TokenBlacklistFilter implements ContainerRequestFilter {
     @Inject
     UserActivityService userActivityService;
 
+    @Inject
+    AuthRequestContext authRequestContext;
+
     @Override
     public void filter(ContainerRequestContext requestContext) throws IOException {
         String authHeader = requestContext.getHeaderString(HttpHeaders.AUTHORIZATION);
@@ -31,7 +35,19 @@ public class TokenBlacklistFilter implements ContainerRequestFilter {
 
         String token = authHeader.substring(7).trim();
 
-        if (tokenBlacklistService.isBlacklisted(token)) {
+        TokenDigest digest;
+        try {
+            digest = authRequestContext.digest(token);
+        } catch (ParseException e) {
+            requestContext.abortWith(
+                    Response.status(Response.Status.UNAUTHORIZED)
+                            .entity("{\"message\": \"Token inválido ou expirado\"}")
+                            .build()
+            );
+            return;
+        }
+
+        if (tokenBlacklistService.isBlacklisted(digest)) {
             requestContext.abortWith(
                     Response.status(Response.Status.UNAUTHORIZED)
                             .entity("{\"message\": \"Token inválido ou expirado\"}")
@@ -40,7 +56,7 @@ public class TokenBlacklistFilter implements ContainerRequestFilter {
             return;
         }
 
-        if (userActivityService.checkAndInvalidateIfInactive(token)) {
+        if (userActivityService.checkAndInvalidateIfInactive(digest)) {
             requestContext.abortWith(
                     Response.status(Response.Status.UNAUTHORIZED)
                             .entity("{\"message\": \"Sessão expirada por inatividade. Faça login novamente.\"}")
@@ -49,6 +65,6 @@ public class TokenBlacklistFilter implements ContainerRequestFilter {
             return;
         }
 
-        userActivityService.updateActivity(token);
+        userActivityService.updateActivity(digest);
     }
 }
@@ -7,9 +7,6 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -20,13 +17,16 @@ public class TokenBlacklistService {
     @Inject
     TokenBlacklistPanacheRepository blacklistRepository;
 
+    @Inject
+    TokenBlacklistCache blacklistCache;
+
     @Inject
     JWTParser jwtParser;
 
     public void blacklistToken(String token) {
         try {
             JsonWebToken jwt = jwtParser.parse(token);
-            String tokenHash = hashToken(token);
+            String tokenHash = TokenDigestCache.hash(token);
             Long userId = Long.parseLong(jwt.getSubject());
 
             Long expTimestamp = jwt.getExpirationTime();
@@ -36,39 +36,24 @@ public class TokenBlacklistService {
             );
 
             blacklistRepository.addToBlacklist(tokenHash, userId, expiresAt);
+            blacklistCache.add(tokenHash, expiresAt);
         } catch (ParseException e) {
             throw new IllegalArgumentException("Token inválido", e);
         }
     }
 
-    public boolean isBlacklisted(String token) {
-        String tokenHash = hashToken(token);
-        return blacklistRepository.isTokenBlacklisted(tokenHash);
+    public void blacklistToken(TokenDigest digest) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(digest.getExpiresAt(), ZoneId.systemDefault());
+        blacklistRepository.addToBlacklist(digest.getTokenHash(), digest.getUserId(), expiresAt);
+        blacklistCache.add(digest.getTokenHash(), expiresAt);
     }
 
-    public void cleanupExpiredTokens() {
-        blacklistRepository.cleanupExpiredTokens();
+    public boolean isBlacklisted(TokenDigest digest) {
+        return blacklistCache.isBlacklisted(digest.getTokenHash());
     }
 
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Erro ao gerar hash do token", e);
-        }
-    }
-
-    private String bytesToHex(byte[] hash) {
-        StringBuilder hexString = new StringBuilder(2 * hash.length);
-        for (byte b : hash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
-        }
-        return hexString.toString();
+    public void cleanupExpiredTokens() {
+        blacklistRepository.cleanupExpiredTokens();
+        blacklistCache.evictExpired();
     }
 }
@@ -0,0 +1,39 @@
+package com.sales.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Dados derivados de um token já validado: hash SHA-256, subject e expiração.
+ */
+public final class TokenDigest {
+
+    private final String tokenHash;
+    private final String subject;
+    private final Instant expiresAt;
+
+    public TokenDigest(String tokenHash, String subject, Instant expiresAt) {
+        this.tokenHash = tokenHash;
+        this.subject = subject;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getTokenHash() {
+        return tokenHash;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return Long.parseLong(subject);
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -0,0 +1,85 @@
+package com.sales.infrastructure.security;
+
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LRU de tokens recentes → {@link TokenDigest}. Requisições repetidas com o mesmo bearer token
+ * não refazem o hash nem a verificação de assinatura; a entrada é descartada ao expirar.
+ */
+@ApplicationScoped
+public class TokenDigestCache {
+
+    @Inject
+    JWTParser jwtParser;
+
+    @ConfigProperty(name = "security.token-digest.cache.max-entries", defaultValue = "10000")
+    int maxEntries;
+
+    private final Map<String, TokenDigest> digests = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, TokenDigest> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    public TokenDigest resolve(String token) throws ParseException {
+        return resolve(token, null);
+    }
+
+    /**
+     * @param verified token já validado pelo SmallRye JWT nesta requisição, se houver;
+     *                 quando corresponde ao token informado, evita um novo parse
+     */
+    public TokenDigest resolve(String token, JsonWebToken verified) throws ParseException {
+        TokenDigest cached;
+        synchronized (digests) {
+            cached = digests.get(token);
+        }
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            synchronized (digests) {
+                digests.remove(token, cached);
+            }
+        }
+
+        JsonWebToken jwt = verified != null && token.equals(verified.getRawToken())
+                ? verified
+                : jwtParser.parse(token);
+        TokenDigest digest = new TokenDigest(hash(token), jwt.getSubject(), Instant.ofEpochSecond(jwt.getExpirationTime()));
+
+        synchronized (digests) {
+            digests.put(token, digest);
+        }
+        return digest;
+    }
+
+    int size() {
+        synchronized (digests) {
+            return digests.size();
+        }
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Erro ao gerar hash do token", e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.sales.infrastructure.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom para hashes SHA-256 em hexadecimal. Como a entrada já é um digest uniforme,
+ * os índices são derivados diretamente dos seus bits (double hashing), sem novo hash. Valores fora
+ * desse formato (linhas antigas ou gravadas à mão) passam por SHA-256 antes, em vez de derrubar a carga.
+ */
+class TokenHashBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    TokenHashBloomFilter(int expectedEntries, double falsePositiveRate) {
+        int entries = Math.max(expectedEntries, 1);
+        long optimalBits = (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+    }
+
+    void put(String tokenHash) {
+        String digest = digestOf(tokenHash);
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String tokenHash) {
+        String digest = digestOf(tokenHash);
+        long h1 = Long.parseUnsignedLong(digest, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(digest, 16, 32, 16);
+        for (int i = 0; i < hashFunctions; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String digestOf(String tokenHash) {
+        if (tokenHash.length() != 64) {
+            return TokenDigestCache.hash(tokenHash);
+        }
+        for (int i = 0; i < 32; i++) {
+            if (Character.digit(tokenHash.charAt(i), 16) < 0) {
+                return TokenDigestCache.hash(tokenHash);
+            }
+        }
+        return tokenHash;
+    }
+}
@@ -2,20 +2,22 @@ package com.sales.infrastructure.security;
 
 import com.sales.infrastructure.persistence.auth.entity.UserActivityEntity;
 import com.sales.infrastructure.persistence.auth.repository.UserActivityPanacheRepository;
-import io.smallrye.jwt.auth.principal.JWTParser;
-import io.smallrye.jwt.auth.principal.ParseException;
+import io.quarkus.runtime.ShutdownEvent;
+import io.quarkus.scheduler.Scheduled;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 import org.eclipse.microprofile.config.inject.ConfigProperty;
-import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @ApplicationScoped
 public class UserActivityService {
@@ -25,83 +27,184 @@ public class UserActivityService {
     @Inject
     UserActivityPanacheRepository activityRepository;
 
-    @Inject
-    JWTParser jwtParser;
-
     @Inject
     TokenBlacklistService tokenBlacklistService;
 
     @ConfigProperty(name = "jwt.inactivity.timeout.minutes", defaultValue = "15")
     Long inactivityTimeoutMinutes;
 
-    public boolean checkAndInvalidateIfInactive(String token) {
-        String tokenHash = hashToken(token);
-        Optional<UserActivityEntity> activity = activityRepository.findByTokenHash(tokenHash);
+    // Último acesso por hash de token; gravado no banco pelo flush periódico
+    private final Map<String, ActivityEntry> activities = new ConcurrentHashMap<>();
+
+    public boolean checkAndInvalidateIfInactive(TokenDigest digest) {
+        return checkAndInvalidateIfInactive(digest.getTokenHash(), () -> tokenBlacklistService.blacklistToken(digest));
+    }
 
-        // If there is no activity record yet, we can't consider it inactive.
-        // The request filter calls updateActivity(token) afterwards to create/update the record.
-        if (activity.isEmpty()) {
+    private boolean checkAndInvalidateIfInactive(String tokenHash, Runnable blacklist) {
+        ActivityEntry entry = activities.get(tokenHash);
+
+        if (entry == null) {
+            // Primeira requisição do token nesta instância: carrega o último acesso conhecido do banco
+            Optional<UserActivityEntity> activity = activityRepository.findByTokenHash(tokenHash);
+
+            // If there is no activity record yet, we can't consider it inactive.
+            // The request filter calls updateActivity(digest) afterwards to create/update the record.
+            if (activity.isEmpty()) {
+                return false;
+            }
+
+            UserActivityEntity activityEntity = activity.get();
+            if (isInactive(activityEntity.getLastActivityAt())) {
+                return invalidate(tokenHash, blacklist, activityEntity.getLastActivityAt(), activityEntity.getUserId());
+            }
+
+            activities.putIfAbsent(tokenHash, ActivityEntry.persisted(activityEntity.getUserId(), activityEntity.getLastActivityAt()));
             return false;
         }
 
-        UserActivityEntity activityEntity = activity.get();
-        LocalDateTime lastActivity = activityEntity.getLastActivityAt();
-        LocalDateTime now = LocalDateTime.now();
-        Duration inactivityDuration = Duration.between(lastActivity, now);
-
-        if (inactivityDuration.toMinutes() >= inactivityTimeoutMinutes) {
-            LOG.infof("Token inativo há %d minutos. Invalidando token do usuário %d",
-                    inactivityDuration.toMinutes(), activityEntity.getUserId());
+        if (!isInactive(entry.lastSeen)) {
+            return false;
+        }
 
-            tokenBlacklistService.blacklistToken(token);
-            activityRepository.deleteByTokenHash(tokenHash);
-            return true;
+        // Outra instância pode ter atendido o token; confirma no banco antes de invalidar
+        Optional<UserActivityEntity> persisted = activityRepository.findByTokenHash(tokenHash);
+        if (persisted.isPresent() && !isInactive(persisted.get().getLastActivityAt())) {
+            entry.markPersisted(persisted.get().getLastActivityAt());
+            return false;
         }
 
-        return false;
+        activities.remove(tokenHash, entry);
+        return invalidate(tokenHash, blacklist, entry.lastSeen, entry.userId);
     }
 
-    public void updateActivity(String token) {
+    public void updateActivity(TokenDigest digest) {
         try {
-            JsonWebToken jwt = jwtParser.parse(token);
-            Long userId = Long.parseLong(jwt.getSubject());
-            String tokenHash = hashToken(token);
-            activityRepository.updateActivity(tokenHash, userId);
-        } catch (ParseException | RuntimeException e) {
+            if (!touch(digest.getTokenHash())) {
+                register(digest.getTokenHash(), digest.getUserId());
+            }
+        } catch (RuntimeException e) {
             LOG.error("Erro ao atualizar atividade do usuário", e);
         }
     }
 
+    private boolean touch(String tokenHash) {
+        ActivityEntry entry = activities.get(tokenHash);
+        if (entry == null) {
+            return false;
+        }
+        entry.touch(LocalDateTime.now());
+        return true;
+    }
+
+    private void register(String tokenHash, Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        activities.merge(tokenHash, ActivityEntry.pending(userId, now), (existing, created) -> {
+            existing.touch(now);
+            return existing;
+        });
+    }
+
     public void removeActivity(String token) {
-        String tokenHash = hashToken(token);
+        String tokenHash = TokenDigestCache.hash(token);
+        activities.remove(tokenHash);
         activityRepository.deleteByTokenHash(tokenHash);
     }
 
+    /**
+     * Grava no banco, em lote, os acessos acumulados desde o último flush e descarta da memória
+     * os tokens já gravados e ociosos além do timeout de inatividade.
+     */
+    @Scheduled(every = "${jwt.activity.flush-interval:30s}", concurrentExecution = Scheduled.ConcurrentExecution.SKIP)
+    void flushActivity() {
+        try {
+            LocalDateTime idleCutoff = LocalDateTime.now().minusMinutes(inactivityTimeoutMinutes);
+            Map<ActivityEntry, LocalDateTime> flushed = new HashMap<>();
+            List<UserActivityEntity> pending = new ArrayList<>();
+
+            activities.forEach((tokenHash, entry) -> {
+                LocalDateTime lastSeen = entry.lastSeen;
+                if (entry.isDirty()) {
+                    UserActivityEntity activity = new UserActivityEntity();
+                    activity.setTokenHash(tokenHash);
+                    activity.setUserId(entry.userId);
+                    activity.setLastActivityAt(lastSeen);
+                    pending.add(activity);
+                    flushed.put(entry, lastSeen);
+                } else if (lastSeen.isBefore(idleCutoff)) {
+                    activities.remove(tokenHash, entry);
+                }
+            });
+
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            activityRepository.upsertActivities(pending);
+            flushed.forEach(ActivityEntry::markPersisted);
+            LOG.debugf("Atividades de usuários gravadas - %d tokens", pending.size());
+        } catch (Exception e) {
+            LOG.error("Erro ao gravar atividades de usuários", e);
+        }
+    }
+
+    void onShutdown(@Observes ShutdownEvent event) {
+        flushActivity();
+    }
+
     public void cleanupOldActivities() {
         LocalDateTime cutoffDate = LocalDateTime.now().minusHours(24);
         activityRepository.cleanupOldActivities(cutoffDate);
         LOG.info("Limpeza de atividades antigas concluída");
     }
 
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            return bytesToHex(hash);
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("Erro ao gerar hash do token", e);
-        }
+    private boolean isInactive(LocalDateTime lastActivity) {
+        return Duration.between(lastActivity, LocalDateTime.now()).toMinutes() >= inactivityTimeoutMinutes;
+    }
+
+    private boolean invalidate(String tokenHash, Runnable blacklist, LocalDateTime lastActivity, Long userId) {
+        LOG.infof("Token inativo há %d minutos. Invalidando token do usuário %d",
+                Duration.between(lastActivity, LocalDateTime.now()).toMinutes(), userId);
+
+        blacklist.run();
+        activityRepository.deleteByTokenHash(tokenHash);
+        return true;
     }
 
-    private String bytesToHex(byte[] hash) {
-        StringBuilder hexString = new StringBuilder(2 * hash.length);
-        for (byte b : hash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
+    private static final class ActivityEntry {
+        private final Long userId;
+        private volatile LocalDateTime lastSeen;
+        private volatile LocalDateTime persistedAt;
+
+        private ActivityEntry(Long userId, LocalDateTime lastSeen, LocalDateTime persistedAt) {
+            this.userId = userId;
+            this.lastSeen = lastSeen;
+            this.persistedAt = persistedAt;
+        }
+
+        static ActivityEntry pending(Long userId, LocalDateTime lastSeen) {
+            return new ActivityEntry(userId, lastSeen, null);
+        }
+
+        static ActivityEntry persisted(Long userId, LocalDateTime lastSeen) {
+            return new ActivityEntry(userId, lastSeen, lastSeen);
+        }
+
+        synchronized void touch(LocalDateTime seenAt) {
+            if (seenAt.isAfter(lastSeen)) {
+                lastSeen = seenAt;
+            }
+        }
+
+        synchronized void markPersisted(LocalDateTime value) {
+            touch(value);
+            if (persistedAt == null || value.isAfter(persistedAt)) {
+                persistedAt = value;
             }
-            hexString.append(hex);
         }
-        return hexString.toString();
+
+        boolean isDirty() {
+            LocalDateTime persisted = persistedAt;
+            return persisted == null || lastSeen.isAfter(persisted);
+        }
     }
 }
@@ -0,0 +1,41 @@
+-- Tabela de agregados diários de vendas (dashboard e relatórios)
+CREATE TABLE sales_daily_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    sale_date DATE NOT NULL,
+    payment_method VARCHAR(50) NOT NULL,
+    sales_count BIGINT NOT NULL,
+    item_count BIGINT NOT NULL,
+    subtotal NUMERIC(14, 2) NOT NULL,
+    tax_amount NUMERIC(14, 2) NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_sales_daily_rollup_date_payment UNIQUE (sale_date, payment_method)
+);
+
+-- Carga inicial a partir das vendas existentes
+INSERT INTO sales_daily_rollup (sale_date, payment_method, sales_count, item_count, subtotal, tax_amount, updated_at)
+SELECT
+    CAST(t.created_at AS DATE),
+    t.payment_method,
+    COUNT(*),
+    SUM(t.item_count),
+    SUM(t.subtotal),
+    SUM(ROUND(t.subtotal * 0.09, 2)),
+    NOW()
+FROM (
+    SELECT s.id, s.created_at, s.payment_method,
+           COALESCE(SUM(si.quantity), 0) AS item_count,
+           COALESCE(SUM(si.quantity * si.unit_price), 0) AS subtotal
+    FROM sales s
+    LEFT JOIN sale_items si ON si.sale_id = s.id
+    GROUP BY s.id, s.created_at, s.payment_method
+) t
+GROUP BY CAST(t.created_at AS DATE), t.payment_method;
+
+-- Comentários
+COMMENT ON TABLE sales_daily_rollup IS 'Totais diários de vendas por forma de pagamento, mantidos incrementalmente';
+COMMENT ON COLUMN sales_daily_rollup.sale_date IS 'Dia da venda';
+COMMENT ON COLUMN sales_daily_rollup.payment_method IS 'Forma de pagamento';
+COMMENT ON COLUMN sales_daily_rollup.sales_count IS 'Quantidade de vendas no dia';
+COMMENT ON COLUMN sales_daily_rollup.item_count IS 'Quantidade de unidades vendidas no dia';
+COMMENT ON COLUMN sales_daily_rollup.subtotal IS 'Soma dos subtotais das vendas';
+COMMENT ON COLUMN sales_daily_rollup.tax_amount IS 'Soma dos impostos das vendas (arredondados por venda)';
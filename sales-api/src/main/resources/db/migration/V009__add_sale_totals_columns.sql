@@ -0,0 +1,23 @@
+-- Totais da venda persistidos no momento da gravação
+ALTER TABLE sales ADD COLUMN subtotal NUMERIC(12, 2);
+ALTER TABLE sales ADD COLUMN tax_amount NUMERIC(12, 2);
+ALTER TABLE sales ADD COLUMN total_amount NUMERIC(12, 2);
+
+-- Preenchimento das vendas existentes (imposto arredondado por venda)
+UPDATE sales SET subtotal = (
+    SELECT COALESCE(SUM(si.quantity * si.unit_price), 0)
+    FROM sale_items si
+    WHERE si.sale_id = sales.id
+);
+
+UPDATE sales
+SET tax_amount = ROUND(subtotal * 0.09, 2),
+    total_amount = subtotal + ROUND(subtotal * 0.09, 2);
+
+-- Índice parcial para o job de preenchimento localizar vendas pendentes
+CREATE INDEX idx_sales_totals_pending ON sales(id) WHERE subtotal IS NULL;
+
+-- Comentários
+COMMENT ON COLUMN sales.subtotal IS 'Soma de quantidade x preço unitário dos itens';
+COMMENT ON COLUMN sales.tax_amount IS 'Imposto da venda (9%, arredondado)';
+COMMENT ON COLUMN sales.total_amount IS 'Subtotal + imposto';
@@ -0,0 +1,4 @@
+-- Índices compostos para paginação por cursor (ordenação + id como desempate)
+CREATE INDEX idx_sales_created_at_id ON sales(created_at DESC, id DESC);
+CREATE INDEX idx_customers_full_name_id ON customers(full_name, id);
+CREATE INDEX idx_products_name_id ON products(name, id);
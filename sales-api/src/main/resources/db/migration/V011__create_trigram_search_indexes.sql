@@ -0,0 +1,8 @@
+-- Busca textual indexada (substring) com pg_trgm
+-- A aplicação também garante estes objetos na inicialização (app.search.trigram-indexes.enabled)
+-- As expressões devem ser idênticas às de SearchDocuments para que o índice seja utilizado
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_customers_search_trgm ON customers USING GIN ((LOWER(COALESCE(full_name, '') || ' ' || COALESCE(email, '') || ' ' || COALESCE(code, '') || ' ' || COALESCE(cpf, '') || ' ' || COALESCE(cell_phone, ''))) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_products_search_trgm ON products USING GIN ((LOWER(COALESCE(name, '') || ' ' || COALESCE(code, '') || ' ' || COALESCE(details, '') || ' ' || COALESCE(type, ''))) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_sales_search_trgm ON sales USING GIN ((LOWER(COALESCE(code, '') || ' ' || COALESCE(customer_name, '') || ' ' || COALESCE(customer_code, '') || ' ' || COALESCE(seller_name, ''))) gin_trgm_ops);
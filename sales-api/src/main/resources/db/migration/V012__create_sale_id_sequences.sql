@@ -0,0 +1,10 @@
+-- Sequências com alocação em blocos de 50 para vendas e itens (permite INSERTs em lote no Hibernate)
+-- A aplicação também alinha as sequências ao maior id existente na inicialização (IdSequenceInitializer)
+CREATE SEQUENCE IF NOT EXISTS sales_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS sale_items_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('sales_seq', (SELECT COALESCE(MAX(id), 0) FROM sales) + 50)
+WHERE (SELECT last_value FROM sales_seq) < (SELECT COALESCE(MAX(id), 0) FROM sales);
+
+SELECT setval('sale_items_seq', (SELECT COALESCE(MAX(id), 0) FROM sale_items) + 50)
+WHERE (SELECT last_value FROM sale_items_seq) < (SELECT COALESCE(MAX(id), 0) FROM sale_items);
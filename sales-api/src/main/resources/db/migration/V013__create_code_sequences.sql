@@ -0,0 +1,12 @@
+-- Sequências dos códigos de clientes (CUST0001) e produtos (PROD0001), reservados em blocos de 50 por instância
+-- A aplicação cria as sequências e as posiciona após o maior código existente na inicialização (CodeAllocator)
+CREATE SEQUENCE IF NOT EXISTS customer_code_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS product_code_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('customer_code_seq', (
+    SELECT COALESCE(MAX(CAST(SUBSTRING(code FROM 5) AS BIGINT)), 0) + 1 FROM customers WHERE code ~ '^CUST[0-9]+$'
+), false);
+
+SELECT setval('product_code_seq', (
+    SELECT COALESCE(MAX(CAST(SUBSTRING(code FROM 5) AS BIGINT)), 0) + 1 FROM products WHERE code ~ '^PROD[0-9]+$'
+), false);
@@ -0,0 +1,11 @@
+-- Respostas de criação de venda por Idempotency-Key, reaproveitadas em retentativas até expirar
+CREATE TABLE IF NOT EXISTS sale_idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    sale_id BIGINT NOT NULL,
+    response_body TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_sale_idempotency_expires_at ON sale_idempotency_keys (expires_at);
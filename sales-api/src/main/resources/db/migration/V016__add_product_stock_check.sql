@@ -0,0 +1,2 @@
+-- Baixas de estoque são UPDATEs condicionais (stock_quantity >= quantidade); a restrição protege contra gravações diretas
+ALTER TABLE products ADD CONSTRAINT chk_products_stock_non_negative CHECK (stock_quantity >= 0);
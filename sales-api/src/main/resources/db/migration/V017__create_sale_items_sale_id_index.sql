@@ -0,0 +1,2 @@
+-- Resumos de venda contam os itens e buscam o primeiro produto por subconsulta em sale_items(sale_id)
+CREATE INDEX IF NOT EXISTS idx_sale_items_sale_id_id ON sale_items (sale_id, id);
@@ -0,0 +1,5 @@
+-- Últimos quatro dígitos do cartão, gravados em claro para que a leitura de vendas não precise descriptografar
+ALTER TABLE sales ADD COLUMN IF NOT EXISTS card_last4 VARCHAR(4);
+
+-- Vendas antigas são preenchidas pelo SaleCardLastFourBackfillJob, que tem acesso à chave de criptografia
+CREATE INDEX IF NOT EXISTS idx_sales_card_last4_pending ON sales (id) WHERE card_number IS NOT NULL AND card_last4 IS NULL;
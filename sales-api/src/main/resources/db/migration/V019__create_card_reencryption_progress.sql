@@ -0,0 +1,6 @@
+-- Ponto da varredura da recriptografia de cartões por chave de destino, para retomar após reinicialização
+CREATE TABLE IF NOT EXISTS card_reencryption_progress (
+    key_id VARCHAR(32) PRIMARY KEY,
+    last_id BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -6,6 +6,7 @@ import com.sales.domain.auth.port.TokenService;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,7 +44,7 @@ class ForgotPasswordUseCaseTest {
     @BeforeEach
     void setUp() {
         Email email = new Email(userEmail);
-        Password password = Password.fromPlainText("Test@123");
+        Password password = Password.fromPlainText("Test@123", TestPasswordHasher.INSTANCE);
         validUser = new User("CUST001", email, password);
     }
 
@@ -4,6 +4,7 @@ import com.sales.domain.auth.entity.User;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,7 +35,7 @@ class GetAuthenticatedUserUseCaseTest {
     @BeforeEach
     void setUp() {
         Email email = new Email("john.silva@email.com");
-        Password password = Password.fromPlainText("Test@123");
+        Password password = Password.fromPlainText("Test@123", TestPasswordHasher.INSTANCE);
         validUser = new User("CUST001", email, password);
     }
 
@@ -1,16 +1,20 @@
 package com.sales.application.auth.usecase;
 
 import com.sales.domain.auth.entity.User;
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.port.TokenService;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
+import com.sales.domain.shared.exception.ServiceBusyException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
@@ -18,6 +22,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +35,9 @@ class LoginUseCaseTest {
     @Mock
     private TokenService tokenService;
 
+    @Spy
+    private PasswordHasher passwordHasher = TestPasswordHasher.INSTANCE;
+
     @InjectMocks
     private LoginUseCase loginUseCase;
 
@@ -40,7 +48,7 @@ class LoginUseCaseTest {
     @BeforeEach
     void setUp() {
         validEmail = new Email("john.silva@email.com");
-        Password password = Password.fromPlainText(validPassword);
+        Password password = Password.fromPlainText(validPassword, TestPasswordHasher.INSTANCE);
         validUser = new User("CUST001", validEmail, password);
     }
 
@@ -115,4 +123,46 @@ class LoginUseCaseTest {
 
         verify(userRepository).findByEmail(any(Email.class));
     }
+
+    @Test
+    @DisplayName("Should upgrade password hash when stored cost is below current")
+    void shouldUpgradePasswordHashWhenCostIsBelowCurrent() {
+        User storedUser = new User(1L, "CUST001", validEmail, validUser.getPassword(), true, null, null, null);
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(storedUser));
+        when(tokenService.generateAccessToken(storedUser)).thenReturn("jwt.token.here");
+        doReturn(true).when(passwordHasher).needsRehash(anyString());
+        doReturn("$2a$12$rehashed").when(passwordHasher).hash(validPassword);
+
+        loginUseCase.execute("john.silva@email.com", validPassword);
+
+        verify(userRepository).updatePassword(1L, Password.fromHash("$2a$12$rehashed"));
+        assertThat(storedUser.getPassword().getHashedValue()).isEqualTo("$2a$12$rehashed");
+    }
+
+    @Test
+    @DisplayName("Should login even when password hash upgrade fails")
+    void shouldLoginWhenHashUpgradeFails() {
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(validUser));
+        when(tokenService.generateAccessToken(validUser)).thenReturn("jwt.token.here");
+        doReturn(true).when(passwordHasher).needsRehash(anyString());
+        doThrow(new ServiceBusyException("Serviço de autenticação sobrecarregado")).when(passwordHasher).hash(validPassword);
+
+        String token = loginUseCase.execute("john.silva@email.com", validPassword);
+
+        assertThat(token).isEqualTo("jwt.token.here");
+        verify(userRepository, never()).updatePassword(any(), any(Password.class));
+    }
+
+    @Test
+    @DisplayName("Should propagate busy hasher as service busy")
+    void shouldPropagateBusyHasher() {
+        when(userRepository.findByEmail(any(Email.class))).thenReturn(Optional.of(validUser));
+        doThrow(new ServiceBusyException("Serviço de autenticação sobrecarregado"))
+                .when(passwordHasher).verify(anyString(), anyString());
+
+        assertThatThrownBy(() -> loginUseCase.execute("john.silva@email.com", validPassword))
+                .isInstanceOf(ServiceBusyException.class);
+
+        verify(tokenService, never()).generateAccessToken(any(User.class));
+    }
 }
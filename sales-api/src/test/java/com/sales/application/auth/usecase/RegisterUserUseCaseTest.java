@@ -2,8 +2,10 @@ package com.sales.application.auth.usecase;
 
 import com.sales.domain.auth.entity.User;
 import com.sales.domain.auth.port.EmailService;
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Email;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import com.sales.domain.customer.entity.Customer;
 import com.sales.domain.customer.port.CustomerRepository;
 import com.sales.domain.customer.valueobject.Address;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -38,6 +41,9 @@ class RegisterUserUseCaseTest {
     @Mock
     private EmailService emailService;
 
+    @Spy
+    private PasswordHasher passwordHasher = TestPasswordHasher.INSTANCE;
+
     @InjectMocks
     private RegisterUserUseCase registerUserUseCase;
 
@@ -1,15 +1,18 @@
 package com.sales.application.auth.usecase;
 
 import com.sales.domain.auth.entity.User;
+import com.sales.domain.auth.port.PasswordHasher;
 import com.sales.domain.auth.port.UserRepository;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -27,6 +30,9 @@ class ResetPasswordUseCaseTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private PasswordHasher passwordHasher = TestPasswordHasher.INSTANCE;
+
     @InjectMocks
     private ResetPasswordUseCase resetPasswordUseCase;
 
@@ -37,7 +43,7 @@ class ResetPasswordUseCaseTest {
     @BeforeEach
     void setUp() {
         Email email = new Email("john.silva@email.com");
-        Password password = Password.fromPlainText("OldPassword@123");
+        Password password = Password.fromPlainText("OldPassword@123", TestPasswordHasher.INSTANCE);
         validUser = new User("CUST001", email, password);
         validUser.generateResetPasswordToken(validResetToken, LocalDateTime.now().plusHours(1));
     }
@@ -50,7 +56,7 @@ class ResetPasswordUseCaseTest {
 
         resetPasswordUseCase.execute(validResetToken, newPassword);
 
-        assertThat(validUser.authenticate(newPassword)).isTrue();
+        assertThat(validUser.authenticate(newPassword, TestPasswordHasher.INSTANCE)).isTrue();
         assertThat(validUser.getResetPasswordToken()).isNull();
         assertThat(validUser.getResetPasswordTokenExpiresAt()).isNull();
 
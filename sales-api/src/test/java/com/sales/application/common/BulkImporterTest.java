@@ -0,0 +1,108 @@
+package com.sales.application.common;
+
+import com.sales.domain.shared.ImportReport;
+import com.sales.domain.shared.ImportReport.LineError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkImporterTest {
+
+    private BulkImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new BulkImporter();
+        importer.chunkSize = 2;
+        importer.parallelism = 2;
+        importer.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        importer.shutdown();
+    }
+
+    @Test
+    void shouldWriteAcceptedLinesInChunks() {
+        RecordingTarget target = new RecordingTarget();
+
+        ImportReport report = importer.run(lines("a", "b", "c", "d", "e"), target);
+
+        assertThat(report.getTotalLines()).isEqualTo(5);
+        assertThat(report.getImported()).isEqualTo(5);
+        assertThat(report.getErrors()).isEmpty();
+        assertThat(target.chunks).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e"));
+    }
+
+    @Test
+    void shouldReportParseFailuresAndRejectionsByLine() {
+        RecordingTarget target = new RecordingTarget();
+        target.rejected = "dup";
+
+        ImportReport report = importer.run(lines("a", "!Nome obrigatório", "dup", "b"), target);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(LineError::getLine).containsExactly(3L, 4L);
+        assertThat(report.getErrors()).extracting(LineError::getMessage)
+                .containsExactly("Nome obrigatório", "Registro recusado: dup");
+        assertThat(target.chunks).containsExactly(List.of("a"), List.of("b"));
+    }
+
+    @Test
+    void shouldFailWholeChunkWhenWriteFails() {
+        RecordingTarget target = new RecordingTarget();
+        target.failingChunk = 1;
+
+        ImportReport report = importer.run(lines("a", "b", "c", "d"), target);
+
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(LineError::getLine).containsExactly(4L, 5L);
+        assertThat(report.getErrors()).extracting(LineError::getMessage)
+                .containsOnly("Erro ao gravar linha: bloco revertido");
+    }
+
+    // Linha 1 é o cabeçalho; valores iniciados por "!" falham na conversão
+    private static Iterator<ImportLine<String>> lines(String... values) {
+        return IntStream.range(0, values.length)
+                .mapToObj(i -> new ImportLine<>(i + 2L, () -> {
+                    if (values[i].startsWith("!")) {
+                        throw new IllegalArgumentException(values[i].substring(1));
+                    }
+                    return values[i];
+                }))
+                .iterator();
+    }
+
+    private static final class RecordingTarget implements ImportTarget<String> {
+        private final List<List<String>> chunks = new ArrayList<>();
+        private String rejected;
+        private int failingChunk = -1;
+        private int written;
+
+        @Override
+        public void prepare(List<String> chunk) {
+        }
+
+        @Override
+        public String reject(String item) {
+            return item.equals(rejected) ? "Registro recusado: " + item : null;
+        }
+
+        @Override
+        public void write(List<String> accepted) {
+            if (written++ == failingChunk) {
+                throw new IllegalStateException("falha");
+            }
+            chunks.add(List.copyOf(accepted));
+        }
+    }
+}
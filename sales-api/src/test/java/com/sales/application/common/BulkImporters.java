@@ -0,0 +1,22 @@
+package com.sales.application.common;
+
+/**
+ * Cria {@link BulkImporter} fora do contêiner para testes de casos de uso.
+ */
+public final class BulkImporters {
+
+    private BulkImporters() {
+    }
+
+    public static BulkImporter create(int chunkSize, int parallelism) {
+        BulkImporter importer = new BulkImporter();
+        importer.chunkSize = chunkSize;
+        importer.parallelism = parallelism;
+        importer.init();
+        return importer;
+    }
+
+    public static void shutdown(BulkImporter importer) {
+        importer.shutdown();
+    }
+}
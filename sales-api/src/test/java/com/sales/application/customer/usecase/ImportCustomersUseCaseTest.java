@@ -0,0 +1,102 @@
+package com.sales.application.customer.usecase;
+
+import com.sales.application.common.BulkImporter;
+import com.sales.application.common.BulkImporters;
+import com.sales.application.common.ImportLine;
+import com.sales.domain.customer.entity.Customer;
+import com.sales.domain.customer.port.CustomerRepository;
+import com.sales.domain.customer.valueobject.Address;
+import com.sales.domain.customer.valueobject.Document;
+import com.sales.domain.shared.ImportReport;
+import com.sales.domain.shared.ImportReport.LineError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ImportCustomersUseCaseTest {
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    private BulkImporter bulkImporter;
+    private ImportCustomersUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bulkImporter = BulkImporters.create(500, 2);
+        useCase = new ImportCustomersUseCase(customerRepository, bulkImporter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        BulkImporters.shutdown(bulkImporter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldImportCustomersAndRejectDuplicates() {
+        when(customerRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of("52998224725"));
+        when(customerRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("existente@example.com"));
+
+        ImportReport report = useCase.execute(List.of(
+                line(2, "12345678909", "joao@example.com"),
+                line(3, "52998224725", "novo@example.com"),
+                line(4, "11144477735", "existente@example.com"),
+                line(5, "12345678909", "outro@example.com"),
+                line(6, "11144477735", "joao@example.com"),
+                line(7, "11144477735", "maria@example.com")
+        ).iterator());
+
+        assertThat(report.getTotalLines()).isEqualTo(6);
+        assertThat(report.getImported()).isEqualTo(2);
+        assertThat(report.getErrors()).extracting(LineError::getLine).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(report.getErrors()).extracting(LineError::getMessage).containsExactly(
+                "Cliente com CPF 529.982.247-25 já existe",
+                "Cliente com email existente@example.com já existe",
+                "CPF 123.456.789-09 repetido no arquivo",
+                "Email joao@example.com repetido no arquivo");
+
+        ArgumentCaptor<List<Customer>> written = ArgumentCaptor.forClass(List.class);
+        verify(customerRepository).insertAll(written.capture());
+        assertThat(written.getValue()).extracting(Customer::getEmail)
+                .containsExactly("joao@example.com", "maria@example.com");
+    }
+
+    @Test
+    void shouldNotWriteWhenEveryLineIsInvalid() {
+        ImportLine<Customer> invalid = new ImportLine<>(2, () -> {
+            throw new IllegalArgumentException("CPF inválido");
+        });
+
+        ImportReport report = useCase.execute(List.of(invalid).iterator());
+
+        assertThat(report.getImported()).isZero();
+        assertThat(report.getErrors()).extracting(LineError::getMessage).containsExactly("CPF inválido");
+        verify(customerRepository, never()).insertAll(anyList());
+    }
+
+    private static ImportLine<Customer> line(long number, String cpf, String email) {
+        return new ImportLine<>(number, () -> new Customer(
+                null,
+                "João Silva",
+                "Maria Silva",
+                new Document(cpf, "123456789"),
+                new Address("12345678", "Rua Teste", "100", "", "Centro", "São Paulo", "SP"),
+                LocalDate.of(1990, 1, 1),
+                "11987654321",
+                email
+        ));
+    }
+}
@@ -4,6 +4,7 @@ import com.sales.domain.customer.entity.Customer;
 import com.sales.domain.customer.port.CustomerRepository;
 import com.sales.domain.customer.valueobject.Address;
 import com.sales.domain.customer.valueobject.Document;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class SearchCustomersUseCaseTest {
@@ -144,4 +146,44 @@ class SearchCustomersUseCaseTest {
         assertThat(result.getTotalPages()).isEqualTo(2);
         verify(customerRepository, times(1)).search(filter, 1, 1);
     }
+
+    @Test
+    void shouldSearchCustomersByCursor() {
+        CursorPageResult<Customer> expectedPage = new CursorPageResult<>(
+                List.of(customer1),
+                1,
+                "next-token",
+                null
+        );
+
+        when(customerRepository.searchAfter("", "token", 1, false)).thenReturn(expectedPage);
+
+        CursorPageResult<Customer> result = useCase.execute("", "token", 1, false);
+
+        assertThat(result.getContent()).containsExactly(customer1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("next-token");
+        assertThat(result.getTotalElements()).isNull();
+        verify(customerRepository, times(1)).searchAfter("", "token", 1, false);
+    }
+
+    @Test
+    void shouldRejectNonPositiveCursorPageSize() {
+        assertThatThrownBy(() -> useCase.execute("", null, 0, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tamanho da página deve ser maior que zero");
+
+        verifyNoInteractions(customerRepository);
+    }
+
+    @Test
+    void shouldRejectPageSizeAboveMaximum() {
+        assertThatThrownBy(() -> useCase.execute("", null, PageResult.MAX_SIZE + 1, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tamanho da página deve ser no máximo " + PageResult.MAX_SIZE);
+        assertThatThrownBy(() -> useCase.execute("", 0, PageResult.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(customerRepository);
+    }
 }
@@ -1,9 +1,9 @@
 package com.sales.application.dashboard.usecase;
 
-import com.sales.domain.sale.entity.Sale;
-import com.sales.domain.sale.entity.SaleItem;
-import com.sales.domain.sale.port.SaleRepository;
-import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.port.SalesRollupRepository;
+import com.sales.domain.sale.valueobject.SalesBucket;
+import com.sales.domain.sale.valueobject.SalesTotals;
+import com.sales.domain.sale.valueobject.TimeBucket;
 import com.sales.infrastructure.rest.dashboard.dto.DashboardChartDataPoint;
 import com.sales.infrastructure.rest.dashboard.dto.DashboardChartResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,56 +13,73 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class GetDashboardChartDataUseCaseTest {
 
     @Mock
-    private SaleRepository saleRepository;
+    private SalesRollupRepository salesRollupRepository;
 
     @InjectMocks
     private GetDashboardChartDataUseCase useCase;
 
-    private Sale sale1;
-    private Sale sale2;
+    // Venda 1: 2 x 30.00 = 60.00 + 5.40; Venda 2: 1 x 25.00 = 25.00 + 2.25
+    private SalesTotals dailyTotals;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
 
-        sale1 = new Sale("SALE001", "CUST001", "João Silva", "SELL001", "Vendedor A",
-                PaymentMethod.CARTAO_CREDITO, "1234", BigDecimal.valueOf(60.00));
-        SaleItem item1 = new SaleItem("PROD001", "Batom Vermelho", 2, BigDecimal.valueOf(30.00));
-        sale1.addItem(item1);
+        dailyTotals = new SalesTotals(2, new BigDecimal("85.00"), new BigDecimal("7.65"));
+    }
+
+    private List<SalesBucket> dailyBuckets(LocalDate start, LocalDate end) {
+        List<SalesBucket> buckets = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            buckets.add(new SalesBucket(date, dailyTotals));
+        }
+        return buckets;
+    }
 
-        sale2 = new Sale("SALE002", "CUST002", "Maria Santos", "SELL002", "Vendedor B",
-                PaymentMethod.PIX, null, null);
-        SaleItem item2 = new SaleItem("PROD002", "Batom Rosa", 1, BigDecimal.valueOf(25.00));
-        sale2.addItem(item2);
+    private List<SalesBucket> monthlyBuckets(int months) {
+        LocalDate today = LocalDate.now();
+        List<SalesBucket> buckets = new ArrayList<>();
+        for (int i = months - 1; i >= 0; i--) {
+            buckets.add(new SalesBucket(today.minusMonths(i).with(TemporalAdjusters.firstDayOfMonth()), dailyTotals));
+        }
+        return buckets;
     }
 
     @Test
     void shouldGetWeekData() {
-        when(saleRepository.findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(sale1, sale2));
+        LocalDate today = LocalDate.now();
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.DAY)))
+                .thenReturn(dailyBuckets(today.minusDays(6), today));
 
         DashboardChartResponse result = useCase.execute("week");
 
         assertThat(result).isNotNull();
         assertThat(result.getChartData()).isNotNull();
         assertThat(result.getChartData()).hasSize(7); // 7 days
-        verify(saleRepository, times(7)).findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class));
+        assertThat(result.getChartData().get(0).getDate()).isEqualTo(today.minusDays(6));
+        assertThat(result.getChartData().get(6).getDate()).isEqualTo(today);
+        verify(salesRollupRepository, times(1)).sumTotalsByBucket(today.minusDays(6), today, TimeBucket.DAY);
     }
 
     @Test
     void shouldGetMonthData() {
-        when(saleRepository.findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(sale1));
+        LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.with(TemporalAdjusters.firstDayOfMonth());
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.DAY)))
+                .thenReturn(dailyBuckets(monthStart, today));
 
         DashboardChartResponse result = useCase.execute("month");
 
@@ -71,38 +88,61 @@ class GetDashboardChartDataUseCaseTest {
         assertThat(result.getChartData()).isNotEmpty();
         // Should have weeks (1-4)
         assertThat(result.getChartData().size()).isLessThanOrEqualTo(4);
+        verify(salesRollupRepository, times(1)).sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.DAY));
+    }
+
+    @Test
+    void shouldRollDaysUpIntoWeeksForMonthData() {
+        LocalDate today = LocalDate.now();
+        LocalDate monthStart = today.with(TemporalAdjusters.firstDayOfMonth());
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.DAY)))
+                .thenReturn(dailyBuckets(monthStart, today));
+
+        DashboardChartResponse result = useCase.execute("month");
+
+        DashboardChartDataPoint firstWeek = result.getChartData().get(0);
+        long daysInFirstWeek = Math.min(7, today.getDayOfMonth());
+        assertThat(firstWeek.getLabel()).isEqualTo("Semana 1");
+        assertThat(firstWeek.getDate()).isEqualTo(monthStart);
+        assertThat(firstWeek.getSalesCount()).isEqualTo(2L * daysInFirstWeek);
+        assertThat(firstWeek.getRevenue())
+                .isEqualByComparingTo(dailyTotals.getTotalAmount().multiply(BigDecimal.valueOf(daysInFirstWeek)));
     }
 
     @Test
     void shouldGetQuarterData() {
-        when(saleRepository.findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(sale1));
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
+                .thenReturn(monthlyBuckets(3));
 
         DashboardChartResponse result = useCase.execute("quarter");
 
         assertThat(result).isNotNull();
         assertThat(result.getChartData()).isNotNull();
         assertThat(result.getChartData()).hasSize(3); // Last 3 months
-        verify(saleRepository, times(3)).findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class));
+        result.getChartData().forEach(dataPoint ->
+                assertThat(dataPoint.getSalesCount()).isEqualTo(2L));
+        verify(salesRollupRepository, times(1)).sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH));
     }
 
     @Test
     void shouldGetYearData() {
-        when(saleRepository.findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(sale1));
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
+                .thenReturn(monthlyBuckets(12));
 
         DashboardChartResponse result = useCase.execute("year");
 
         assertThat(result).isNotNull();
         assertThat(result.getChartData()).isNotNull();
         assertThat(result.getChartData()).hasSize(12); // Last 12 months
-        verify(saleRepository, times(12)).findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class));
+        assertThat(result.getChartData().get(11).getDate())
+                .isEqualTo(LocalDate.now().with(TemporalAdjusters.firstDayOfMonth()));
+        verify(salesRollupRepository, times(1)).sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH));
     }
 
     @Test
     void shouldDefaultToMonthDataWhenInvalidRange() {
-        when(saleRepository.findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(sale1));
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), any(TimeBucket.class)))
+                .thenReturn(List.of());
 
         DashboardChartResponse result = useCase.execute("invalid");
 
@@ -113,8 +153,9 @@ class GetDashboardChartDataUseCaseTest {
 
     @Test
     void shouldCalculateRevenueCorrectly() {
-        when(saleRepository.findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(List.of(sale1, sale2));
+        LocalDate today = LocalDate.now();
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.DAY)))
+                .thenReturn(dailyBuckets(today.minusDays(6), today));
 
         DashboardChartResponse result = useCase.execute("week");
 
@@ -122,7 +163,7 @@ class GetDashboardChartDataUseCaseTest {
         assertThat(result.getChartData()).isNotEmpty();
 
         // Each day should have the sum of both sales
-        BigDecimal expectedRevenue = sale1.getTotalAmount().add(sale2.getTotalAmount());
+        BigDecimal expectedRevenue = new BigDecimal("92.65");
         result.getChartData().forEach(dataPoint -> {
             assertThat(dataPoint.getRevenue()).isEqualByComparingTo(expectedRevenue);
             assertThat(dataPoint.getSalesCount()).isEqualTo(2L);
@@ -131,7 +172,7 @@ class GetDashboardChartDataUseCaseTest {
 
     @Test
     void shouldHandleNoSales() {
-        when(saleRepository.findByDateRange(any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), any(TimeBucket.class)))
                 .thenReturn(List.of());
 
         DashboardChartResponse result = useCase.execute("week");
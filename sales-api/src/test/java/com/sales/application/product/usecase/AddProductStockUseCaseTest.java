@@ -0,0 +1,89 @@
+package com.sales.application.product.usecase;
+
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.product.port.ProductStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AddProductStockUseCase Tests")
+class AddProductStockUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
+    @InjectMocks
+    private AddProductStockUseCase addProductStockUseCase;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = Product.create(
+                "PROD001",
+                "Batom Matte",
+                "Lábios",
+                "Batom matte de longa duração",
+                new BigDecimal("0.050"),
+                new BigDecimal("18.00"),
+                new BigDecimal("35.00"),
+                new BigDecimal("8.00"),
+                new BigDecimal("2.00"),
+                new BigDecimal("2.00"),
+                "Todos os tipos de pele",
+                100
+        );
+    }
+
+    @Test
+    @DisplayName("Should increment stock atomically and return the reloaded product")
+    void shouldAddStock() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        Product result = addProductStockUseCase.execute(1L, 20);
+
+        assertThat(result).isNotNull();
+        verify(productStockRepository).release(Map.of("PROD001", 20));
+        verify(productRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject non positive quantity")
+    void shouldRejectNonPositiveQuantity() {
+        assertThatThrownBy(() -> addProductStockUseCase.execute(1L, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Quantidade deve ser maior que zero");
+
+        verifyNoInteractions(productRepository, productStockRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when product not found")
+    void shouldThrowWhenProductNotFound() {
+        when(productRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> addProductStockUseCase.execute(999L, 5))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Produto não encontrado com id: 999");
+
+        verify(productStockRepository, never()).release(any());
+    }
+}
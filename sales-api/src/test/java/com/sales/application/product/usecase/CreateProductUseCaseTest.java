@@ -1,6 +1,7 @@
 package com.sales.application.product.usecase;
 
 import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
 import com.sales.domain.product.port.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +26,9 @@ class CreateProductUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
     @InjectMocks
     private CreateProductUseCase createProductUseCase;
 
@@ -61,6 +65,7 @@ class CreateProductUseCaseTest {
         assertThat(result.getCode()).isEqualTo("PROD001");
         verify(productRepository).existsByCode("PROD001");
         verify(productRepository).save(validProduct);
+        verify(productCatalogCache).invalidate(validProduct);
     }
 
     @Test
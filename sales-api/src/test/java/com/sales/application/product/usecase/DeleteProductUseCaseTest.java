@@ -1,6 +1,7 @@
 package com.sales.application.product.usecase;
 
 import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
 import com.sales.domain.product.port.ProductRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +24,9 @@ class DeleteProductUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
     @InjectMocks
     private DeleteProductUseCase deleteProductUseCase;
 
@@ -57,6 +61,7 @@ class DeleteProductUseCaseTest {
 
         verify(productRepository).findById(1L);
         verify(productRepository).deleteById(1L);
+        verify(productCatalogCache).invalidate(existingProduct);
     }
 
     @Test
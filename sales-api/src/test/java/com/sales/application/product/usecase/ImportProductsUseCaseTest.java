@@ -0,0 +1,94 @@
+package com.sales.application.product.usecase;
+
+import com.sales.application.common.BulkImporter;
+import com.sales.application.common.BulkImporters;
+import com.sales.application.common.ImportLine;
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
+import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.product.valueobject.Dimensions;
+import com.sales.domain.product.valueobject.ProductType;
+import com.sales.domain.shared.ImportReport;
+import com.sales.domain.shared.ImportReport.LineError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class ImportProductsUseCaseTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
+    private BulkImporter bulkImporter;
+    private ImportProductsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        bulkImporter = BulkImporters.create(500, 2);
+        useCase = new ImportProductsUseCase(productRepository, productCatalogCache, bulkImporter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        BulkImporters.shutdown(bulkImporter);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldImportProductsAndRejectDuplicateCodes() {
+        when(productRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("PROD0001"));
+
+        ImportReport report = useCase.execute(List.of(
+                line(2, "PRODNEW01"),
+                line(3, "PROD0001"),
+                line(4, "PRODNEW01"),
+                line(5, null),
+                line(6, null)
+        ).iterator());
+
+        assertThat(report.getImported()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(LineError::getMessage).containsExactly(
+                "Produto com código PROD0001 já existe",
+                "Código PRODNEW01 repetido no arquivo");
+
+        ArgumentCaptor<Collection<String>> looked = ArgumentCaptor.forClass(Collection.class);
+        verify(productRepository).findExistingCodes(looked.capture());
+        assertThat(looked.getValue()).containsExactlyInAnyOrder("PRODNEW01", "PROD0001");
+
+        ArgumentCaptor<List<Product>> written = ArgumentCaptor.forClass(List.class);
+        verify(productRepository).insertAll(written.capture());
+        assertThat(written.getValue()).extracting(Product::getCode).containsExactly("PRODNEW01", null, null);
+        verify(productCatalogCache, times(1)).invalidate(any(Product.class));
+    }
+
+    private static ImportLine<Product> line(long number, String code) {
+        return new ImportLine<>(number, () -> new Product(
+                code,
+                "Batom Matte",
+                ProductType.LIPS,
+                null,
+                new BigDecimal("0.050"),
+                new BigDecimal("18.00"),
+                new BigDecimal("35.00"),
+                new Dimensions(new BigDecimal("8.00"), new BigDecimal("2.00"), new BigDecimal("2.00")),
+                null
+        ));
+    }
+}
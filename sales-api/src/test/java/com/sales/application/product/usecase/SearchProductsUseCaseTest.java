@@ -4,6 +4,7 @@ import com.sales.domain.product.entity.Product;
 import com.sales.domain.product.port.ProductRepository;
 import com.sales.domain.product.valueobject.Dimensions;
 import com.sales.domain.product.valueobject.ProductType;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +16,7 @@ import java.math.BigDecimal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class SearchProductsUseCaseTest {
@@ -150,4 +152,44 @@ class SearchProductsUseCaseTest {
         assertThat(result.getTotalPages()).isEqualTo(2);
         verify(productRepository, times(1)).search(filter, 1, 1);
     }
+
+    @Test
+    void shouldSearchProductsByCursor() {
+        CursorPageResult<Product> expectedPage = new CursorPageResult<>(
+                List.of(product1),
+                1,
+                "next-token",
+                null
+        );
+
+        when(productRepository.searchAfter("", "token", 1, false)).thenReturn(expectedPage);
+
+        CursorPageResult<Product> result = useCase.execute("", "token", 1, false);
+
+        assertThat(result.getContent()).containsExactly(product1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("next-token");
+        assertThat(result.getTotalElements()).isNull();
+        verify(productRepository, times(1)).searchAfter("", "token", 1, false);
+    }
+
+    @Test
+    void shouldRejectNonPositiveCursorPageSize() {
+        assertThatThrownBy(() -> useCase.execute("", null, 0, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tamanho da página deve ser maior que zero");
+
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    void shouldRejectPageSizeAboveMaximum() {
+        assertThatThrownBy(() -> useCase.execute("", null, PageResult.MAX_SIZE + 1, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tamanho da página deve ser no máximo " + PageResult.MAX_SIZE);
+        assertThatThrownBy(() -> useCase.execute("", 0, PageResult.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(productRepository);
+    }
 }
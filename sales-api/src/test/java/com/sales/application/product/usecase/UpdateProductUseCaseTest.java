@@ -1,6 +1,7 @@
 package com.sales.application.product.usecase;
 
 import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductCatalogCache;
 import com.sales.domain.product.port.ProductRepository;
 import com.sales.domain.product.valueobject.Dimensions;
 import com.sales.domain.product.valueobject.ProductType;
@@ -27,6 +28,9 @@ class UpdateProductUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductCatalogCache productCatalogCache;
+
     @InjectMocks
     private UpdateProductUseCase updateProductUseCase;
 
@@ -82,6 +86,7 @@ class UpdateProductUseCaseTest {
         assertThat(result.getName()).isEqualTo("Batom Matte Atualizado");
         verify(productRepository).findById(1L);
         verify(productRepository).save(existingProduct);
+        verify(productCatalogCache).invalidate(existingProduct);
     }
 
     @Test
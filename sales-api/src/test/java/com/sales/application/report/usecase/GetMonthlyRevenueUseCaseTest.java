@@ -1,6 +1,9 @@
 package com.sales.application.report.usecase;
 
-import com.sales.infrastructure.persistence.sale.repository.SalePanacheRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
+import com.sales.domain.sale.valueobject.SalesBucket;
+import com.sales.domain.sale.valueobject.SalesTotals;
+import com.sales.domain.sale.valueobject.TimeBucket;
 import com.sales.infrastructure.rest.report.dto.MonthlyRevenueData;
 import com.sales.infrastructure.rest.report.dto.MonthlyRevenueResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,11 +17,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,13 +29,13 @@ import static org.mockito.Mockito.*;
 class GetMonthlyRevenueUseCaseTest {
 
     @Mock
-    private SalePanacheRepository saleRepository;
+    private SalesRollupRepository salesRollupRepository;
 
     @InjectMocks
     private GetMonthlyRevenueUseCase getMonthlyRevenueUseCase;
 
     private LocalDate referenceDate;
-    private List<Map<String, Object>> mockRevenueData;
+    private List<SalesBucket> mockRevenueData;
 
     @BeforeEach
     void setUp() {
@@ -44,13 +47,9 @@ class GetMonthlyRevenueUseCaseTest {
     @DisplayName("Should calculate monthly revenue with tax correctly")
     void shouldCalculateMonthlyRevenueWithTax() {
 
-        Map<String, Object> januaryData = new HashMap<>();
-        januaryData.put("month", 1);
-        januaryData.put("year", 2024);
-        januaryData.put("subtotal", new BigDecimal("1000.00"));
-        mockRevenueData.add(januaryData);
+        mockRevenueData.add(monthBucket(1, new BigDecimal("1000.00")));
 
-        when(saleRepository.getMonthlyRevenue(any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
                 .thenReturn(mockRevenueData);
 
         MonthlyRevenueResponse result = getMonthlyRevenueUseCase.execute(referenceDate);
@@ -70,7 +69,7 @@ class GetMonthlyRevenueUseCaseTest {
     @DisplayName("Should return empty revenue for months with no sales")
     void shouldReturnEmptyRevenueForMonthsWithNoSales() {
 
-        when(saleRepository.getMonthlyRevenue(any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
                 .thenReturn(Collections.emptyList());
 
         MonthlyRevenueResponse result = getMonthlyRevenueUseCase.execute(referenceDate);
@@ -86,32 +85,22 @@ class GetMonthlyRevenueUseCaseTest {
     @DisplayName("Should calculate correct period for 12 months")
     void shouldCalculateCorrectPeriodFor12Months() {
 
-        when(saleRepository.getMonthlyRevenue(any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
                 .thenReturn(Collections.emptyList());
 
         getMonthlyRevenueUseCase.execute(referenceDate);
 
-        verify(saleRepository).getMonthlyRevenue(any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(salesRollupRepository).sumTotalsByBucket(LocalDate.of(2024, 1, 1), referenceDate, TimeBucket.MONTH);
     }
 
     @Test
     @DisplayName("Should aggregate multiple months correctly")
     void shouldAggregateMultipleMonths() {
 
-        Map<String, Object> januaryData = new HashMap<>();
-        januaryData.put("month", 1);
-        januaryData.put("year", 2024);
-        januaryData.put("subtotal", new BigDecimal("1000.00"));
+        mockRevenueData.add(monthBucket(1, new BigDecimal("1000.00")));
+        mockRevenueData.add(monthBucket(2, new BigDecimal("2000.00")));
 
-        Map<String, Object> februaryData = new HashMap<>();
-        februaryData.put("month", 2);
-        februaryData.put("year", 2024);
-        februaryData.put("subtotal", new BigDecimal("2000.00"));
-
-        mockRevenueData.add(januaryData);
-        mockRevenueData.add(februaryData);
-
-        when(saleRepository.getMonthlyRevenue(any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
                 .thenReturn(mockRevenueData);
 
         MonthlyRevenueResponse result = getMonthlyRevenueUseCase.execute(referenceDate);
@@ -123,15 +112,38 @@ class GetMonthlyRevenueUseCaseTest {
         assertThat(result.getGrandTotal()).isEqualByComparingTo(new BigDecimal("3270.00"));
     }
 
+    @Test
+    @DisplayName("Should report the tax summed per sale instead of recomputing it per month")
+    void shouldUseTaxSummedPerSale() {
+        // Duas vendas de 0,05: imposto de 0,0045 arredondado para 0,00 em cada uma
+        mockRevenueData.add(new SalesBucket(LocalDate.of(2024, 3, 1),
+                new SalesTotals(2, new BigDecimal("0.10"), new BigDecimal("0.00"))));
+
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
+                .thenReturn(mockRevenueData);
+
+        MonthlyRevenueResponse result = getMonthlyRevenueUseCase.execute(referenceDate);
+
+        MonthlyRevenueData march = result.getMonthlyData().get(2);
+        assertThat(march.getTaxAmount()).isEqualByComparingTo("0.00");
+        assertThat(march.getTotal()).isEqualByComparingTo("0.10");
+        assertThat(result.getTotalTax()).isEqualByComparingTo("0.00");
+    }
+
     @Test
     @DisplayName("Should verify repository interaction")
     void shouldVerifyRepositoryInteraction() {
 
-        when(saleRepository.getMonthlyRevenue(any(LocalDateTime.class), any(LocalDateTime.class)))
+        when(salesRollupRepository.sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH)))
                 .thenReturn(Collections.emptyList());
 
         getMonthlyRevenueUseCase.execute(referenceDate);
 
-        verify(saleRepository, times(1)).getMonthlyRevenue(any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(salesRollupRepository, times(1)).sumTotalsByBucket(any(LocalDate.class), any(LocalDate.class), eq(TimeBucket.MONTH));
+    }
+
+    private SalesBucket monthBucket(int month, BigDecimal subtotal) {
+        SalesTotals totals = new SalesTotals(1, subtotal, subtotal.multiply(new BigDecimal("0.09")));
+        return new SalesBucket(LocalDate.of(2024, month, 1), totals);
     }
 }
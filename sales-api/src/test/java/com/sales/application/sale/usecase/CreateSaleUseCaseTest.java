@@ -6,24 +6,28 @@ import com.sales.domain.customer.valueobject.Address;
 import com.sales.domain.customer.valueobject.Document;
 import com.sales.domain.product.entity.Product;
 import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.product.port.ProductStockRepository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
 import com.sales.domain.sale.valueobject.PaymentMethod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -40,7 +44,12 @@ class CreateSaleUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
     private CreateSaleUseCase createSaleUseCase;
 
     private Sale validSale;
@@ -49,6 +58,9 @@ class CreateSaleUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        createSaleUseCase = new CreateSaleUseCase(saleRepository,
+                new SaleReferenceResolver(customerRepository, productRepository), salesRollupRepository,
+                productStockRepository);
 
         Document document = Document.create("12345678909", "MG1234567");
         Address address = Address.create(
@@ -102,8 +114,8 @@ class CreateSaleUseCaseTest {
     void shouldCreateSaleSuccessfully() {
 
         when(saleRepository.existsByCode("SALE001")).thenReturn(false);
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(validCustomer));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(validProduct));
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(validCustomer));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(validProduct));
         when(saleRepository.save(any(Sale.class))).thenReturn(validSale);
 
         Sale result = createSaleUseCase.execute(validSale);
@@ -111,9 +123,29 @@ class CreateSaleUseCaseTest {
         assertThat(result).isNotNull();
         assertThat(result.getCode()).isEqualTo("SALE001");
         verify(saleRepository).existsByCode("SALE001");
-        verify(customerRepository).findByCode("CUST001");
-        verify(productRepository).findByCode("PROD001");
+        verify(customerRepository).findByCodes(Set.of("CUST001"));
+        verify(productRepository).findByCodes(Set.of("PROD001"));
+        verify(productStockRepository).reserve(Map.of("PROD001", 2));
         verify(saleRepository).save(validSale);
+        verify(salesRollupRepository).record(validSale);
+    }
+
+    @Test
+    @DisplayName("Should not save sale when stock is insufficient")
+    void shouldNotSaveSaleWhenStockIsInsufficient() {
+
+        when(saleRepository.existsByCode("SALE001")).thenReturn(false);
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(validCustomer));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(validProduct));
+        doThrow(new IllegalArgumentException("Estoque insuficiente para o produto: PROD001"))
+                .when(productStockRepository).reserve(Map.of("PROD001", 2));
+
+        assertThatThrownBy(() -> createSaleUseCase.execute(validSale))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Estoque insuficiente para o produto: PROD001");
+
+        verify(saleRepository, never()).save(any(Sale.class));
+        verifyNoInteractions(salesRollupRepository);
     }
 
     @Test
@@ -127,9 +159,10 @@ class CreateSaleUseCaseTest {
                 .hasMessage("Venda com código SALE001 já existe");
 
         verify(saleRepository).existsByCode("SALE001");
-        verify(customerRepository, never()).findByCode(anyString());
-        verify(productRepository, never()).findByCode(anyString());
+        verify(customerRepository, never()).findByCodes(anyCollection());
+        verify(productRepository, never()).findByCodes(anyCollection());
         verify(saleRepository, never()).save(any(Sale.class));
+        verify(salesRollupRepository, never()).record(any(Sale.class));
     }
 
     @Test
@@ -137,14 +170,14 @@ class CreateSaleUseCaseTest {
     void shouldThrowExceptionWhenCustomerNotFound() {
 
         when(saleRepository.existsByCode("SALE001")).thenReturn(false);
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.empty());
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of());
 
         assertThatThrownBy(() -> createSaleUseCase.execute(validSale))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Cliente não encontrado com código: CUST001");
 
         verify(saleRepository).existsByCode("SALE001");
-        verify(customerRepository).findByCode("CUST001");
+        verify(customerRepository).findByCodes(Set.of("CUST001"));
         verify(productRepository, never()).findByCode(anyString());
         verify(saleRepository, never()).save(any(Sale.class));
     }
@@ -154,16 +187,16 @@ class CreateSaleUseCaseTest {
     void shouldThrowExceptionWhenProductNotFound() {
 
         when(saleRepository.existsByCode("SALE001")).thenReturn(false);
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(validCustomer));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.empty());
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(validCustomer));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of());
 
         assertThatThrownBy(() -> createSaleUseCase.execute(validSale))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Produto não encontrado com código: PROD001");
 
         verify(saleRepository).existsByCode("SALE001");
-        verify(customerRepository).findByCode("CUST001");
-        verify(productRepository).findByCode("PROD001");
+        verify(customerRepository).findByCodes(Set.of("CUST001"));
+        verify(productRepository).findByCodes(Set.of("PROD001"));
         verify(saleRepository, never()).save(any(Sale.class));
     }
 
@@ -174,17 +207,18 @@ class CreateSaleUseCaseTest {
         validSale.addItem("PROD002", "Base Líquida", 1, new BigDecimal("89.00"));
 
         when(saleRepository.existsByCode("SALE001")).thenReturn(false);
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(validCustomer));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(validProduct));
-        when(productRepository.findByCode("PROD002")).thenReturn(Optional.of(validProduct));
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(validCustomer));
+        Product secondProduct = mock(Product.class);
+        when(secondProduct.getCode()).thenReturn("PROD002");
+        when(productRepository.findByCodes(Set.of("PROD001", "PROD002"))).thenReturn(List.of(validProduct, secondProduct));
         when(saleRepository.save(any(Sale.class))).thenReturn(validSale);
 
         Sale result = createSaleUseCase.execute(validSale);
 
         assertThat(result).isNotNull();
         assertThat(result.getItems()).hasSize(2);
-        verify(productRepository).findByCode("PROD001");
-        verify(productRepository).findByCode("PROD002");
+        verify(productRepository).findByCodes(Set.of("PROD001", "PROD002"));
+        verify(productRepository, never()).findByCode(anyString());
     }
 
     @Test
@@ -201,7 +235,7 @@ class CreateSaleUseCaseTest {
         );
 
         when(saleRepository.existsByCode("SALE002")).thenReturn(false);
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(validCustomer));
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(validCustomer));
 
         assertThatThrownBy(() -> createSaleUseCase.execute(saleWithoutItems))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -226,8 +260,8 @@ class CreateSaleUseCaseTest {
         creditCardSale.addItem("PROD001", "Batom Matte", 2, new BigDecimal("35.00"));
 
         when(saleRepository.existsByCode("SALE002")).thenReturn(false);
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(validCustomer));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(validProduct));
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(validCustomer));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(validProduct));
         when(saleRepository.save(any(Sale.class))).thenReturn(creditCardSale);
 
         Sale result = createSaleUseCase.execute(creditCardSale);
@@ -242,16 +276,16 @@ class CreateSaleUseCaseTest {
     void shouldVerifyValidationsOrder() {
 
         when(saleRepository.existsByCode("SALE001")).thenReturn(false);
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(validCustomer));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(validProduct));
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(validCustomer));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(validProduct));
         when(saleRepository.save(any(Sale.class))).thenReturn(validSale);
 
         createSaleUseCase.execute(validSale);
 
         var inOrder = inOrder(saleRepository, customerRepository, productRepository);
         inOrder.verify(saleRepository).existsByCode("SALE001");
-        inOrder.verify(customerRepository).findByCode("CUST001");
-        inOrder.verify(productRepository).findByCode("PROD001");
+        inOrder.verify(customerRepository).findByCodes(Set.of("CUST001"));
+        inOrder.verify(productRepository).findByCodes(Set.of("PROD001"));
         inOrder.verify(saleRepository).save(validSale);
     }
 }
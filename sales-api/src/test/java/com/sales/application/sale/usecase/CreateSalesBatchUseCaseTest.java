@@ -0,0 +1,170 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.customer.entity.Customer;
+import com.sales.domain.customer.port.CustomerRepository;
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.SaleBatchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateSalesBatchUseCase Tests")
+class CreateSalesBatchUseCaseTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private SaleBatchWriter saleBatchWriter;
+
+    @InjectMocks
+    private CreateSalesBatchUseCase useCase;
+
+    private Customer customer;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        useCase.referenceResolver = new SaleReferenceResolver(customerRepository, productRepository);
+        useCase.maxSize = 10;
+        useCase.chunkSize = 2;
+        lenient().when(saleRepository.findExistingCodes(anyCollection())).thenReturn(Set.of());
+        customer = mock(Customer.class);
+        lenient().when(customer.getCode()).thenReturn("CUST001");
+        product = mock(Product.class);
+        lenient().when(product.getCode()).thenReturn("PROD001");
+        lenient().when(customerRepository.findByCodes(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).contains("CUST001") ? List.of(customer) : List.of());
+        lenient().when(productRepository.findByCodes(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Collection<String>>getArgument(0).contains("PROD001") ? List.of(product) : List.of());
+        lenient().when(saleBatchWriter.write(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("Should write valid sales in chunks and keep input order")
+    void shouldWriteValidSalesInChunks() {
+        List<Sale> sales = List.of(sale("SALE001"), sale("SALE002"), sale("SALE003"));
+
+        List<SaleBatchResult> results = useCase.execute(sales);
+
+        assertThat(results).extracting(SaleBatchResult::getCode).containsExactly("SALE001", "SALE002", "SALE003");
+        assertThat(results).allMatch(SaleBatchResult::isSuccess);
+        verify(saleBatchWriter, times(2)).write(anyList());
+        verify(saleRepository, times(2)).findExistingCodes(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should look up each customer and product only once per batch")
+    void shouldLookUpReferencesOncePerBatch() {
+        useCase.execute(List.of(sale("SALE001"), sale("SALE002"), sale("SALE003")));
+
+        verify(customerRepository, times(1)).findByCodes(Set.of("CUST001"));
+        verify(productRepository, times(1)).findByCodes(Set.of("PROD001"));
+        verify(customerRepository, never()).findByCode(anyString());
+        verify(productRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    @DisplayName("Should report invalid sales without blocking the others")
+    void shouldReportInvalidSalesIndividually() {
+        when(saleRepository.findExistingCodes(anyCollection())).thenReturn(Set.of("SALE002"));
+        Sale unknownProduct = Sale.createCashSale("SALE003", "CUST001", "João Silva", "SELLER001", "Maria Vendedora", new BigDecimal("500.00"));
+        unknownProduct.addItem("PROD999", "Produto", 1, new BigDecimal("10.00"));
+
+        List<SaleBatchResult> results = useCase.execute(List.of(
+                sale("SALE001"), sale("SALE002"), unknownProduct, sale("SALE001")));
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).getError()).isEqualTo("Venda com código SALE002 já existe");
+        assertThat(results.get(2).getError()).isEqualTo("Produto não encontrado com código: PROD999");
+        assertThat(results.get(3).getError()).isEqualTo("Venda com código SALE001 repetida no lote");
+        verify(saleBatchWriter, times(1)).write(anyList());
+    }
+
+    @Test
+    @DisplayName("Should mark whole chunk as failed when write fails")
+    void shouldMarkChunkAsFailedWhenWriteFails() {
+        when(saleBatchWriter.write(anyList()))
+                .thenThrow(new RuntimeException("Database error"))
+                .thenAnswer(invocation -> created(invocation.getArgument(0)));
+
+        List<SaleBatchResult> results = useCase.execute(List.of(sale("SALE001"), sale("SALE002"), sale("SALE003")));
+
+        assertThat(results.get(0).isSuccess()).isFalse();
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(2).isSuccess()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should report sales rejected by the writer for lack of stock")
+    void shouldReportSalesWithoutStock() {
+        when(saleBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            List<Sale> chunk = invocation.getArgument(0);
+            return List.of(SaleBatchResult.created(chunk.get(0)),
+                    SaleBatchResult.failed(chunk.get(1).getCode(), "Estoque insuficiente para o produto: PROD001"));
+        });
+
+        List<SaleBatchResult> results = useCase.execute(List.of(sale("SALE001"), sale("SALE002")));
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).getError()).isEqualTo("Estoque insuficiente para o produto: PROD001");
+    }
+
+    @Test
+    @DisplayName("Should reject batch above maximum size")
+    void shouldRejectBatchAboveMaximumSize() {
+        List<Sale> sales = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            sales.add(sale("SALE" + i));
+        }
+
+        assertThatThrownBy(() -> useCase.execute(sales))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Lote deve ter no máximo 10 vendas");
+        verifyNoInteractions(saleBatchWriter);
+    }
+
+    @Test
+    @DisplayName("Should reject empty batch")
+    void shouldRejectEmptyBatch() {
+        assertThatThrownBy(() -> useCase.execute(List.of()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Lote deve ter pelo menos uma venda");
+    }
+
+    private Sale sale(String code) {
+        Sale sale = Sale.createCashSale(code, "CUST001", "João Silva", "SELLER001", "Maria Vendedora", new BigDecimal("500.00"));
+        sale.addItem("PROD001", "Produto", 2, new BigDecimal("35.00"));
+        return sale;
+    }
+
+    private static List<SaleBatchResult> created(List<Sale> sales) {
+        return sales.stream().map(SaleBatchResult::created).collect(Collectors.toList());
+    }
+}
@@ -1,7 +1,9 @@
 package com.sales.application.sale.usecase;
 
+import com.sales.domain.product.port.ProductStockRepository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -23,6 +26,12 @@ class DeleteSaleUseCaseTest {
     @Mock
     private SaleRepository saleRepository;
 
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
     @InjectMocks
     private DeleteSaleUseCase deleteSaleUseCase;
 
@@ -51,6 +60,8 @@ class DeleteSaleUseCaseTest {
 
         verify(saleRepository).findById(1L);
         verify(saleRepository).deleteById(1L);
+        verify(salesRollupRepository).revert(existingSale);
+        verify(productStockRepository).release(Map.of("PROD001", 2));
     }
 
     @Test
@@ -64,6 +75,7 @@ class DeleteSaleUseCaseTest {
 
         verify(saleRepository).findById(999L);
         verify(saleRepository, never()).deleteById(anyLong());
+        verifyNoInteractions(salesRollupRepository);
     }
 
     @Test
@@ -74,9 +86,10 @@ class DeleteSaleUseCaseTest {
 
         deleteSaleUseCase.execute(1L);
 
-        var inOrder = inOrder(saleRepository);
+        var inOrder = inOrder(saleRepository, salesRollupRepository);
         inOrder.verify(saleRepository).findById(1L);
         inOrder.verify(saleRepository).deleteById(1L);
+        inOrder.verify(salesRollupRepository).revert(existingSale);
         verifyNoMoreInteractions(saleRepository);
     }
 
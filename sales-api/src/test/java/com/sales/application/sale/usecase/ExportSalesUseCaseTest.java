@@ -0,0 +1,77 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SaleExportLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportSalesUseCase Tests")
+class ExportSalesUseCaseTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @InjectMocks
+    private ExportSalesUseCase exportSalesUseCase;
+
+    @Test
+    @DisplayName("Should stream lines of the inclusive day range to the consumer")
+    @SuppressWarnings("unchecked")
+    void shouldStreamLinesOfInclusiveRange() {
+        SaleExportLine line = new SaleExportLine("SALE001", LocalDateTime.of(2024, 1, 31, 23, 59),
+                "CUST001", "João Silva", "SELLER001", "Vendedor", PaymentMethod.PIX,
+                new BigDecimal("70.00"), new BigDecimal("6.30"), new BigDecimal("76.30"),
+                "PROD001", "Batom Matte", 2, new BigDecimal("35.00"));
+        doAnswer(invocation -> {
+            Consumer<SaleExportLine> action = invocation.getArgument(2);
+            action.accept(line);
+            action.accept(line);
+            return null;
+        }).when(saleRepository).forEachExportLine(any(), any(), any());
+        List<SaleExportLine> received = new ArrayList<>();
+
+        long lines = exportSalesUseCase.execute(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), received::add);
+
+        assertThat(lines).isEqualTo(2);
+        assertThat(received).containsExactly(line, line);
+        verify(saleRepository).forEachExportLine(eq(LocalDateTime.of(2024, 1, 1, 0, 0)),
+                eq(LocalDateTime.of(2024, 2, 1, 0, 0)), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("Should reject range where start date is after end date")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> exportSalesUseCase.execute(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1), line -> { }))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Data inicial deve ser anterior ou igual à data final");
+
+        verifyNoInteractions(saleRepository);
+    }
+
+    @Test
+    @DisplayName("Should require both dates")
+    void shouldRequireBothDates() {
+        assertThatThrownBy(() -> exportSalesUseCase.validateRange(LocalDate.of(2024, 1, 1), null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Datas inicial e final são obrigatórias");
+    }
+}
@@ -2,6 +2,7 @@ package com.sales.application.sale.usecase;
 
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.SaleSummary;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -31,6 +33,8 @@ class FindSaleUseCaseTest {
 
     private Sale sale1;
     private Sale sale2;
+    private SaleSummary summary1;
+    private SaleSummary summary2;
 
     @BeforeEach
     void setUp() {
@@ -53,6 +57,9 @@ class FindSaleUseCaseTest {
                 new BigDecimal("200.00")
         );
         sale2.addItem("PROD002", "Base Líquida", 2, new BigDecimal("89.00"));
+
+        summary1 = summaryOf(1L, sale1);
+        summary2 = summaryOf(2L, sale2);
     }
 
     @Test
@@ -102,34 +109,35 @@ class FindSaleUseCaseTest {
     @Test
     @DisplayName("Should find all sales successfully")
     void shouldFindAllSales() {
-        when(saleRepository.findAll()).thenReturn(Arrays.asList(sale1, sale2));
+        when(saleRepository.findSummaries()).thenReturn(Arrays.asList(summary1, summary2));
 
-        List<Sale> result = findSaleUseCase.findAll();
+        List<SaleSummary> result = findSaleUseCase.findAll();
 
         assertThat(result).hasSize(2);
-        assertThat(result).containsExactly(sale1, sale2);
-        verify(saleRepository).findAll();
+        assertThat(result).containsExactly(summary1, summary2);
+        verify(saleRepository).findSummaries();
+        verify(saleRepository, never()).findAll();
     }
 
     @Test
     @DisplayName("Should find sales by customer code")
     void shouldFindSalesByCustomerCode() {
-        when(saleRepository.findByCustomerCode("CUST001"))
-                .thenReturn(Arrays.asList(sale1, sale2));
+        when(saleRepository.findSummariesByCustomerCode("CUST001"))
+                .thenReturn(Arrays.asList(summary1, summary2));
 
-        List<Sale> result = findSaleUseCase.findByCustomerCode("CUST001");
+        List<SaleSummary> result = findSaleUseCase.findByCustomerCode("CUST001");
 
         assertThat(result).hasSize(2);
         assertThat(result).allMatch(s -> s.getCustomerCode().equals("CUST001"));
-        verify(saleRepository).findByCustomerCode("CUST001");
+        verify(saleRepository).findSummariesByCustomerCode("CUST001");
     }
 
     @Test
     @DisplayName("Should return empty list when customer has no sales")
     void shouldReturnEmptyListWhenNoSalesForCustomer() {
-        when(saleRepository.findByCustomerCode("CUST999")).thenReturn(List.of());
+        when(saleRepository.findSummariesByCustomerCode("CUST999")).thenReturn(List.of());
 
-        List<Sale> result = findSaleUseCase.findByCustomerCode("CUST999");
+        List<SaleSummary> result = findSaleUseCase.findByCustomerCode("CUST999");
 
         assertThat(result).isEmpty();
     }
@@ -137,10 +145,16 @@ class FindSaleUseCaseTest {
     @Test
     @DisplayName("Should return empty list when no sales exist")
     void shouldReturnEmptyListWhenNoSales() {
-        when(saleRepository.findAll()).thenReturn(List.of());
+        when(saleRepository.findSummaries()).thenReturn(List.of());
 
-        List<Sale> result = findSaleUseCase.findAll();
+        List<SaleSummary> result = findSaleUseCase.findAll();
 
         assertThat(result).isEmpty();
     }
+
+    private SaleSummary summaryOf(Long id, Sale sale) {
+        return new SaleSummary(id, sale.getCode(), sale.getCustomerCode(), sale.getCustomerName(),
+                sale.getSellerCode(), sale.getSellerName(), sale.getPaymentMethod(), sale.getItems().size(),
+                sale.getItems().get(0).getProductName(), sale.getTotalAmount(), LocalDateTime.now());
+    }
 }
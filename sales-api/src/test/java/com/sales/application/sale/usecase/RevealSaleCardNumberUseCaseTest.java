@@ -0,0 +1,47 @@
+package com.sales.application.sale.usecase;
+
+import com.sales.domain.sale.port.SaleRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RevealSaleCardNumberUseCase Tests")
+class RevealSaleCardNumberUseCaseTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @InjectMocks
+    private RevealSaleCardNumberUseCase revealSaleCardNumberUseCase;
+
+    @Test
+    @DisplayName("Should return decrypted card number from repository")
+    void shouldReturnDecryptedCardNumber() {
+        when(saleRepository.findCardNumber(1L)).thenReturn(Optional.of("4532015112830366"));
+
+        String cardNumber = revealSaleCardNumberUseCase.execute(1L, "auditor");
+
+        assertThat(cardNumber).isEqualTo("4532015112830366");
+        verify(saleRepository).findCardNumber(1L);
+    }
+
+    @Test
+    @DisplayName("Should throw when sale has no card")
+    void shouldThrowWhenSaleHasNoCard() {
+        when(saleRepository.findCardNumber(2L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> revealSaleCardNumberUseCase.execute(2L, "auditor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Venda sem cartão ou não encontrada com id: 2");
+    }
+}
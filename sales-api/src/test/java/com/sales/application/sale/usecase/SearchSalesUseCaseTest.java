@@ -4,6 +4,8 @@ import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.port.SaleRepository;
 import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SaleSummary;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,9 +14,11 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 class SearchSalesUseCaseTest {
@@ -27,6 +31,8 @@ class SearchSalesUseCaseTest {
 
     private Sale sale1;
     private Sale sale2;
+    private SaleSummary summary1;
+    private SaleSummary summary2;
 
     @BeforeEach
     void setUp() {
@@ -69,13 +75,16 @@ class SearchSalesUseCaseTest {
                 null
         );
         sale2.addItem(item2);
+
+        summary1 = summaryOf(1L, sale1);
+        summary2 = summaryOf(2L, sale2);
     }
 
     @Test
     void shouldSearchSalesWithFilter() {
         String filter = "João";
-        PageResult<Sale> expectedPage = new PageResult<>(
-                List.of(sale1),
+        PageResult<SaleSummary> expectedPage = new PageResult<>(
+                List.of(summary1),
                 1L,
                 0,
                 10
@@ -83,7 +92,7 @@ class SearchSalesUseCaseTest {
 
         when(saleRepository.search(filter, 0, 10)).thenReturn(expectedPage);
 
-        PageResult<Sale> result = useCase.execute(filter, 0, 10);
+        PageResult<SaleSummary> result = useCase.execute(filter, 0, 10);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
@@ -96,8 +105,8 @@ class SearchSalesUseCaseTest {
     @Test
     void shouldSearchSalesWithoutFilter() {
         String filter = "";
-        PageResult<Sale> expectedPage = new PageResult<>(
-                List.of(sale1, sale2),
+        PageResult<SaleSummary> expectedPage = new PageResult<>(
+                List.of(summary1, summary2),
                 2L,
                 0,
                 10
@@ -105,7 +114,7 @@ class SearchSalesUseCaseTest {
 
         when(saleRepository.search(filter, 0, 10)).thenReturn(expectedPage);
 
-        PageResult<Sale> result = useCase.execute(filter, 0, 10);
+        PageResult<SaleSummary> result = useCase.execute(filter, 0, 10);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(2);
@@ -116,7 +125,7 @@ class SearchSalesUseCaseTest {
     @Test
     void shouldReturnEmptyPageWhenNoSalesFound() {
         String filter = "NonExistent";
-        PageResult<Sale> expectedPage = new PageResult<>(
+        PageResult<SaleSummary> expectedPage = new PageResult<>(
                 List.of(),
                 0L,
                 0,
@@ -125,7 +134,7 @@ class SearchSalesUseCaseTest {
 
         when(saleRepository.search(filter, 0, 10)).thenReturn(expectedPage);
 
-        PageResult<Sale> result = useCase.execute(filter, 0, 10);
+        PageResult<SaleSummary> result = useCase.execute(filter, 0, 10);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isEmpty();
@@ -136,8 +145,8 @@ class SearchSalesUseCaseTest {
     @Test
     void shouldHandlePagination() {
         String filter = "";
-        PageResult<Sale> expectedPage = new PageResult<>(
-                List.of(sale2),
+        PageResult<SaleSummary> expectedPage = new PageResult<>(
+                List.of(summary2),
                 2L,
                 1,
                 1
@@ -145,7 +154,7 @@ class SearchSalesUseCaseTest {
 
         when(saleRepository.search(filter, 1, 1)).thenReturn(expectedPage);
 
-        PageResult<Sale> result = useCase.execute(filter, 1, 1);
+        PageResult<SaleSummary> result = useCase.execute(filter, 1, 1);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
@@ -158,8 +167,8 @@ class SearchSalesUseCaseTest {
     @Test
     void shouldSearchBySaleCode() {
         String filter = "SALE001";
-        PageResult<Sale> expectedPage = new PageResult<>(
-                List.of(sale1),
+        PageResult<SaleSummary> expectedPage = new PageResult<>(
+                List.of(summary1),
                 1L,
                 0,
                 10
@@ -167,11 +176,57 @@ class SearchSalesUseCaseTest {
 
         when(saleRepository.search(filter, 0, 10)).thenReturn(expectedPage);
 
-        PageResult<Sale> result = useCase.execute(filter, 0, 10);
+        PageResult<SaleSummary> result = useCase.execute(filter, 0, 10);
 
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
         assertThat(result.getContent().get(0).getCode()).isEqualTo("SALE001");
         verify(saleRepository, times(1)).search(filter, 0, 10);
     }
+
+    @Test
+    void shouldSearchSalesByCursor() {
+        CursorPageResult<SaleSummary> expectedPage = new CursorPageResult<>(
+                List.of(summary1),
+                1,
+                "next-token",
+                null
+        );
+
+        when(saleRepository.searchAfter("", "token", 1, false)).thenReturn(expectedPage);
+
+        CursorPageResult<SaleSummary> result = useCase.execute("", "token", 1, false);
+
+        assertThat(result.getContent()).containsExactly(summary1);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getNextCursor()).isEqualTo("next-token");
+        assertThat(result.getTotalElements()).isNull();
+        verify(saleRepository, times(1)).searchAfter("", "token", 1, false);
+    }
+
+    @Test
+    void shouldRejectNonPositiveCursorPageSize() {
+        assertThatThrownBy(() -> useCase.execute("", null, 0, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tamanho da página deve ser maior que zero");
+
+        verifyNoInteractions(saleRepository);
+    }
+
+    private SaleSummary summaryOf(Long id, Sale sale) {
+        return new SaleSummary(id, sale.getCode(), sale.getCustomerCode(), sale.getCustomerName(),
+                sale.getSellerCode(), sale.getSellerName(), sale.getPaymentMethod(), sale.getItems().size(),
+                sale.getItems().get(0).getProductName(), sale.getTotalAmount(), LocalDateTime.now());
+    }
+
+    @Test
+    void shouldRejectPageSizeAboveMaximum() {
+        assertThatThrownBy(() -> useCase.execute("", null, PageResult.MAX_SIZE + 1, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Tamanho da página deve ser no máximo " + PageResult.MAX_SIZE);
+        assertThatThrownBy(() -> useCase.execute("", 0, PageResult.MAX_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(saleRepository);
+    }
 }
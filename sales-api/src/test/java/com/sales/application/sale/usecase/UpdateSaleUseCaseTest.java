@@ -1,27 +1,32 @@
 package com.sales.application.sale.usecase;
 
+import com.sales.domain.customer.port.CustomerRepository;
 import com.sales.domain.product.entity.Product;
 import com.sales.domain.product.port.ProductRepository;
+import com.sales.domain.product.port.ProductStockRepository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.port.SalesRollupRepository;
 import com.sales.domain.sale.valueobject.PaymentMethod;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +39,12 @@ class UpdateSaleUseCaseTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @Mock
+    private ProductStockRepository productStockRepository;
+
     private UpdateSaleUseCase updateSaleUseCase;
 
     private Sale existingSale;
@@ -43,6 +53,9 @@ class UpdateSaleUseCaseTest {
 
     @BeforeEach
     void setUp() {
+        updateSaleUseCase = new UpdateSaleUseCase(saleRepository,
+                new SaleReferenceResolver(mock(CustomerRepository.class), productRepository), salesRollupRepository,
+                productStockRepository);
         existingSale = Sale.createCashSale(
                 "SALE001",
                 "CUST001",
@@ -93,7 +106,7 @@ class UpdateSaleUseCaseTest {
         newItems.add(newItem);
 
         when(saleRepository.findById(1L)).thenReturn(Optional.of(existingSale));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(product1));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(product1));
         when(saleRepository.save(any(Sale.class))).thenReturn(existingSale);
 
         Sale result = updateSaleUseCase.execute(
@@ -108,8 +121,28 @@ class UpdateSaleUseCaseTest {
 
         assertThat(result).isNotNull();
         verify(saleRepository).findById(1L);
-        verify(productRepository).findByCode("PROD001");
+        verify(productRepository).findByCodes(Set.of("PROD001"));
+        verify(productStockRepository).reserve(Map.of("PROD001", 1));
+        verify(productStockRepository, never()).release(any());
         verify(saleRepository).save(existingSale);
+        verify(salesRollupRepository).revert(existingSale);
+        verify(salesRollupRepository).record(existingSale);
+    }
+
+    @Test
+    @DisplayName("Should reserve new products and release removed ones")
+    void shouldAdjustStockForReplacedItems() {
+
+        List<SaleItem> newItems = List.of(new SaleItem("PROD002", "Base Líquida", 1, new BigDecimal("89.00")));
+
+        when(saleRepository.findById(1L)).thenReturn(Optional.of(existingSale));
+        when(productRepository.findByCodes(Set.of("PROD002"))).thenReturn(List.of(product2));
+        when(saleRepository.save(any(Sale.class))).thenReturn(existingSale);
+
+        updateSaleUseCase.execute(1L, "SELLER001", "Vendedor", PaymentMethod.PIX, null, null, newItems);
+
+        verify(productStockRepository).reserve(Map.of("PROD002", 1));
+        verify(productStockRepository).release(Map.of("PROD001", 2));
     }
 
     @Test
@@ -143,7 +176,7 @@ class UpdateSaleUseCaseTest {
         newItems.add(newItem);
 
         when(saleRepository.findById(1L)).thenReturn(Optional.of(existingSale));
-        when(productRepository.findByCode("NONEXISTENT")).thenReturn(Optional.empty());
+        when(productRepository.findByCodes(Set.of("NONEXISTENT"))).thenReturn(List.of());
 
         assertThatThrownBy(() -> updateSaleUseCase.execute(
                 1L,
@@ -158,7 +191,7 @@ class UpdateSaleUseCaseTest {
                 .hasMessage("Produto não encontrado com código: NONEXISTENT");
 
         verify(saleRepository).findById(1L);
-        verify(productRepository).findByCode("NONEXISTENT");
+        verify(productRepository).findByCodes(Set.of("NONEXISTENT"));
         verify(saleRepository, never()).save(any(Sale.class));
     }
 
@@ -175,8 +208,7 @@ class UpdateSaleUseCaseTest {
         newItems.add(item2);
 
         when(saleRepository.findById(1L)).thenReturn(Optional.of(existingSale));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(product1));
-        when(productRepository.findByCode("PROD002")).thenReturn(Optional.of(product2));
+        when(productRepository.findByCodes(Set.of("PROD001", "PROD002"))).thenReturn(List.of(product1, product2));
         when(saleRepository.save(any(Sale.class))).thenReturn(existingSale);
 
         Sale result = updateSaleUseCase.execute(
@@ -190,8 +222,8 @@ class UpdateSaleUseCaseTest {
         );
 
         assertThat(result).isNotNull();
-        verify(productRepository).findByCode("PROD001");
-        verify(productRepository).findByCode("PROD002");
+        verify(productRepository).findByCodes(Set.of("PROD001", "PROD002"));
+        verify(productRepository, never()).findByCode(anyString());
     }
 
     @Test
@@ -203,7 +235,7 @@ class UpdateSaleUseCaseTest {
         items.add(item);
 
         when(saleRepository.findById(1L)).thenReturn(Optional.of(existingSale));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(product1));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(product1));
         when(saleRepository.save(any(Sale.class))).thenReturn(existingSale);
 
         Sale result = updateSaleUseCase.execute(
@@ -229,7 +261,7 @@ class UpdateSaleUseCaseTest {
         items.add(item);
 
         when(saleRepository.findById(1L)).thenReturn(Optional.of(existingSale));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(product1));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(product1));
         when(saleRepository.save(any(Sale.class))).thenReturn(existingSale);
 
         updateSaleUseCase.execute(
@@ -242,9 +274,11 @@ class UpdateSaleUseCaseTest {
                 items
         );
 
-        var inOrder = inOrder(saleRepository, productRepository);
+        var inOrder = inOrder(saleRepository, productRepository, salesRollupRepository);
         inOrder.verify(saleRepository).findById(1L);
-        inOrder.verify(productRepository).findByCode("PROD001");
+        inOrder.verify(productRepository).findByCodes(Set.of("PROD001"));
+        inOrder.verify(salesRollupRepository).revert(existingSale);
         inOrder.verify(saleRepository).save(existingSale);
+        inOrder.verify(salesRollupRepository).record(existingSale);
     }
 }
@@ -2,6 +2,7 @@ package com.sales.domain.auth.entity;
 
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import com.sales.domain.auth.valueobject.Token;
 import org.junit.jupiter.api.Test;
 
@@ -14,7 +15,7 @@ class UserTest {
     @Test
     void shouldCreateValidUser() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
 
@@ -28,7 +29,7 @@ class UserTest {
     @Test
     void shouldFailWhenCustomerCodeIsEmpty() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         assertThatThrownBy(() -> new User("", email, password))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -38,7 +39,7 @@ class UserTest {
     @Test
     void shouldFailWhenCustomerCodeIsNull() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         assertThatThrownBy(() -> new User(null, email, password))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -47,7 +48,7 @@ class UserTest {
 
     @Test
     void shouldFailWhenEmailIsNull() {
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         assertThatThrownBy(() -> new User("CUST001", null, password))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -67,32 +68,32 @@ class UserTest {
     void shouldAuthenticateWithCorrectPassword() {
         Email email = new Email("joao@example.com");
         String plainPassword = "SecurePass123!";
-        Password password = Password.fromPlainText(plainPassword);
+        Password password = Password.fromPlainText(plainPassword, TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
 
-        assertThat(user.authenticate(plainPassword)).isTrue();
+        assertThat(user.authenticate(plainPassword, TestPasswordHasher.INSTANCE)).isTrue();
     }
 
     @Test
     void shouldFailAuthenticationWithIncorrectPassword() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
 
-        assertThat(user.authenticate("WrongPassword")).isFalse();
+        assertThat(user.authenticate("WrongPassword", TestPasswordHasher.INSTANCE)).isFalse();
     }
 
     @Test
     void shouldFailAuthenticationWhenUserIsInactive() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         user.deactivate();
 
-        assertThatThrownBy(() -> user.authenticate("SecurePass123!"))
+        assertThatThrownBy(() -> user.authenticate("SecurePass123!", TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("Usuário está inativo");
     }
@@ -100,37 +101,50 @@ class UserTest {
     @Test
     void shouldChangePassword() {
         Email email = new Email("joao@example.com");
-        Password oldPassword = Password.fromPlainText("OldPass123!");
-        Password newPassword = Password.fromPlainText("NewPass123!");
+        Password oldPassword = Password.fromPlainText("OldPass123!", TestPasswordHasher.INSTANCE);
+        Password newPassword = Password.fromPlainText("NewPass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, oldPassword);
         user.changePassword(newPassword);
 
-        assertThat(user.authenticate("NewPass123!")).isTrue();
-        assertThat(user.authenticate("OldPass123!")).isFalse();
+        assertThat(user.authenticate("NewPass123!", TestPasswordHasher.INSTANCE)).isTrue();
+        assertThat(user.authenticate("OldPass123!", TestPasswordHasher.INSTANCE)).isFalse();
     }
 
     @Test
     void shouldClearResetTokenWhenChangingPassword() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         user.generateResetPasswordToken("reset-token-123", LocalDateTime.now().plusHours(1));
 
         assertThat(user.getResetPasswordToken()).isEqualTo("reset-token-123");
 
-        Password newPassword = Password.fromPlainText("NewPass123!");
+        Password newPassword = Password.fromPlainText("NewPass123!", TestPasswordHasher.INSTANCE);
         user.changePassword(newPassword);
 
         assertThat(user.getResetPasswordToken()).isNull();
         assertThat(user.getResetPasswordTokenExpiresAt()).isNull();
     }
 
+    @Test
+    void shouldKeepResetTokenWhenUpgradingPasswordHash() {
+        Email email = new Email("joao@example.com");
+        User user = new User("CUST001", email, Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE));
+        user.generateResetPasswordToken("reset-token-123", LocalDateTime.now().plusHours(1));
+
+        Password rehashed = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
+        user.upgradePasswordHash(rehashed);
+
+        assertThat(user.getPassword()).isEqualTo(rehashed);
+        assertThat(user.getResetPasswordToken()).isEqualTo("reset-token-123");
+    }
+
     @Test
     void shouldGenerateResetPasswordToken() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
@@ -143,7 +157,7 @@ class UserTest {
     @Test
     void shouldFailGenerateResetTokenWithEmptyToken() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
 
@@ -155,7 +169,7 @@ class UserTest {
     @Test
     void shouldFailGenerateResetTokenWithNullExpiration() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
 
@@ -167,7 +181,7 @@ class UserTest {
     @Test
     void shouldSetResetPasswordTokenFromTokenObject() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
@@ -182,7 +196,7 @@ class UserTest {
     @Test
     void shouldClearResetTokenWhenSetToNull() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         user.generateResetPasswordToken("token", LocalDateTime.now().plusHours(1));
@@ -196,7 +210,7 @@ class UserTest {
     @Test
     void shouldValidateResetToken() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         String token = "reset-token-123";
@@ -208,7 +222,7 @@ class UserTest {
     @Test
     void shouldInvalidateExpiredResetToken() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         String token = "reset-token-123";
@@ -220,7 +234,7 @@ class UserTest {
     @Test
     void shouldInvalidateWrongResetToken() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         user.generateResetPasswordToken("correct-token", LocalDateTime.now().plusHours(1));
@@ -231,7 +245,7 @@ class UserTest {
     @Test
     void shouldReturnFalseWhenNoResetTokenSet() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
 
@@ -241,7 +255,7 @@ class UserTest {
     @Test
     void shouldActivateUser() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
         user.deactivate();
@@ -256,7 +270,7 @@ class UserTest {
     @Test
     void shouldDeactivateUser() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         User user = new User("CUST001", email, password);
 
@@ -270,7 +284,7 @@ class UserTest {
     @Test
     void shouldCreateUserWithAllParameters() {
         Email email = new Email("joao@example.com");
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
         LocalDateTime createdAt = LocalDateTime.now();
         LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
 
@@ -8,7 +8,7 @@ class PasswordTest {
 
     @Test
     void shouldCreatePasswordFromPlainText() {
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         assertThat(password.getHashedValue()).isNotNull();
         assertThat(password.getHashedValue()).isNotEqualTo("SecurePass123!");
@@ -39,78 +39,78 @@ class PasswordTest {
     @Test
     void shouldMatchCorrectPassword() {
         String plainPassword = "SecurePass123!";
-        Password password = Password.fromPlainText(plainPassword);
+        Password password = Password.fromPlainText(plainPassword, TestPasswordHasher.INSTANCE);
 
-        assertThat(password.matches(plainPassword)).isTrue();
+        assertThat(password.matches(plainPassword, TestPasswordHasher.INSTANCE)).isTrue();
     }
 
     @Test
     void shouldNotMatchIncorrectPassword() {
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
-        assertThat(password.matches("WrongPassword123!")).isFalse();
+        assertThat(password.matches("WrongPassword123!", TestPasswordHasher.INSTANCE)).isFalse();
     }
 
     @Test
     void shouldFailWhenPasswordIsNull() {
-        assertThatThrownBy(() -> Password.fromPlainText(null))
+        assertThatThrownBy(() -> Password.fromPlainText(null, TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Senha não pode estar vazia");
     }
 
     @Test
     void shouldFailWhenPasswordIsEmpty() {
-        assertThatThrownBy(() -> Password.fromPlainText(""))
+        assertThatThrownBy(() -> Password.fromPlainText("", TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Senha não pode estar vazia");
     }
 
     @Test
     void shouldFailWhenPasswordIsTooShort() {
-        assertThatThrownBy(() -> Password.fromPlainText("Pass1!"))
+        assertThatThrownBy(() -> Password.fromPlainText("Pass1!", TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Senha deve ter no mínimo 8 caracteres");
     }
 
     @Test
     void shouldFailWhenPasswordMissingUpperCase() {
-        assertThatThrownBy(() -> Password.fromPlainText("password123!"))
+        assertThatThrownBy(() -> Password.fromPlainText("password123!", TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Senha deve conter pelo menos uma letra maiúscula");
     }
 
     @Test
     void shouldFailWhenPasswordMissingLowerCase() {
-        assertThatThrownBy(() -> Password.fromPlainText("PASSWORD123!"))
+        assertThatThrownBy(() -> Password.fromPlainText("PASSWORD123!", TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Senha deve conter pelo menos uma letra minúscula");
     }
 
     @Test
     void shouldFailWhenPasswordMissingNumber() {
-        assertThatThrownBy(() -> Password.fromPlainText("SecurePass!"))
+        assertThatThrownBy(() -> Password.fromPlainText("SecurePass!", TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Senha deve conter pelo menos um número");
     }
 
     @Test
     void shouldFailWhenPasswordMissingSpecialChar() {
-        assertThatThrownBy(() -> Password.fromPlainText("SecurePass123"))
+        assertThatThrownBy(() -> Password.fromPlainText("SecurePass123", TestPasswordHasher.INSTANCE))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Senha deve conter pelo menos um caractere especial");
     }
 
     @Test
     void shouldAcceptValidPasswordWithAllRequirements() {
-        Password password = Password.fromPlainText("ValidPass123!");
+        Password password = Password.fromPlainText("ValidPass123!", TestPasswordHasher.INSTANCE);
 
         assertThat(password.getHashedValue()).isNotNull();
     }
 
     @Test
     void shouldHashDifferentlyForSamePassword() {
-        Password password1 = Password.fromPlainText("SecurePass123!");
-        Password password2 = Password.fromPlainText("SecurePass123!");
+        Password password1 = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
+        Password password2 = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         // Different hashes due to salt
         assertThat(password1.getHashedValue()).isNotEqualTo(password2.getHashedValue());
@@ -118,7 +118,7 @@ class PasswordTest {
 
     @Test
     void shouldReturnMaskedStringInToString() {
-        Password password = Password.fromPlainText("SecurePass123!");
+        Password password = Password.fromPlainText("SecurePass123!", TestPasswordHasher.INSTANCE);
 
         assertThat(password.toString()).isEqualTo("********");
     }
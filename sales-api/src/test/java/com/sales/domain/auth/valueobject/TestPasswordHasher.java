@@ -0,0 +1,29 @@
+package com.sales.domain.auth.valueobject;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import com.sales.domain.auth.port.PasswordHasher;
+
+/**
+ * BCrypt síncrono com custo mínimo, para testes que precisam de hashes reais sem o pool da aplicação.
+ */
+public class TestPasswordHasher implements PasswordHasher {
+
+    public static final TestPasswordHasher INSTANCE = new TestPasswordHasher();
+
+    private static final int COST = 4;
+
+    @Override
+    public String hash(String plainPassword) {
+        return BCrypt.withDefaults().hashToString(COST, plainPassword.toCharArray());
+    }
+
+    @Override
+    public boolean verify(String plainPassword, String hashedPassword) {
+        return BCrypt.verifyer().verify(plainPassword.toCharArray(), hashedPassword).verified;
+    }
+
+    @Override
+    public boolean needsRehash(String hashedPassword) {
+        return false;
+    }
+}
@@ -4,6 +4,8 @@ import com.sales.domain.sale.valueobject.PaymentMethod;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -136,4 +138,64 @@ class SaleTest {
 
         assertThat(sale.getMaskedCardNumber()).isEqualTo("**** **** **** 3456");
     }
+
+    @Test
+    void shouldKeepLastFourDigitsOnCardSale() {
+        Sale sale = new Sale(
+                "SALE001",
+                "CUST001",
+                "João Silva",
+                "SELLER001",
+                "Maria Santos",
+                PaymentMethod.CARTAO_CREDITO,
+                "1234 5678 9012 3456",
+                null
+        );
+
+        assertThat(sale.getCardLastFour()).isEqualTo("3456");
+    }
+
+    @Test
+    void shouldRestoreCardSaleFromLastFourDigits() {
+        Sale sale = Sale.restore(
+                1L,
+                "SALE001",
+                "CUST001",
+                "João Silva",
+                "SELLER001",
+                "Maria Santos",
+                PaymentMethod.CARTAO_CREDITO,
+                "3456",
+                null,
+                new ArrayList<>(),
+                LocalDateTime.now()
+        );
+
+        assertThat(sale.getCardNumber()).isNull();
+        assertThat(sale.getMaskedCardNumber()).isEqualTo("**** **** **** 3456");
+    }
+
+    @Test
+    void shouldRequireCardOrLastFourDigitsWhenRestoringCardSale() {
+        assertThatThrownBy(() -> Sale.restore(
+                1L,
+                "SALE001",
+                "CUST001",
+                "João Silva",
+                "SELLER001",
+                "Maria Santos",
+                PaymentMethod.CARTAO_CREDITO,
+                null,
+                null,
+                new ArrayList<>(),
+                LocalDateTime.now()
+        )).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldExtractLastFourDigits() {
+        assertThat(Sale.lastFourDigits("4532-0151-1283-0366")).isEqualTo("0366");
+        assertThat(Sale.lastFourDigits("123")).isNull();
+        assertThat(Sale.lastFourDigits(null)).isNull();
+    }
 }
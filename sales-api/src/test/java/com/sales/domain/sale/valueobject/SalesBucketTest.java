@@ -0,0 +1,34 @@
+package com.sales.domain.sale.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SalesBucketTest {
+
+    @Test
+    void shouldCreateBucket() {
+        SalesTotals totals = new SalesTotals(2, new BigDecimal("50.00"), new BigDecimal("4.50"));
+        SalesBucket bucket = new SalesBucket(LocalDate.of(2024, 1, 1), totals);
+
+        assertThat(bucket.getPeriodStart()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(bucket.getTotals()).isEqualTo(totals);
+    }
+
+    @Test
+    void shouldDefaultToEmptyTotals() {
+        SalesBucket bucket = new SalesBucket(LocalDate.of(2024, 1, 1), null);
+
+        assertThat(bucket.getTotals()).isEqualTo(SalesTotals.empty());
+    }
+
+    @Test
+    void shouldFailWithNullPeriodStart() {
+        assertThatThrownBy(() -> new SalesBucket(null, SalesTotals.empty()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("Início do período não pode ser nulo");
+    }
+}
@@ -0,0 +1,53 @@
+package com.sales.domain.sale.valueobject;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SalesTotalsTest {
+
+    @Test
+    void shouldCalculateTotalAmount() {
+        SalesTotals totals = new SalesTotals(3, new BigDecimal("100.00"), new BigDecimal("9.00"));
+
+        assertThat(totals.getSalesCount()).isEqualTo(3);
+        assertThat(totals.getSubtotal()).isEqualByComparingTo("100.00");
+        assertThat(totals.getTaxAmount()).isEqualByComparingTo("9.00");
+        assertThat(totals.getTotalAmount()).isEqualByComparingTo("109.00");
+    }
+
+    @Test
+    void shouldScaleValuesToTwoDecimals() {
+        SalesTotals totals = new SalesTotals(1, new BigDecimal("10.005"), new BigDecimal("0.9"));
+
+        assertThat(totals.getSubtotal()).isEqualTo(new BigDecimal("10.01"));
+        assertThat(totals.getTaxAmount()).isEqualTo(new BigDecimal("0.90"));
+    }
+
+    @Test
+    void shouldTreatNullValuesAsZero() {
+        SalesTotals totals = new SalesTotals(0, null, null);
+
+        assertThat(totals.getSubtotal()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(totals.getTaxAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(totals.getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    void shouldCreateEmptyTotals() {
+        SalesTotals totals = SalesTotals.empty();
+
+        assertThat(totals.getSalesCount()).isZero();
+        assertThat(totals.getTotalAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(totals).isEqualTo(new SalesTotals(0, BigDecimal.ZERO, BigDecimal.ZERO));
+    }
+
+    @Test
+    void shouldFailWithNegativeCount() {
+        assertThatThrownBy(() -> new SalesTotals(-1, BigDecimal.ZERO, BigDecimal.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Quantidade de vendas não pode ser negativa");
+    }
+}
@@ -0,0 +1,95 @@
+package com.sales.infrastructure.email;
+
+import com.sales.infrastructure.persistence.email.entity.EmailOutboxEntity;
+import com.sales.infrastructure.persistence.email.repository.EmailOutboxPanacheRepository;
+import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.Mailer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EmailOutboxDispatcher Tests")
+class EmailOutboxDispatcherTest {
+
+    @Mock
+    private EmailOutboxPanacheRepository repository;
+
+    @Mock
+    private Mailer mailer;
+
+    @InjectMocks
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher.maxAttempts = 3;
+        dispatcher.backoffSeconds = 30;
+        dispatcher.maxBackoffMinutes = 60;
+    }
+
+    @Test
+    @DisplayName("Should mark email as sent after delivery")
+    void shouldMarkSentAfterDelivery() {
+        boolean sent = dispatcher.deliver(email(), 1);
+
+        assertThat(sent).isTrue();
+        verify(mailer).send(any(Mail.class));
+        verify(repository).markSent(1L);
+    }
+
+    @Test
+    @DisplayName("Should reschedule email with backoff when delivery fails")
+    void shouldRescheduleWhenDeliveryFails() {
+        doThrow(new RuntimeException("SMTP indisponível")).when(mailer).send(any(Mail.class));
+        LocalDateTime before = LocalDateTime.now();
+
+        boolean sent = dispatcher.deliver(email(), 2);
+
+        assertThat(sent).isFalse();
+        verify(repository).markFailed(eq(1L), eq("SMTP indisponível"),
+                argThat(retryAt -> !retryAt.isBefore(before.plusSeconds(60))));
+        verify(repository, never()).markSent(any());
+    }
+
+    @Test
+    @DisplayName("Should give up after max attempts")
+    void shouldGiveUpAfterMaxAttempts() {
+        doThrow(new RuntimeException("SMTP indisponível")).when(mailer).send(any(Mail.class));
+
+        dispatcher.deliver(email(), 3);
+
+        verify(repository).markFailed(eq(1L), eq("SMTP indisponível"), isNull());
+    }
+
+    @Test
+    @DisplayName("Should double backoff per attempt up to the maximum")
+    void shouldCapExponentialBackoff() {
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(dispatcher.backoff(4)).isEqualTo(Duration.ofMinutes(4));
+        assertThat(dispatcher.backoff(30)).isEqualTo(Duration.ofMinutes(60));
+    }
+
+    private EmailOutboxEntity email() {
+        EmailOutboxEntity email = new EmailOutboxEntity();
+        email.setId(1L);
+        email.setRecipient("test@example.com");
+        email.setSubject("[Vendas API] Bem-vindo!");
+        email.setHtmlBody("<html></html>");
+        return email;
+    }
+}
@@ -0,0 +1,74 @@
+package com.sales.infrastructure.email;
+
+import com.sales.infrastructure.persistence.email.entity.EmailOutboxEntity;
+import com.sales.infrastructure.persistence.email.repository.EmailOutboxPanacheRepository;
+import io.quarkus.mailer.Mail;
+import io.quarkus.mailer.MockMailbox;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("Email outbox Integration Tests")
+class EmailOutboxIntegrationTest {
+
+    @Inject
+    EmailOutbox outbox;
+
+    @Inject
+    EmailOutboxDispatcher dispatcher;
+
+    @Inject
+    EmailOutboxPanacheRepository repository;
+
+    @Inject
+    MockMailbox mailbox;
+
+    @Test
+    @DisplayName("Should deliver enqueued email through the mock mailer")
+    void shouldDeliverEnqueuedEmail() throws Exception {
+        String recipient = "outbox." + UUID.randomUUID() + "@example.com";
+        outbox.enqueue(Mail.withHtml(recipient, "[Vendas API] Bem-vindo!", "<html>Olá</html>"));
+
+        // O job agendado pode reservar o email antes; aguarda o envio por qualquer um dos dois
+        EmailOutboxEntity stored = null;
+        for (int i = 0; i < 50; i++) {
+            dispatcher.dispatch();
+            stored = QuarkusTransaction.requiringNew()
+                    .call(() -> repository.find("recipient", recipient).firstResult());
+            if (EmailOutboxEntity.STATUS_SENT.equals(stored.getStatus())) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+
+        assertThat(mailbox.getMailsSentTo(recipient)).hasSize(1);
+        assertThat(stored.getStatus()).isEqualTo(EmailOutboxEntity.STATUS_SENT);
+        assertThat(stored.getAttempts()).isEqualTo(1);
+        assertThat(stored.getSentAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should discard email when enclosing transaction rolls back")
+    void shouldDiscardEmailOnRollback() {
+        String recipient = "outbox." + UUID.randomUUID() + "@example.com";
+
+        try {
+            QuarkusTransaction.requiringNew().run(() -> {
+                outbox.enqueue(Mail.withHtml(recipient, "[Vendas API] Bem-vindo!", "<html>Olá</html>"));
+                throw new IllegalStateException("Falha no cadastro");
+            });
+        } catch (IllegalStateException expected) {
+            // transação desfeita
+        }
+
+        long count = QuarkusTransaction.requiringNew().call(() -> repository.count("recipient", recipient));
+        assertThat(count).isZero();
+    }
+}
@@ -2,7 +2,6 @@ package com.sales.infrastructure.email;
 
 import com.sales.domain.auth.valueobject.Email;
 import io.quarkus.mailer.Mail;
-import io.quarkus.mailer.Mailer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,7 +24,7 @@ import static org.mockito.Mockito.*;
 class EmailServiceAdapterTest {
 
     @Mock
-    private Mailer mailer;
+    private EmailOutbox outbox;
 
     @InjectMocks
     private EmailServiceAdapter emailService;
@@ -51,7 +50,7 @@ class EmailServiceAdapterTest {
 
         emailService.sendResetPasswordEmail(testEmail, resetToken);
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getTo()).contains("test@example.com");
@@ -68,7 +67,7 @@ class EmailServiceAdapterTest {
 
         emailService.sendResetPasswordEmail(testEmail, resetToken);
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         String expectedLink = "http://localhost:8080/auth/reset-password?token=abc123xyz";
@@ -80,7 +79,7 @@ class EmailServiceAdapterTest {
     void shouldIncludeAppNameInResetEmail() {
         emailService.sendResetPasswordEmail(testEmail, "token");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("Vendas API");
@@ -91,7 +90,7 @@ class EmailServiceAdapterTest {
     void shouldIncludeValidityPeriodInResetEmail() {
         emailService.sendResetPasswordEmail(testEmail, "token");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("Este link é válido por 1 hora");
@@ -100,12 +99,12 @@ class EmailServiceAdapterTest {
     @Test
     @DisplayName("Should handle email sending exception gracefully")
     void shouldHandleEmailSendingExceptionGracefully() {
-        doThrow(new RuntimeException("Email server error")).when(mailer).send(any(Mail.class));
+        doThrow(new RuntimeException("Email server error")).when(outbox).enqueue(any(Mail.class));
 
         assertThatCode(() -> emailService.sendResetPasswordEmail(testEmail, "token"))
                 .doesNotThrowAnyException();
 
-        verify(mailer).send(any(Mail.class));
+        verify(outbox).enqueue(any(Mail.class));
     }
 
     @Test
@@ -115,7 +114,7 @@ class EmailServiceAdapterTest {
 
         emailService.sendWelcomeEmail(testEmail, customerName);
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getTo()).contains("test@example.com");
@@ -131,7 +130,7 @@ class EmailServiceAdapterTest {
 
         emailService.sendWelcomeEmail(testEmail, customerName);
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("Olá <strong>Maria Santos</strong>");
@@ -142,7 +141,7 @@ class EmailServiceAdapterTest {
     void shouldIncludeLoginLinkInWelcomeEmail() {
         emailService.sendWelcomeEmail(testEmail, "João");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("http://localhost:8080/login");
@@ -153,7 +152,7 @@ class EmailServiceAdapterTest {
     void shouldIncludeBenefitsListInWelcomeEmail() {
         emailService.sendWelcomeEmail(testEmail, "João");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("Fazer login no sistema");
@@ -165,12 +164,12 @@ class EmailServiceAdapterTest {
     @Test
     @DisplayName("Should handle welcome email sending exception gracefully")
     void shouldHandleWelcomeEmailSendingExceptionGracefully() {
-        doThrow(new RuntimeException("Email server error")).when(mailer).send(any(Mail.class));
+        doThrow(new RuntimeException("Email server error")).when(outbox).enqueue(any(Mail.class));
 
         assertThatCode(() -> emailService.sendWelcomeEmail(testEmail, "João"))
                 .doesNotThrowAnyException();
 
-        verify(mailer).send(any(Mail.class));
+        verify(outbox).enqueue(any(Mail.class));
     }
 
     @Test
@@ -180,7 +179,7 @@ class EmailServiceAdapterTest {
 
         emailService.sendResetPasswordEmail(testEmail, "token123");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("https://custom.domain.com/auth/reset-password?token=token123");
@@ -193,7 +192,7 @@ class EmailServiceAdapterTest {
 
         emailService.sendResetPasswordEmail(testEmail, "token");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getSubject()).isEqualTo("[Custom App] Redefinição de Senha");
@@ -205,7 +204,7 @@ class EmailServiceAdapterTest {
     void shouldFormatResetEmailAsHtml() {
         emailService.sendResetPasswordEmail(testEmail, "token");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).startsWith("<html>");
@@ -218,7 +217,7 @@ class EmailServiceAdapterTest {
     void shouldFormatWelcomeEmailAsHtml() {
         emailService.sendWelcomeEmail(testEmail, "João");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).startsWith("<html>");
@@ -231,7 +230,7 @@ class EmailServiceAdapterTest {
     void shouldIncludeStyledButtonInResetEmail() {
         emailService.sendResetPasswordEmail(testEmail, "token");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("Redefinir Senha");
@@ -244,7 +243,7 @@ class EmailServiceAdapterTest {
     void shouldIncludeStyledButtonInWelcomeEmail() {
         emailService.sendWelcomeEmail(testEmail, "João");
 
-        verify(mailer).send(mailCaptor.capture());
+        verify(outbox).enqueue(mailCaptor.capture());
 
         Mail sentMail = mailCaptor.getValue();
         assertThat(sentMail.getHtml()).contains("Fazer Login");
@@ -252,18 +251,18 @@ class EmailServiceAdapterTest {
     }
 
     @Test
-    @DisplayName("Should not throw exception when mailer throws error on reset email")
-    void shouldNotThrowExceptionWhenMailerThrowsErrorOnResetEmail() {
-        doThrow(new RuntimeException("SMTP error")).when(mailer).send(any(Mail.class));
+    @DisplayName("Should not throw exception when outbox throws error on reset email")
+    void shouldNotThrowExceptionWhenOutboxThrowsErrorOnResetEmail() {
+        doThrow(new RuntimeException("SMTP error")).when(outbox).enqueue(any(Mail.class));
 
         assertThatCode(() -> emailService.sendResetPasswordEmail(testEmail, "token"))
                 .doesNotThrowAnyException();
     }
 
     @Test
-    @DisplayName("Should not throw exception when mailer throws error on welcome email")
-    void shouldNotThrowExceptionWhenMailerThrowsErrorOnWelcomeEmail() {
-        doThrow(new RuntimeException("SMTP error")).when(mailer).send(any(Mail.class));
+    @DisplayName("Should not throw exception when outbox throws error on welcome email")
+    void shouldNotThrowExceptionWhenOutboxThrowsErrorOnWelcomeEmail() {
+        doThrow(new RuntimeException("SMTP error")).when(outbox).enqueue(any(Mail.class));
 
         assertThatCode(() -> emailService.sendWelcomeEmail(testEmail, "João"))
                 .doesNotThrowAnyException();
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,7 +38,7 @@ class UserActivityPanacheRepositoryTest {
 
     @Test
     void testFindByTokenHash_WhenExists() {
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
 
         Optional<UserActivityEntity> result = repository.findByTokenHash(TEST_TOKEN_HASH);
 
@@ -54,8 +55,8 @@ class UserActivityPanacheRepositoryTest {
     }
 
     @Test
-    void testUpdateActivity_CreateNewActivity() {
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+    void testUpsertActivities_CreateNewActivity() {
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
 
         Optional<UserActivityEntity> result = repository.findByTokenHash(TEST_TOKEN_HASH);
 
@@ -68,15 +69,15 @@ class UserActivityPanacheRepositoryTest {
     }
 
     @Test
-    void testUpdateActivity_UpdateExistingActivity() throws InterruptedException {
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+    void testUpsertActivities_UpdateExistingActivity() throws InterruptedException {
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
         Optional<UserActivityEntity> first = repository.findByTokenHash(TEST_TOKEN_HASH);
         assertTrue(first.isPresent());
         LocalDateTime firstActivityTime = first.get().getLastActivityAt();
 
         Thread.sleep(100);
 
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
         Optional<UserActivityEntity> second = repository.findByTokenHash(TEST_TOKEN_HASH);
 
         assertTrue(second.isPresent());
@@ -88,10 +89,10 @@ class UserActivityPanacheRepositoryTest {
     }
 
     @Test
-    void testUpdateActivity_HandlesConcurrentCreation() {
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+    void testUpsertActivities_HandlesRepeatedCreation() {
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
 
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
 
         long count = repository.count("tokenHash", TEST_TOKEN_HASH);
         assertEquals(1, count, "Should only have one record even with concurrent updates");
@@ -99,7 +100,7 @@ class UserActivityPanacheRepositoryTest {
 
     @Test
     void testDeleteByTokenHash() {
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
         assertTrue(repository.findByTokenHash(TEST_TOKEN_HASH).isPresent());
 
         repository.deleteByTokenHash(TEST_TOKEN_HASH);
@@ -117,8 +118,8 @@ class UserActivityPanacheRepositoryTest {
         String oldTokenHash = "old_token_hash";
         String recentTokenHash = "recent_token_hash";
 
-        repository.updateActivity(oldTokenHash, TEST_USER_ID);
-        repository.updateActivity(recentTokenHash, TEST_USER_ID);
+        record(oldTokenHash, TEST_USER_ID);
+        record(recentTokenHash, TEST_USER_ID);
 
         LocalDateTime cutoffDate = LocalDateTime.now().plusHours(1);
 
@@ -138,8 +139,8 @@ class UserActivityPanacheRepositoryTest {
         String oldTokenHash = "old_token_hash_2";
         String recentTokenHash = "recent_token_hash_2";
 
-        repository.updateActivity(oldTokenHash, TEST_USER_ID);
-        repository.updateActivity(recentTokenHash, TEST_USER_ID);
+        record(oldTokenHash, TEST_USER_ID);
+        record(recentTokenHash, TEST_USER_ID);
 
         LocalDateTime cutoffDate = LocalDateTime.now().minusHours(1);
 
@@ -153,15 +154,15 @@ class UserActivityPanacheRepositoryTest {
     }
 
     @Test
-    void testUpdateActivity_PreservesCreatedAt() throws InterruptedException {
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+    void testUpsertActivities_PreservesCreatedAt() throws InterruptedException {
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
         Optional<UserActivityEntity> first = repository.findByTokenHash(TEST_TOKEN_HASH);
         assertTrue(first.isPresent());
         LocalDateTime originalCreatedAt = first.get().getCreatedAt();
 
         Thread.sleep(100);
 
-        repository.updateActivity(TEST_TOKEN_HASH, TEST_USER_ID);
+        record(TEST_TOKEN_HASH, TEST_USER_ID);
         Optional<UserActivityEntity> second = repository.findByTokenHash(TEST_TOKEN_HASH);
 
         assertTrue(second.isPresent());
@@ -176,8 +177,8 @@ class UserActivityPanacheRepositoryTest {
         Long userId1 = 1L;
         Long userId2 = 2L;
 
-        repository.updateActivity(tokenHash1, userId1);
-        repository.updateActivity(tokenHash2, userId2);
+        record(tokenHash1, userId1);
+        record(tokenHash2, userId2);
 
         Optional<UserActivityEntity> activity1 = repository.findByTokenHash(tokenHash1);
         Optional<UserActivityEntity> activity2 = repository.findByTokenHash(tokenHash2);
@@ -190,4 +191,39 @@ class UserActivityPanacheRepositoryTest {
         repository.deleteByTokenHash(tokenHash1);
         repository.deleteByTokenHash(tokenHash2);
     }
+
+    @Test
+    void testUpsertActivities_CreatesAndNeverMovesBackwards() {
+        LocalDateTime recent = LocalDateTime.now().withNano(0);
+
+        UserActivityEntity first = new UserActivityEntity();
+        first.setTokenHash(TEST_TOKEN_HASH);
+        first.setUserId(TEST_USER_ID);
+        first.setLastActivityAt(recent);
+        repository.upsertActivities(List.of(first));
+
+        UserActivityEntity stale = new UserActivityEntity();
+        stale.setTokenHash(TEST_TOKEN_HASH);
+        stale.setUserId(TEST_USER_ID);
+        stale.setLastActivityAt(recent.minusMinutes(10));
+        repository.upsertActivities(List.of(stale));
+
+        assertEquals(1, repository.count("tokenHash = ?1 and lastActivityAt = ?2", TEST_TOKEN_HASH, recent));
+
+        UserActivityEntity newer = new UserActivityEntity();
+        newer.setTokenHash(TEST_TOKEN_HASH);
+        newer.setUserId(TEST_USER_ID);
+        newer.setLastActivityAt(recent.plusMinutes(1));
+        repository.upsertActivities(List.of(newer));
+
+        assertEquals(1, repository.count("tokenHash = ?1 and lastActivityAt = ?2", TEST_TOKEN_HASH, recent.plusMinutes(1)));
+    }
+
+    private void record(String tokenHash, Long userId) {
+        UserActivityEntity activity = new UserActivityEntity();
+        activity.setTokenHash(tokenHash);
+        activity.setUserId(userId);
+        activity.setLastActivityAt(LocalDateTime.now());
+        repository.upsertActivities(List.of(activity));
+    }
 }
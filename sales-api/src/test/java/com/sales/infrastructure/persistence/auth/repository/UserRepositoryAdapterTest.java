@@ -3,6 +3,7 @@ package com.sales.infrastructure.persistence.auth.repository;
 import com.sales.domain.auth.entity.User;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import com.sales.infrastructure.persistence.auth.entity.UserEntity;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -42,7 +43,7 @@ class UserRepositoryAdapterTest {
     @BeforeEach
     void setUp() {
         testEmail = new Email("test@example.com");
-        testPassword = Password.fromPlainText("Test@123");
+        testPassword = Password.fromPlainText("Test@123", TestPasswordHasher.INSTANCE);
 
         testUser = new User(
                 "CUST001",
@@ -0,0 +1,26 @@
+package com.sales.infrastructure.persistence.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkInserter Tests")
+class BulkInserterTest {
+
+    @Test
+    @DisplayName("Should format COPY fields distinguishing null from empty text")
+    void shouldFormatCopyFields() {
+        assertThat(BulkInserter.copyField(null)).isEmpty();
+        assertThat(BulkInserter.copyField("")).isEqualTo("\"\"");
+        assertThat(BulkInserter.copyField("Rua \"A\", 10")).isEqualTo("\"Rua \"\"A\"\", 10\"");
+        assertThat(BulkInserter.copyField(new BigDecimal("1E+1"))).isEqualTo("\"10\"");
+        assertThat(BulkInserter.copyField(LocalDate.of(1990, 5, 15))).isEqualTo("\"1990-05-15\"");
+        assertThat(BulkInserter.copyField(LocalDateTime.of(2024, 1, 20, 10, 30, 0, 123456789)))
+                .isEqualTo("\"2024-01-20 10:30:00.123456\"");
+    }
+}
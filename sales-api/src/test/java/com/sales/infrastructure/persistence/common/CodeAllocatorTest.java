@@ -0,0 +1,102 @@
+package com.sales.infrastructure.persistence.common;
+
+import com.sales.infrastructure.persistence.common.CodeAllocator.CodeSequence;
+import com.sales.infrastructure.persistence.product.entity.ProductEntity;
+import com.sales.infrastructure.persistence.product.repository.ProductPanacheRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("CodeAllocator Tests")
+class CodeAllocatorTest {
+
+    @Inject
+    CodeAllocator codeAllocator;
+
+    @Inject
+    ProductPanacheRepository productRepository;
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> productRepository.delete("code", "PROD0900"));
+    }
+
+    @Test
+    @DisplayName("Should hand out consecutive codes from the reserved block")
+    void shouldHandOutConsecutiveCodes() {
+        long first = number(codeAllocator.next(CodeSequence.CUSTOMER));
+        long second = number(codeAllocator.next(CodeSequence.CUSTOMER));
+
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("Should never repeat codes under parallel allocation")
+    void shouldNeverRepeatCodesUnderParallelAllocation() throws Exception {
+        int threads = 8;
+        int perThread = CodeAllocator.BLOCK_SIZE;
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        codes.add(codeAllocator.next(CodeSequence.PRODUCT));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(codes).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("Should move past codes already registered when initializing")
+    void shouldMovePastExistingCodesWhenInitializing() {
+        QuarkusTransaction.requiringNew().run(() -> productRepository.persist(product("PROD0900")));
+
+        QuarkusTransaction.requiringNew().run(() -> codeAllocator.initialize(CodeSequence.PRODUCT));
+
+        assertThat(number(codeAllocator.next(CodeSequence.PRODUCT))).isGreaterThan(900);
+    }
+
+    private long number(String code) {
+        return Long.parseLong(code.substring(4));
+    }
+
+    private ProductEntity product(String code) {
+        ProductEntity product = new ProductEntity();
+        product.setCode(code);
+        product.setName("Product Test");
+        product.setType("LIPS");
+        product.setWeight(BigDecimal.valueOf(5.5));
+        product.setPurchasePrice(BigDecimal.valueOf(100.00));
+        product.setSalePrice(BigDecimal.valueOf(150.00));
+        product.setHeight(BigDecimal.valueOf(10.0));
+        product.setWidth(BigDecimal.valueOf(20.0));
+        product.setDepth(BigDecimal.valueOf(30.0));
+        product.setStockQuantity(0);
+        return product;
+    }
+}
@@ -0,0 +1,52 @@
+package com.sales.infrastructure.persistence.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetCursor Tests")
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Should round trip sort key and id")
+    void shouldRoundTripSortKeyAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123456000);
+
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(createdAt, 42L));
+
+        assertThat(LocalDateTime.parse(cursor.getSortKey())).isEqualTo(createdAt);
+        assertThat(cursor.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("Should keep separator inside sort key")
+    void shouldKeepSeparatorInsideSortKey() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode("Batom | Matte", 7L));
+
+        assertThat(cursor.getSortKey()).isEqualTo("Batom | Matte");
+        assertThat(cursor.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("Should produce url safe token")
+    void shouldProduceUrlSafeToken() {
+        String token = KeysetCursor.encode("João Silva??>>", 1L);
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    @DisplayName("Should reject malformed token")
+    void shouldRejectMalformedToken() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido");
+        assertThatThrownBy(() -> KeysetCursor.decode("c2VtLXNlcGFyYWRvcg"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido");
+    }
+}
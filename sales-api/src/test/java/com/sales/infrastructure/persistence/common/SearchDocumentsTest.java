@@ -0,0 +1,80 @@
+package com.sales.infrastructure.persistence.common;
+
+import com.sales.infrastructure.persistence.customer.entity.CustomerEntity;
+import com.sales.infrastructure.persistence.customer.repository.CustomerPanacheRepository;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@QuarkusTest
+@DisplayName("SearchDocuments Tests")
+class SearchDocumentsTest {
+
+    @Inject
+    EntityManager entityManager;
+
+    @Inject
+    CustomerPanacheRepository customerRepository;
+
+    @Test
+    @DisplayName("Should build lowercase concatenation of all searchable columns")
+    void shouldBuildLowercaseConcatenation() {
+        assertThat(SearchDocuments.PRODUCTS).isEqualTo(
+                "LOWER(COALESCE(name, '') || ' ' || COALESCE(code, '') || ' ' || " +
+                        "COALESCE(details, '') || ' ' || COALESCE(type, ''))");
+    }
+
+    @Test
+    @DisplayName("Should build lowercase like pattern")
+    void shouldBuildLowercaseLikePattern() {
+        assertThat(SearchDocuments.likePattern("JOÃO")).isEqualTo("%joão%");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should match the same rows as the per-column filter")
+    void shouldMatchSameRowsAsPerColumnFilter() {
+        customerRepository.deleteAll();
+        customerRepository.persist(createCustomer("CUST0001", "João Silva", "12345678901", "joao@example.com"));
+        customerRepository.persist(createCustomer("CUST0002", "Maria Santos", "98765432100", "maria@example.com"));
+
+        for (String filter : new String[]{"silva", "maria@", "cust000", "98765", "nada"}) {
+            Number documentCount = (Number) entityManager.createNativeQuery(
+                            "SELECT COUNT(*) FROM customers WHERE " + SearchDocuments.CUSTOMERS + " LIKE :pattern")
+                    .setParameter("pattern", SearchDocuments.likePattern(filter))
+                    .getSingleResult();
+
+            assertThat(documentCount.longValue()).as(filter).isEqualTo(customerRepository.countSearch(filter));
+        }
+        assertThat(entityManager.createNativeQuery("SELECT COUNT(*) FROM sales WHERE " + SearchDocuments.SALES + " LIKE '%x%'")
+                .getSingleResult()).isNotNull();
+        assertThat(entityManager.createNativeQuery("SELECT COUNT(*) FROM products WHERE " + SearchDocuments.PRODUCTS + " LIKE '%x%'")
+                .getSingleResult()).isNotNull();
+    }
+
+    private CustomerEntity createCustomer(String code, String name, String cpf, String email) {
+        CustomerEntity customer = new CustomerEntity();
+        customer.setCode(code);
+        customer.setFullName(name);
+        customer.setMotherName("Mãe Teste");
+        customer.setCpf(cpf);
+        customer.setRg("123456789");
+        customer.setZipCode("12345678");
+        customer.setStreet("Rua Teste");
+        customer.setNumber("123");
+        customer.setNeighborhood("Centro");
+        customer.setCity("São Paulo");
+        customer.setState("SP");
+        customer.setBirthDate(LocalDate.of(1990, 1, 1));
+        customer.setCellPhone("11987654321");
+        customer.setEmail(email);
+        return customer;
+    }
+}
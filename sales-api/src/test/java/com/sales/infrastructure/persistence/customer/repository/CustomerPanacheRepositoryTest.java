@@ -171,28 +171,6 @@ class CustomerPanacheRepositoryTest {
         assertThat(exists).isFalse();
     }
 
-    @Test
-    @DisplayName("Should find last customer code")
-    void shouldFindLastCustomerCode() {
-        Optional<String> lastCode = repository.findLastCode();
-
-        assertThat(lastCode).isPresent();
-        assertThat(lastCode.get()).isEqualTo("CUST0001");
-    }
-
-    @Test
-    @Transactional
-    @DisplayName("Should find last code among multiple customers")
-    void shouldFindLastCodeAmongMultipleCustomers() {
-        CustomerEntity customer2 = createTestCustomer("CUST0002", "Pedro Santos", "98765432100", "pedro@example.com");
-        repository.persist(customer2);
-
-        Optional<String> lastCode = repository.findLastCode();
-
-        assertThat(lastCode).isPresent();
-        assertThat(lastCode.get()).isEqualTo("CUST0002");
-    }
-
     @Test
     @DisplayName("Should count all customers")
     void shouldCountAllCustomers() {
@@ -201,6 +179,18 @@ class CustomerPanacheRepositoryTest {
         assertThat(count).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("Should count customers created within date range")
+    void shouldCountCustomersCreatedWithinDateRange() {
+        long inRange = repository.countByCreatedAtBetween(
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        long outOfRange = repository.countByCreatedAtBetween(
+                LocalDateTime.now().minusDays(10), LocalDateTime.now().minusDays(5));
+
+        assertThat(inRange).isEqualTo(1);
+        assertThat(outOfRange).isZero();
+    }
+
     @Test
     @Transactional
     @DisplayName("Should search customers with filter")
@@ -235,6 +225,35 @@ class CustomerPanacheRepositoryTest {
         assertThat(page2).hasSize(1);
     }
 
+    @Test
+    @Transactional
+    @DisplayName("Should search customers after keyset position ordered by name and id")
+    void shouldSearchCustomersAfterKeysetPosition() {
+        repository.persist(createTestCustomer("CUST0002", "Pedro Santos", "98765432100", "pedro@example.com"));
+        repository.persist(createTestCustomer("CUST0003", "Ana Costa", "11122233344", "ana@example.com"));
+
+        List<CustomerEntity> page1 = repository.searchAfter("", null, null, 2);
+        CustomerEntity last = page1.get(1);
+        List<CustomerEntity> page2 = repository.searchAfter("", last.getFullName(), last.getId(), 2);
+
+        assertThat(page1).extracting(CustomerEntity::getFullName).containsExactly("Ana Costa", "João Silva");
+        assertThat(page2).extracting(CustomerEntity::getFullName).containsExactly("Pedro Santos");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should combine filter with keyset position")
+    void shouldCombineFilterWithKeysetPosition() {
+        repository.persist(createTestCustomer("CUST0002", "João Pereira", "98765432100", "pereira@example.com"));
+        repository.persist(createTestCustomer("CUST0003", "Ana Costa", "11122233344", "ana@example.com"));
+
+        List<CustomerEntity> page1 = repository.searchAfter("joão", null, null, 1);
+        List<CustomerEntity> page2 = repository.searchAfter("joão", page1.get(0).getFullName(), page1.get(0).getId(), 1);
+
+        assertThat(page1).extracting(CustomerEntity::getFullName).containsExactly("João Pereira");
+        assertThat(page2).extracting(CustomerEntity::getFullName).containsExactly("João Silva");
+    }
+
     @Test
     @Transactional
     @DisplayName("Should count search results with filter")
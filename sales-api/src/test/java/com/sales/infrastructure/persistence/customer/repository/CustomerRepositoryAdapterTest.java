@@ -310,6 +310,19 @@ class CustomerRepositoryAdapterTest {
         verify(panacheRepository).countSearch("Silva");
     }
 
+    @Test
+    @DisplayName("Should count customers created within date range")
+    void shouldCountCustomersCreatedWithinDateRange() {
+        LocalDateTime start = LocalDateTime.now().minusDays(30);
+        LocalDateTime end = LocalDateTime.now();
+        when(panacheRepository.countByCreatedAtBetween(start, end)).thenReturn(3L);
+        when(panacheRepository.countAll()).thenReturn(10L);
+
+        assertThat(repositoryAdapter.countByCreatedAtBetween(start, end)).isEqualTo(3L);
+        assertThat(repositoryAdapter.count()).isEqualTo(10L);
+        verify(panacheRepository, never()).listAll();
+    }
+
     @Test
     @DisplayName("Should convert entity to domain correctly")
     void shouldConvertEntityToDomainCorrectly() {
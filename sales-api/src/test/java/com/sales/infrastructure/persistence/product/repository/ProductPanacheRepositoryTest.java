@@ -128,28 +128,6 @@ class ProductPanacheRepositoryTest {
         assertThat(exists).isFalse();
     }
 
-    @Test
-    @DisplayName("Should find last product code")
-    void shouldFindLastProductCode() {
-        Optional<String> lastCode = repository.findLastCode();
-
-        assertThat(lastCode).isPresent();
-        assertThat(lastCode.get()).isEqualTo("PROD0001");
-    }
-
-    @Test
-    @Transactional
-    @DisplayName("Should find last code among multiple products")
-    void shouldFindLastCodeAmongMultipleProducts() {
-        repository.persist(createTestProduct("PROD0002", "Product 2"));
-        repository.persist(createTestProduct("PROD0003", "Product 3"));
-
-        Optional<String> lastCode = repository.findLastCode();
-
-        assertThat(lastCode).isPresent();
-        assertThat(lastCode.get()).isEqualTo("PROD0003");
-    }
-
     @Test
     @DisplayName("Should count all products")
     void shouldCountAllProducts() {
@@ -203,6 +181,21 @@ class ProductPanacheRepositoryTest {
         assertThat(page2).hasSize(1);
     }
 
+    @Test
+    @Transactional
+    @DisplayName("Should search products after keyset position ordered by name and id")
+    void shouldSearchProductsAfterKeysetPosition() {
+        repository.persist(createTestProduct("PROD0002", "Product 2"));
+        repository.persist(createTestProduct("PROD0003", "Product 3"));
+
+        List<ProductEntity> page1 = repository.searchAfter("", null, null, 2);
+        ProductEntity last = page1.get(1);
+        List<ProductEntity> page2 = repository.searchAfter("", last.getName(), last.getId(), 2);
+
+        assertThat(page1).extracting(ProductEntity::getName).containsExactly("Product 2", "Product 3");
+        assertThat(page2).extracting(ProductEntity::getName).containsExactly("Product Test");
+    }
+
     @Test
     @Transactional
     @DisplayName("Should count search results with filter")
@@ -5,11 +5,13 @@ import com.sales.domain.product.valueobject.Dimensions;
 import com.sales.domain.product.valueobject.ProductType;
 import com.sales.domain.shared.PageResult;
 import com.sales.infrastructure.persistence.product.entity.ProductEntity;
+import com.sales.infrastructure.persistence.product.service.ProductCache;
 import com.sales.infrastructure.persistence.product.service.ProductCodeGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,6 +25,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +38,9 @@ class ProductRepositoryAdapterTest {
     @Mock
     private ProductCodeGenerator codeGenerator;
 
+    @Mock
+    private ProductCache productCache;
+
     @InjectMocks
     private ProductRepositoryAdapter repositoryAdapter;
 
@@ -201,6 +207,71 @@ class ProductRepositoryAdapterTest {
         verify(panacheRepository).findByCode("PROD001");
     }
 
+    @Test
+    @DisplayName("Should find products by codes in a single query")
+    void shouldFindProductsByCodes() {
+        ProductEntity entity2 = createProductEntity(2L, "PROD002");
+        when(panacheRepository.findByCodes(List.of("PROD001", "PROD002"))).thenReturn(Arrays.asList(testEntity, entity2));
+
+        List<Product> result = repositoryAdapter.findByCodes(List.of("PROD001", "PROD002"));
+
+        assertThat(result).extracting(Product::getCode).containsExactly("PROD001", "PROD002");
+    }
+
+    @Test
+    @DisplayName("Should skip query when finding products by empty codes")
+    void shouldSkipQueryWhenFindingByEmptyCodes() {
+        assertThat(repositoryAdapter.findByCodes(List.of())).isEmpty();
+
+        verifyNoInteractions(panacheRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve product by code from cache without querying the database")
+    void shouldServeFindByCodeFromCache() {
+        Product cached = new Product(1L, "PROD001", "Product Test", ProductType.FACE, "Product details",
+                BigDecimal.valueOf(5.5), BigDecimal.valueOf(100.00), BigDecimal.valueOf(150.00),
+                testDimensions, "Truck", 100, LocalDateTime.now());
+        when(productCache.getByCode("PROD001")).thenReturn(cached);
+
+        Optional<Product> result = repositoryAdapter.findByCode("PROD001");
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getCode()).isEqualTo("PROD001");
+        assertThat(result.get()).isNotSameAs(cached);
+        verifyNoInteractions(panacheRepository);
+    }
+
+    @Test
+    @DisplayName("Should cache product loaded on miss with the version read before the query")
+    void shouldCacheProductLoadedOnMiss() {
+        when(productCache.version()).thenReturn(7L);
+        when(panacheRepository.findByCode("PROD001")).thenReturn(Optional.of(testEntity));
+
+        Optional<Product> result = repositoryAdapter.findByCode("PROD001");
+
+        assertThat(result).isPresent();
+        ArgumentCaptor<Product> captor = ArgumentCaptor.forClass(Product.class);
+        verify(productCache).put(captor.capture(), eq(7L));
+        assertThat(captor.getValue().getCode()).isEqualTo("PROD001");
+        assertThat(result.get()).isNotSameAs(captor.getValue());
+    }
+
+    @Test
+    @DisplayName("Should query only codes missing from cache when finding by codes")
+    void shouldQueryOnlyMissingCodes() {
+        Product cached = new Product(1L, "PROD001", "Product Test", ProductType.FACE, "Product details",
+                BigDecimal.valueOf(5.5), BigDecimal.valueOf(100.00), BigDecimal.valueOf(150.00),
+                testDimensions, "Truck", 100, LocalDateTime.now());
+        when(productCache.getByCode("PROD001")).thenReturn(cached);
+        when(panacheRepository.findByCodes(List.of("PROD002"))).thenReturn(List.of(createProductEntity(2L, "PROD002")));
+
+        List<Product> result = repositoryAdapter.findByCodes(List.of("PROD001", "PROD002"));
+
+        assertThat(result).extracting(Product::getCode).containsExactly("PROD001", "PROD002");
+        verify(panacheRepository).findByCodes(List.of("PROD002"));
+    }
+
     @Test
     @DisplayName("Should find all products")
     void shouldFindAllProducts() {
@@ -314,7 +385,7 @@ class ProductRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should update all product fields")
+    @DisplayName("Should update all product fields except stock")
     void shouldUpdateAllProductFields() {
         Dimensions newDimensions = new Dimensions(
                 BigDecimal.valueOf(15.0),
@@ -351,7 +422,7 @@ class ProductRepositoryAdapterTest {
         assertThat(testEntity.getWidth()).isEqualByComparingTo(BigDecimal.valueOf(25.0));
         assertThat(testEntity.getDepth()).isEqualByComparingTo(BigDecimal.valueOf(35.0));
         assertThat(testEntity.getDestinationVehicle()).isEqualTo("Van");
-        assertThat(testEntity.getStockQuantity()).isEqualTo(75);
+        assertThat(testEntity.getStockQuantity()).isEqualTo(100);
     }
 
     @Test
@@ -0,0 +1,162 @@
+package com.sales.infrastructure.persistence.product.repository;
+
+import com.sales.domain.product.port.ProductRepository;
+import com.sales.infrastructure.persistence.product.entity.ProductEntity;
+import com.sales.infrastructure.persistence.product.service.SoldOutTracker;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@DisplayName("ProductStockRepositoryAdapter Tests")
+class ProductStockRepositoryAdapterTest {
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    @Inject
+    ProductStockRepositoryAdapter stockRepository;
+
+    @Inject
+    ProductPanacheRepository panacheRepository;
+
+    @Inject
+    ProductRepository productRepository;
+
+    @Inject
+    SoldOutTracker soldOutTracker;
+
+    private final List<String> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        QuarkusTransaction.requiringNew().run(() -> created.forEach(code -> panacheRepository.delete("code", code)));
+    }
+
+    @Test
+    @DisplayName("Should never sell more than the available stock under concurrent reservations")
+    void shouldNotOversellUnderConcurrency() throws Exception {
+        String code = createProduct(10);
+        int buyers = 25;
+        AtomicInteger reserved = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < buyers; i++) {
+                futures.add(executor.submit(() -> {
+                    try {
+                        stockRepository.reserve(Map.of(code, 1));
+                        reserved.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        // sem estoque
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(reserved.get()).isEqualTo(10);
+        assertThat(stock(code)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reserve all products or none")
+    void shouldReserveAllOrNothing() {
+        String available = createProduct(5);
+        String scarce = createProduct(1);
+
+        assertThatThrownBy(() -> QuarkusTransaction.requiringNew().run(() ->
+                stockRepository.reserve(Map.of(available, 2, scarce, 3))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Estoque insuficiente para o produto: " + scarce);
+
+        assertThat(stock(available)).isEqualTo(5);
+        assertThat(stock(scarce)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should return stock on release and reopen a sold out product")
+    void shouldReleaseStock() {
+        String code = createProduct(1);
+        assertThatThrownBy(() -> stockRepository.reserve(Map.of(code, 2)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(soldOutTracker.isSoldOut(code, 2)).isTrue();
+
+        stockRepository.release(Map.of(code, 4));
+
+        assertThat(soldOutTracker.isSoldOut(code, 2)).isFalse();
+        assertThat(stock(code)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should refresh cached product after stock changes commit")
+    void shouldInvalidateCachedProductAfterCommit() {
+        String code = createProduct(7);
+        assertThat(cachedStock(code)).isEqualTo(7);
+
+        stockRepository.reserve(Map.of(code, 3));
+
+        assertThat(cachedStock(code)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should leave stock untouched when enforcement is disabled")
+    void shouldSkipStockWhenEnforcementDisabled() {
+        String code = createProduct(0);
+        ProductStockRepositoryAdapter disabled = new ProductStockRepositoryAdapter();
+        disabled.panacheRepository = panacheRepository;
+        disabled.soldOutTracker = soldOutTracker;
+
+        disabled.reserve(Map.of(code, 3));
+        disabled.release(Map.of(code, 1));
+
+        assertThat(stock(code)).isZero();
+        assertThat(soldOutTracker.isSoldOut(code, 3)).isFalse();
+    }
+
+    private int cachedStock(String code) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> productRepository.findByCode(code).orElseThrow().getStockQuantity());
+    }
+
+    private int stock(String code) {
+        return QuarkusTransaction.requiringNew()
+                .call(() -> panacheRepository.findByCode(code).orElseThrow().getStockQuantity());
+    }
+
+    private String createProduct(int stock) {
+        String code = "STOCK" + String.format("%04d", COUNTER.incrementAndGet());
+        ProductEntity product = new ProductEntity();
+        product.setCode(code);
+        product.setName("Produto Estoque " + code);
+        product.setType("LIPS");
+        product.setWeight(BigDecimal.valueOf(0.05));
+        product.setPurchasePrice(BigDecimal.valueOf(18.00));
+        product.setSalePrice(BigDecimal.valueOf(35.00));
+        product.setHeight(BigDecimal.valueOf(8.0));
+        product.setWidth(BigDecimal.valueOf(2.0));
+        product.setDepth(BigDecimal.valueOf(2.0));
+        product.setStockQuantity(stock);
+        QuarkusTransaction.requiringNew().run(() -> panacheRepository.persist(product));
+        created.add(code);
+        return code;
+    }
+}
@@ -0,0 +1,110 @@
+package com.sales.infrastructure.persistence.product.service;
+
+import com.sales.domain.product.entity.Product;
+import com.sales.domain.product.valueobject.Dimensions;
+import com.sales.domain.product.valueobject.ProductType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductCache Tests")
+class ProductCacheTest {
+
+    private ProductCache productCache;
+
+    @BeforeEach
+    void setUp() {
+        productCache = new ProductCache();
+        productCache.enabled = true;
+        productCache.maxEntries = 2;
+        productCache.ttl = Duration.ofMinutes(1);
+    }
+
+    @Test
+    @DisplayName("Should serve cached product by code and id and count hits and misses")
+    void shouldServeByCodeAndId() {
+        assertThat(productCache.getByCode("PROD001")).isNull();
+
+        productCache.put(product(1L, "PROD001"), productCache.version());
+
+        assertThat(productCache.getByCode("PROD001").getId()).isEqualTo(1L);
+        assertThat(productCache.getById(1L).getCode()).isEqualTo("PROD001");
+        ProductCache.CacheStats stats = productCache.stats();
+        assertThat(stats.getHits()).isEqualTo(2);
+        assertThat(stats.getMisses()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used product when full")
+    void shouldEvictLeastRecentlyUsed() {
+        productCache.put(product(1L, "PROD001"), productCache.version());
+        productCache.put(product(2L, "PROD002"), productCache.version());
+        productCache.getByCode("PROD001");
+
+        productCache.put(product(3L, "PROD003"), productCache.version());
+
+        assertThat(productCache.getByCode("PROD002")).isNull();
+        assertThat(productCache.getById(2L)).isNull();
+        assertThat(productCache.getByCode("PROD001")).isNotNull();
+        assertThat(productCache.stats().getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should remove product by code and id on invalidation")
+    void shouldInvalidateProduct() {
+        productCache.put(product(1L, "PROD001"), productCache.version());
+
+        productCache.invalidate(product(1L, "PROD001"));
+
+        assertThat(productCache.getByCode("PROD001")).isNull();
+        assertThat(productCache.getById(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reload product after entry expires")
+    void shouldExpireEntriesAfterTtl() {
+        productCache.ttl = Duration.ZERO;
+        productCache.put(product(1L, "PROD001"), productCache.version());
+
+        assertThat(productCache.getByCode("PROD001")).isNull();
+        assertThat(productCache.getById(1L)).isNull();
+        assertThat(productCache.stats().getSize()).isZero();
+        assertThat(productCache.stats().getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not store product loaded before an invalidation")
+    void shouldIgnoreStaleLoad() {
+        long version = productCache.version();
+        productCache.invalidate(product(1L, "PROD001"));
+
+        productCache.put(product(1L, "PROD001"), version);
+
+        assertThat(productCache.getByCode("PROD001")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should bypass cache when disabled")
+    void shouldBypassWhenDisabled() {
+        productCache.enabled = false;
+
+        productCache.put(product(1L, "PROD001"), productCache.version());
+
+        assertThat(productCache.getByCode("PROD001")).isNull();
+        assertThat(productCache.stats().getMisses()).isZero();
+    }
+
+    private Product product(Long id, String code) {
+        return new Product(id, code, "Batom Matte", ProductType.LIPS, "Batom matte",
+                BigDecimal.valueOf(0.05), BigDecimal.valueOf(18.00), BigDecimal.valueOf(35.00),
+                new Dimensions(BigDecimal.valueOf(8.0), BigDecimal.valueOf(2.0), BigDecimal.valueOf(2.0)),
+                "Todos", 100, LocalDateTime.now());
+    }
+}
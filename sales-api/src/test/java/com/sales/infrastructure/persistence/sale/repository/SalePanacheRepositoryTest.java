@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -88,10 +89,12 @@ class SalePanacheRepositoryTest {
     @Transactional
     @DisplayName("Should find sales by customer code")
     void shouldFindSalesByCustomerCode() {
-        List<SaleEntity> result = repository.findByCustomerCode("CUST0001");
+        List<SaleSummaryRow> result = repository.findSummariesByCustomerCode("CUST0001");
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCustomerCode()).isEqualTo("CUST0001");
+        assertThat(result.get(0).getItemCount()).isEqualTo(2);
+        assertThat(result.get(0).getFirstProductName()).isEqualTo("Product 1");
     }
 
     @Test
@@ -142,19 +145,6 @@ class SalePanacheRepositoryTest {
         assertThat(exists).isFalse();
     }
 
-    @Test
-    @Transactional
-    @DisplayName("Should get monthly revenue")
-    void shouldGetMonthlyRevenue() {
-        LocalDateTime start = LocalDateTime.now().minusMonths(1);
-        LocalDateTime end = LocalDateTime.now().plusMonths(1);
-
-        List<Map<String, Object>> result = repository.getMonthlyRevenue(start, end);
-
-        assertThat(result).isNotEmpty();
-        assertThat(result.get(0)).containsKeys("month", "year", "subtotal");
-    }
-
     @Test
     @Transactional
     @DisplayName("Should get top revenue products")
@@ -169,7 +159,7 @@ class SalePanacheRepositoryTest {
     @Transactional
     @DisplayName("Should search sales with filter")
     void shouldSearchSalesWithFilter() {
-        List<SaleEntity> result = repository.search("Silva", 0, 10);
+        List<SaleSummaryRow> result = repository.searchSummaries("Silva", 0, 10);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCustomerName()).contains("Silva");
@@ -179,7 +169,7 @@ class SalePanacheRepositoryTest {
     @Transactional
     @DisplayName("Should search sales without filter")
     void shouldSearchSalesWithoutFilter() {
-        List<SaleEntity> result = repository.search("", 0, 10);
+        List<SaleSummaryRow> result = repository.searchSummaries("", 0, 10);
 
         assertThat(result).hasSize(1);
     }
@@ -191,8 +181,8 @@ class SalePanacheRepositoryTest {
         repository.persist(createTestSale("SALE0002", "CUST0002", "Pedro Santos"));
         repository.persist(createTestSale("SALE0003", "CUST0003", "Ana Costa"));
 
-        List<SaleEntity> page1 = repository.search("", 0, 2);
-        List<SaleEntity> page2 = repository.search("", 1, 2);
+        List<SaleSummaryRow> page1 = repository.searchSummaries("", 0, 2);
+        List<SaleSummaryRow> page2 = repository.searchSummaries("", 1, 2);
 
         assertThat(page1).hasSize(2);
         assertThat(page2).hasSize(1);
@@ -220,7 +210,7 @@ class SalePanacheRepositoryTest {
     @Transactional
     @DisplayName("Should search by code in filter")
     void shouldSearchByCodeInFilter() {
-        List<SaleEntity> result = repository.search("SALE0001", 0, 10);
+        List<SaleSummaryRow> result = repository.searchSummaries("SALE0001", 0, 10);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCode()).isEqualTo("SALE0001");
@@ -230,7 +220,7 @@ class SalePanacheRepositoryTest {
     @Transactional
     @DisplayName("Should search by customer code in filter")
     void shouldSearchByCustomerCodeInFilter() {
-        List<SaleEntity> result = repository.search("CUST0001", 0, 10);
+        List<SaleSummaryRow> result = repository.searchSummaries("CUST0001", 0, 10);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCustomerCode()).isEqualTo("CUST0001");
@@ -240,7 +230,7 @@ class SalePanacheRepositoryTest {
     @Transactional
     @DisplayName("Should search by seller name in filter")
     void shouldSearchBySellerNameInFilter() {
-        List<SaleEntity> result = repository.search("Maria", 0, 10);
+        List<SaleSummaryRow> result = repository.searchSummaries("Maria", 0, 10);
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getSellerName()).contains("Maria");
@@ -250,7 +240,7 @@ class SalePanacheRepositoryTest {
     @Transactional
     @DisplayName("Should return empty list when search has no results")
     void shouldReturnEmptyListWhenSearchHasNoResults() {
-        List<SaleEntity> result = repository.search("NonExistent", 0, 10);
+        List<SaleSummaryRow> result = repository.searchSummaries("NonExistent", 0, 10);
 
         assertThat(result).isEmpty();
     }
@@ -284,6 +274,172 @@ class SalePanacheRepositoryTest {
         assertThat(totalRevenue).isPositive();
     }
 
+    @Test
+    @Transactional
+    @DisplayName("Should search sales after keyset position ordered by newest first")
+    void shouldSearchSalesAfterKeysetPosition() {
+        repository.persist(createTestSale("SALE0002", "CUST0002", "Pedro Santos"));
+        repository.persist(createTestSale("SALE0003", "CUST0003", "Ana Costa"));
+        entityManager.flush();
+        // created_at não é atualizável pela entidade; ajusta direto na tabela
+        entityManager.createNativeQuery("UPDATE sales SET created_at = ?1 WHERE code = ?2")
+                .setParameter(1, LocalDateTime.of(2024, 1, 1, 10, 0))
+                .setParameter(2, "SALE0002")
+                .executeUpdate();
+        entityManager.createNativeQuery("UPDATE sales SET created_at = ?1 WHERE code = ?2")
+                .setParameter(1, LocalDateTime.of(2024, 1, 2, 10, 0))
+                .setParameter(2, "SALE0003")
+                .executeUpdate();
+        entityManager.clear();
+
+        List<SaleSummaryRow> page1 = repository.searchSummariesAfter("", null, null, 2);
+        SaleSummaryRow last = page1.get(1);
+        List<SaleSummaryRow> page2 = repository.searchSummariesAfter("", last.getCreatedAt(), last.getId(), 2);
+
+        assertThat(page1).extracting(SaleSummaryRow::getCode).containsExactly("SALE0001", "SALE0003");
+        assertThat(page2).extracting(SaleSummaryRow::getCode).containsExactly("SALE0002");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should backfill totals for sales without persisted totals")
+    void shouldBackfillTotalsForSalesWithoutPersistedTotals() {
+        SaleEntity legacySale = createTestSale("SALE0002", "CUST0002", "Pedro Santos");
+        repository.persist(legacySale);
+        entityManager.flush();
+
+        int updated = repository.backfillTotals(new BigDecimal("0.09"), 10);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(2);
+        SaleEntity first = repository.findByCode("SALE0001").orElseThrow();
+        assertThat(first.getSubtotal()).isEqualByComparingTo("200.00");
+        assertThat(first.getTaxAmount()).isEqualByComparingTo("18.00");
+        assertThat(first.getTotalAmount()).isEqualByComparingTo("218.00");
+        assertThat(repository.backfillTotals(new BigDecimal("0.09"), 10)).isZero();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should list cards without last four digits after keyset position")
+    void shouldListCardsWithoutLastFourAfterKeysetPosition() {
+        SaleEntity second = createTestSale("SALE0002", "CUST0002", "Pedro Santos");
+        second.setCardNumber("encrypted");
+        repository.persist(second);
+        SaleEntity filled = createTestSale("SALE0003", "CUST0003", "Ana Lima");
+        filled.setCardNumber("encrypted");
+        filled.setCardLastFour("0366");
+        repository.persist(filled);
+        entityManager.flush();
+
+        List<Object[]> rows = repository.findCardsWithoutLastFour(0, 10);
+        assertThat(rows).extracting(row -> row[1]).containsExactly("SALE0001", "SALE0002");
+        assertThat(repository.findCardsWithoutLastFour(testSale.getId(), 10))
+                .extracting(row -> row[1]).containsExactly("SALE0002");
+
+        repository.updateCardLastFour(testSale.getId(), "5678");
+        entityManager.clear();
+
+        assertThat(repository.findById(testSale.getId()).getCardLastFour()).isEqualTo("5678");
+        assertThat(repository.findCardsWithoutLastFour(0, 10)).extracting(row -> row[1]).containsExactly("SALE0002");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should list cards not encrypted with current key and replace only unchanged values")
+    void shouldListCardsNotEncryptedWithKeyAndReplaceUnchanged() {
+        SaleEntity rotated = createTestSale("SALE0002", "CUST0002", "Pedro Santos");
+        rotated.setCardNumber("v2:AAAA");
+        repository.persist(rotated);
+        SaleEntity previous = createTestSale("SALE0003", "CUST0003", "Ana Lima");
+        previous.setCardNumber("v1:BBBB");
+        repository.persist(previous);
+        entityManager.flush();
+
+        assertThat(repository.findCardsNotEncryptedWith("v2:", 0, 10))
+                .extracting(row -> row[1]).containsExactly("SALE0001", "SALE0003");
+        assertThat(repository.findCardsNotEncryptedWith("v2:", testSale.getId(), 10))
+                .extracting(row -> row[1]).containsExactly("SALE0003");
+
+        assertThat(repository.replaceCardNumber(previous.getId(), "v1:CHANGED", "v2:CCCC")).isFalse();
+        assertThat(repository.replaceCardNumber(previous.getId(), "v1:BBBB", "v2:CCCC")).isTrue();
+        entityManager.clear();
+
+        assertThat(repository.findById(previous.getId()).getCardNumber()).isEqualTo("v2:CCCC");
+        assertThat(repository.findCardsNotEncryptedWith("v2:", 0, 10))
+                .extracting(row -> row[1]).containsExactly("SALE0001");
+    }
+
+    @Test
+    @DisplayName("Should find stored card number only for sales with card")
+    void shouldFindStoredCardNumber() {
+        assertThat(repository.findCardNumber(testSale.getId())).contains("1234****5678");
+        assertThat(repository.findCardNumber(-1L)).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should limit backfill to batch size")
+    void shouldLimitBackfillToBatchSize() {
+        repository.persist(createTestSale("SALE0002", "CUST0002", "Pedro Santos"));
+        entityManager.flush();
+
+        assertThat(repository.backfillTotals(new BigDecimal("0.09"), 1)).isEqualTo(1);
+        assertThat(repository.backfillTotals(new BigDecimal("0.09"), 1)).isEqualTo(1);
+        assertThat(repository.backfillTotals(new BigDecimal("0.09"), 1)).isZero();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should load sale items together with the sale by id")
+    void shouldLoadItemsWithSaleById() {
+        entityManager.flush();
+        entityManager.clear();
+
+        SaleEntity result = repository.findByIdWithItems(testSale.getId()).orElseThrow();
+        entityManager.detach(result);
+
+        assertThat(result.getItems()).hasSize(2);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should list most recent sale summaries up to the limit")
+    void shouldFindRecentSummaries() {
+        repository.persist(createTestSale("SALE0002", "CUST0002", "Pedro Santos"));
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE sales SET created_at = ?1 WHERE code = ?2")
+                .setParameter(1, LocalDateTime.of(2024, 1, 1, 10, 0))
+                .setParameter(2, "SALE0002")
+                .executeUpdate();
+
+        List<SaleSummaryRow> result = repository.findRecentSummaries(1);
+
+        assertThat(result).extracting(SaleSummaryRow::getCode).containsExactly("SALE0001");
+        assertThat(result.get(0).getItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should scroll one export row per item within the date range")
+    void shouldScrollExportLinesWithinRange() {
+        repository.persist(createTestSale("SALE0002", "CUST0002", "Pedro Santos"));
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE sales SET created_at = ?1 WHERE code = ?2")
+                .setParameter(1, LocalDateTime.of(2024, 1, 1, 10, 0))
+                .setParameter(2, "SALE0002")
+                .executeUpdate();
+        entityManager.clear();
+        List<Object[]> rows = new ArrayList<>();
+
+        repository.scrollExportLines(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), 10, rows::add);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows).extracting(row -> row[0]).containsOnly("SALE0001");
+        assertThat(rows).extracting(row -> row[10]).containsExactly("PROD001", "PROD002");
+        assertThat(entityManager.contains(testSale)).isFalse();
+    }
+
     // Helper method
     private SaleEntity createTestSale(String code, String customerCode, String customerName) {
         SaleEntity sale = new SaleEntity();
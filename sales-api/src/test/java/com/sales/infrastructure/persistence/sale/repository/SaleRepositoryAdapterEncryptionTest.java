@@ -74,6 +74,7 @@ class SaleRepositoryAdapterEncryptionTest {
         testEntity.setSellerName("Vendedor Teste");
         testEntity.setPaymentMethod("CARTAO_CREDITO");
         testEntity.setCardNumber(ENCRYPTED_CARD);
+        testEntity.setCardLastFour("0366");
         testEntity.setAmountPaid(new BigDecimal("100.00"));
         testEntity.setCreatedAt(LocalDateTime.now());
 
@@ -94,7 +95,6 @@ class SaleRepositoryAdapterEncryptionTest {
         @DisplayName("Deve criptografar cardNumber ao criar nova venda")
         void shouldEncryptCardNumberWhenCreatingNewSale() {
             when(encryptionService.encrypt(CARD_NUMBER)).thenReturn(ENCRYPTED_CARD);
-            when(encryptionService.decrypt(ENCRYPTED_CARD)).thenReturn(CARD_NUMBER);
             doNothing().when(panacheRepository).persist(any(SaleEntity.class));
 
             Sale result = repositoryAdapter.save(testSale);
@@ -116,7 +116,6 @@ class SaleRepositoryAdapterEncryptionTest {
 
             when(panacheRepository.findById(1L)).thenReturn(testEntity);
             when(encryptionService.encrypt(CARD_NUMBER)).thenReturn(ENCRYPTED_CARD);
-            when(encryptionService.decrypt(ENCRYPTED_CARD)).thenReturn(CARD_NUMBER);
 
             Sale result = repositoryAdapter.save(testSale);
 
@@ -173,52 +172,63 @@ class SaleRepositoryAdapterEncryptionTest {
     }
 
     @Nested
-    @DisplayName("Descriptografia ao Carregar")
-    class DecryptOnLoad {
+    @DisplayName("Leitura sem Descriptografia")
+    class ReadWithoutDecryption {
 
         @Test
-        @DisplayName("Deve descriptografar cardNumber ao buscar por ID")
-        void shouldDecryptCardNumberWhenFindingById() {
-            when(panacheRepository.findByIdOptional(1L))
+        @DisplayName("Deve mascarar cartão a partir do final gravado ao buscar por ID")
+        void shouldMaskFromStoredLastFourWhenFindingById() {
+            when(panacheRepository.findByIdWithItems(1L))
                 .thenReturn(Optional.of(testEntity));
-            when(encryptionService.decrypt(ENCRYPTED_CARD))
-                .thenReturn(CARD_NUMBER);
 
             Optional<Sale> result = repositoryAdapter.findById(1L);
 
             assertTrue(result.isPresent());
-            assertEquals(CARD_NUMBER, result.get().getCardNumber());
-            verify(encryptionService, times(1)).decrypt(ENCRYPTED_CARD);
+            assertNull(result.get().getCardNumber());
+            assertEquals("0366", result.get().getCardLastFour());
+            assertEquals("**** **** **** 0366", result.get().getMaskedCardNumber());
+            verifyNoInteractions(encryptionService);
         }
 
         @Test
-        @DisplayName("Deve descriptografar cardNumber ao buscar por código")
-        void shouldDecryptCardNumberWhenFindingByCode() {
+        @DisplayName("Não deve descriptografar ao buscar por código")
+        void shouldNotDecryptWhenFindingByCode() {
             when(panacheRepository.findByCode("SALE001"))
                 .thenReturn(Optional.of(testEntity));
-            when(encryptionService.decrypt(ENCRYPTED_CARD))
-                .thenReturn(CARD_NUMBER);
 
             Optional<Sale> result = repositoryAdapter.findByCode("SALE001");
 
             assertTrue(result.isPresent());
-            assertEquals(CARD_NUMBER, result.get().getCardNumber());
-            verify(encryptionService, times(1)).decrypt(ENCRYPTED_CARD);
+            assertEquals("0366", result.get().getCardLastFour());
+            verifyNoInteractions(encryptionService);
         }
 
         @Test
-        @DisplayName("Deve descriptografar em findAll")
-        void shouldDecryptInFindAll() {
-            when(panacheRepository.listAll())
-                .thenReturn(List.of(testEntity));
-            when(encryptionService.decrypt(ENCRYPTED_CARD))
-                .thenReturn(CARD_NUMBER);
+        @DisplayName("Não deve descriptografar ao listar mil vendas")
+        void shouldNotDecryptWhenListingThousandSales() {
+            List<SaleEntity> entities = new ArrayList<>();
+            for (long i = 1; i <= 1000; i++) {
+                SaleEntity entity = new SaleEntity();
+                entity.setId(i);
+                entity.setCode("SALE" + i);
+                entity.setCustomerCode("CUST001");
+                entity.setCustomerName("Cliente Teste");
+                entity.setSellerCode("SELLER001");
+                entity.setSellerName("Vendedor Teste");
+                entity.setPaymentMethod("CARTAO_CREDITO");
+                entity.setCardNumber(ENCRYPTED_CARD);
+                entity.setCardLastFour("0366");
+                entity.setAmountPaid(new BigDecimal("100.00"));
+                entity.setCreatedAt(LocalDateTime.now());
+                entities.add(entity);
+            }
+            when(panacheRepository.listAllWithItems()).thenReturn(entities);
 
             List<Sale> results = repositoryAdapter.findAll();
 
-            assertEquals(1, results.size());
-            assertEquals(CARD_NUMBER, results.get(0).getCardNumber());
-            verify(encryptionService, times(1)).decrypt(ENCRYPTED_CARD);
+            assertEquals(1000, results.size());
+            assertTrue(results.stream().allMatch(sale -> "0366".equals(sale.getCardLastFour())));
+            verifyNoInteractions(encryptionService);
         }
 
         @Test
@@ -226,14 +236,16 @@ class SaleRepositoryAdapterEncryptionTest {
         void shouldNotDecryptWhenCardNumberIsNull() {
             testEntity.setPaymentMethod("DINHEIRO");
             testEntity.setCardNumber(null);
+            testEntity.setCardLastFour(null);
 
-            when(panacheRepository.findByIdOptional(1L))
+            when(panacheRepository.findByIdWithItems(1L))
                 .thenReturn(Optional.of(testEntity));
 
             Optional<Sale> result = repositoryAdapter.findById(1L);
 
             assertTrue(result.isPresent());
             assertNull(result.get().getCardNumber());
+            assertNull(result.get().getCardLastFour());
             verify(encryptionService, never()).decrypt(anyString());
         }
 
@@ -242,23 +254,50 @@ class SaleRepositoryAdapterEncryptionTest {
         void shouldNotDecryptWhenCardNumberIsEmpty() {
             testEntity.setPaymentMethod("DINHEIRO");
             testEntity.setCardNumber("");
+            testEntity.setCardLastFour(null);
 
-            when(panacheRepository.findByIdOptional(1L))
+            when(panacheRepository.findByIdWithItems(1L))
                 .thenReturn(Optional.of(testEntity));
 
             Optional<Sale> result = repositoryAdapter.findById(1L);
 
             assertTrue(result.isPresent());
-            assertNull(result.get().getCardNumber());
+            assertNull(result.get().getCardLastFour());
             verify(encryptionService, never()).decrypt(anyString());
         }
+    }
+
+    @Nested
+    @DisplayName("Vendas sem Final do Cartão Gravado")
+    class LegacyRows {
+
+        @BeforeEach
+        void setUp() {
+            testEntity.setCardLastFour(null);
+        }
 
         @Test
-        @DisplayName("Deve retornar valor bruto quando cardNumber armazenado é inválido")
-        void shouldReturnStoredValueWhenCardNumberMalformed() {
+        @DisplayName("Deve descriptografar uma vez para obter o final do cartão")
+        void shouldDecryptOnceToDeriveLastFour() {
+            when(panacheRepository.findByIdWithItems(1L))
+                .thenReturn(Optional.of(testEntity));
+            when(encryptionService.decrypt(ENCRYPTED_CARD))
+                .thenReturn(CARD_NUMBER);
+
+            Optional<Sale> result = repositoryAdapter.findById(1L);
+
+            assertTrue(result.isPresent());
+            assertNull(result.get().getCardNumber());
+            assertEquals("0366", result.get().getCardLastFour());
+            verify(encryptionService, times(1)).decrypt(ENCRYPTED_CARD);
+        }
+
+        @Test
+        @DisplayName("Deve usar valor bruto quando cardNumber armazenado é inválido")
+        void shouldUseStoredValueWhenCardNumberMalformed() {
             testEntity.setCardNumber(MALFORMED_CARD);
 
-            when(panacheRepository.findByIdOptional(1L))
+            when(panacheRepository.findByIdWithItems(1L))
                 .thenReturn(Optional.of(testEntity));
             when(encryptionService.decrypt(MALFORMED_CARD))
                 .thenThrow(new EncryptionException("Dados criptografados inválidos (Base64 malformado)",
@@ -267,14 +306,13 @@ class SaleRepositoryAdapterEncryptionTest {
             Optional<Sale> result = repositoryAdapter.findById(1L);
 
             assertTrue(result.isPresent());
-            assertEquals(MALFORMED_CARD, result.get().getCardNumber());
-            verify(encryptionService, times(1)).decrypt(MALFORMED_CARD);
+            assertEquals("5678", result.get().getCardLastFour());
         }
 
         @Test
         @DisplayName("Deve lançar exceção quando descriptografia falha")
         void shouldThrowExceptionWhenDecryptionFails() {
-            when(panacheRepository.findByIdOptional(1L))
+            when(panacheRepository.findByIdWithItems(1L))
                 .thenReturn(Optional.of(testEntity));
             when(encryptionService.decrypt(ENCRYPTED_CARD))
                 .thenThrow(new EncryptionException("Erro ao descriptografar"));
@@ -286,33 +324,57 @@ class SaleRepositoryAdapterEncryptionTest {
     }
 
     @Nested
-    @DisplayName("Round-trip de Criptografia")
-    class EncryptionRoundTrip {
+    @DisplayName("Acesso Privilegiado ao Cartão")
+    class PrivilegedAccess {
 
         @Test
-        @DisplayName("Deve preservar cardNumber após salvar e carregar")
-        void shouldPreserveCardNumberAfterSaveAndLoad() {
-            when(encryptionService.encrypt(CARD_NUMBER)).thenReturn(ENCRYPTED_CARD);
+        @DisplayName("Deve descriptografar somente em findCardNumber")
+        void shouldDecryptOnlyInFindCardNumber() {
+            when(panacheRepository.findCardNumber(1L)).thenReturn(Optional.of(ENCRYPTED_CARD));
             when(encryptionService.decrypt(ENCRYPTED_CARD)).thenReturn(CARD_NUMBER);
-            when(panacheRepository.findByIdOptional(1L))
-                .thenReturn(Optional.of(testEntity));
+
+            Optional<String> result = repositoryAdapter.findCardNumber(1L);
+
+            assertEquals(Optional.of(CARD_NUMBER), result);
+            verify(encryptionService, times(1)).decrypt(ENCRYPTED_CARD);
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio quando venda não tem cartão")
+        void shouldReturnEmptyWhenSaleHasNoCard() {
+            when(panacheRepository.findCardNumber(2L)).thenReturn(Optional.empty());
+
+            assertTrue(repositoryAdapter.findCardNumber(2L).isEmpty());
+            verifyNoInteractions(encryptionService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Gravação do Final do Cartão")
+    class LastFourOnSave {
+
+        @Test
+        @DisplayName("Deve gravar final do cartão ao salvar e devolver venda sem descriptografar")
+        void shouldStoreLastFourOnSave() {
+            when(encryptionService.encrypt(CARD_NUMBER)).thenReturn(ENCRYPTED_CARD);
 
             doAnswer(invocation -> {
                 SaleEntity entity = invocation.getArgument(0);
+                assertEquals("0366", entity.getCardLastFour());
+                assertEquals(ENCRYPTED_CARD, entity.getCardNumber());
                 entity.setId(1L);
                 return null;
             }).when(panacheRepository).persist(any(SaleEntity.class));
 
             Sale saved = repositoryAdapter.save(testSale);
-            Optional<Sale> loaded = repositoryAdapter.findById(1L);
 
-            assertTrue(loaded.isPresent());
-            assertEquals(CARD_NUMBER, loaded.get().getCardNumber());
+            assertEquals("**** **** **** 0366", saved.getMaskedCardNumber());
+            verify(encryptionService, never()).decrypt(anyString());
         }
 
         @Test
-        @DisplayName("Deve lidar com atualização de cardNumber")
-        void shouldHandleCardNumberUpdate() {
+        @DisplayName("Deve atualizar cartão e final do cartão")
+        void shouldUpdateCardAndLastFour() {
             String newCardNumber = "5425233430109903";
             String newEncrypted = "new_encrypted_card_base64";
 
@@ -326,75 +388,51 @@ class SaleRepositoryAdapterEncryptionTest {
 
             when(panacheRepository.findById(1L)).thenReturn(testEntity);
             when(encryptionService.encrypt(newCardNumber)).thenReturn(newEncrypted);
-            when(encryptionService.decrypt(newEncrypted)).thenReturn(newCardNumber);
 
-            Sale result = repositoryAdapter.save(testSale);
+            repositoryAdapter.save(testSale);
 
-            verify(encryptionService, times(1)).encrypt(newCardNumber);
-            verify(encryptionService, times(1)).decrypt(newEncrypted);
+            assertEquals(newEncrypted, testEntity.getCardNumber());
+            assertEquals("9903", testEntity.getCardLastFour());
+            verify(encryptionService, never()).decrypt(anyString());
         }
-    }
-
-    @Nested
-    @DisplayName("Casos Especiais")
-    class EdgeCases {
 
         @Test
-        @DisplayName("Deve lidar com múltiplas vendas com diferentes cardNumbers")
-        void shouldHandleMultipleSalesWithDifferentCards() {
-            SaleEntity entity2 = new SaleEntity();
-            entity2.setId(2L);
-            entity2.setCode("SALE002");
-            entity2.setCustomerCode("CUST002");
-            entity2.setCustomerName("Cliente 2");
-            entity2.setSellerCode("SELLER001");
-            entity2.setSellerName("Vendedor Teste");
-            entity2.setPaymentMethod("CARTAO_CREDITO");
-            entity2.setCardNumber("encrypted_card_2");
-            entity2.setAmountPaid(new BigDecimal("200.00"));
-            entity2.setCreatedAt(LocalDateTime.now());
-
-            when(panacheRepository.listAll())
-                .thenReturn(List.of(testEntity, entity2));
-            when(encryptionService.decrypt(ENCRYPTED_CARD))
-                .thenReturn(CARD_NUMBER);
-            when(encryptionService.decrypt("encrypted_card_2"))
-                .thenReturn("5425233430109903");
+        @DisplayName("Deve manter cartão gravado ao salvar venda lida sem alterar o cartão")
+        void shouldKeepStoredCardWhenSavingRestoredSale() {
+            Sale restored = Sale.restore(
+                1L, "SALE001", "CUST001", "Cliente Teste",
+                "SELLER001", "Vendedor Teste",
+                PaymentMethod.CARTAO_CREDITO, "0366",
+                new BigDecimal("100.00"), testSale.getItems(),
+                LocalDateTime.now()
+            );
 
-            List<Sale> results = repositoryAdapter.findAll();
+            when(panacheRepository.findById(1L)).thenReturn(testEntity);
+
+            repositoryAdapter.save(restored);
 
-            assertEquals(2, results.size());
-            assertEquals(CARD_NUMBER, results.get(0).getCardNumber());
-            assertEquals("5425233430109903", results.get(1).getCardNumber());
-            verify(encryptionService, times(2)).decrypt(anyString());
+            assertEquals(ENCRYPTED_CARD, testEntity.getCardNumber());
+            assertEquals("0366", testEntity.getCardLastFour());
+            verifyNoInteractions(encryptionService);
         }
 
         @Test
-        @DisplayName("Deve lidar com venda mista (com e sem cartão)")
-        void shouldHandleMixedSales() {
-            SaleEntity cashEntity = new SaleEntity();
-            cashEntity.setId(2L);
-            cashEntity.setCode("SALE002");
-            cashEntity.setCustomerCode("CUST002");
-            cashEntity.setCustomerName("Cliente 2");
-            cashEntity.setSellerCode("SELLER001");
-            cashEntity.setSellerName("Vendedor Teste");
-            cashEntity.setPaymentMethod("DINHEIRO");
-            cashEntity.setCardNumber(null);
-            cashEntity.setAmountPaid(new BigDecimal("200.00"));
-            cashEntity.setCreatedAt(LocalDateTime.now());
-
-            when(panacheRepository.listAll())
-                .thenReturn(List.of(testEntity, cashEntity));
-            when(encryptionService.decrypt(ENCRYPTED_CARD))
-                .thenReturn(CARD_NUMBER);
+        @DisplayName("Deve limpar cartão ao mudar venda para dinheiro")
+        void shouldClearCardWhenChangingToCash() {
+            Sale cash = new Sale(
+                1L, "SALE001", "CUST001", "Cliente Teste",
+                "SELLER001", "Vendedor Teste",
+                PaymentMethod.DINHEIRO, null,
+                new BigDecimal("100.00"), testSale.getItems(),
+                LocalDateTime.now()
+            );
 
-            List<Sale> results = repositoryAdapter.findAll();
+            when(panacheRepository.findById(1L)).thenReturn(testEntity);
+
+            repositoryAdapter.save(cash);
 
-            assertEquals(2, results.size());
-            assertEquals(CARD_NUMBER, results.get(0).getCardNumber());
-            assertNull(results.get(1).getCardNumber());
-            verify(encryptionService, times(1)).decrypt(anyString());
+            assertNull(testEntity.getCardNumber());
+            assertNull(testEntity.getCardLastFour());
         }
     }
 }
@@ -3,14 +3,18 @@ package com.sales.infrastructure.persistence.sale.repository;
 import com.sales.domain.sale.entity.Sale;
 import com.sales.domain.sale.entity.SaleItem;
 import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SaleSummary;
+import com.sales.domain.shared.CursorPageResult;
 import com.sales.domain.shared.PageResult;
 import com.sales.domain.shared.port.EncryptionService;
+import com.sales.infrastructure.persistence.common.KeysetCursor;
 import com.sales.infrastructure.persistence.sale.entity.SaleEntity;
 import com.sales.infrastructure.persistence.sale.entity.SaleItemEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +28,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.lenient;
@@ -87,6 +92,39 @@ class SaleRepositoryAdapterTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should persist computed totals when saving new sale")
+    void shouldPersistTotalsWhenSavingNewSale() {
+        ArgumentCaptor<SaleEntity> captor = ArgumentCaptor.forClass(SaleEntity.class);
+        doNothing().when(panacheRepository).persist(captor.capture());
+
+        repositoryAdapter.save(testSale);
+
+        SaleEntity persisted = captor.getValue();
+        assertThat(persisted.getSubtotal()).isEqualByComparingTo("200.00");
+        assertThat(persisted.getTaxAmount()).isEqualByComparingTo("18.00");
+        assertThat(persisted.getTotalAmount()).isEqualByComparingTo("218.00");
+    }
+
+    @Test
+    @DisplayName("Should persist sales in batch with a single flush")
+    void shouldSaveAllWithSingleFlush() {
+        List<Sale> result = repositoryAdapter.saveAll(List.of(testSale));
+
+        verify(panacheRepository).persist(anyList());
+        verify(panacheRepository).flush();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCode()).isEqualTo("SALE001");
+    }
+
+    @Test
+    @DisplayName("Should skip query when looking up existing codes for empty input")
+    void shouldReturnEmptySetWhenNoCodesGiven() {
+        assertThat(repositoryAdapter.findExistingCodes(List.of())).isEmpty();
+
+        verifyNoInteractions(panacheRepository);
+    }
+
     @Test
     @DisplayName("Should update existing sale")
     void shouldUpdateExistingSale() {
@@ -114,6 +152,8 @@ class SaleRepositoryAdapterTest {
         assertThat(testEntity.getCustomerCode()).isEqualTo("CUST002");
         assertThat(testEntity.getCustomerName()).isEqualTo("Pedro Santos");
         assertThat(testEntity.getPaymentMethod()).isEqualTo("CARTAO_DEBITO");
+        assertThat(testEntity.getSubtotal()).isEqualByComparingTo("200.00");
+        assertThat(testEntity.getTotalAmount()).isEqualByComparingTo("218.00");
     }
 
     @Test
@@ -146,25 +186,25 @@ class SaleRepositoryAdapterTest {
     @Test
     @DisplayName("Should find sale by ID")
     void shouldFindSaleById() {
-        when(panacheRepository.findByIdOptional(1L)).thenReturn(Optional.of(testEntity));
+        when(panacheRepository.findByIdWithItems(1L)).thenReturn(Optional.of(testEntity));
 
         Optional<Sale> result = repositoryAdapter.findById(1L);
 
         assertThat(result).isPresent();
         assertThat(result.get().getId()).isEqualTo(1L);
         assertThat(result.get().getCode()).isEqualTo("SALE001");
-        verify(panacheRepository).findByIdOptional(1L);
+        verify(panacheRepository).findByIdWithItems(1L);
     }
 
     @Test
     @DisplayName("Should return empty when sale not found by ID")
     void shouldReturnEmptyWhenSaleNotFoundById() {
-        when(panacheRepository.findByIdOptional(999L)).thenReturn(Optional.empty());
+        when(panacheRepository.findByIdWithItems(999L)).thenReturn(Optional.empty());
 
         Optional<Sale> result = repositoryAdapter.findById(999L);
 
         assertThat(result).isEmpty();
-        verify(panacheRepository).findByIdOptional(999L);
+        verify(panacheRepository).findByIdWithItems(999L);
     }
 
     @Test
@@ -183,26 +223,28 @@ class SaleRepositoryAdapterTest {
     @DisplayName("Should find all sales")
     void shouldFindAllSales() {
         SaleEntity entity2 = createSaleEntity(2L, "SALE002");
-        when(panacheRepository.listAll()).thenReturn(Arrays.asList(testEntity, entity2));
+        when(panacheRepository.listAllWithItems()).thenReturn(Arrays.asList(testEntity, entity2));
 
         List<Sale> result = repositoryAdapter.findAll();
 
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getCode()).isEqualTo("SALE001");
         assertThat(result.get(1).getCode()).isEqualTo("SALE002");
-        verify(panacheRepository).listAll();
+        verify(panacheRepository).listAllWithItems();
     }
 
     @Test
     @DisplayName("Should find sales by customer code")
     void shouldFindSalesByCustomerCode() {
-        when(panacheRepository.findByCustomerCode("CUST001")).thenReturn(Arrays.asList(testEntity));
+        when(panacheRepository.findSummariesByCustomerCode("CUST001")).thenReturn(List.of(summaryRow(1L, "SALE001")));
 
-        List<Sale> result = repositoryAdapter.findByCustomerCode("CUST001");
+        List<SaleSummary> result = repositoryAdapter.findSummariesByCustomerCode("CUST001");
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getCustomerCode()).isEqualTo("CUST001");
-        verify(panacheRepository).findByCustomerCode("CUST001");
+        assertThat(result.get(0).getItemCount()).isEqualTo(2);
+        assertThat(result.get(0).getPaymentMethod()).isEqualTo(PaymentMethod.CARTAO_CREDITO);
+        verify(panacheRepository).findSummariesByCustomerCode("CUST001");
     }
 
     @Test
@@ -253,6 +295,17 @@ class SaleRepositoryAdapterTest {
         verify(panacheRepository).deleteById(1L);
     }
 
+    @Test
+    @DisplayName("Should backfill totals using sale tax rate")
+    void shouldBackfillTotalsUsingSaleTaxRate() {
+        when(panacheRepository.backfillTotals(Sale.TAX_RATE, 100)).thenReturn(42);
+
+        int updated = repositoryAdapter.backfillTotals(100);
+
+        assertThat(updated).isEqualTo(42);
+        verify(panacheRepository).backfillTotals(Sale.TAX_RATE, 100);
+    }
+
     @Test
     @DisplayName("Should check if sale exists by code")
     void shouldCheckIfSaleExistsByCode() {
@@ -264,27 +317,72 @@ class SaleRepositoryAdapterTest {
         verify(panacheRepository).existsByCode("SALE001");
     }
 
+    @Test
+    @DisplayName("Should return next cursor when there are more sales than page size")
+    void shouldReturnNextCursorWhenThereAreMoreSales() {
+        SaleSummaryRow row2 = summaryRow(2L, "SALE002");
+        when(panacheRepository.searchSummariesAfter("Silva", null, null, 3))
+                .thenReturn(Arrays.asList(summaryRow(1L, "SALE001"), row2, summaryRow(3L, "SALE003")));
+
+        CursorPageResult<SaleSummary> result = repositoryAdapter.searchAfter("Silva", null, 2, false);
+
+        assertThat(result.getContent()).hasSize(2);
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getTotalElements()).isNull();
+        verify(panacheRepository, never()).countSearch(anyString());
+
+        KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(2L);
+        assertThat(LocalDateTime.parse(cursor.getSortKey())).isEqualTo(row2.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should continue after decoded cursor and count when requested")
+    void shouldContinueAfterDecodedCursorAndCountWhenRequested() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 10, 30);
+        String after = KeysetCursor.encode(createdAt, 5L);
+        when(panacheRepository.searchSummariesAfter(null, createdAt, 5L, 11)).thenReturn(List.of(summaryRow(1L, "SALE001")));
+        when(panacheRepository.countSearch(null)).thenReturn(6L);
+
+        CursorPageResult<SaleSummary> result = repositoryAdapter.searchAfter(null, after, 10, true);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getTotalElements()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Should reject cursor with invalid sort key")
+    void shouldRejectCursorWithInvalidSortKey() {
+        String after = KeysetCursor.encode("not-a-date", 5L);
+
+        assertThatThrownBy(() -> repositoryAdapter.searchAfter(null, after, 10, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Cursor inválido");
+    }
+
     @Test
     @DisplayName("Should search sales with pagination")
     void shouldSearchSalesWithPagination() {
-        SaleEntity entity2 = createSaleEntity(2L, "SALE002");
-        when(panacheRepository.search("Silva", 0, 10)).thenReturn(Arrays.asList(testEntity, entity2));
+        when(panacheRepository.searchSummaries("Silva", 0, 10))
+                .thenReturn(Arrays.asList(summaryRow(1L, "SALE001"), summaryRow(2L, "SALE002")));
         when(panacheRepository.countSearch("Silva")).thenReturn(2L);
 
-        PageResult<Sale> result = repositoryAdapter.search("Silva", 0, 10);
+        PageResult<SaleSummary> result = repositoryAdapter.search("Silva", 0, 10);
 
         assertThat(result.getContent()).hasSize(2);
         assertThat(result.getTotalElements()).isEqualTo(2);
         assertThat(result.getPage()).isEqualTo(0);
         assertThat(result.getSize()).isEqualTo(10);
-        verify(panacheRepository).search("Silva", 0, 10);
+        verify(panacheRepository).searchSummaries("Silva", 0, 10);
         verify(panacheRepository).countSearch("Silva");
     }
 
     @Test
     @DisplayName("Should convert entity to domain with items")
     void shouldConvertEntityToDomainWithItems() {
-        when(panacheRepository.findByIdOptional(1L)).thenReturn(Optional.of(testEntity));
+        when(panacheRepository.findByIdWithItems(1L)).thenReturn(Optional.of(testEntity));
 
         Optional<Sale> result = repositoryAdapter.findById(1L);
 
@@ -326,7 +424,7 @@ class SaleRepositoryAdapterTest {
     @Test
     @DisplayName("Should convert payment method correctly")
     void shouldConvertPaymentMethodCorrectly() {
-        when(panacheRepository.findByIdOptional(1L)).thenReturn(Optional.of(testEntity));
+        when(panacheRepository.findByIdWithItems(1L)).thenReturn(Optional.of(testEntity));
 
         Optional<Sale> result = repositoryAdapter.findById(1L);
 
@@ -337,7 +435,7 @@ class SaleRepositoryAdapterTest {
     @Test
     @DisplayName("Should convert entity to domain correctly")
     void shouldConvertEntityToDomainCorrectly() {
-        when(panacheRepository.findByIdOptional(1L)).thenReturn(Optional.of(testEntity));
+        when(panacheRepository.findByIdWithItems(1L)).thenReturn(Optional.of(testEntity));
 
         Optional<Sale> result = repositoryAdapter.findById(1L);
 
@@ -350,7 +448,8 @@ class SaleRepositoryAdapterTest {
         assertThat(sale.getSellerCode()).isEqualTo(testEntity.getSellerCode());
         assertThat(sale.getSellerName()).isEqualTo(testEntity.getSellerName());
         assertThat(sale.getPaymentMethod().name()).isEqualTo(testEntity.getPaymentMethod());
-        assertThat(sale.getCardNumber()).isEqualTo(testEntity.getCardNumber());
+        assertThat(sale.getCardNumber()).isNull();
+        assertThat(sale.getCardLastFour()).isEqualTo("5678");
         assertThat(sale.getAmountPaid()).isEqualByComparingTo(testEntity.getAmountPaid());
     }
 
@@ -385,4 +484,9 @@ class SaleRepositoryAdapterTest {
 
         return entity;
     }
+
+    private SaleSummaryRow summaryRow(Long id, String code) {
+        return new SaleSummaryRow(id, code, "CUST001", "João Silva", "SELLER001", "Maria Vendedora",
+                "CARTAO_CREDITO", BigDecimal.valueOf(218.00), LocalDateTime.now(), 2L, "Product 1");
+    }
 }
@@ -0,0 +1,172 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import com.sales.infrastructure.persistence.sale.entity.SaleEntity;
+import com.sales.infrastructure.persistence.sale.entity.SaleItemEntity;
+import com.sales.infrastructure.persistence.sale.entity.SalesDailyRollupEntity;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@QuarkusTest
+@DisplayName("SalesDailyRollupPanacheRepository Tests")
+class SalesDailyRollupPanacheRepositoryTest {
+
+    @Inject
+    SalesDailyRollupPanacheRepository repository;
+
+    @Inject
+    EntityManager entityManager;
+
+    @BeforeEach
+    @Transactional
+    void setUp() {
+        entityManager.createQuery("DELETE FROM SalesDailyRollupEntity").executeUpdate();
+        entityManager.createQuery("DELETE FROM SaleItemEntity").executeUpdate();
+        entityManager.createQuery("DELETE FROM SaleEntity").executeUpdate();
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should create rollup row on first increment and accumulate on next ones")
+    void shouldAccumulateIncrementsOnSameRow() {
+        LocalDate date = LocalDate.of(2024, 3, 15);
+
+        repository.increment(date, "PIX", 1, 3, new BigDecimal("200.00"), new BigDecimal("18.00"));
+        repository.increment(date, "PIX", 1, 1, new BigDecimal("100.00"), new BigDecimal("9.00"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<SalesDailyRollupEntity> rows = repository.listAll();
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getSalesCount()).isEqualTo(2L);
+        assertThat(rows.get(0).getItemCount()).isEqualTo(4L);
+        assertThat(rows.get(0).getSubtotal()).isEqualByComparingTo("300.00");
+        assertThat(rows.get(0).getTaxAmount()).isEqualByComparingTo("27.00");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should subtract values on negative increment")
+    void shouldSubtractValuesOnNegativeIncrement() {
+        LocalDate date = LocalDate.of(2024, 3, 15);
+
+        repository.increment(date, "PIX", 1, 3, new BigDecimal("200.00"), new BigDecimal("18.00"));
+        repository.increment(date, "PIX", -1, -3, new BigDecimal("-200.00"), new BigDecimal("-18.00"));
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, Object> totals = repository.getTotals(date, date);
+
+        assertThat(((Number) totals.get("salesCount")).longValue()).isZero();
+        assertThat((BigDecimal) totals.get("subtotal")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should rebuild rollup from persisted sale totals grouped by day and payment method")
+    void shouldRebuildRollupFromSales() {
+        persistSale("SALE0001", "PIX", 2, new BigDecimal("50.00"));
+        persistSale("SALE0002", "PIX", 1, new BigDecimal("10.05"));
+        persistSale("SALE0003", "DINHEIRO", 1, new BigDecimal("30.00"));
+        repository.increment(LocalDate.of(2000, 1, 1), "PIX", 5, 5, BigDecimal.TEN, BigDecimal.ONE);
+        entityManager.flush();
+
+        int rows = repository.rebuild();
+        entityManager.clear();
+
+        assertThat(rows).isEqualTo(2);
+        LocalDate today = LocalDate.now();
+        Map<String, Object> totals = repository.getTotals(today, today);
+        assertThat(((Number) totals.get("salesCount")).longValue()).isEqualTo(3L);
+        assertThat((BigDecimal) totals.get("subtotal")).isEqualByComparingTo("140.05");
+        assertThat((BigDecimal) totals.get("taxAmount")).isEqualByComparingTo("12.60");
+        assertThat(repository.getTotals(null, null).get("salesCount")).isEqualTo(3L);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should aggregate totals by month bucket")
+    void shouldAggregateTotalsByMonthBucket() {
+        repository.increment(LocalDate.of(2024, 1, 10), "PIX", 1, 1, new BigDecimal("100.00"), new BigDecimal("9.00"));
+        repository.increment(LocalDate.of(2024, 1, 20), "DINHEIRO", 1, 1, new BigDecimal("50.00"), new BigDecimal("4.50"));
+        repository.increment(LocalDate.of(2024, 2, 5), "PIX", 1, 1, new BigDecimal("200.00"), new BigDecimal("18.00"));
+        entityManager.flush();
+
+        List<Map<String, Object>> buckets = repository.getTotalsByBucket(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29), "month");
+
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0).get("bucketStart").toString()).isEqualTo("2024-01-01");
+        assertThat(((Number) buckets.get(0).get("salesCount")).longValue()).isEqualTo(2L);
+        assertThat((BigDecimal) buckets.get(0).get("subtotal")).isEqualByComparingTo("150.00");
+        assertThat(buckets.get(1).get("bucketStart").toString()).isEqualTo("2024-02-01");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown bucket unit")
+    void shouldRejectUnknownBucketUnit() {
+        assertThatThrownBy(() -> repository.getTotalsByBucket(LocalDate.now(), LocalDate.now(), "hour"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("hour");
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("Should aggregate totals by payment method")
+    void shouldAggregateTotalsByPaymentMethod() {
+        LocalDate date = LocalDate.of(2024, 3, 15);
+        repository.increment(date, "PIX", 1, 1, new BigDecimal("100.00"), new BigDecimal("9.00"));
+        repository.increment(date.plusDays(1), "PIX", 1, 1, new BigDecimal("50.00"), new BigDecimal("4.50"));
+        repository.increment(date, "DINHEIRO", 1, 1, new BigDecimal("20.00"), new BigDecimal("1.80"));
+        entityManager.flush();
+
+        List<Map<String, Object>> rows = repository.getTotalsByPaymentMethod(date, date.plusDays(1));
+
+        assertThat(rows).hasSize(2);
+        Map<String, Object> pix = rows.stream()
+                .filter(row -> "PIX".equals(row.get("paymentMethod")))
+                .findFirst()
+                .orElseThrow();
+        assertThat(((Number) pix.get("salesCount")).longValue()).isEqualTo(2L);
+        assertThat((BigDecimal) pix.get("subtotal")).isEqualByComparingTo("150.00");
+    }
+
+    private void persistSale(String code, String paymentMethod, int quantity, BigDecimal unitPrice) {
+        SaleEntity sale = new SaleEntity();
+        sale.setCode(code);
+        sale.setCustomerCode("CUST0001");
+        sale.setCustomerName("João Silva");
+        sale.setSellerCode("SELLER0001");
+        sale.setSellerName("Maria Vendedora");
+        sale.setPaymentMethod(paymentMethod);
+        sale.setAmountPaid(BigDecimal.valueOf(500.00));
+
+        BigDecimal subtotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        BigDecimal taxAmount = subtotal.multiply(new BigDecimal("0.09")).setScale(2, RoundingMode.HALF_UP);
+        sale.setSubtotal(subtotal);
+        sale.setTaxAmount(taxAmount);
+        sale.setTotalAmount(subtotal.add(taxAmount));
+
+        SaleItemEntity item = new SaleItemEntity();
+        item.setProductCode("PROD001");
+        item.setProductName("Product 1");
+        item.setQuantity(quantity);
+        item.setUnitPrice(unitPrice);
+        sale.addItem(item);
+
+        entityManager.persist(sale);
+    }
+}
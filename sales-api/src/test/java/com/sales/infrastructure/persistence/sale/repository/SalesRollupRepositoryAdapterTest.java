@@ -0,0 +1,203 @@
+package com.sales.infrastructure.persistence.sale.repository;
+
+import com.sales.domain.sale.entity.Sale;
+import com.sales.domain.sale.entity.SaleItem;
+import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SalesBucket;
+import com.sales.domain.sale.valueobject.SalesTotals;
+import com.sales.domain.sale.valueobject.TimeBucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalesRollupRepositoryAdapter Tests")
+class SalesRollupRepositoryAdapterTest {
+
+    @Mock
+    private SalesDailyRollupPanacheRepository panacheRepository;
+
+    @InjectMocks
+    private SalesRollupRepositoryAdapter repositoryAdapter;
+
+    private Sale testSale;
+
+    @BeforeEach
+    void setUp() {
+        testSale = new Sale(
+                1L,
+                "SALE001",
+                "CUST001",
+                "João Silva",
+                "SELLER001",
+                "Maria Vendedora",
+                PaymentMethod.PIX,
+                null,
+                BigDecimal.valueOf(300.00),
+                List.of(
+                        new SaleItem(null, "PROD001", "Product 1", 2, new BigDecimal("50.00")),
+                        new SaleItem(null, "PROD002", "Product 2", 1, new BigDecimal("100.00"))
+                ),
+                LocalDateTime.of(2024, 3, 15, 10, 30)
+        );
+    }
+
+    @Test
+    @DisplayName("Should increment rollup row for sale date and payment method")
+    void shouldIncrementRollupWhenRecordingSale() {
+        repositoryAdapter.record(testSale);
+
+        verify(panacheRepository).increment(
+                LocalDate.of(2024, 3, 15),
+                "PIX",
+                1L,
+                3L,
+                new BigDecimal("200.00"),
+                new BigDecimal("18.00")
+        );
+    }
+
+    @Test
+    @DisplayName("Should issue one increment per day and payment method when recording many sales")
+    void shouldGroupIncrementsWhenRecordingManySales() {
+        Sale sameDay = new Sale(2L, "SALE002", "CUST001", "João Silva", "SELLER001", "Maria Vendedora",
+                PaymentMethod.PIX, null, BigDecimal.valueOf(100.00),
+                List.of(new SaleItem(null, "PROD001", "Product 1", 1, new BigDecimal("100.00"))),
+                LocalDateTime.of(2024, 3, 15, 18, 0));
+        Sale otherDay = new Sale(3L, "SALE003", "CUST001", "João Silva", "SELLER001", "Maria Vendedora",
+                PaymentMethod.PIX, null, BigDecimal.valueOf(100.00),
+                List.of(new SaleItem(null, "PROD001", "Product 1", 1, new BigDecimal("100.00"))),
+                LocalDateTime.of(2024, 3, 16, 9, 0));
+
+        repositoryAdapter.recordAll(List.of(testSale, sameDay, otherDay));
+
+        verify(panacheRepository).increment(
+                LocalDate.of(2024, 3, 15), "PIX", 2L, 4L, new BigDecimal("300.00"), new BigDecimal("27.00"));
+        verify(panacheRepository).increment(
+                LocalDate.of(2024, 3, 16), "PIX", 1L, 1L, new BigDecimal("100.00"), new BigDecimal("9.00"));
+        verifyNoMoreInteractions(panacheRepository);
+    }
+
+    @Test
+    @DisplayName("Should decrement rollup row when reverting sale")
+    void shouldDecrementRollupWhenRevertingSale() {
+        repositoryAdapter.revert(testSale);
+
+        verify(panacheRepository).increment(
+                LocalDate.of(2024, 3, 15),
+                "PIX",
+                -1L,
+                -3L,
+                new BigDecimal("-200.00"),
+                new BigDecimal("-18.00")
+        );
+    }
+
+    @Test
+    @DisplayName("Should rebuild rollup")
+    void shouldRebuildRollup() {
+        when(panacheRepository.rebuild()).thenReturn(4);
+
+        int rows = repositoryAdapter.rebuild();
+
+        assertThat(rows).isEqualTo(4);
+        verify(panacheRepository).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should report empty rollup")
+    void shouldReportEmptyRollup() {
+        when(panacheRepository.count()).thenReturn(0L);
+
+        assertThat(repositoryAdapter.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should map totals for date range")
+    void shouldMapTotalsForDateRange() {
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+        when(panacheRepository.getTotals(start, end)).thenReturn(Map.of(
+                "salesCount", 3L,
+                "subtotal", new BigDecimal("1000.00"),
+                "taxAmount", new BigDecimal("90.00")
+        ));
+
+        SalesTotals totals = repositoryAdapter.sumTotalsByDateRange(start, end);
+
+        assertThat(totals).isEqualTo(new SalesTotals(3, new BigDecimal("1000.00"), new BigDecimal("90.00")));
+        assertThat(totals.getTotalAmount()).isEqualByComparingTo("1090.00");
+    }
+
+    @Test
+    @DisplayName("Should query all-time totals without date filter")
+    void shouldQueryAllTimeTotalsWithoutDateFilter() {
+        when(panacheRepository.getTotals(null, null)).thenReturn(Map.of(
+                "salesCount", 0L,
+                "subtotal", BigDecimal.ZERO,
+                "taxAmount", BigDecimal.ZERO
+        ));
+
+        SalesTotals totals = repositoryAdapter.sumTotals();
+
+        assertThat(totals).isEqualTo(SalesTotals.empty());
+        verify(panacheRepository).getTotals(null, null);
+    }
+
+    @Test
+    @DisplayName("Should map buckets using lowercase unit")
+    void shouldMapBucketsUsingLowercaseUnit() {
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        LocalDate end = LocalDate.of(2024, 2, 29);
+        when(panacheRepository.getTotalsByBucket(start, end, "month")).thenReturn(List.of(
+                Map.of("bucketStart", java.sql.Date.valueOf("2024-01-01"), "salesCount", 2L,
+                        "subtotal", new BigDecimal("300.00"), "taxAmount", new BigDecimal("27.00")),
+                Map.of("bucketStart", LocalDate.of(2024, 2, 1), "salesCount", 1,
+                        "subtotal", 150.0, "taxAmount", 13.5)
+        ));
+
+        List<SalesBucket> buckets = repositoryAdapter.sumTotalsByBucket(start, end, TimeBucket.MONTH);
+
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0).getPeriodStart()).isEqualTo(LocalDate.of(2024, 1, 1));
+        assertThat(buckets.get(0).getTotals().getSalesCount()).isEqualTo(2L);
+        assertThat(buckets.get(1).getPeriodStart()).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(buckets.get(1).getTotals().getSubtotal()).isEqualByComparingTo("150.00");
+        assertThat(buckets.get(1).getTotals().getTaxAmount()).isEqualByComparingTo("13.50");
+    }
+
+    @Test
+    @DisplayName("Should merge payment method aliases")
+    void shouldMergePaymentMethodAliases() {
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+        when(panacheRepository.getTotalsByPaymentMethod(start, end)).thenReturn(List.of(
+                Map.of("paymentMethod", "CARTAO_CREDITO", "salesCount", 2L,
+                        "subtotal", new BigDecimal("200.00"), "taxAmount", new BigDecimal("18.00")),
+                Map.of("paymentMethod", "CREDIT_CARD", "salesCount", 1L,
+                        "subtotal", new BigDecimal("100.00"), "taxAmount", new BigDecimal("9.00")),
+                Map.of("paymentMethod", "PIX", "salesCount", 1L,
+                        "subtotal", new BigDecimal("50.00"), "taxAmount", new BigDecimal("4.50"))
+        ));
+
+        Map<PaymentMethod, SalesTotals> result = repositoryAdapter.sumTotalsByPaymentMethod(start, end);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(PaymentMethod.CARTAO_CREDITO))
+                .isEqualTo(new SalesTotals(3, new BigDecimal("300.00"), new BigDecimal("27.00")));
+        assertThat(result.get(PaymentMethod.PIX).getSalesCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,100 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SaleRepository;
+import com.sales.domain.sale.valueobject.CardReEncryptionBatch;
+import com.sales.domain.shared.port.EncryptionService;
+import com.sales.infrastructure.persistence.sale.repository.CardReEncryptionProgressPanacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CardReEncryptionJob Tests")
+class CardReEncryptionJobTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Mock
+    private EncryptionService encryptionService;
+
+    @Mock
+    private CardReEncryptionProgressPanacheRepository progressRepository;
+
+    @InjectMocks
+    private CardReEncryptionJob job;
+
+    @BeforeEach
+    void setUp() {
+        job.enabled = true;
+        job.batchSize = 2;
+        job.rowsPerSecond = 0;
+        lenient().when(encryptionService.currentKeyId()).thenReturn("v2");
+    }
+
+    @Test
+    @DisplayName("Should resume from saved position and save progress after each batch")
+    void shouldResumeFromSavedPositionAndSaveProgress() {
+        when(progressRepository.findLastId("v2")).thenReturn(10L);
+        when(saleRepository.reEncryptCardNumbers(10L, 2)).thenReturn(new CardReEncryptionBatch(12L, 2, 2));
+        when(saleRepository.reEncryptCardNumbers(12L, 2)).thenReturn(new CardReEncryptionBatch(15L, 1, 0));
+        when(saleRepository.reEncryptCardNumbers(15L, 2)).thenReturn(new CardReEncryptionBatch(15L, 0, 0));
+
+        job.reEncrypt();
+
+        InOrder inOrder = inOrder(saleRepository, progressRepository);
+        inOrder.verify(saleRepository).reEncryptCardNumbers(10L, 2);
+        inOrder.verify(progressRepository).saveLastId("v2", 12L);
+        inOrder.verify(saleRepository).reEncryptCardNumbers(12L, 2);
+        inOrder.verify(progressRepository).saveLastId("v2", 15L);
+        inOrder.verify(saleRepository).reEncryptCardNumbers(15L, 2);
+        verifyNoMoreInteractions(progressRepository);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        job.enabled = false;
+
+        job.reEncrypt();
+
+        verifyNoInteractions(saleRepository, progressRepository);
+    }
+
+    @Test
+    @DisplayName("Should limit throughput to configured rows per second")
+    void shouldLimitThroughputToRowsPerSecond() {
+        job.rowsPerSecond = 20;
+        when(progressRepository.findLastId("v2")).thenReturn(0L);
+        when(saleRepository.reEncryptCardNumbers(0L, 2)).thenReturn(new CardReEncryptionBatch(2L, 2, 2));
+        when(saleRepository.reEncryptCardNumbers(2L, 2)).thenReturn(new CardReEncryptionBatch(2L, 0, 0));
+
+        long started = System.nanoTime();
+        job.reEncrypt();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // 2 linhas a 20 linhas/s = pelo menos 100 ms
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should not propagate exception to scheduler")
+    void shouldNotPropagateExceptionToScheduler() {
+        when(progressRepository.findLastId("v2")).thenReturn(0L);
+        when(saleRepository.reEncryptCardNumbers(anyLong(), anyInt())).thenThrow(new RuntimeException("Database error"));
+
+        assertThatCode(() -> job.reEncrypt()).doesNotThrowAnyException();
+        verify(progressRepository, never()).saveLastId(anyString(), anyLong());
+    }
+}
@@ -0,0 +1,48 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SaleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SaleCardLastFourBackfillJob Tests")
+class SaleCardLastFourBackfillJobTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @InjectMocks
+    private SaleCardLastFourBackfillJob backfillJob;
+
+    @BeforeEach
+    void setUp() {
+        backfillJob.batchSize = 2;
+    }
+
+    @Test
+    @DisplayName("Should backfill with configured batch size")
+    void shouldBackfillWithConfiguredBatchSize() {
+        when(saleRepository.backfillCardLastFour(2)).thenReturn(5);
+
+        backfillJob.backfillCardLastFour();
+
+        verify(saleRepository, times(1)).backfillCardLastFour(2);
+    }
+
+    @Test
+    @DisplayName("Should not propagate exception to scheduler")
+    void shouldNotPropagateExceptionToScheduler() {
+        when(saleRepository.backfillCardLastFour(2)).thenThrow(new RuntimeException("Database error"));
+
+        assertThatCode(() -> backfillJob.backfillCardLastFour())
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,93 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.infrastructure.persistence.sale.entity.SaleIdempotencyKeyEntity;
+import com.sales.infrastructure.persistence.sale.repository.SaleIdempotencyKeyPanacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SaleIdempotencyStore Tests")
+class SaleIdempotencyStoreTest {
+
+    @Mock
+    private SaleIdempotencyKeyPanacheRepository repository;
+
+    @InjectMocks
+    private SaleIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store.ttlHours = 24;
+        store.maxEntries = 2;
+    }
+
+    @Test
+    @DisplayName("Should serve saved response from local cache without querying the table")
+    void shouldServeSavedResponseFromCache() {
+        when(repository.insertIfAbsent(any())).thenReturn(true);
+
+        store.save("key-1", "hash-1", 1L, "{\"id\":1}");
+        Optional<SaleIdempotencyStore.StoredSaleResponse> found = store.find("key-1");
+
+        assertThat(found).isPresent();
+        assertThat(found.get().getRequestHash()).isEqualTo("hash-1");
+        assertThat(found.get().getResponseBody()).isEqualTo("{\"id\":1}");
+        verify(repository, never()).findActive(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the table for keys stored by other instances")
+    void shouldFallBackToTable() {
+        SaleIdempotencyKeyEntity entity = new SaleIdempotencyKeyEntity();
+        entity.setRequestHash("hash-2");
+        entity.setResponseBody("{\"id\":2}");
+        entity.setExpiresAt(LocalDateTime.now().plusHours(1));
+        when(repository.findActive(eq("key-2"), any())).thenReturn(Optional.of(entity));
+
+        assertThat(store.find("key-2")).isPresent();
+        assertThat(store.find("key-2")).isPresent();
+
+        verify(repository, times(1)).findActive(eq("key-2"), any());
+    }
+
+    @Test
+    @DisplayName("Should not cache response when another request stored the key first")
+    void shouldNotCacheWhenKeyAlreadyStored() {
+        when(repository.insertIfAbsent(any())).thenReturn(false);
+        when(repository.findActive(eq("key-3"), any())).thenReturn(Optional.empty());
+
+        store.save("key-3", "hash-3", 3L, "{\"id\":3}");
+
+        assertThat(store.find("key-3")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not propagate failure when storing the key")
+    void shouldNotPropagateStoreFailure() {
+        when(repository.insertIfAbsent(any())).thenThrow(new RuntimeException("Falha"));
+
+        assertThatCode(() -> store.save("key-4", "hash-4", 4L, "{}")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should produce stable SHA-256 hash")
+    void shouldHashContent() {
+        assertThat(SaleIdempotencyStore.hash("abc"))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad")
+                .isEqualTo(SaleIdempotencyStore.hash("abc"));
+    }
+}
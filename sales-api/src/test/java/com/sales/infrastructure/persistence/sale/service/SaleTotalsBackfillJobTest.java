@@ -0,0 +1,65 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SaleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SaleTotalsBackfillJob Tests")
+class SaleTotalsBackfillJobTest {
+
+    @Mock
+    private SaleRepository saleRepository;
+
+    @Mock
+    private SalesRollupRebuildJob salesRollupRebuildJob;
+
+    @InjectMocks
+    private SaleTotalsBackfillJob backfillJob;
+
+    @BeforeEach
+    void setUp() {
+        backfillJob.batchSize = 2;
+    }
+
+    @Test
+    @DisplayName("Should process batches until a partial batch is returned")
+    void shouldProcessBatchesUntilPartialBatch() {
+        when(saleRepository.backfillTotals(2)).thenReturn(2, 2, 1);
+
+        backfillJob.backfillTotals();
+
+        verify(saleRepository, times(3)).backfillTotals(2);
+        verify(salesRollupRebuildJob).afterTotalsBackfill(true);
+    }
+
+    @Test
+    @DisplayName("Should release rollup check only on the first run when there is nothing to backfill")
+    void shouldStopWhenNothingToBackfill() {
+        when(saleRepository.backfillTotals(2)).thenReturn(0);
+
+        backfillJob.backfillTotals();
+        backfillJob.backfillTotals();
+
+        verify(saleRepository, times(2)).backfillTotals(2);
+        verify(salesRollupRebuildJob, times(1)).afterTotalsBackfill(false);
+    }
+
+    @Test
+    @DisplayName("Should not propagate exception to scheduler")
+    void shouldNotPropagateExceptionToScheduler() {
+        when(saleRepository.backfillTotals(2)).thenThrow(new RuntimeException("Database error"));
+
+        assertThatCode(() -> backfillJob.backfillTotals())
+                .doesNotThrowAnyException();
+        verifyNoInteractions(salesRollupRebuildJob);
+    }
+}
@@ -0,0 +1,71 @@
+package com.sales.infrastructure.persistence.sale.service;
+
+import com.sales.domain.sale.port.SalesRollupRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalesRollupRebuildJob Tests")
+class SalesRollupRebuildJobTest {
+
+    @Mock
+    private SalesRollupRepository salesRollupRepository;
+
+    @InjectMocks
+    private SalesRollupRebuildJob rebuildJob;
+
+    @Test
+    @DisplayName("Should rebuild rollup on schedule")
+    void shouldRebuildRollupOnSchedule() {
+        when(salesRollupRepository.rebuild()).thenReturn(10);
+
+        rebuildJob.rebuildRollup();
+
+        verify(salesRollupRepository).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should not propagate exception to scheduler")
+    void shouldNotPropagateExceptionToScheduler() {
+        when(salesRollupRepository.rebuild()).thenThrow(new RuntimeException("Database error"));
+
+        assertThatCode(() -> rebuildJob.rebuildRollup())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should rebuild after totals backfill when rollup is empty")
+    void shouldRebuildAfterBackfillWhenRollupIsEmpty() {
+        when(salesRollupRepository.isEmpty()).thenReturn(true);
+
+        rebuildJob.afterTotalsBackfill(false);
+
+        verify(salesRollupRepository).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should skip rebuild after totals backfill when rollup has data")
+    void shouldSkipRebuildAfterBackfillWhenRollupHasData() {
+        when(salesRollupRepository.isEmpty()).thenReturn(false);
+
+        rebuildJob.afterTotalsBackfill(false);
+
+        verify(salesRollupRepository, never()).rebuild();
+    }
+
+    @Test
+    @DisplayName("Should rebuild populated rollup when old sales received totals")
+    void shouldRebuildWhenTotalsChanged() {
+        rebuildJob.afterTotalsBackfill(true);
+
+        verify(salesRollupRepository, never()).isEmpty();
+        verify(salesRollupRepository).rebuild();
+    }
+}
@@ -0,0 +1,143 @@
+package com.sales.infrastructure.rest;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+import io.restassured.http.ContentType;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Percorre os endpoints com os controllers em virtual threads e falha se algum deles bloquear
+ * segurando um monitor (evento JFR {@code jdk.VirtualThreadPinned}), o que prende a thread portadora.
+ */
+@QuarkusTest
+@TestProfile(VirtualThreadsTestProfile.class)
+@DisplayName("Virtual thread pinning")
+class VirtualThreadPinningTest {
+
+    @Test
+    @DisplayName("Should serve requests on virtual threads without pinning the carrier")
+    void shouldNotPinCarrierThreads() {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        AtomicInteger virtualThreads = new AtomicInteger();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadStart");
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadStart", event -> virtualThreads.incrementAndGet());
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(describe(event)));
+            recording.startAsync();
+
+            exerciseEndpoints();
+
+            recording.stop();
+        }
+
+        assertThat(virtualThreads.get()).as("requisições atendidas em virtual threads").isPositive();
+        assertThat(pinned).as("virtual threads presas à thread portadora").isEmpty();
+    }
+
+    private void exerciseEndpoints() {
+        String customerCode = given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {
+                            "fullName": "Paula Souza",
+                            "motherName": "Rita Souza",
+                            "cpf": "529.982.247-25",
+                            "rg": "987654321",
+                            "address": {
+                                "zipCode": "01310-100",
+                                "street": "Avenida Paulista",
+                                "number": "1000",
+                                "neighborhood": "Bela Vista",
+                                "city": "São Paulo",
+                                "state": "SP"
+                            },
+                            "birthDate": "1985-05-20",
+                            "cellPhone": "(11) 91234-5678",
+                            "email": "paula.vt@example.com"
+                        }
+                        """)
+                .when()
+                .post("/api/v1/customers")
+                .then()
+                .statusCode(201)
+                .extract().path("code");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {
+                            "code": "PRODVT001",
+                            "name": "Base Líquida",
+                            "type": "FACE",
+                            "details": "Base líquida para testes de virtual threads",
+                            "weight": 0.030,
+                            "purchasePrice": 25.00,
+                            "salePrice": 49.90,
+                            "height": 10.00,
+                            "width": 4.00,
+                            "depth": 4.00,
+                            "destinationVehicle": "Todos os tipos de pele"
+                        }
+                        """)
+                .when()
+                .post("/api/v1/products")
+                .then()
+                .statusCode(201);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {
+                            "customerCode": "%s",
+                            "email": "paula.vt@example.com",
+                            "password": "Test@123",
+                            "confirmPassword": "Test@123"
+                        }
+                        """.formatted(customerCode))
+                .when()
+                .post("/api/v1/auth/register")
+                .then()
+                .statusCode(201);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {"email": "paula.vt@example.com", "password": "Test@123"}
+                        """)
+                .when()
+                .post("/api/v1/auth/login")
+                .then()
+                .statusCode(200)
+                .body("access_token", notNullValue());
+
+        for (String path : List.of("/api/v1/customers", "/api/v1/products", "/api/v1/sales",
+                "/api/v1/dashboard/stats", "/api/reports/oldest-products")) {
+            given().when().get(path).then().statusCode(200);
+        }
+    }
+
+    private static String describe(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+        return frames.stream()
+                .limit(12)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n    at ", "\n    at ", ""));
+    }
+}
@@ -0,0 +1,16 @@
+package com.sales.infrastructure.rest;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.Map;
+
+/**
+ * Sobe a aplicação com os controllers anotados com {@code @RunOnVirtualThread} executando em virtual threads.
+ */
+public class VirtualThreadsTestProfile implements QuarkusTestProfile {
+
+    @Override
+    public Map<String, String> getConfigOverrides() {
+        return Map.of("quarkus.virtual-threads.enabled", "true");
+    }
+}
@@ -4,6 +4,7 @@ import com.sales.application.auth.usecase.*;
 import com.sales.domain.auth.entity.User;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import io.quarkus.test.InjectMock;
 import io.quarkus.test.junit.QuarkusTest;
 import io.restassured.http.ContentType;
@@ -42,7 +43,7 @@ class AuthControllerTest {
     @BeforeEach
     void setUp() {
         Email email = new Email("john.silva@email.com");
-        Password password = Password.fromPlainText("Test@123");
+        Password password = Password.fromPlainText("Test@123", TestPasswordHasher.INSTANCE);
         mockUser = new User(1L, "CUST001", email, password, true, null, null, null);
     }
 
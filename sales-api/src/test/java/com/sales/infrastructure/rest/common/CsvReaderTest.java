@@ -0,0 +1,100 @@
+package com.sales.infrastructure.rest.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CsvReader Tests")
+class CsvReaderTest {
+
+    @Test
+    @DisplayName("Should read records by header column")
+    void shouldReadRecordsByHeaderColumn() {
+        CsvReader reader = new CsvReader(new StringReader("name,weight\nBatom, 0.050 \nBase,\n"));
+
+        CsvRecord first = reader.next();
+        CsvRecord second = reader.next();
+
+        assertThat(reader.getHeader()).containsExactly("name", "weight");
+        assertThat(first.getLine()).isEqualTo(2);
+        assertThat(first.get("name")).isEqualTo("Batom");
+        assertThat(first.getDecimal("weight")).isEqualByComparingTo(new BigDecimal("0.050"));
+        assertThat(second.get("weight")).isNull();
+        assertThat(second.get("missing")).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should read quoted fields with separators, quotes and line breaks")
+    void shouldReadQuotedFields() {
+        CsvReader reader = new CsvReader(new StringReader(
+                "street,details\r\n\"Rua A, 10\",\"Batom \"\"matte\"\"\nlonga duração\"\r\nRua B,ok\r\n"));
+
+        CsvRecord first = reader.next();
+        CsvRecord second = reader.next();
+
+        assertThat(first.get("street")).isEqualTo("Rua A, 10");
+        assertThat(first.get("details")).isEqualTo("Batom \"matte\"\nlonga duração");
+        assertThat(second.getLine()).isEqualTo(4);
+        assertThat(second.get("street")).isEqualTo("Rua B");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should skip byte order mark and blank lines")
+    void shouldSkipByteOrderMarkAndBlankLines() {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname\n\nBatom\n\n"));
+
+        CsvRecord record = reader.next();
+
+        assertThat(reader.getHeader()).containsExactly("name");
+        assertThat(record.getLine()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject unterminated quote")
+    void shouldRejectUnterminatedQuote() {
+        CsvReader reader = new CsvReader(new StringReader("name\nBatom\n\"Base\nfim\n"));
+        reader.next();
+
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Aspas não fechadas");
+        assertThat(reader.getRecordLine()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should reject empty file and missing required columns")
+    void shouldRejectEmptyFileAndMissingColumns() {
+        assertThatThrownBy(() -> new CsvReader(new StringReader("")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        CsvReader reader = new CsvReader(new StringReader("name,type\n"));
+        assertThatThrownBy(() -> reader.requireColumns(List.of("name", "weight", "height")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("weight, height");
+    }
+
+    @Test
+    @DisplayName("Should reject records with wrong column count and invalid values")
+    void shouldRejectWrongColumnCountAndInvalidValues() {
+        CsvReader reader = new CsvReader(new StringReader("name,weight,birthDate\nBatom\nBase,abc,01/02/1990\n"));
+
+        CsvRecord shortRecord = reader.next();
+        CsvRecord invalid = reader.next();
+
+        assertThatThrownBy(shortRecord::requireColumnCount)
+                .hasMessage("Esperadas 3 colunas, encontradas 1");
+        assertThatThrownBy(() -> invalid.getDecimal("weight"))
+                .hasMessage("Valor inválido na coluna weight: abc");
+        assertThatThrownBy(() -> invalid.getDate("birthDate"))
+                .hasMessageContaining("birthDate");
+    }
+}
@@ -0,0 +1,91 @@
+package com.sales.infrastructure.rest.common;
+
+import io.quarkus.runtime.configuration.MemorySize;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportUploadLimit Tests")
+class ImportUploadLimitTest {
+
+    @Mock
+    private RoutingContext context;
+
+    @Mock
+    private HttpServerRequest request;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private HttpServerResponse response;
+
+    private ImportUploadLimit importUploadLimit;
+
+    @BeforeEach
+    void setUp() {
+        importUploadLimit = new ImportUploadLimit();
+        importUploadLimit.maxFileSize = new MemorySize(BigInteger.valueOf(1000));
+    }
+
+    @Test
+    @DisplayName("Should reject upload whose Content-Length exceeds the import limit")
+    void shouldRejectOversizedUpload() {
+        when(context.request()).thenReturn(request);
+        when(context.response()).thenReturn(response);
+        when(request.getHeader(HttpHeaders.CONTENT_LENGTH)).thenReturn("1001");
+
+        importUploadLimit.checkContentLength(context);
+
+        verify(response).setStatusCode(413);
+        verify(response).end();
+        verify(context, never()).next();
+    }
+
+    @Test
+    @DisplayName("Should drop Content-Length within the import limit so the global check does not apply")
+    void shouldAcceptUploadWithinLimit() {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap().add(HttpHeaders.CONTENT_LENGTH, "1000");
+        when(context.request()).thenReturn(request);
+        when(request.getHeader(HttpHeaders.CONTENT_LENGTH)).thenReturn("1000");
+        when(request.headers()).thenReturn(headers);
+
+        importUploadLimit.checkContentLength(context);
+
+        assertThat(headers.contains(HttpHeaders.CONTENT_LENGTH)).isFalse();
+        verify(context).next();
+        verify(response, never()).setStatusCode(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should let chunked upload through to be limited while streaming")
+    void shouldPassChunkedUpload() {
+        when(context.request()).thenReturn(request);
+
+        importUploadLimit.checkContentLength(context);
+
+        verify(context).next();
+    }
+
+    @Test
+    @DisplayName("Should replace the stream limit with the import limit")
+    void shouldApplyImportStreamLimit() {
+        importUploadLimit.applyStreamLimit(context);
+
+        verify(context).put(ImportUploadLimit.MAX_REQUEST_SIZE, 1000L);
+        verify(context).next();
+    }
+}
@@ -98,4 +98,50 @@ class CustomerControllerTest {
                 .then()
                 .statusCode(400);
     }
+
+    @Test
+    void shouldImportCustomersFromCsv() {
+        String header = "fullName,motherName,cpf,rg,zipCode,street,number,complement,neighborhood,city,state,birthDate,cellPhone,email\n";
+        String csv = header
+                + "Ana Import,Maria Import,731.204.865-07,123456789,12345-678,\"Rua A, 10\",10,,Centro,São Paulo,SP,1990-01-01,(11) 98765-4321,ana.import@example.com\n"
+                + "Bia Import,Maria Import,73120486680,123456789,12345678,Rua B,20,Casa 2,Centro,São Paulo,SP,1985-06-30,(11) 98765-4322,bia.import@example.com\n"
+                + "Ana Repetida,Maria Import,731.204.865-07,123456789,12345-678,Rua A,10,,Centro,São Paulo,SP,1990-01-01,(11) 98765-4321,ana.repetida@example.com\n"
+                + "Caio Import,Maria Import,731.204.867-60,123456789,12345-678,Rua C,30,,Centro,São Paulo,SP,1990-01-01,(11) 98765-4323,email-invalido\n";
+
+        given()
+                .contentType("text/csv")
+                .body(csv)
+                .when()
+                .post("/api/v1/customers/import")
+                .then()
+                .statusCode(200)
+                .body("totalLines", equalTo(4))
+                .body("imported", equalTo(2))
+                .body("rejected", equalTo(2))
+                .body("errors[0].line", equalTo(4))
+                .body("errors[0].message", equalTo("CPF 731.204.865-07 repetido no arquivo"))
+                .body("errors[1].line", equalTo(5))
+                .body("errors[1].message", equalTo("Email inválido"));
+
+        given()
+                .contentType("text/csv")
+                .body(header + "Bia Import,Maria Import,73120486680,123456789,12345678,Rua B,20,,Centro,São Paulo,SP,1985-06-30,(11) 98765-4322,bia.nova@example.com\n")
+                .when()
+                .post("/api/v1/customers/import")
+                .then()
+                .statusCode(200)
+                .body("imported", equalTo(0))
+                .body("errors[0].message", equalTo("Cliente com CPF 731.204.866-80 já existe"));
+    }
+
+    @Test
+    void shouldRejectCustomerImportWithoutRequiredColumns() {
+        given()
+                .contentType("text/csv")
+                .body("fullName,cpf\nAna,731.204.865-07\n")
+                .when()
+                .post("/api/v1/customers/import")
+                .then()
+                .statusCode(400);
+    }
 }
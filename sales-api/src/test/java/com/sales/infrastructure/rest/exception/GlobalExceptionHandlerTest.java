@@ -1,5 +1,6 @@
 package com.sales.infrastructure.rest.exception;
 
+import com.sales.domain.shared.exception.ServiceBusyException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.ws.rs.core.Response;
@@ -40,6 +41,21 @@ class GlobalExceptionHandlerTest {
         assertThat(entity.get("message")).isEqualTo("Invalid argument");
     }
 
+    @Test
+    @DisplayName("Should handle ServiceBusyException with SERVICE_UNAVAILABLE status")
+    void shouldHandleServiceBusyExceptionWithServiceUnavailableStatus() {
+        ServiceBusyException exception = new ServiceBusyException("Serviço de autenticação sobrecarregado");
+
+        Response response = exceptionHandler.toResponse(exception);
+
+        assertThat(response.getStatus()).isEqualTo(Response.Status.SERVICE_UNAVAILABLE.getStatusCode());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> entity = (Map<String, Object>) response.getEntity();
+        assertThat(entity.get("status")).isEqualTo(503);
+        assertThat(entity.get("message")).isEqualTo("Serviço de autenticação sobrecarregado");
+    }
+
     @Test
     @DisplayName("Should handle ConstraintViolationException with validation messages")
     void shouldHandleConstraintViolationExceptionWithValidationMessages() {
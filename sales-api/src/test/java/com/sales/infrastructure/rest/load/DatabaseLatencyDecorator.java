@@ -0,0 +1,43 @@
+package com.sales.infrastructure.rest.load;
+
+import com.sales.domain.customer.entity.Customer;
+import com.sales.domain.customer.port.CustomerRepository;
+import io.quarkus.narayana.jta.QuarkusTransaction;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.inject.Inject;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Simula a latência de um banco remoto na busca de cliente por id: a conexão fica presa à transação
+ * por {@code load-test.db-latency}, como numa consulta lenta. Com o padrão zero não altera nada.
+ */
+@Decorator
+@Priority(1)
+public abstract class DatabaseLatencyDecorator implements CustomerRepository {
+
+    @Inject
+    @Any
+    @Delegate
+    CustomerRepository delegate;
+
+    @ConfigProperty(name = "load-test.db-latency", defaultValue = "0ms")
+    Duration latency;
+
+    @Override
+    public Optional<Customer> findById(Long id) {
+        if (latency.isZero()) {
+            return delegate.findById(id);
+        }
+        return QuarkusTransaction.joiningExisting().call(() -> {
+            Optional<Customer> customer = delegate.findById(id);
+            Thread.sleep(latency.toMillis());
+            return customer;
+        });
+    }
+}
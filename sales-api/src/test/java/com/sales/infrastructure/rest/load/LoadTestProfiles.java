@@ -0,0 +1,46 @@
+package com.sales.infrastructure.rest.load;
+
+import io.quarkus.test.junit.QuarkusTestProfile;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Os dois modos com os mesmos pools: 8 workers HTTP e 32 conexões. Em platform threads o limite de
+ * requisições simultâneas é o pool de workers (8 / 100 ms = 80 req/s); em virtual threads passa a ser o
+ * pool de conexões. A latência alta mantém esse teto abaixo do limite de CPU de máquinas pequenas.
+ */
+public final class LoadTestProfiles {
+
+    static final int WORKER_THREADS = 8;
+    static final int DB_CONNECTIONS = 32;
+    static final String DB_LATENCY = "100ms";
+
+    private LoadTestProfiles() {
+    }
+
+    private static Map<String, String> overrides(boolean virtualThreads) {
+        Map<String, String> config = new HashMap<>();
+        config.put("quarkus.virtual-threads.enabled", String.valueOf(virtualThreads));
+        config.put("quarkus.thread-pool.max-threads", String.valueOf(WORKER_THREADS));
+        config.put("quarkus.datasource.jdbc.max-size", String.valueOf(DB_CONNECTIONS));
+        config.put("load-test.db-latency", DB_LATENCY);
+        config.put("quarkus.log.category.\"com.sales\".level", "WARN");
+        config.put("quarkus.log.category.\"com.sales.infrastructure.rest.load\".level", "INFO");
+        return config;
+    }
+
+    public static class PlatformThreads implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return overrides(false);
+        }
+    }
+
+    public static class VirtualThreads implements QuarkusTestProfile {
+        @Override
+        public Map<String, String> getConfigOverrides() {
+            return overrides(true);
+        }
+    }
+}
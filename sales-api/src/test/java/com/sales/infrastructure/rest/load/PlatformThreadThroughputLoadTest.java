@@ -0,0 +1,19 @@
+package com.sales.infrastructure.rest.load;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(LoadTestProfiles.PlatformThreads.class)
+class PlatformThreadThroughputLoadTest extends ThroughputLoadTest {
+
+    @Override
+    String mode() {
+        return "platform-threads";
+    }
+
+    @Override
+    String otherMode() {
+        return "virtual-threads";
+    }
+}
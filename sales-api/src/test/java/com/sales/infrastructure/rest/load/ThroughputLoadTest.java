@@ -0,0 +1,180 @@
+package com.sales.infrastructure.rest.load;
+
+import io.restassured.http.ContentType;
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Carga fechada em {@code GET /api/v1/customers/{id}}: {@link #CLIENTS} clientes simultâneos por
+ * {@link #MEASUREMENT}, com a latência de banco simulada por {@link DatabaseLatencyDecorator}.
+ * Fora da suíte padrão; rodar com {@code ./mvnw test -Pload-test}. O resultado de cada modo vai para
+ * {@code target/load-test/<modo>.properties} e, com os dois presentes, a comparação sai no log.
+ */
+@Tag("load")
+abstract class ThroughputLoadTest {
+
+    private static final Logger LOG = Logger.getLogger(ThroughputLoadTest.class);
+
+    static final int CLIENTS = 64;
+    static final Duration WARMUP = Duration.ofSeconds(3);
+    static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final Path RESULTS = Path.of("target", "load-test");
+
+    abstract String mode();
+
+    abstract String otherMode();
+
+    @Test
+    void measureThroughput() throws Exception {
+        long customerId = createCustomer();
+        URI uri = URI.create("http://localhost:8081/api/v1/customers/" + customerId);
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        run(client, uri, WARMUP);
+        Result result = run(client, uri, MEASUREMENT);
+
+        LOG.infof("Carga [%s] - %d clientes, %d workers, %d conexões: %.1f req/s, média %.1f ms, p99 %.1f ms, erros %d",
+                mode(), CLIENTS, LoadTestProfiles.WORKER_THREADS, LoadTestProfiles.DB_CONNECTIONS,
+                result.throughput, result.meanMillis, result.p99Millis, result.errors);
+        save(result);
+        compareWithBaseline(result);
+
+        assertThat(result.errors).isZero();
+        assertThat(result.requests).isPositive();
+    }
+
+    private long createCustomer() {
+        return given()
+                .contentType(ContentType.JSON)
+                .body("""
+                        {
+                            "fullName": "Cliente Carga",
+                            "motherName": "Mãe Carga",
+                            "cpf": "529.982.247-25",
+                            "rg": "123123123",
+                            "address": {
+                                "zipCode": "01310-100",
+                                "street": "Avenida Paulista",
+                                "number": "2000",
+                                "neighborhood": "Bela Vista",
+                                "city": "São Paulo",
+                                "state": "SP"
+                            },
+                            "birthDate": "1980-01-15",
+                            "cellPhone": "(11) 99876-5432",
+                            "email": "cliente.carga@example.com"
+                        }
+                        """)
+                .when()
+                .post("/api/v1/customers")
+                .then()
+                .statusCode(201)
+                .extract().jsonPath().getLong("id");
+    }
+
+    private Result run(HttpClient client, URI uri, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<long[]>> clients = new ArrayList<>(CLIENTS);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors++;
+                            continue;
+                        }
+                        if (count == latencies.length) {
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    long[] result = Arrays.copyOf(latencies, count + 1);
+                    result[count] = errors;
+                    return result;
+                }));
+            }
+        }
+
+        long errors = 0;
+        List<long[]> perClient = new ArrayList<>(CLIENTS);
+        for (Future<long[]> future : clients) {
+            long[] latencies = future.get();
+            errors += latencies[latencies.length - 1];
+            perClient.add(Arrays.copyOf(latencies, latencies.length - 1));
+        }
+        long[] all = perClient.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, errors, duration);
+    }
+
+    private void save(Result result) throws IOException {
+        Files.createDirectories(RESULTS);
+        Properties properties = new Properties();
+        properties.setProperty("requests", String.valueOf(result.requests));
+        properties.setProperty("throughput", String.format("%.1f", result.throughput));
+        properties.setProperty("mean-ms", String.format("%.1f", result.meanMillis));
+        properties.setProperty("p99-ms", String.format("%.1f", result.p99Millis));
+        properties.setProperty("errors", String.valueOf(result.errors));
+        try (Writer writer = Files.newBufferedWriter(RESULTS.resolve(mode() + ".properties"))) {
+            properties.store(writer, "Carga " + mode());
+        }
+    }
+
+    private void compareWithBaseline(Result result) throws IOException {
+        Path other = RESULTS.resolve(otherMode() + ".properties");
+        if (!Files.exists(other)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(other)) {
+            properties.load(reader);
+        }
+        double otherThroughput = Double.parseDouble(properties.getProperty("throughput"));
+        LOG.infof("Carga [%s] vs [%s]: %.1f x %.1f req/s (%.2fx)", mode(), otherMode(),
+                result.throughput, otherThroughput, result.throughput / otherThroughput);
+    }
+
+    private static final class Result {
+        private final long requests;
+        private final long errors;
+        private final double throughput;
+        private final double meanMillis;
+        private final double p99Millis;
+
+        private Result(long[] sortedLatencies, long errors, Duration duration) {
+            this.requests = sortedLatencies.length;
+            this.errors = errors;
+            this.throughput = requests / (duration.toMillis() / 1000.0);
+            this.meanMillis = requests == 0 ? 0 : Arrays.stream(sortedLatencies).average().orElse(0) / 1_000_000.0;
+            this.p99Millis = requests == 0 ? 0 : sortedLatencies[(int) Math.min(requests - 1, requests * 99 / 100)] / 1_000_000.0;
+        }
+    }
+}
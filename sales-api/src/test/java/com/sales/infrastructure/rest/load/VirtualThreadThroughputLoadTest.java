@@ -0,0 +1,19 @@
+package com.sales.infrastructure.rest.load;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.quarkus.test.junit.TestProfile;
+
+@QuarkusTest
+@TestProfile(LoadTestProfiles.VirtualThreads.class)
+class VirtualThreadThroughputLoadTest extends ThroughputLoadTest {
+
+    @Override
+    String mode() {
+        return "virtual-threads";
+    }
+
+    @Override
+    String otherMode() {
+        return "platform-threads";
+    }
+}
@@ -186,4 +186,37 @@ class ProductControllerTest {
                 .then()
                 .statusCode(400);
     }
+
+    @Test
+    @DisplayName("Should import products from CSV reporting invalid lines")
+    void shouldImportProductsFromCsv() {
+        String csv = """
+                code,name,type,details,weight,purchasePrice,salePrice,height,width,depth,destinationVehicle,stockQuantity
+                PRODIMP001,Batom Importado,LIPS,"Cor vermelha, matte",0.050,18.00,35.00,8.00,2.00,2.00,,12
+                ,Base Importada,FACE,,0.120,30.00,59.90,10.00,4.00,4.00,,
+                PRODIMP003,Tipo Errado,INVALIDO,,0.050,18.00,35.00,8.00,2.00,2.00,,
+                PRODIMP004,Peso Errado,LIPS,,abc,18.00,35.00,8.00,2.00,2.00,,
+                """;
+
+        given()
+                .contentType("text/csv")
+                .body(csv)
+                .when()
+                .post("/api/v1/products/import")
+                .then()
+                .statusCode(200)
+                .body("totalLines", equalTo(4))
+                .body("imported", equalTo(2))
+                .body("errors.line", contains(4, 5))
+                .body("errors[0].message", equalTo("Tipo de produto desconhecido: INVALIDO"))
+                .body("errors[1].message", equalTo("Valor inválido na coluna weight: abc"));
+
+        given()
+                .when()
+                .get("/api/v1/products/code/PRODIMP001")
+                .then()
+                .statusCode(200)
+                .body("details", equalTo("Cor vermelha, matte"))
+                .body("stockQuantity", equalTo(12));
+    }
 }
@@ -14,10 +14,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 
 @QuarkusTest
@@ -93,6 +95,10 @@ class SaleControllerTest {
     }
 
     private String createProduct() {
+        return createProduct(1000);
+    }
+
+    private String createProduct(int stock) {
         int idx = PRODUCT_COUNTER.incrementAndGet();
         String code = String.format("SALEPROD%04d", idx);
         Map<String, Object> request = new HashMap<>();
@@ -107,6 +113,7 @@ class SaleControllerTest {
         request.put("width", 2.00);
         request.put("depth", 2.00);
         request.put("destinationVehicle", "Todos os tipos de pele");
+        request.put("stockQuantity", stock);
 
         given()
                 .contentType(ContentType.JSON)
@@ -205,6 +212,106 @@ class SaleControllerTest {
                 .body("cardNumber", containsString("****"));
     }
 
+    @Test
+    @DisplayName("Should create sales in batch reporting per-sale results")
+    void shouldCreateSalesInBatch() {
+        String customerCode = createCustomer();
+        String productCode = createProduct();
+        String firstCode = nextSaleCode();
+        String secondCode = nextSaleCode();
+
+        Map<String, Object> invalidProduct = buildSalePayload(
+                nextSaleCode(), customerCode, "PIX", "NONEXISTENT", null, null);
+        Map<String, Object> missingSeller = buildSalePayload(
+                nextSaleCode(), customerCode, "PIX", productCode, null, null);
+        missingSeller.remove("sellerName");
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("sales", List.of(
+                buildSalePayload(firstCode, customerCode, "DINHEIRO", productCode, BigDecimal.valueOf(200.00), null),
+                invalidProduct,
+                buildSalePayload(secondCode, customerCode, "CARTAO_CREDITO", productCode, null, "1234567890123456"),
+                buildSalePayload(firstCode, customerCode, "PIX", productCode, null, null),
+                missingSeller
+        ));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(payload)
+                .when()
+                .post("/api/v1/sales/batch")
+                .then()
+                .statusCode(200)
+                .body("total", equalTo(5))
+                .body("created", equalTo(2))
+                .body("failed", equalTo(3))
+                .body("results[0].status", equalTo("CREATED"))
+                .body("results[0].id", notNullValue())
+                .body("results[1].status", equalTo("FAILED"))
+                .body("results[2].code", equalTo(secondCode))
+                .body("results[2].status", equalTo("CREATED"))
+                .body("results[3].error", containsString("repetida"))
+                .body("results[4].error", containsString("vendedor"));
+
+        given()
+                .when()
+                .get("/api/v1/sales/code/" + secondCode)
+                .then()
+                .statusCode(200)
+                .body("items.size()", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Should keep valid sales of a batch chunk when one sale is out of stock")
+    void shouldKeepValidSalesWhenOneIsOutOfStock() {
+        String customerCode = createCustomer();
+        String productCode = createProduct(5);
+        String soldOutCode = createProduct(0);
+        String firstCode = nextSaleCode();
+        String secondCode = nextSaleCode();
+
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("sales", List.of(
+                buildSalePayload(firstCode, customerCode, "PIX", productCode, null, null),
+                buildSalePayload(nextSaleCode(), customerCode, "PIX", soldOutCode, null, null),
+                buildSalePayload(secondCode, customerCode, "PIX", productCode, null, null)
+        ));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(payload)
+                .when()
+                .post("/api/v1/sales/batch")
+                .then()
+                .statusCode(200)
+                .body("created", equalTo(2))
+                .body("failed", equalTo(1))
+                .body("results[0].status", equalTo("CREATED"))
+                .body("results[1].error", equalTo("Estoque insuficiente para o produto: " + soldOutCode))
+                .body("results[2].status", equalTo("CREATED"));
+
+        given().when().get("/api/v1/sales/code/" + firstCode).then().statusCode(200);
+        given().when().get("/api/v1/sales/code/" + secondCode).then().statusCode(200);
+        given()
+                .when()
+                .get("/api/v1/products/code/" + productCode)
+                .then()
+                .statusCode(200)
+                .body("stockQuantity", equalTo(3));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when batch is empty")
+    void shouldReturn400WhenBatchIsEmpty() {
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("sales", List.of()))
+                .when()
+                .post("/api/v1/sales/batch")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     @DisplayName("Should return 400 when creating sale with duplicate code")
     void shouldReturn400WhenDuplicateCode() {
@@ -234,6 +341,118 @@ class SaleControllerTest {
                 .statusCode(400);
     }
 
+    @Test
+    @DisplayName("Should replay original sale when Idempotency-Key is repeated")
+    void shouldReplaySaleWithSameIdempotencyKey() {
+        String customerCode = createCustomer();
+        String productCode = createProduct();
+        String saleCode = nextSaleCode();
+        String idempotencyKey = "key-" + saleCode;
+        Map<String, Object> payload = buildSalePayload(
+                saleCode, customerCode, "DINHEIRO", productCode, BigDecimal.valueOf(200.00), null);
+
+        Number id = given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(payload)
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(201)
+                .extract().path("id");
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(payload)
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(201)
+                .header("Idempotent-Replayed", "true")
+                .body("id", equalTo(id.intValue()))
+                .body("code", equalTo(saleCode))
+                .body("items.size()", equalTo(1));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when Idempotency-Key is reused with a different body")
+    void shouldReturn400WhenIdempotencyKeyReusedWithDifferentBody() {
+        String customerCode = createCustomer();
+        String productCode = createProduct();
+        String saleCode = nextSaleCode();
+        String idempotencyKey = "key-" + saleCode;
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(buildSalePayload(saleCode, customerCode, "DINHEIRO", productCode, BigDecimal.valueOf(200.00), null))
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(201);
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Idempotency-Key", idempotencyKey)
+                .body(buildSalePayload(nextSaleCode(), customerCode, "DINHEIRO", productCode, BigDecimal.valueOf(200.00), null))
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(400)
+                .body("message", containsString("Idempotency-Key"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when product is out of stock and accept the sale after restock")
+    void shouldRejectSaleWithoutStock() {
+        String customerCode = createCustomer();
+        String productCode = createProduct(1);
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(buildSalePayload(nextSaleCode(), customerCode, "PIX", productCode, null, null))
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(201);
+
+        Map<String, Object> payload = buildSalePayload(nextSaleCode(), customerCode, "PIX", productCode, null, null);
+        given()
+                .contentType(ContentType.JSON)
+                .body(payload)
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(400)
+                .body("message", equalTo("Estoque insuficiente para o produto: " + productCode));
+
+        Number productId = given()
+                .when()
+                .get("/api/v1/products/code/" + productCode)
+                .then()
+                .statusCode(200)
+                .body("stockQuantity", equalTo(0))
+                .extract().path("id");
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(Map.of("quantity", 5))
+                .when()
+                .post("/api/v1/products/" + productId + "/stock")
+                .then()
+                .statusCode(200)
+                .body("stockQuantity", equalTo(5));
+
+        given()
+                .contentType(ContentType.JSON)
+                .body(payload)
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(201);
+    }
+
     @Test
     @DisplayName("Should return 400 when customer not found")
     void shouldReturn400WhenCustomerNotFound() {
@@ -325,6 +544,118 @@ class SaleControllerTest {
                 .body("customerCode", equalTo(customerCode));
     }
 
+    @Test
+    @DisplayName("Should list customer sales as summaries and load items only by id")
+    void shouldListCustomerSalesAsSummaries() {
+        String customerCode = createCustomer();
+        String productCode = createProduct();
+        String saleCode = nextSaleCode();
+        Map<String, Object> payload = buildSalePayload(
+                saleCode,
+                customerCode,
+                "PIX",
+                productCode,
+                null,
+                null
+        );
+
+        Number id = given()
+                .contentType(ContentType.JSON)
+                .body(payload)
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        given()
+                .queryParam("customerCode", customerCode)
+                .when()
+                .get("/api/v1/sales")
+                .then()
+                .statusCode(200)
+                .body("size()", equalTo(1))
+                .body("[0].code", equalTo(saleCode))
+                .body("[0].itemCount", equalTo(1))
+                .body("[0].totalAmount", notNullValue())
+                .body("[0].items", nullValue());
+
+        given()
+                .when()
+                .get("/api/v1/sales/" + id.longValue())
+                .then()
+                .statusCode(200)
+                .body("items.size()", equalTo(1))
+                .body("items[0].productCode", equalTo(productCode));
+    }
+
+    @Test
+    @DisplayName("Should stream sales of the period as CSV and NDJSON")
+    void shouldExportSales() {
+        String customerCode = createCustomer();
+        String productCode = createProduct();
+        String saleCode = nextSaleCode();
+        given()
+                .contentType(ContentType.JSON)
+                .body(buildSalePayload(saleCode, customerCode, "PIX", productCode, null, null))
+                .when()
+                .post("/api/v1/sales")
+                .then()
+                .statusCode(201);
+        String today = LocalDate.now().toString();
+
+        String csv = given()
+                .queryParam("from", today)
+                .queryParam("to", today)
+                .when()
+                .get("/api/v1/sales/export")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("text/csv"))
+                .header("Content-Disposition", containsString("vendas_" + today + "_" + today + ".csv"))
+                .extract()
+                .asString();
+
+        assertThat(csv.split("\n")[0]).startsWith("saleCode,createdAt,customerCode");
+        assertThat(csv).contains(saleCode + ",").contains(productCode);
+
+        String ndjson = given()
+                .queryParam("from", today)
+                .queryParam("to", today)
+                .queryParam("format", "ndjson")
+                .when()
+                .get("/api/v1/sales/export")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("application/x-ndjson"))
+                .extract()
+                .asString();
+
+        assertThat(ndjson).contains("\"saleCode\":\"" + saleCode + "\"");
+    }
+
+    @Test
+    @DisplayName("Should return 400 when export range or format is invalid")
+    void shouldReturn400WhenExportParametersInvalid() {
+        given()
+                .queryParam("from", "2024-02-01")
+                .queryParam("to", "2024-01-01")
+                .when()
+                .get("/api/v1/sales/export")
+                .then()
+                .statusCode(400);
+
+        given()
+                .queryParam("from", "2024-01-01")
+                .queryParam("to", "2024-01-31")
+                .queryParam("format", "xml")
+                .when()
+                .get("/api/v1/sales/export")
+                .then()
+                .statusCode(400);
+    }
+
     @Test
     @DisplayName("Should return 400 when sale not found")
     void shouldReturn400WhenSaleNotFound() {
@@ -1,5 +1,6 @@
 package com.sales.infrastructure.rest.sale.dto;
 
+import com.sales.application.sale.usecase.SaleReferenceResolver;
 import com.sales.domain.customer.entity.Customer;
 import com.sales.domain.customer.port.CustomerRepository;
 import com.sales.domain.customer.valueobject.Address;
@@ -21,9 +22,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 class SaleMapperTest {
@@ -43,6 +46,7 @@ class SaleMapperTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        mapper.referenceResolver = new SaleReferenceResolver(customerRepository, productRepository);
 
         Document document = new Document("12345678909", "123456789");
         Address address = new Address("12345678", "Rua Teste", "100", "",
@@ -72,8 +76,8 @@ class SaleMapperTest {
         itemRequest.setQuantity(2);
         request.setItems(List.of(itemRequest));
 
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(customer));
-        when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(product));
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(customer));
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(product));
 
         Sale sale = mapper.toDomain(request);
 
@@ -82,8 +86,10 @@ class SaleMapperTest {
         assertThat(sale.getCustomerName()).isEqualTo("João Silva");
         assertThat(sale.getPaymentMethod()).isEqualTo(PaymentMethod.CARTAO_CREDITO);
         assertThat(sale.getItems()).hasSize(1);
-        verify(customerRepository, times(1)).findByCode("CUST001");
-        verify(productRepository, times(1)).findByCode("PROD001");
+        verify(customerRepository, times(1)).findByCodes(Set.of("CUST001"));
+        verify(productRepository, times(1)).findByCodes(Set.of("PROD001"));
+        verify(customerRepository, never()).findByCode(anyString());
+        verify(productRepository, never()).findByCode(anyString());
     }
 
     @Test
@@ -96,7 +102,7 @@ class SaleMapperTest {
         request.setPaymentMethod("PIX");
         request.setItems(List.of());
 
-        when(customerRepository.findByCode("INVALID")).thenReturn(Optional.empty());
+        when(customerRepository.findByCodes(Set.of("INVALID"))).thenReturn(List.of());
 
         assertThatThrownBy(() -> mapper.toDomain(request))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -117,8 +123,8 @@ class SaleMapperTest {
         itemRequest.setQuantity(1);
         request.setItems(List.of(itemRequest));
 
-        when(customerRepository.findByCode("CUST001")).thenReturn(Optional.of(customer));
-        when(productRepository.findByCode("INVALID")).thenReturn(Optional.empty());
+        when(customerRepository.findByCodes(Set.of("CUST001"))).thenReturn(List.of(customer));
+        when(productRepository.findByCodes(Set.of("INVALID"))).thenReturn(List.of());
 
         assertThatThrownBy(() -> mapper.toDomain(request))
                 .isInstanceOf(IllegalArgumentException.class)
@@ -143,6 +149,25 @@ class SaleMapperTest {
         assertThat(response.getItems().get(0).getQuantity()).isEqualTo(2);
     }
 
+    @Test
+    void shouldResolveUpdateItemsWithSingleLookup() {
+        SaleItemRequest first = new SaleItemRequest();
+        first.setProductCode("PROD001");
+        first.setQuantity(1);
+        SaleItemRequest second = new SaleItemRequest();
+        second.setProductCode("PROD001");
+        second.setQuantity(3);
+
+        when(productRepository.findByCodes(Set.of("PROD001"))).thenReturn(List.of(product));
+
+        List<SaleItem> items = mapper.toItems(List.of(first, second));
+
+        assertThat(items).extracting(SaleItem::getQuantity).containsExactly(1, 3);
+        assertThat(items).allMatch(item -> item.getUnitPrice().compareTo(BigDecimal.valueOf(30.00)) == 0);
+        verify(productRepository, times(1)).findByCodes(Set.of("PROD001"));
+        verify(productRepository, never()).findByCode(anyString());
+    }
+
     @Test
     void shouldFindProductByCode() {
         when(productRepository.findByCode("PROD001")).thenReturn(Optional.of(product));
@@ -0,0 +1,72 @@
+package com.sales.infrastructure.rest.sale.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sales.domain.sale.valueobject.PaymentMethod;
+import com.sales.domain.sale.valueobject.SaleExportLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SaleExportWriter Tests")
+class SaleExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write CSV header and quote fields with separators")
+    void shouldWriteCsv() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (SaleExportWriter writer = new SaleExportWriter(SaleExportFormat.CSV, output, objectMapper)) {
+            writer.write(line("Silva, João \"JJ\""));
+        }
+
+        String[] rows = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).hasSize(2);
+        assertThat(rows[0]).isEqualTo(String.join(",", SaleExportWriter.COLUMNS));
+        assertThat(rows[1]).isEqualTo("SALE001,2024-01-15T10:30:00,CUST001,\"Silva, João \"\"JJ\"\"\",SELLER001,Vendedor,"
+                + "CARTAO_CREDITO,70.00,6.30,76.30,PROD001,Batom Matte,2,35.00,70.00");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteNdjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (SaleExportWriter writer = new SaleExportWriter(SaleExportFormat.NDJSON, output, objectMapper)) {
+            writer.write(line("João Silva"));
+            writer.write(line("Maria Souza"));
+        }
+
+        String[] rows = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).hasSize(2);
+        JsonNode first = objectMapper.readTree(rows[0]);
+        assertThat(first.get("saleCode").asText()).isEqualTo("SALE001");
+        assertThat(first.get("createdAt").asText()).isEqualTo("2024-01-15T10:30:00");
+        assertThat(first.get("lineTotal").decimalValue()).isEqualByComparingTo("70.00");
+        assertThat(objectMapper.readTree(rows[1]).get("customerName").asText()).isEqualTo("Maria Souza");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown export format")
+    void shouldRejectUnknownFormat() {
+        assertThatThrownBy(() -> SaleExportFormat.fromString("xml"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("xml");
+    }
+
+    private SaleExportLine line(String customerName) {
+        return new SaleExportLine("SALE001", LocalDateTime.of(2024, 1, 15, 10, 30), "CUST001", customerName,
+                "SELLER001", "Vendedor", PaymentMethod.CARTAO_CREDITO,
+                new BigDecimal("70.00"), new BigDecimal("6.30"), new BigDecimal("76.30"),
+                "PROD001", "Batom Matte", 2, new BigDecimal("35.00"));
+    }
+}
@@ -6,7 +6,13 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Nested;
 
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -101,13 +107,14 @@ class AesEncryptionServiceTest {
         }
 
         @Test
-        @DisplayName("Deve retornar Base64 válido")
+        @DisplayName("Deve retornar identificador da chave seguido de Base64 válido")
         void shouldReturnValidBase64() {
             String plaintext = "4532015112830366";
 
             String encrypted = encryptionService.encrypt(plaintext);
 
-            assertDoesNotThrow(() -> Base64.getDecoder().decode(encrypted));
+            assertTrue(encrypted.startsWith("v1:"));
+            assertDoesNotThrow(() -> Base64.getDecoder().decode(encrypted.substring(3)));
         }
 
         @Test
@@ -267,9 +274,9 @@ class AesEncryptionServiceTest {
             String encrypted = encryptionService.encrypt(plaintext);
 
             // Corromper dados alterando um byte
-            byte[] encryptedBytes = Base64.getDecoder().decode(encrypted);
+            byte[] encryptedBytes = Base64.getDecoder().decode(encrypted.substring(3));
             encryptedBytes[15] ^= 0xFF; // Flip bits
-            String corrupted = Base64.getEncoder().encodeToString(encryptedBytes);
+            String corrupted = "v1:" + Base64.getEncoder().encodeToString(encryptedBytes);
 
             EncryptionException exception = assertThrows(
                 EncryptionException.class,
@@ -500,4 +507,163 @@ class AesEncryptionServiceTest {
             assertEquals(plaintext, decrypted);
         }
     }
+
+    @Nested
+    @DisplayName("Lote e Reuso do Cipher")
+    class BatchAndCipherReuse {
+
+        @Test
+        @DisplayName("Deve criptografar e descriptografar lote preservando a ordem")
+        void shouldRoundTripBatchInOrder() {
+            List<String> plaintexts = List.of("4532015112830366", "5425233430109903", "378282246310005");
+
+            List<String> encrypted = encryptionService.encryptAll(plaintexts);
+
+            assertEquals(3, encrypted.size());
+            assertEquals(plaintexts, encryptionService.decryptAll(encrypted));
+            assertEquals(plaintexts.get(1), encryptionService.decrypt(encrypted.get(1)));
+        }
+
+        @Test
+        @DisplayName("Deve falhar o lote inteiro quando um valor é inválido")
+        void shouldFailWholeBatchWhenOneValueIsInvalid() {
+            List<String> values = List.of(encryptionService.encrypt("4532015112830366"), "not-valid-base64!!!");
+
+            assertThrows(EncryptionException.class, () -> encryptionService.decryptAll(values));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar dados menores que IV mais tag")
+        void shouldRejectDataShorterThanIvAndTag() {
+            String tooShort = Base64.getEncoder().encodeToString(new byte[20]);
+
+            EncryptionException exception = assertThrows(
+                EncryptionException.class,
+                () -> encryptionService.decrypt(tooShort)
+            );
+
+            assertTrue(exception.getMessage().contains("tamanho insuficiente"));
+        }
+
+        @Test
+        @DisplayName("Deve continuar funcionando após falha de autenticação na mesma thread")
+        void shouldRecoverAfterAuthenticationFailure() {
+            String encrypted = encryptionService.encrypt("4532015112830366");
+            String foreign = new AesEncryptionService(AesEncryptionService.generateNewKey()).encrypt("5425233430109903");
+
+            assertThrows(EncryptionException.class, () -> encryptionService.decrypt(foreign));
+
+            assertEquals("4532015112830366", encryptionService.decrypt(encrypted));
+            assertEquals("378282246310005", encryptionService.decrypt(encryptionService.encrypt("378282246310005")));
+        }
+
+        @Test
+        @DisplayName("Deve ser seguro para uso concorrente")
+        void shouldBeSafeForConcurrentUse() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 64; i++) {
+                    String plaintext = "card-" + i;
+                    results.add(executor.submit(() -> {
+                        for (int round = 0; round < 50; round++) {
+                            if (!plaintext.equals(encryptionService.decrypt(encryptionService.encrypt(plaintext)))) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }));
+                }
+                for (Future<Boolean> result : results) {
+                    assertTrue(result.get());
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Rotação de Chave")
+    class KeyRotation {
+
+        private final String oldKey = AesEncryptionService.generateNewKey();
+
+        private AesEncryptionService rotated() {
+            return new AesEncryptionService(TEST_KEY, "v2", Optional.of(List.of("v1:" + oldKey)));
+        }
+
+        @Test
+        @DisplayName("Deve criptografar com a chave atual e descriptografar valores da chave anterior")
+        void shouldDecryptValuesFromPreviousKey() {
+            String encryptedWithOldKey = new AesEncryptionService(oldKey).encrypt("4532015112830366");
+            AesEncryptionService service = rotated();
+
+            assertEquals("4532015112830366", service.decrypt(encryptedWithOldKey));
+            assertTrue(service.encrypt("4532015112830366").startsWith("v2:"));
+            assertEquals("v2", service.currentKeyId());
+        }
+
+        @Test
+        @DisplayName("Deve descriptografar valores sem identificador com qualquer chave do chaveiro")
+        void shouldDecryptUnversionedValuesWithAnyKey() {
+            String unversioned = new AesEncryptionService(oldKey).encrypt("5425233430109903").substring(3);
+
+            assertEquals("5425233430109903", rotated().decrypt(unversioned));
+        }
+
+        @Test
+        @DisplayName("Deve indicar recriptografia para chave anterior e valores sem identificador")
+        void shouldFlagValuesNotUsingCurrentKey() {
+            AesEncryptionService service = rotated();
+            String current = service.encrypt("4532015112830366");
+            String previous = new AesEncryptionService(oldKey).encrypt("4532015112830366");
+
+            assertFalse(service.needsReEncryption(current));
+            assertTrue(service.needsReEncryption(previous));
+            assertTrue(service.needsReEncryption(previous.substring(3)));
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para identificador de chave desconhecido")
+        void shouldThrowForUnknownKeyId() {
+            String encrypted = new AesEncryptionService(oldKey, "v0", Optional.empty()).encrypt("4532015112830366");
+
+            EncryptionException exception = assertThrows(
+                EncryptionException.class,
+                () -> rotated().decrypt(encrypted)
+            );
+
+            assertTrue(exception.getMessage().contains("desconhecida: v0"));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar chave anterior fora do formato id:base64")
+        void shouldRejectMalformedPreviousKey() {
+            assertThrows(
+                EncryptionException.class,
+                () -> new AesEncryptionService(TEST_KEY, "v2", Optional.of(List.of(oldKey)))
+            );
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar identificador de chave repetido")
+        void shouldRejectDuplicateKeyId() {
+            EncryptionException exception = assertThrows(
+                EncryptionException.class,
+                () -> new AesEncryptionService(TEST_KEY, "v1", Optional.of(List.of("v1:" + oldKey)))
+            );
+
+            assertTrue(exception.getMessage().contains("repetido"));
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar identificador de chave com caracteres inválidos")
+        void shouldRejectInvalidKeyId() {
+            assertThrows(
+                EncryptionException.class,
+                () -> new AesEncryptionService(TEST_KEY, "v-2", Optional.empty())
+            );
+        }
+    }
 }
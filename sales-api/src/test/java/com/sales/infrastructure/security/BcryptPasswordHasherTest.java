@@ -0,0 +1,102 @@
+package com.sales.infrastructure.security;
+
+import com.sales.domain.shared.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BcryptPasswordHasher Tests")
+class BcryptPasswordHasherTest {
+
+    private BcryptPasswordHasher hasher;
+
+    @BeforeEach
+    void setUp() {
+        hasher = new BcryptPasswordHasher();
+        hasher.cost = 4;
+        hasher.threads = 1;
+        hasher.queueCapacity = 1;
+        hasher.timeout = Duration.ofSeconds(5);
+        hasher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should hash with configured cost and verify the password")
+    void shouldHashAndVerify() {
+        String hash = hasher.hash("Senha@123");
+
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(hasher.verify("Senha@123", hash)).isTrue();
+        assertThat(hasher.verify("Outra@123", hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should require rehash only when stored cost is below configured")
+    void shouldRequireRehashOnlyForLowerCost() {
+        hasher.cost = 10;
+
+        assertThat(hasher.needsRehash("$2a$04$abcdefghijklmnopqrstuvwxyz123456789012345678901234")).isTrue();
+        assertThat(hasher.needsRehash("$2a$10$abcdefghijklmnopqrstuvwxyz123456789012345678901234")).isFalse();
+        assertThat(hasher.needsRehash("$2a$12$abcdefghijklmnopqrstuvwxyz123456789012345678901234")).isFalse();
+        assertThat(hasher.needsRehash("hash-invalido")).isFalse();
+        assertThat(hasher.needsRehash(null)).isFalse();
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("Should reject immediately when pool and queue are full")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // Ocupa a única thread e depois a única vaga da fila, esperando cada passo antes do próximo
+            callers.submit(() -> hasher.execute(() -> release.await(5, TimeUnit.SECONDS)));
+            awaitStats(stats -> stats.getActive() == 1);
+            callers.submit(() -> hasher.execute(() -> true));
+            awaitStats(stats -> stats.getQueued() == 1);
+
+            assertThatThrownBy(() -> hasher.hash("Senha@123"))
+                    .isInstanceOf(ServiceBusyException.class)
+                    .hasMessageContaining("sobrecarregado");
+            assertThat(hasher.stats().getRejected()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            callers.shutdownNow();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void awaitStats(Predicate<BcryptPasswordHasher.HasherStats> condition) throws InterruptedException {
+        while (!condition.test(hasher.stats())) {
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail startup with invalid cost")
+    void shouldFailWithInvalidCost() {
+        BcryptPasswordHasher invalid = new BcryptPasswordHasher();
+        invalid.cost = 3;
+
+        assertThatThrownBy(invalid::init)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("auth.password.bcrypt-cost");
+    }
+}
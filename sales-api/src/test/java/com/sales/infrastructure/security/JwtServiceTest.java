@@ -3,6 +3,7 @@ package com.sales.infrastructure.security;
 import com.sales.domain.auth.entity.User;
 import com.sales.domain.auth.valueobject.Email;
 import com.sales.domain.auth.valueobject.Password;
+import com.sales.domain.auth.valueobject.TestPasswordHasher;
 import io.smallrye.jwt.build.Jwt;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -32,7 +33,7 @@ class JwtServiceTest {
 
         // Criar usuário de teste
         Email email = new Email("test@example.com");
-        Password password = Password.fromPlainText("Test@123");
+        Password password = Password.fromPlainText("Test@123", TestPasswordHasher.INSTANCE);
         testUser = new User(1L, "CUST001", email, password, true, null, null, null);
     }
 
@@ -144,7 +145,7 @@ class JwtServiceTest {
     @DisplayName("Should handle user with different ID")
     void shouldHandleUserWithDifferentId() {
         Email email = new Email("test2@example.com");
-        Password password = Password.fromPlainText("Test@123");
+        Password password = Password.fromPlainText("Test@123", TestPasswordHasher.INSTANCE);
         User userWithDifferentId = new User(2L, "CUST002", email, password, true, null, null, null);
 
         String token = jwtService.generateAccessToken(userWithDifferentId);
@@ -0,0 +1,192 @@
+package com.sales.infrastructure.security;
+
+import com.sales.infrastructure.persistence.auth.entity.TokenBlacklistEntity;
+import com.sales.infrastructure.persistence.auth.repository.TokenBlacklistPanacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistCache Tests")
+class TokenBlacklistCacheTest {
+
+    @Mock
+    private TokenBlacklistPanacheRepository blacklistRepository;
+
+    @InjectMocks
+    private TokenBlacklistCache blacklistCache;
+
+    @BeforeEach
+    void setUp() {
+        blacklistCache.maxEntries = 1000;
+        blacklistCache.falsePositiveRate = 0.01;
+    }
+
+    @Test
+    @DisplayName("Should fall back to database before first refresh")
+    void shouldFallBackToDatabaseBeforeFirstRefresh() {
+        when(blacklistRepository.isTokenBlacklisted("abc")).thenReturn(true);
+
+        assertThat(blacklistCache.isBlacklisted("abc")).isTrue();
+        verify(blacklistRepository).isTokenBlacklisted("abc");
+    }
+
+    @Test
+    @DisplayName("Should answer from memory after refresh without querying database")
+    void shouldAnswerFromMemoryAfterRefresh() {
+        String revoked = hash("revoked");
+        when(blacklistRepository.findActive()).thenReturn(List.of(entity(revoked, LocalDateTime.now().plusHours(1))));
+
+        blacklistCache.refresh();
+
+        assertThat(blacklistCache.isBlacklisted(revoked)).isTrue();
+        assertThat(blacklistCache.isBlacklisted(hash("valid"))).isFalse();
+        verify(blacklistRepository, never()).isTokenBlacklisted(anyString());
+    }
+
+    @Test
+    @DisplayName("Should load malformed hashes without aborting refresh")
+    void shouldLoadMalformedHashesWithoutAbortingRefresh() {
+        String revoked = hash("revoked");
+        String notHex = "z".repeat(64);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        when(blacklistRepository.findActive())
+                .thenReturn(List.of(entity("hash123", expiresAt), entity(notHex, expiresAt), entity(revoked, expiresAt)));
+
+        assertThatCode(() -> blacklistCache.refresh()).doesNotThrowAnyException();
+
+        assertThat(blacklistCache.isBlacklisted(revoked)).isTrue();
+        assertThat(blacklistCache.isBlacklisted("hash123")).isTrue();
+        assertThat(blacklistCache.isBlacklisted(notHex)).isTrue();
+        assertThat(blacklistCache.isBlacklisted("short")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should blacklist locally added token immediately")
+    void shouldBlacklistLocallyAddedTokenImmediately() {
+        when(blacklistRepository.findActive()).thenReturn(List.of());
+        blacklistCache.refresh();
+        String tokenHash = hash("logout");
+
+        blacklistCache.add(tokenHash, LocalDateTime.now().plusHours(1));
+
+        assertThat(blacklistCache.isBlacklisted(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep local additions across refresh")
+    void shouldKeepLocalAdditionsAcrossRefresh() {
+        when(blacklistRepository.findActive()).thenReturn(List.of());
+        blacklistCache.refresh();
+        String tokenHash = hash("logout");
+        blacklistCache.add(tokenHash, LocalDateTime.now().plusHours(1));
+
+        blacklistCache.refresh();
+
+        assertThat(blacklistCache.isBlacklisted(tokenHash)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not report expired token as blacklisted")
+    void shouldNotReportExpiredToken() {
+        when(blacklistRepository.findActive()).thenReturn(List.of());
+        blacklistCache.refresh();
+        String tokenHash = hash("expired");
+        blacklistCache.add(tokenHash, LocalDateTime.now().minusSeconds(1));
+
+        assertThat(blacklistCache.isBlacklisted(tokenHash)).isFalse();
+        assertThat(blacklistCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should evict expired entries")
+    void shouldEvictExpiredEntries() {
+        when(blacklistRepository.findActive()).thenReturn(List.of(
+                entity(hash("a"), LocalDateTime.now().minusMinutes(1)),
+                entity(hash("b"), LocalDateTime.now().plusHours(1))
+        ));
+        blacklistCache.refresh();
+
+        blacklistCache.evictExpired();
+
+        assertThat(blacklistCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should confirm in database when entries exceed capacity")
+    void shouldConfirmInDatabaseWhenEntriesExceedCapacity() {
+        blacklistCache.maxEntries = 1;
+        String kept = hash("kept");
+        String overflow = hash("overflow");
+        when(blacklistRepository.findActive()).thenReturn(List.of(
+                entity(kept, LocalDateTime.now().plusHours(1)),
+                entity(overflow, LocalDateTime.now().plusHours(1))
+        ));
+        when(blacklistRepository.isTokenBlacklisted(overflow)).thenReturn(true);
+        blacklistCache.refresh();
+
+        assertThat(blacklistCache.isBlacklisted(kept)).isTrue();
+        assertThat(blacklistCache.isBlacklisted(overflow)).isTrue();
+        verify(blacklistRepository, never()).isTokenBlacklisted(kept);
+    }
+
+    @Test
+    @DisplayName("Should not propagate refresh failure to scheduler")
+    void shouldNotPropagateRefreshFailure() {
+        when(blacklistRepository.findActive()).thenThrow(new RuntimeException("Database error"));
+
+        assertThatCode(() -> blacklistCache.scheduledRefresh()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Bloom filter should keep false positive rate near configured value")
+    void bloomFilterShouldKeepFalsePositiveRateNearConfiguredValue() {
+        TokenHashBloomFilter filter = new TokenHashBloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put(hash("revoked-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain(hash("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain(hash("revoked-" + i))).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    private TokenBlacklistEntity entity(String tokenHash, LocalDateTime expiresAt) {
+        TokenBlacklistEntity entity = new TokenBlacklistEntity();
+        entity.setTokenHash(tokenHash);
+        entity.setExpiresAt(expiresAt);
+        return entity;
+    }
+
+    private String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
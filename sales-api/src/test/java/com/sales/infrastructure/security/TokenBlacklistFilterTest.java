@@ -1,5 +1,6 @@
 package com.sales.infrastructure.security;
 
+import io.smallrye.jwt.auth.principal.ParseException;
 import jakarta.ws.rs.container.ContainerRequestContext;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
@@ -11,9 +12,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
+import java.time.Instant;
 
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +26,9 @@ class TokenBlacklistFilterTest {
     @Mock
     private UserActivityService userActivityService;
 
+    @Mock
+    private AuthRequestContext authRequestContext;
+
     @Mock
     private ContainerRequestContext requestContext;
 
@@ -34,6 +38,9 @@ class TokenBlacklistFilterTest {
     private static final String VALID_TOKEN = "valid.jwt.token";
     private static final String BLACKLISTED_TOKEN = "blacklisted.jwt.token";
 
+    private final TokenDigest validDigest = new TokenDigest("valid-hash", "1", Instant.now().plusSeconds(3600));
+    private final TokenDigest blacklistedDigest = new TokenDigest("blacklisted-hash", "1", Instant.now().plusSeconds(3600));
+
     @BeforeEach
     void setUp() throws Exception {
         filter = new TokenBlacklistFilter();
@@ -45,6 +52,13 @@ class TokenBlacklistFilterTest {
         java.lang.reflect.Field activityField = TokenBlacklistFilter.class.getDeclaredField("userActivityService");
         activityField.setAccessible(true);
         activityField.set(filter, userActivityService);
+
+        java.lang.reflect.Field contextField = TokenBlacklistFilter.class.getDeclaredField("authRequestContext");
+        contextField.setAccessible(true);
+        contextField.set(filter, authRequestContext);
+
+        lenient().when(authRequestContext.digest(VALID_TOKEN)).thenReturn(validDigest);
+        lenient().when(authRequestContext.digest(BLACKLISTED_TOKEN)).thenReturn(blacklistedDigest);
     }
 
     @Test
@@ -54,7 +68,7 @@ class TokenBlacklistFilterTest {
         filter.filter(requestContext);
 
         verify(requestContext, never()).abortWith(any());
-        verify(tokenBlacklistService, never()).isBlacklisted(anyString());
+        verify(tokenBlacklistService, never()).isBlacklisted(any(TokenDigest.class));
     }
 
     @Test
@@ -64,82 +78,95 @@ class TokenBlacklistFilterTest {
         filter.filter(requestContext);
 
         verify(requestContext, never()).abortWith(any());
-        verify(tokenBlacklistService, never()).isBlacklisted(anyString());
+        verify(tokenBlacklistService, never()).isBlacklisted(any(TokenDigest.class));
     }
 
     @Test
     void testFilter_BlacklistedToken_AbortsRequest() throws IOException {
         when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))
                 .thenReturn("Bearer " + BLACKLISTED_TOKEN);
-        when(tokenBlacklistService.isBlacklisted(BLACKLISTED_TOKEN)).thenReturn(true);
+        when(tokenBlacklistService.isBlacklisted(blacklistedDigest)).thenReturn(true);
 
         filter.filter(requestContext);
 
         verify(requestContext).abortWith(any(Response.class));
-        verify(userActivityService, never()).checkAndInvalidateIfInactive(anyString());
-        verify(userActivityService, never()).updateActivity(anyString());
+        verify(userActivityService, never()).checkAndInvalidateIfInactive(any(TokenDigest.class));
+        verify(userActivityService, never()).updateActivity(any(TokenDigest.class));
     }
 
     @Test
     void testFilter_InactiveToken_AbortsRequest() throws IOException {
         when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))
                 .thenReturn("Bearer " + VALID_TOKEN);
-        when(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).thenReturn(false);
-        when(userActivityService.checkAndInvalidateIfInactive(VALID_TOKEN)).thenReturn(true);
+        when(tokenBlacklistService.isBlacklisted(validDigest)).thenReturn(false);
+        when(userActivityService.checkAndInvalidateIfInactive(validDigest)).thenReturn(true);
 
         filter.filter(requestContext);
 
         verify(requestContext).abortWith(any(Response.class));
-        verify(userActivityService, never()).updateActivity(anyString());
+        verify(userActivityService, never()).updateActivity(any(TokenDigest.class));
     }
 
     @Test
     void testFilter_ValidToken_UpdatesActivityAndContinues() throws IOException {
         when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))
                 .thenReturn("Bearer " + VALID_TOKEN);
-        when(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).thenReturn(false);
-        when(userActivityService.checkAndInvalidateIfInactive(VALID_TOKEN)).thenReturn(false);
+        when(tokenBlacklistService.isBlacklisted(validDigest)).thenReturn(false);
+        when(userActivityService.checkAndInvalidateIfInactive(validDigest)).thenReturn(false);
 
         filter.filter(requestContext);
 
         verify(requestContext, never()).abortWith(any());
-        verify(userActivityService).updateActivity(VALID_TOKEN);
+        verify(userActivityService).updateActivity(validDigest);
     }
 
     @Test
     void testFilter_BearerWithExtraSpaces_TrimsCorrectly() throws IOException {
         when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))
                 .thenReturn("Bearer   " + VALID_TOKEN + "   ");
-        when(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).thenReturn(false);
-        when(userActivityService.checkAndInvalidateIfInactive(VALID_TOKEN)).thenReturn(false);
+        when(tokenBlacklistService.isBlacklisted(validDigest)).thenReturn(false);
+        when(userActivityService.checkAndInvalidateIfInactive(validDigest)).thenReturn(false);
 
         filter.filter(requestContext);
 
-        verify(tokenBlacklistService).isBlacklisted(VALID_TOKEN);
-        verify(userActivityService).updateActivity(VALID_TOKEN);
+        verify(tokenBlacklistService).isBlacklisted(validDigest);
+        verify(userActivityService).updateActivity(validDigest);
     }
 
     @Test
     void testFilter_BearerCaseInsensitive() throws IOException {
         when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))
                 .thenReturn("BEARER " + VALID_TOKEN);
-        when(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).thenReturn(false);
-        when(userActivityService.checkAndInvalidateIfInactive(VALID_TOKEN)).thenReturn(false);
+        when(tokenBlacklistService.isBlacklisted(validDigest)).thenReturn(false);
+        when(userActivityService.checkAndInvalidateIfInactive(validDigest)).thenReturn(false);
 
         filter.filter(requestContext);
 
-        verify(userActivityService).updateActivity(VALID_TOKEN);
+        verify(userActivityService).updateActivity(validDigest);
     }
 
     @Test
     void testFilter_BearerMixedCase() throws IOException {
         when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))
                 .thenReturn("BeArEr " + VALID_TOKEN);
-        when(tokenBlacklistService.isBlacklisted(VALID_TOKEN)).thenReturn(false);
-        when(userActivityService.checkAndInvalidateIfInactive(VALID_TOKEN)).thenReturn(false);
+        when(tokenBlacklistService.isBlacklisted(validDigest)).thenReturn(false);
+        when(userActivityService.checkAndInvalidateIfInactive(validDigest)).thenReturn(false);
 
         filter.filter(requestContext);
 
-        verify(userActivityService).updateActivity(VALID_TOKEN);
+        verify(userActivityService).updateActivity(validDigest);
+    }
+
+    @Test
+    void testFilter_UnparseableToken_AbortsRequest() throws Exception {
+        when(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION))
+                .thenReturn("Bearer invalid");
+        when(authRequestContext.digest("invalid")).thenThrow(new ParseException("Invalid token"));
+
+        filter.filter(requestContext);
+
+        verify(requestContext).abortWith(any(Response.class));
+        verify(tokenBlacklistService, never()).isBlacklisted(any(TokenDigest.class));
+        verify(userActivityService, never()).updateActivity(any(TokenDigest.class));
     }
 }
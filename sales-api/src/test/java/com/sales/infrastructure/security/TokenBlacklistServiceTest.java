@@ -12,7 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Method;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,6 +27,9 @@ class TokenBlacklistServiceTest {
     @Mock
     private TokenBlacklistPanacheRepository blacklistRepository;
 
+    @Mock
+    private TokenBlacklistCache blacklistCache;
+
     @Mock
     private JWTParser jwtParser;
 
@@ -38,6 +41,7 @@ class TokenBlacklistServiceTest {
 
     private String testToken;
     private String expectedHash;
+    private TokenDigest digest;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -45,6 +49,7 @@ class TokenBlacklistServiceTest {
 
         // Hash esperado do testToken usando SHA-256
         expectedHash = calculateExpectedHash(testToken);
+        digest = new TokenDigest(expectedHash, "123", Instant.now().plusSeconds(3600));
     }
 
     @Test
@@ -63,6 +68,7 @@ class TokenBlacklistServiceTest {
         verify(jsonWebToken).getSubject();
         verify(jsonWebToken).getExpirationTime();
         verify(blacklistRepository).addToBlacklist(anyString(), eq(userId), any(LocalDateTime.class));
+        verify(blacklistCache).add(eq(expectedHash), any(LocalDateTime.class));
     }
 
     @Test
@@ -77,28 +83,34 @@ class TokenBlacklistServiceTest {
 
         verify(jwtParser).parse("invalid.token");
         verify(blacklistRepository, never()).addToBlacklist(anyString(), anyLong(), any(LocalDateTime.class));
+        verify(blacklistCache, never()).add(anyString(), any(LocalDateTime.class));
     }
 
     @Test
-    @DisplayName("Should check if token is blacklisted")
-    void shouldCheckIfTokenIsBlacklisted() {
-        when(blacklistRepository.isTokenBlacklisted(anyString())).thenReturn(true);
+    @DisplayName("Should check blacklist using precomputed digest")
+    void shouldCheckBlacklistUsingDigest() {
+        when(blacklistCache.isBlacklisted(expectedHash)).thenReturn(true);
 
-        boolean result = tokenBlacklistService.isBlacklisted(testToken);
-
-        assertThat(result).isTrue();
-        verify(blacklistRepository).isTokenBlacklisted(anyString());
+        assertThat(tokenBlacklistService.isBlacklisted(digest)).isTrue();
+        verify(blacklistRepository, never()).isTokenBlacklisted(anyString());
     }
 
     @Test
-    @DisplayName("Should return false when token is not blacklisted")
-    void shouldReturnFalseWhenTokenIsNotBlacklisted() {
-        when(blacklistRepository.isTokenBlacklisted(anyString())).thenReturn(false);
+    @DisplayName("Should return false when digest is not blacklisted")
+    void shouldReturnFalseWhenDigestIsNotBlacklisted() {
+        when(blacklistCache.isBlacklisted(expectedHash)).thenReturn(false);
+
+        assertThat(tokenBlacklistService.isBlacklisted(digest)).isFalse();
+    }
 
-        boolean result = tokenBlacklistService.isBlacklisted(testToken);
+    @Test
+    @DisplayName("Should blacklist digest without parsing token again")
+    void shouldBlacklistDigestWithoutParsing() throws ParseException {
+        tokenBlacklistService.blacklistToken(digest);
 
-        assertThat(result).isFalse();
-        verify(blacklistRepository).isTokenBlacklisted(anyString());
+        verify(jwtParser, never()).parse(anyString());
+        verify(blacklistRepository).addToBlacklist(eq(expectedHash), eq(123L), any(LocalDateTime.class));
+        verify(blacklistCache).add(eq(expectedHash), any(LocalDateTime.class));
     }
 
     @Test
@@ -107,55 +119,7 @@ class TokenBlacklistServiceTest {
         tokenBlacklistService.cleanupExpiredTokens();
 
         verify(blacklistRepository).cleanupExpiredTokens();
-    }
-
-    @Test
-    @DisplayName("Should hash token consistently")
-    void shouldHashTokenConsistently() throws Exception {
-        Method hashTokenMethod = TokenBlacklistService.class.getDeclaredMethod("hashToken", String.class);
-        hashTokenMethod.setAccessible(true);
-
-        String hash1 = (String) hashTokenMethod.invoke(tokenBlacklistService, testToken);
-        String hash2 = (String) hashTokenMethod.invoke(tokenBlacklistService, testToken);
-
-        assertThat(hash1).isEqualTo(hash2);
-        assertThat(hash1).hasSize(64); // SHA-256 produces 64 hex characters
-    }
-
-    @Test
-    @DisplayName("Should produce different hashes for different tokens")
-    void shouldProduceDifferentHashesForDifferentTokens() throws Exception {
-        Method hashTokenMethod = TokenBlacklistService.class.getDeclaredMethod("hashToken", String.class);
-        hashTokenMethod.setAccessible(true);
-
-        String hash1 = (String) hashTokenMethod.invoke(tokenBlacklistService, "token1");
-        String hash2 = (String) hashTokenMethod.invoke(tokenBlacklistService, "token2");
-
-        assertThat(hash1).isNotEqualTo(hash2);
-    }
-
-    @Test
-    @DisplayName("Should convert bytes to hex correctly")
-    void shouldConvertBytesToHexCorrectly() throws Exception {
-        Method bytesToHexMethod = TokenBlacklistService.class.getDeclaredMethod("bytesToHex", byte[].class);
-        bytesToHexMethod.setAccessible(true);
-
-        byte[] testBytes = new byte[]{0x0f, (byte) 0xff, 0x12, (byte) 0xab};
-        String hex = (String) bytesToHexMethod.invoke(tokenBlacklistService, testBytes);
-
-        assertThat(hex).isEqualTo("0fff12ab");
-    }
-
-    @Test
-    @DisplayName("Should handle single digit hex values with leading zero")
-    void shouldHandleSingleDigitHexWithLeadingZero() throws Exception {
-        Method bytesToHexMethod = TokenBlacklistService.class.getDeclaredMethod("bytesToHex", byte[].class);
-        bytesToHexMethod.setAccessible(true);
-
-        byte[] testBytes = new byte[]{0x00, 0x01, 0x0a, 0x0f};
-        String hex = (String) bytesToHexMethod.invoke(tokenBlacklistService, testBytes);
-
-        assertThat(hex).isEqualTo("00010a0f");
+        verify(blacklistCache).evictExpired();
     }
 
     @Test
@@ -188,17 +152,6 @@ class TokenBlacklistServiceTest {
         verify(blacklistRepository).addToBlacklist(anyString(), eq(userId), any(LocalDateTime.class));
     }
 
-    @Test
-    @DisplayName("Should use consistent hash for same token on blacklist check")
-    void shouldUseConsistentHashForSameToken() {
-        when(blacklistRepository.isTokenBlacklisted(anyString())).thenReturn(false);
-
-        tokenBlacklistService.isBlacklisted(testToken);
-        tokenBlacklistService.isBlacklisted(testToken);
-
-        verify(blacklistRepository, times(2)).isTokenBlacklisted(anyString());
-    }
-
     @Test
     @DisplayName("Should handle blacklist operations in sequence")
     void shouldHandleBlacklistOperationsInSequence() throws ParseException {
@@ -208,18 +161,18 @@ class TokenBlacklistServiceTest {
         when(jwtParser.parse(testToken)).thenReturn(jsonWebToken);
         when(jsonWebToken.getSubject()).thenReturn(String.valueOf(userId));
         when(jsonWebToken.getExpirationTime()).thenReturn(expTimestamp);
-        when(blacklistRepository.isTokenBlacklisted(anyString())).thenReturn(false, true);
+        when(blacklistCache.isBlacklisted(expectedHash)).thenReturn(false, true);
 
         // Token não está na blacklist
-        assertThat(tokenBlacklistService.isBlacklisted(testToken)).isFalse();
+        assertThat(tokenBlacklistService.isBlacklisted(digest)).isFalse();
 
         // Adiciona token à blacklist
         tokenBlacklistService.blacklistToken(testToken);
 
         // Token agora está na blacklist
-        assertThat(tokenBlacklistService.isBlacklisted(testToken)).isTrue();
+        assertThat(tokenBlacklistService.isBlacklisted(digest)).isTrue();
 
-        verify(blacklistRepository, times(2)).isTokenBlacklisted(anyString());
+        verify(blacklistCache, times(2)).isBlacklisted(expectedHash);
         verify(blacklistRepository).addToBlacklist(anyString(), eq(userId), any(LocalDateTime.class));
     }
 
@@ -0,0 +1,108 @@
+package com.sales.infrastructure.security;
+
+import io.smallrye.jwt.auth.principal.JWTParser;
+import io.smallrye.jwt.auth.principal.ParseException;
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenDigestCache Tests")
+class TokenDigestCacheTest {
+
+    @Mock
+    private JWTParser jwtParser;
+
+    @Mock
+    private JsonWebToken jsonWebToken;
+
+    @InjectMocks
+    private TokenDigestCache tokenDigestCache;
+
+    @BeforeEach
+    void setUp() {
+        tokenDigestCache.maxEntries = 2;
+    }
+
+    @Test
+    @DisplayName("Should parse and hash token only once for repeated requests")
+    void shouldParseAndHashTokenOnlyOnce() throws ParseException {
+        when(jwtParser.parse("token")).thenReturn(jsonWebToken);
+        when(jsonWebToken.getSubject()).thenReturn("42");
+        when(jsonWebToken.getExpirationTime()).thenReturn(Instant.now().plusSeconds(3600).getEpochSecond());
+
+        TokenDigest first = tokenDigestCache.resolve("token");
+        TokenDigest second = tokenDigestCache.resolve("token");
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getUserId()).isEqualTo(42L);
+        assertThat(first.getTokenHash()).hasSize(64);
+        verify(jwtParser, times(1)).parse("token");
+    }
+
+    @Test
+    @DisplayName("Should reuse token already verified in the request")
+    void shouldReuseVerifiedToken() throws ParseException {
+        when(jsonWebToken.getRawToken()).thenReturn("token");
+        when(jsonWebToken.getSubject()).thenReturn("42");
+        when(jsonWebToken.getExpirationTime()).thenReturn(Instant.now().plusSeconds(3600).getEpochSecond());
+
+        TokenDigest digest = tokenDigestCache.resolve("token", jsonWebToken);
+
+        assertThat(digest.getSubject()).isEqualTo("42");
+        verify(jwtParser, never()).parse(anyString());
+    }
+
+    @Test
+    @DisplayName("Should not serve expired digest from cache")
+    void shouldNotServeExpiredDigest() throws ParseException {
+        when(jwtParser.parse("token")).thenReturn(jsonWebToken);
+        when(jsonWebToken.getSubject()).thenReturn("42");
+        when(jsonWebToken.getExpirationTime()).thenReturn(Instant.now().minusSeconds(1).getEpochSecond());
+
+        tokenDigestCache.resolve("token");
+        tokenDigestCache.resolve("token");
+
+        verify(jwtParser, times(2)).parse("token");
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used token when full")
+    void shouldEvictLeastRecentlyUsedToken() throws ParseException {
+        when(jwtParser.parse(anyString())).thenReturn(jsonWebToken);
+        when(jsonWebToken.getSubject()).thenReturn("42");
+        when(jsonWebToken.getExpirationTime()).thenReturn(Instant.now().plusSeconds(3600).getEpochSecond());
+
+        tokenDigestCache.resolve("a");
+        tokenDigestCache.resolve("b");
+        tokenDigestCache.resolve("a");
+        tokenDigestCache.resolve("c");
+        tokenDigestCache.resolve("a");
+        tokenDigestCache.resolve("b");
+
+        assertThat(tokenDigestCache.size()).isEqualTo(2);
+        verify(jwtParser, times(1)).parse("a");
+        verify(jwtParser, times(2)).parse("b");
+    }
+
+    @Test
+    @DisplayName("Should propagate parse failure without caching")
+    void shouldPropagateParseFailure() throws ParseException {
+        when(jwtParser.parse("invalid")).thenThrow(new ParseException("Invalid token"));
+
+        assertThatThrownBy(() -> tokenDigestCache.resolve("invalid"))
+                .isInstanceOf(ParseException.class);
+        assertThat(tokenDigestCache.size()).isZero();
+    }
+}
@@ -2,17 +2,17 @@ package com.sales.infrastructure.security;
 
 import com.sales.infrastructure.persistence.auth.entity.UserActivityEntity;
 import com.sales.infrastructure.persistence.auth.repository.UserActivityPanacheRepository;
-import io.smallrye.jwt.auth.principal.JWTParser;
-import io.smallrye.jwt.auth.principal.ParseException;
-import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,22 +25,18 @@ class UserActivityServiceTest {
     @Mock
     private UserActivityPanacheRepository activityRepository;
 
-    @Mock
-    private JWTParser jwtParser;
-
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
-    @Mock
-    private JsonWebToken jsonWebToken;
-
     @InjectMocks
     private UserActivityService userActivityService;
 
     private static final String TEST_TOKEN = "test.jwt.token";
-    private static final String TOKEN_HASH = "2a782332eb4f6f9230c5f26a8eb0d2f838d7c1f1749f27b24d3983bc30b49324";
+    private static final String TOKEN_HASH = "65174034c8b6eecca89abd6f0400b14cddb6a78b2128c7933b89eeafb3c73281";
     private static final Long USER_ID = 1L;
 
+    private final TokenDigest digest = new TokenDigest(TOKEN_HASH, USER_ID.toString(), Instant.now().plusSeconds(3600));
+
     @BeforeEach
     void setUp() throws Exception {
         userActivityService = new UserActivityService();
@@ -49,10 +45,6 @@ class UserActivityServiceTest {
         repoField.setAccessible(true);
         repoField.set(userActivityService, activityRepository);
 
-        java.lang.reflect.Field parserField = UserActivityService.class.getDeclaredField("jwtParser");
-        parserField.setAccessible(true);
-        parserField.set(userActivityService, jwtParser);
-
         java.lang.reflect.Field blacklistField = UserActivityService.class.getDeclaredField("tokenBlacklistService");
         blacklistField.setAccessible(true);
         blacklistField.set(userActivityService, tokenBlacklistService);
@@ -63,15 +55,14 @@ class UserActivityServiceTest {
     }
 
     @Test
-    void testCheckAndInvalidateIfInactive_NoActivityExists_ReturnsFalse() throws ParseException {
-        when(activityRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+    void testCheckAndInvalidateIfInactive_NoActivityExists_ReturnsFalse() {
+        when(activityRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.empty());
 
-        boolean result = userActivityService.checkAndInvalidateIfInactive(TEST_TOKEN);
+        boolean result = userActivityService.checkAndInvalidateIfInactive(digest);
 
         assertFalse(result);
-        verify(activityRepository, never()).updateActivity(anyString(), anyLong());
-        verify(jwtParser, never()).parse(anyString());
-        verify(tokenBlacklistService, never()).blacklistToken(anyString());
+        verify(activityRepository, never()).upsertActivities(anyList());
+        verify(tokenBlacklistService, never()).blacklistToken(any(TokenDigest.class));
     }
 
     @Test
@@ -80,12 +71,12 @@ class UserActivityServiceTest {
         activity.setUserId(USER_ID);
         activity.setLastActivityAt(LocalDateTime.now().minusMinutes(5));
 
-        when(activityRepository.findByTokenHash(anyString())).thenReturn(Optional.of(activity));
+        when(activityRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(activity));
 
-        boolean result = userActivityService.checkAndInvalidateIfInactive(TEST_TOKEN);
+        boolean result = userActivityService.checkAndInvalidateIfInactive(digest);
 
         assertFalse(result);
-        verify(tokenBlacklistService, never()).blacklistToken(anyString());
+        verify(tokenBlacklistService, never()).blacklistToken(any(TokenDigest.class));
         verify(activityRepository, never()).deleteByTokenHash(anyString());
     }
 
@@ -95,13 +86,13 @@ class UserActivityServiceTest {
         activity.setUserId(USER_ID);
         activity.setLastActivityAt(LocalDateTime.now().minusMinutes(20));
 
-        when(activityRepository.findByTokenHash(anyString())).thenReturn(Optional.of(activity));
+        when(activityRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(activity));
 
-        boolean result = userActivityService.checkAndInvalidateIfInactive(TEST_TOKEN);
+        boolean result = userActivityService.checkAndInvalidateIfInactive(digest);
 
         assertTrue(result);
-        verify(tokenBlacklistService).blacklistToken(TEST_TOKEN);
-        verify(activityRepository).deleteByTokenHash(anyString());
+        verify(tokenBlacklistService).blacklistToken(digest);
+        verify(activityRepository).deleteByTokenHash(TOKEN_HASH);
     }
 
     @Test
@@ -110,74 +101,93 @@ class UserActivityServiceTest {
         activity.setUserId(USER_ID);
         activity.setLastActivityAt(LocalDateTime.now().minusMinutes(15));
 
-        when(activityRepository.findByTokenHash(anyString())).thenReturn(Optional.of(activity));
+        when(activityRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(activity));
 
-        boolean result = userActivityService.checkAndInvalidateIfInactive(TEST_TOKEN);
+        boolean result = userActivityService.checkAndInvalidateIfInactive(digest);
 
         assertTrue(result);
-        verify(tokenBlacklistService).blacklistToken(TEST_TOKEN);
+        verify(tokenBlacklistService).blacklistToken(digest);
     }
 
     @Test
-    void testCheckAndInvalidateIfInactive_NoActivityExists_DoesNotThrow() throws ParseException {
-        when(activityRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+    void testUpdateActivity_Success() {
+        userActivityService.updateActivity(digest);
 
-        assertDoesNotThrow(() -> userActivityService.checkAndInvalidateIfInactive(TEST_TOKEN));
-        verify(tokenBlacklistService, never()).blacklistToken(anyString());
+        verify(activityRepository, never()).upsertActivities(anyList());
     }
 
     @Test
-    void testUpdateActivity_Success() throws ParseException {
-        when(jwtParser.parse(TEST_TOKEN)).thenReturn(jsonWebToken);
-        when(jsonWebToken.getSubject()).thenReturn(USER_ID.toString());
-
-        userActivityService.updateActivity(TEST_TOKEN);
-
-        verify(activityRepository).updateActivity(anyString(), eq(USER_ID));
+    void testFlushActivity_WritesCoalescedBatch() {
+        userActivityService.updateActivity(digest);
+        userActivityService.updateActivity(digest);
+
+        userActivityService.flushActivity();
+        userActivityService.flushActivity();
+
+        ArgumentCaptor<List<UserActivityEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(activityRepository, times(1)).upsertActivities(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(TOKEN_HASH, captor.getValue().get(0).getTokenHash());
+        assertEquals(USER_ID, captor.getValue().get(0).getUserId());
     }
 
     @Test
-    void testUpdateActivity_ParseException_DoesNotThrow() throws ParseException {
-        when(jwtParser.parse(TEST_TOKEN)).thenThrow(new ParseException("Invalid token"));
+    void testFlushActivity_FailureRetriesOnNextFlush() {
+        userActivityService.updateActivity(digest);
+        doThrow(new RuntimeException("Database error")).doNothing()
+                .when(activityRepository).upsertActivities(anyList());
+
+        assertDoesNotThrow(() -> userActivityService.flushActivity());
+        userActivityService.flushActivity();
 
-        assertDoesNotThrow(() -> userActivityService.updateActivity(TEST_TOKEN));
-        verify(activityRepository, never()).updateActivity(anyString(), anyLong());
+        verify(activityRepository, times(2)).upsertActivities(anyList());
     }
 
     @Test
-    void testRemoveActivity() {
-        userActivityService.removeActivity(TEST_TOKEN);
+    void testCheckAndInvalidateIfInactive_KnownToken_ServedFromMemory() {
+        when(activityRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.empty());
+
+        userActivityService.checkAndInvalidateIfInactive(digest);
+        userActivityService.updateActivity(digest);
+        boolean result = userActivityService.checkAndInvalidateIfInactive(digest);
 
-        verify(activityRepository).deleteByTokenHash(anyString());
+        assertFalse(result);
+        verify(activityRepository, times(1)).findByTokenHash(TOKEN_HASH);
     }
 
     @Test
-    void testCleanupOldActivities() {
-        userActivityService.cleanupOldActivities();
+    void testCheckAndInvalidateIfInactive_LocallyIdleButRecentInDatabase_ReturnsFalse() {
+        UserActivityEntity loaded = new UserActivityEntity();
+        loaded.setUserId(USER_ID);
+        loaded.setLastActivityAt(LocalDateTime.now().minusMinutes(5));
+        UserActivityEntity recent = new UserActivityEntity();
+        recent.setUserId(USER_ID);
+        recent.setLastActivityAt(LocalDateTime.now().minusMinutes(1));
+        when(activityRepository.findByTokenHash(TOKEN_HASH)).thenReturn(Optional.of(loaded), Optional.of(recent));
+
+        userActivityService.checkAndInvalidateIfInactive(digest);
+        userActivityService.inactivityTimeoutMinutes = 3L;
+        boolean result = userActivityService.checkAndInvalidateIfInactive(digest);
 
-        verify(activityRepository).cleanupOldActivities(any(LocalDateTime.class));
+        assertFalse(result);
+        verify(tokenBlacklistService, never()).blacklistToken(any(TokenDigest.class));
     }
 
     @Test
-    void testHashToken_GeneratesConsistentHash() throws Exception {
-        java.lang.reflect.Method hashMethod = UserActivityService.class.getDeclaredMethod("hashToken", String.class);
-        hashMethod.setAccessible(true);
+    void testRemoveActivity() {
+        userActivityService.updateActivity(digest);
 
-        String hash1 = (String) hashMethod.invoke(userActivityService, TEST_TOKEN);
-        String hash2 = (String) hashMethod.invoke(userActivityService, TEST_TOKEN);
+        userActivityService.removeActivity(TEST_TOKEN);
+        userActivityService.flushActivity();
 
-        assertEquals(hash1, hash2, "Same token should generate same hash");
-        assertEquals(64, hash1.length(), "SHA-256 hash should be 64 characters");
+        verify(activityRepository).deleteByTokenHash(TOKEN_HASH);
+        verify(activityRepository, never()).upsertActivities(anyList());
     }
 
     @Test
-    void testHashToken_DifferentTokensDifferentHashes() throws Exception {
-        java.lang.reflect.Method hashMethod = UserActivityService.class.getDeclaredMethod("hashToken", String.class);
-        hashMethod.setAccessible(true);
-
-        String hash1 = (String) hashMethod.invoke(userActivityService, "token1");
-        String hash2 = (String) hashMethod.invoke(userActivityService, "token2");
+    void testCleanupOldActivities() {
+        userActivityService.cleanupOldActivities();
 
-        assertNotEquals(hash1, hash2, "Different tokens should generate different hashes");
+        verify(activityRepository).cleanupOldActivities(any(LocalDateTime.class));
     }
 }